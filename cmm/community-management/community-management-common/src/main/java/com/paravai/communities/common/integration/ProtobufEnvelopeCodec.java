@@ -0,0 +1,128 @@
+package com.paravai.communities.common.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.paravai.communities.contracts.event.community.CommunityEventPayloadV1;
+import com.paravai.communities.contracts.event.membership.MembershipEventPayloadV1;
+import com.paravai.communities.contracts.event.proto.CommunityEventPayload;
+import com.paravai.communities.contracts.event.proto.EventEnvelope;
+import com.paravai.communities.contracts.event.proto.IntegrationEventProtoMapper;
+import com.paravai.communities.contracts.event.proto.MembershipEventPayload;
+import com.paravai.foundation.integration.codec.BinaryEnvelopeCodec;
+import com.paravai.foundation.integration.codec.EventContentType;
+import com.paravai.foundation.integration.domain.event.DomainEventEnvelope;
+import com.paravai.foundation.integration.domain.event.EventChannel;
+import com.paravai.foundation.integration.domain.event.EventCmm;
+import com.paravai.foundation.integration.domain.event.SchemaId;
+import com.paravai.foundation.snapshot.EncodedSnapshot;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Protobuf encoding of the CMM integration events (community + membership, V1).
+ *
+ * The envelope and the payload are both protobuf; the payload message is picked by
+ * schemaId. The contract record is taken from an EncodedSnapshot payload when present;
+ * envelopes coming from the outbox relay carry a JsonNode payload, which is converted.
+ */
+public class ProtobufEnvelopeCodec implements BinaryEnvelopeCodec {
+
+    public static final String COMMUNITY_INTEGRATION_V1 =
+            SchemaId.of(EventCmm.COMMUNITIES_MANAGEMENT, "community", EventChannel.INTEGRATION, 1);
+    public static final String MEMBERSHIP_INTEGRATION_V1 =
+            SchemaId.of(EventCmm.COMMUNITIES_MANAGEMENT, "membership", EventChannel.INTEGRATION, 1);
+
+    private static final Set<String> SCHEMA_IDS = Set.of(COMMUNITY_INTEGRATION_V1, MEMBERSHIP_INTEGRATION_V1);
+
+    private final ObjectMapper objectMapper;
+
+    public ProtobufEnvelopeCodec(ObjectMapper objectMapper) {
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
+    }
+
+    @Override
+    public String contentType() {
+        return EventContentType.PROTOBUF;
+    }
+
+    @Override
+    public Set<String> schemaIds() {
+        return SCHEMA_IDS;
+    }
+
+    @Override
+    public byte[] encode(DomainEventEnvelope<?> envelope) throws IOException {
+        EventEnvelope.Builder b = EventEnvelope.newBuilder()
+                .setPayload(encodePayload(envelope.getSchemaId(), envelope.getPayload()));
+
+        // Proto setters reject null: every field is guarded, not only the optional ones.
+        if (envelope.getEventId() != null) b.setEventId(envelope.getEventId());
+        if (envelope.getEntityId() != null) b.setEntityId(envelope.getEntityId());
+        if (envelope.getEntityType() != null) b.setEntityType(envelope.getEntityType());
+        if (envelope.getChangeType() != null) b.setChangeType(envelope.getChangeType());
+        if (envelope.getSourceService() != null) b.setSourceService(envelope.getSourceService());
+        if (envelope.getOccurredAt() != null) {
+            b.setOccurredAt(IntegrationEventProtoMapper.toTimestamp(envelope.getOccurredAt()));
+        }
+        if (envelope.getTraceId() != null) b.setTraceId(envelope.getTraceId());
+        if (envelope.getUserOid() != null) b.setUserOid(envelope.getUserOid());
+        if (envelope.getSchemaId() != null) b.setSchemaId(envelope.getSchemaId());
+        if (envelope.getVersion() != null) b.setVersion(envelope.getVersion());
+
+        return b.build().toByteArray();
+    }
+
+    @Override
+    public DomainEventEnvelope<?> decode(byte[] body, String schemaId) throws IOException {
+        EventEnvelope m = EventEnvelope.parseFrom(body);
+        if (!m.hasOccurredAt()) {
+            // The default Timestamp is the epoch: an event "occurred" in 1970 is worse than a rejected one.
+            throw new InvalidProtocolBufferException("EventEnvelope without occurred_at: " + m.getEventId());
+        }
+        String effectiveSchemaId = m.hasSchemaId() ? m.getSchemaId() : schemaId;
+
+        return new DomainEventEnvelope<>(
+                m.getEventId(),
+                m.getEntityId(),
+                m.getEntityType(),
+                m.getChangeType(),
+                m.getSourceService(),
+                IntegrationEventProtoMapper.toInstant(m.getOccurredAt()),
+                m.hasTraceId() ? m.getTraceId() : null,
+                m.hasUserOid() ? m.getUserOid() : null,
+                m.hasSchemaId() ? m.getSchemaId() : null,
+                m.hasVersion() ? m.getVersion() : null,
+                decodePayload(effectiveSchemaId, m.getPayload())
+        );
+    }
+
+    // ---- payloads ----
+
+    private ByteString encodePayload(String schemaId, Object payload) throws IOException {
+        if (COMMUNITY_INTEGRATION_V1.equals(schemaId)) {
+            return IntegrationEventProtoMapper.toProto(typed(payload, CommunityEventPayloadV1.class)).toByteString();
+        }
+        if (MEMBERSHIP_INTEGRATION_V1.equals(schemaId)) {
+            return IntegrationEventProtoMapper.toProto(typed(payload, MembershipEventPayloadV1.class)).toByteString();
+        }
+        throw new IOException("Unsupported schemaId for protobuf encoding: " + schemaId);
+    }
+
+    private static Object decodePayload(String schemaId, ByteString bytes) throws InvalidProtocolBufferException {
+        if (COMMUNITY_INTEGRATION_V1.equals(schemaId)) {
+            return IntegrationEventProtoMapper.fromProto(CommunityEventPayload.parseFrom(bytes));
+        }
+        if (MEMBERSHIP_INTEGRATION_V1.equals(schemaId)) {
+            return IntegrationEventProtoMapper.fromProto(MembershipEventPayload.parseFrom(bytes));
+        }
+        throw new InvalidProtocolBufferException("Unsupported schemaId for protobuf decoding: " + schemaId);
+    }
+
+    private <P> P typed(Object payload, Class<P> type) {
+        Object value = payload instanceof EncodedSnapshot<?> encoded ? encoded.payload() : payload;
+        return type.isInstance(value) ? type.cast(value) : objectMapper.convertValue(value, type);
+    }
+}
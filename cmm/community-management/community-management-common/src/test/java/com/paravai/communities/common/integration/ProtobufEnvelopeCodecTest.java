@@ -0,0 +1,64 @@
+package com.paravai.communities.common.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.paravai.communities.contracts.event.community.CommunityEventPayloadV1;
+import com.paravai.communities.contracts.event.proto.EventEnvelope;
+import com.paravai.foundation.integration.domain.event.DomainEventEnvelope;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProtobufEnvelopeCodecTest {
+
+    private final ProtobufEnvelopeCodec codec = new ProtobufEnvelopeCodec(new ObjectMapper());
+
+    @DisplayName("Given an envelope with null optional fields, encode/decode should round-trip them as null")
+    @Test
+    void roundTrip_nullOptionalFields() throws Exception {
+        //Given
+        Instant occurredAt = Instant.parse("2026-03-01T10:15:30.123456789Z");
+        CommunityEventPayloadV1 payload = new CommunityEventPayloadV1(
+                "c1", null, "Name", null, null, null, null, null, null, null, null, null, null, null);
+        DomainEventEnvelope<CommunityEventPayloadV1> envelope = new DomainEventEnvelope<>(
+                "e1", "c1", "Community", "CREATED", "community", occurredAt,
+                null, null, ProtobufEnvelopeCodec.COMMUNITY_INTEGRATION_V1, null, payload);
+
+        //When
+        DomainEventEnvelope<?> decoded = codec.decode(codec.encode(envelope), null);
+
+        //Then
+        assertEquals("e1", decoded.getEventId());
+        assertEquals("c1", decoded.getEntityId());
+        assertEquals("Community", decoded.getEntityType());
+        assertEquals("CREATED", decoded.getChangeType());
+        assertEquals("community", decoded.getSourceService());
+        assertEquals(occurredAt, decoded.getOccurredAt());
+        assertNull(decoded.getTraceId());
+        assertNull(decoded.getUserOid());
+        assertNull(decoded.getVersion());
+        assertEquals(ProtobufEnvelopeCodec.COMMUNITY_INTEGRATION_V1, decoded.getSchemaId());
+        assertEquals(payload, decoded.getPayload());
+    }
+
+    @DisplayName("Given a message without occurred_at, decode should fail instead of returning the epoch")
+    @Test
+    void decode_missingOccurredAtFails() {
+        //Given
+        byte[] body = EventEnvelope.newBuilder()
+                .setEventId("e1")
+                .setEntityId("c1")
+                .setEntityType("Community")
+                .setChangeType("CREATED")
+                .setSourceService("community")
+                .setSchemaId(ProtobufEnvelopeCodec.COMMUNITY_INTEGRATION_V1)
+                .build()
+                .toByteArray();
+
+        //When / Then
+        assertThrows(InvalidProtocolBufferException.class, () -> codec.decode(body, null));
+    }
+}
@@ -7,12 +7,13 @@ import com.paravai.communities.community.application.snapshot.CommunitySnapshotS
 import com.paravai.communities.community.domain.model.Community;
 import com.paravai.communities.community.domain.repository.CommunityRepository;
 import com.paravai.foundation.domain.event.EntityChangedEvent;
-import com.paravai.foundation.domain.event.NonBlockingEventPublisher;
 import com.paravai.foundation.domain.event.ReactiveDomainEventPublisher;
 import com.paravai.foundation.domain.value.OperationTypeValue;
 import com.paravai.foundation.observability.metrics.MetricsSupport;
 import com.paravai.foundation.observability.metrics.OperationCtx;
 import com.paravai.foundation.observability.metrics.ReactiveOperationMetrics;
+import com.paravai.foundation.persistence.mongo.outbox.TransactionalEventPublisher;
+import com.paravai.foundation.persistence.mongo.outbox.TransactionalOutbox;
 import com.paravai.foundation.securityutils.reactive.context.RequestContext;
 import com.paravai.foundation.snapshot.SnapshotMapper;
 import org.slf4j.Logger;
@@ -28,7 +29,7 @@ public class CreateCommunityService {
     private static final Logger log = LoggerFactory.getLogger(CreateCommunityService.class);
 
     private final CommunityRepository communityRepo;
-    private final NonBlockingEventPublisher nonBlockingPublisher;
+    private final TransactionalEventPublisher eventPublisher;
     private final CommunitySnapshotSupport snapshots;
     private final CommunityEventFactory communityEventFactory;
     private final ReactiveOperationMetrics metrics;
@@ -38,12 +39,14 @@ public class CreateCommunityService {
             ReactiveDomainEventPublisher domainEventPublisher,
             SnapshotMapper<Community> snapshotMapper,
             CommunityEventFactory communityEventFactory,
-            ReactiveOperationMetrics metrics
+            ReactiveOperationMetrics metrics,
+            TransactionalOutbox outbox
     ) {
         this.communityRepo = Objects.requireNonNull(communityRepo, "communityRepo");
 
-        this.nonBlockingPublisher = new NonBlockingEventPublisher(
+        this.eventPublisher = new TransactionalEventPublisher(
                 Objects.requireNonNull(domainEventPublisher, "domainEventPublisher"),
+                Objects.requireNonNull(outbox, "outbox"),
                 log
         );
 
@@ -59,6 +62,7 @@ public class CreateCommunityService {
      * EPIC A / A1
      * - Persists the Community
      * - Emits EntityChangedEvent(CREATED) for Community
+     *   (staged in the outbox, same transaction as the save; relayed to Kafka asynchronously)
      *
      * The founder membership is created asynchronously by the Membership module
      * after consuming the Community CREATED event.
@@ -87,7 +91,7 @@ public class CreateCommunityService {
                         safeValue(toCreate::slug),
                         sourceSystem);
 
-                return communityRepo.save(toCreate)
+                return eventPublisher.inTransaction(() -> communityRepo.save(toCreate)
                         .flatMap(savedCommunity -> {
                             log.info("[{}][{}] Community {} created",
                                     traceId, userOid, safeValue(() -> savedCommunity.id().value()));
@@ -105,9 +109,9 @@ public class CreateCommunityService {
                                     currentState
                             );
 
-                            return nonBlockingPublisher.publish(evt)
+                            return eventPublisher.publish(evt)
                                     .thenReturn(savedCommunity);
-                        })
+                        }))
                         .doOnError(ex -> log.error("[{}][{}] Failed to create Community {}",
                                 traceId, userOid, safeId(toCreate), ex));
             });
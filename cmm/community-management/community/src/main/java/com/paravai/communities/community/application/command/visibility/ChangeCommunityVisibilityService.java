@@ -8,13 +8,15 @@ import com.paravai.communities.community.domain.model.Community;
 import com.paravai.communities.community.domain.repository.CommunityRepository;
 import com.paravai.communities.community.domain.value.CommunityVisibilityValue;
 import com.paravai.foundation.domain.event.EntityChangedEvent;
-import com.paravai.foundation.domain.event.NonBlockingEventPublisher;
 import com.paravai.foundation.domain.event.ReactiveDomainEventPublisher;
 import com.paravai.foundation.domain.value.IdValue;
 import com.paravai.foundation.domain.value.OperationTypeValue;
 import com.paravai.foundation.observability.metrics.MetricsSupport;
 import com.paravai.foundation.observability.metrics.OperationCtx;
 import com.paravai.foundation.observability.metrics.ReactiveOperationMetrics;
+import com.paravai.foundation.persistence.mongo.outbox.TransactionalEventPublisher;
+import com.paravai.foundation.persistence.mongo.outbox.TransactionalOutbox;
+import com.paravai.foundation.persistence.mongo.update.OptimisticRetry;
 import com.paravai.foundation.securityutils.reactive.context.RequestContext;
 import com.paravai.foundation.snapshot.SnapshotMapper;
 import org.slf4j.Logger;
@@ -29,8 +31,10 @@ public class ChangeCommunityVisibilityService {
 
     private static final Logger log = LoggerFactory.getLogger(ChangeCommunityVisibilityService.class);
 
+    private static final int MAX_CONFLICT_RETRIES = 3;
+
     private final CommunityRepository repo;
-    private final NonBlockingEventPublisher nonBlockingPublisher;
+    private final TransactionalEventPublisher eventPublisher;
     private final CommunitySnapshotSupport snapshots;
     private final CommunityEventFactory eventFactory;
     private final ReactiveOperationMetrics metrics;
@@ -40,11 +44,13 @@ public class ChangeCommunityVisibilityService {
             ReactiveDomainEventPublisher domainEventPublisher,
             SnapshotMapper<Community> snapshotMapper,
             CommunityEventFactory eventFactory,
-            ReactiveOperationMetrics metrics
+            ReactiveOperationMetrics metrics,
+            TransactionalOutbox outbox
     ) {
         this.repo = Objects.requireNonNull(repo, "repo");
-        this.nonBlockingPublisher = new NonBlockingEventPublisher(
+        this.eventPublisher = new TransactionalEventPublisher(
                 Objects.requireNonNull(domainEventPublisher, "domainEventPublisher"),
+                Objects.requireNonNull(outbox, "outbox"),
                 log
         );
         this.snapshots = new CommunitySnapshotSupport(Objects.requireNonNull(snapshotMapper, "snapshotMapper"));
@@ -69,41 +75,35 @@ public class ChangeCommunityVisibilityService {
                 if (communityId == null) return Mono.error(new IllegalArgumentException("communityId cannot be null"));
                 if (newVisibility == null) return Mono.error(new IllegalArgumentException("newVisibility cannot be null"));
 
-                return repo.findById(communityId)
-                        .switchIfEmpty(Mono.error(new IllegalArgumentException("Community not found: " + communityId)))
-                        .flatMap(existing -> {
-
-                            // snapshot before
-                            final JsonNode previousState = snapshots.snapshot(existing);
-
-                            final String prevVisibility = existing.visibility().getCode();
-
-                            existing.changeVisibility(newVisibility);
-
-                            final boolean changed = !Objects.equals(prevVisibility, existing.visibility().getCode());
-
-                            if (!changed) {
-                                log.debug("[{}][{}] Community {} visibility unchanged ({}). No event emitted.",
-                                        traceId, userOid, existing.id(), prevVisibility);
-                                return repo.save(existing); // still ok; you could skip save, but safe for now
-                            }
-
-                            return repo.save(existing)
-                                    .flatMap(saved -> {
-                                        final JsonNode currentState = snapshots.snapshot(saved);
-
-                                        EntityChangedEvent evt = eventFactory.build(
-                                                OperationTypeValue.UPDATED,
-                                                saved.id(),
-                                                traceId, userOid, sourceSystem,
-                                                buildMessage(saved, prevVisibility, saved.visibility().getCode()),
-                                                previousState,
-                                                currentState
-                                        );
-
-                                        return nonBlockingPublisher.publish(evt).thenReturn(saved);
-                                    });
-                        })
+                // Read + guarded partial write + outbox in one transaction; the whole
+                // transaction is re-run when a concurrent writer got there first.
+                return OptimisticRetry.onConflict(MAX_CONFLICT_RETRIES, () -> eventPublisher.inTransaction(() ->
+                                repo.update(communityId, community -> community.changeVisibility(newVisibility))
+                                        .switchIfEmpty(Mono.error(new IllegalArgumentException("Community not found: " + communityId)))
+                                        .flatMap(update -> {
+
+                                            final Community saved = update.after();
+
+                                            if (!update.changed()) {
+                                                log.debug("[{}][{}] Community {} visibility unchanged ({}). Nothing written, no event emitted.",
+                                                        traceId, userOid, saved.id(), saved.visibility().getCode());
+                                                return Mono.just(saved);
+                                            }
+
+                                            final JsonNode previousState = snapshots.snapshot(update.before());
+                                            final JsonNode currentState = snapshots.snapshot(saved);
+
+                                            EntityChangedEvent evt = eventFactory.build(
+                                                    OperationTypeValue.UPDATED,
+                                                    saved.id(),
+                                                    traceId, userOid, sourceSystem,
+                                                    buildMessage(saved, update.before().visibility().getCode(), saved.visibility().getCode()),
+                                                    previousState,
+                                                    currentState
+                                            );
+
+                                            return eventPublisher.publish(evt).thenReturn(saved);
+                                        })))
                         .doOnError(ex -> log.error("[{}][{}] Failed to change visibility for Community {}",
                                 traceId, userOid, communityId, ex));
             });
@@ -0,0 +1,17 @@
+package com.paravai.communities.community.domain.port;
+
+import com.paravai.foundation.domain.value.IdValue;
+import reactor.core.publisher.Flux;
+
+/**
+ * Domain/Application port.
+ * Ranked, typo-tolerant text search over communities, served by a derived index.
+ * The index may lag behind the store; callers load the aggregates from the repository.
+ */
+public interface CommunitySearchIndex {
+
+    /**
+     * @return community ids of the tenant, best match first, at most limit.
+     */
+    Flux<IdValue> search(IdValue tenantId, String text, int limit);
+}
@@ -1,11 +1,17 @@
 package com.paravai.communities.community.domain.repository;
 
 import com.paravai.communities.community.domain.model.Community;
+import com.paravai.foundation.domain.model.AggregateUpdate;
+import com.paravai.foundation.domain.model.BulkWriteReport;
 import com.paravai.foundation.domain.value.IdValue;
+import com.paravai.foundation.viewjsonapi.pagination.PageSlice;
 import com.paravai.foundation.viewjsonapi.query.SearchQueryValue;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * Domain port (Hexagonal Architecture).
  * No Spring, no Mongo, no DTOs.
@@ -14,8 +20,28 @@ public interface CommunityRepository {
 
     Mono<Community> save(Community community);
 
+    /**
+     * Inserts new communities in bulk. Items that fail (e.g. a taken slug, reported as
+     * DuplicateCommunityBusinessIdentityException) do not stop the rest; the report says
+     * which were written and why the others were not.
+     */
+    Mono<BulkWriteReport<Community>> saveAll(List<Community> communities);
+
+    /**
+     * Bulk save(): each community replaces the stored one with its id, or is inserted.
+     * Per-item errors are reported as in saveAll.
+     */
+    Mono<BulkWriteReport<Community>> upsertAll(List<Community> communities);
+
     Mono<Community> findById(IdValue id);
 
+    /**
+     * Reads the community, applies change and writes only the fields it modified, guarded
+     * against concurrent writers (conflicts surface as an error the caller may retry by
+     * calling update again). No-op changes write nothing. Empty when not found.
+     */
+    Mono<AggregateUpdate<Community>> update(IdValue id, Consumer<Community> change);
+
     Mono<Void> deleteById(IdValue id);
 
     /**
@@ -29,4 +55,13 @@ public interface CommunityRepository {
 
     // Needed for pagination
     Mono<Long> count(SearchQueryValue query);
+
+    // Page + total (or hasNext when the request skips the total) in a single round trip
+    Mono<PageSlice<Community>> searchPage(SearchQueryValue query);
+
+    /**
+     * Relevance-ranked text search within a tenant (best match first). Served by the
+     * embedded search index when enabled, otherwise by the Mongo prefix search.
+     */
+    Flux<Community> searchRanked(IdValue tenantId, String text, int limit);
 }
\ No newline at end of file
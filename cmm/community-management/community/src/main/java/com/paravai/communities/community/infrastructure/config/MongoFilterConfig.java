@@ -2,11 +2,18 @@ package com.paravai.communities.community.infrastructure.config;
 
 import com.paravai.communities.community.domain.model.Community;
 import com.paravai.communities.community.infrastructure.persistence.mongo.document.CommunityDocument;
+import com.paravai.foundation.persistence.mongo.MongoIndexInitializer;
 import com.paravai.foundation.persistence.mongo.MongoReactiveEntityFilter;
+import com.paravai.foundation.persistence.mongo.bulk.MongoBulkWriter;
+import com.paravai.foundation.persistence.mongo.search.SearchStrategy;
+import com.paravai.foundation.persistence.mongo.update.MongoPartialUpdater;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 
+import java.util.List;
+
 @Configuration
 public class MongoFilterConfig {
 
@@ -16,8 +23,25 @@ public class MongoFilterConfig {
                 template,
                 CommunityDocument.class,
                 CommunityDocument::toDomain,
-                "name"
+                // prefix search on the normalized name: index range scan on ix_community_tenant_name_search
+                SearchStrategy.shadowPrefix(CommunityDocument.NAME_SEARCH_FIELD)
         );
     }
 
+    // ux_community_tenant_slug and ix_community_tenant_name_search (auto index creation is off)
+    @Bean
+    public MongoIndexInitializer communityIndexInitializer(ReactiveMongoTemplate template) {
+        return new MongoIndexInitializer(template, List.of(CommunityDocument.class));
+    }
+
+    @Bean
+    public MongoPartialUpdater partialUpdater(ReactiveMongoTemplate template) {
+        return new MongoPartialUpdater(template);
+    }
+
+    @Bean
+    public MongoBulkWriter bulkWriter(ReactiveMongoTemplate template,
+                                      @Value("${foundation.persistence.bulk-chunk-size:500}") int chunkSize) {
+        return new MongoBulkWriter(template, chunkSize);
+    }
 }
@@ -20,7 +20,12 @@ import reactor.core.publisher.Mono;
  *  - HISTORIZATION
  *  - INTEGRATION
  *
- * Best-effort by design: failures in any channel must not fail the command flow.
+ * With the transactional outbox enabled, the IntegrationEventPublisher only stages the
+ * envelopes in the outbox, inside the command transaction: failures are propagated so the
+ * aggregate change rolls back instead of committing without its events.
+ * Without the outbox, the command side wraps this in a best-effort publisher.
+ *
+ * All channels are attempted; the first error is reported once all of them completed.
  */
 @Component
 @RequiredArgsConstructor
@@ -37,23 +42,20 @@ public class CommunityEventPublisherHandler implements DomainEventHandler<Entity
     @Override
     public Mono<Void> handle(EntityChangedEvent event) {
 
-        Mono<Void> audit = publisher.publish(auditMapper.map(event))
+        Mono<Void> audit = Mono.defer(() -> publisher.publish(auditMapper.map(event)))
                 .doOnError(ex -> log.warn("[{}][{}] Failed to publish AUDIT envelope",
-                        safeTraceId(event), safeEntityId(event), ex))
-                .onErrorResume(ex -> Mono.empty());
+                        safeTraceId(event), safeEntityId(event), ex));
 
-        Mono<Void> historization = publisher.publish(historizationMapper.map(event))
+        Mono<Void> historization = Mono.defer(() -> publisher.publish(historizationMapper.map(event)))
                 .doOnError(ex -> log.warn("[{}][{}] Failed to publish HISTORIZATION envelope",
-                        safeTraceId(event), safeEntityId(event), ex))
-                .onErrorResume(ex -> Mono.empty());
+                        safeTraceId(event), safeEntityId(event), ex));
 
-        Mono<Void> integration = publisher.publish(integrationMapper.map(event))
+        Mono<Void> integration = Mono.defer(() -> publisher.publish(integrationMapper.map(event)))
                 .doOnError(ex -> log.warn("[{}][{}] Failed to publish INTEGRATION envelope",
-                        safeTraceId(event), safeEntityId(event), ex))
-                .onErrorResume(ex -> Mono.empty());
+                        safeTraceId(event), safeEntityId(event), ex));
 
-        // Best-effort: run them all, complete regardless of individual failures.
-        return Mono.when(audit, historization, integration).then();
+        // Run them all; surface a failure only after every channel had its chance.
+        return Mono.whenDelayError(audit, historization, integration);
     }
 
     private static String safeTraceId(EntityChangedEvent e) {
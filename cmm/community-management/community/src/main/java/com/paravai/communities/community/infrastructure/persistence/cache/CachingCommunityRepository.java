@@ -0,0 +1,119 @@
+package com.paravai.communities.community.infrastructure.persistence.cache;
+
+import com.paravai.communities.community.domain.model.Community;
+import com.paravai.communities.community.domain.repository.CommunityRepository;
+import com.paravai.communities.community.infrastructure.persistence.mongo.document.CommunityDocument;
+import com.paravai.foundation.domain.model.AggregateUpdate;
+import com.paravai.foundation.domain.model.BulkWriteReport;
+import com.paravai.foundation.domain.value.IdValue;
+import com.paravai.foundation.persistence.cache.AfterTransactionCompletion;
+import com.paravai.foundation.persistence.cache.ReadThroughCache;
+import com.paravai.foundation.viewjsonapi.pagination.PageSlice;
+import com.paravai.foundation.viewjsonapi.query.SearchQueryValue;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * CommunityRepository decorator that serves findById from a read-through cache.
+ *
+ * Community is mutable, so the cache keeps the persisted document form and every hit
+ * builds a fresh aggregate: callers may change what they get without touching the cache.
+ * Writes only invalidate (the surrounding transaction may still roll back): once the write
+ * finishes and, inside a transaction, again after it completes, since a read between the
+ * write and the commit still sees the old document. Queries and searches always go to the
+ * delegate.
+ */
+public class CachingCommunityRepository implements CommunityRepository {
+
+    private final CommunityRepository delegate;
+    private final ReadThroughCache<String, CommunityDocument> byId;
+
+    public CachingCommunityRepository(CommunityRepository delegate, ReadThroughCache<String, CommunityDocument> byId) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.byId = Objects.requireNonNull(byId, "byId");
+    }
+
+    @Override
+    public Mono<Community> save(Community community) {
+        if (community == null) return delegate.save(null);
+        return invalidating(delegate.save(community), () -> byId.invalidate(community.id().value()));
+    }
+
+    @Override
+    public Mono<BulkWriteReport<Community>> saveAll(List<Community> communities) {
+        if (communities == null) return delegate.saveAll(null);
+        return invalidating(delegate.saveAll(communities),
+                () -> communities.forEach(c -> byId.invalidate(c.id().value())));
+    }
+
+    @Override
+    public Mono<BulkWriteReport<Community>> upsertAll(List<Community> communities) {
+        if (communities == null) return delegate.upsertAll(null);
+        return invalidating(delegate.upsertAll(communities),
+                () -> communities.forEach(c -> byId.invalidate(c.id().value())));
+    }
+
+    @Override
+    public Mono<Community> findById(IdValue id) {
+        if (id == null) return delegate.findById(null);
+        return byId.get(id.value(), () -> delegate.findById(id).map(CommunityDocument::fromDomain))
+                .map(CommunityDocument::toDomain);
+    }
+
+    /**
+     * Always reads from the delegate: the guarded write needs the stored revision.
+     */
+    @Override
+    public Mono<AggregateUpdate<Community>> update(IdValue id, Consumer<Community> change) {
+        if (id == null) return delegate.update(null, change);
+        return invalidating(delegate.update(id, change), () -> byId.invalidate(id.value()));
+    }
+
+    @Override
+    public Mono<Void> deleteById(IdValue id) {
+        if (id == null) return delegate.deleteById(null);
+        return invalidating(delegate.deleteById(id), () -> byId.invalidate(id.value()));
+    }
+
+    @Override
+    public Mono<Boolean> existsByTenantIdAndSlug(IdValue tenantId, String slug) {
+        return delegate.existsByTenantIdAndSlug(tenantId, slug);
+    }
+
+    @Override
+    public Flux<Community> search(SearchQueryValue query) {
+        return delegate.search(query);
+    }
+
+    @Override
+    public Mono<Long> count(SearchQueryValue query) {
+        return delegate.count(query);
+    }
+
+    @Override
+    public Mono<PageSlice<Community>> searchPage(SearchQueryValue query) {
+        return delegate.searchPage(query);
+    }
+
+    @Override
+    public Flux<Community> searchRanked(IdValue tenantId, String text, int limit) {
+        return delegate.searchRanked(tenantId, text, limit);
+    }
+
+    /**
+     * Drops the cached entry of one community (change events, local or remote).
+     */
+    public void evict(String communityId) {
+        byId.invalidate(communityId);
+    }
+
+    private static <T> Mono<T> invalidating(Mono<T> write, Runnable invalidation) {
+        return AfterTransactionCompletion.register(invalidation)
+                .then(write)
+                .doFinally(signal -> invalidation.run());
+    }
+}
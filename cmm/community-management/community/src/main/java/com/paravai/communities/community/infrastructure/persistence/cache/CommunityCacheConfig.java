@@ -0,0 +1,72 @@
+package com.paravai.communities.community.infrastructure.persistence.cache;
+
+import com.paravai.communities.community.infrastructure.persistence.mongo.adapter.CommunitySpringReactiveMongoRepositoryAdapter;
+import com.paravai.communities.community.infrastructure.persistence.mongo.document.CommunityDocument;
+import com.paravai.foundation.domain.value.EntityTypeValue;
+import com.paravai.foundation.infrastructure.kafka.cache.KafkaCacheInvalidationListener;
+import com.paravai.foundation.persistence.cache.ReadThroughCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import reactor.kafka.receiver.ReceiverOptions;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Optional read-through cache for community lookups (community.cache.enabled).
+ * The caching decorator becomes the primary CommunityRepository; the Mongo adapter stays
+ * available by its concrete type.
+ */
+@Configuration
+@ConditionalOnProperty(name = "community.cache.enabled", havingValue = "true")
+@EnableConfigurationProperties(CommunityCacheProperties.class)
+public class CommunityCacheConfig {
+
+    @Bean
+    @Primary
+    public CachingCommunityRepository cachingCommunityRepository(CommunitySpringReactiveMongoRepositoryAdapter adapter,
+                                                                 CommunityCacheProperties props,
+                                                                 MeterRegistry registry) {
+        ReadThroughCache<String, CommunityDocument> byId =
+                ReadThroughCache.create("community.byId", props.getTtl(), props.getMaxSize(), registry);
+        return new CachingCommunityRepository(adapter, byId);
+    }
+
+    @Bean
+    public CommunityCacheInvalidationHandler communityCacheInvalidationHandler(CachingCommunityRepository repository) {
+        return new CommunityCacheInvalidationHandler(repository);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "community.cache.invalidation.kafka-enabled", havingValue = "true")
+    public KafkaCacheInvalidationListener communityCacheInvalidationListener(
+            @Value("${kafka.bootstrapServers}") String bootstrapServers,
+            @Value("${spring.application.name}") String applicationName,
+            CommunityCacheProperties props,
+            CachingCommunityRepository repository
+    ) {
+        Map<String, Object> consumerProps = new HashMap<>();
+        consumerProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+
+        return new KafkaCacheInvalidationListener(
+                ReceiverOptions.create(consumerProps),
+                applicationName,
+                props.getInvalidation().getTopics(),
+                (entityType, entityId) -> {
+                    if (EntityTypeValue.COMMUNITY.value().equals(entityType)) {
+                        repository.evict(entityId);
+                    }
+                }
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package com.paravai.communities.community.infrastructure.persistence.cache;
+
+import com.paravai.foundation.domain.event.DomainEventHandler;
+import com.paravai.foundation.domain.event.EntityChangedEvent;
+import com.paravai.foundation.domain.value.EntityTypeValue;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+/**
+ * Evicts a community from the local cache as soon as its EntityChangedEvent is dispatched.
+ * Other nodes (and this one, again after commit) are covered by the integration topic.
+ */
+public class CommunityCacheInvalidationHandler implements DomainEventHandler<EntityChangedEvent> {
+
+    private final CachingCommunityRepository repository;
+
+    public CommunityCacheInvalidationHandler(CachingCommunityRepository repository) {
+        this.repository = Objects.requireNonNull(repository, "repository");
+    }
+
+    @Override
+    public Mono<Void> handle(EntityChangedEvent event) {
+        if (event != null && EntityTypeValue.COMMUNITY.equals(event.getEntityType())) {
+            repository.evict(event.getEntityId().value());
+        }
+        return Mono.empty();
+    }
+}
@@ -0,0 +1,45 @@
+package com.paravai.communities.community.infrastructure.persistence.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-through cache in front of CommunityRepository.findById.
+ *
+ * Entries are dropped by the local EntityChangedEvent and, on every node, by the
+ * integration topic; the TTL bounds staleness when an event is missed.
+ */
+@ConfigurationProperties(prefix = "community.cache")
+public class CommunityCacheProperties {
+
+    private boolean enabled = false;
+    private Duration ttl = Duration.ofSeconds(30);
+    private long maxSize = 10_000;
+    private Invalidation invalidation = new Invalidation();
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public Duration getTtl() { return ttl; }
+    public void setTtl(Duration ttl) { this.ttl = ttl; }
+
+    public long getMaxSize() { return maxSize; }
+    public void setMaxSize(long maxSize) { this.maxSize = maxSize; }
+
+    public Invalidation getInvalidation() { return invalidation; }
+    public void setInvalidation(Invalidation invalidation) { this.invalidation = invalidation; }
+
+    public static class Invalidation {
+        private boolean kafkaEnabled = false;
+        private List<String> topics = new ArrayList<>();
+
+        public boolean isKafkaEnabled() { return kafkaEnabled; }
+        public void setKafkaEnabled(boolean kafkaEnabled) { this.kafkaEnabled = kafkaEnabled; }
+
+        public List<String> getTopics() { return topics; }
+        public void setTopics(List<String> topics) { this.topics = topics; }
+    }
+}
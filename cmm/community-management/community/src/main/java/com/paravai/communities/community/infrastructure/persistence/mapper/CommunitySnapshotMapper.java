@@ -1,31 +1,33 @@
 package com.paravai.communities.community.infrastructure.persistence.mapper;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.paravai.communities.community.domain.model.Community;
 import com.paravai.communities.community.infrastructure.event.mapper.CommunityToEventPayloadMapperV1;
-import com.paravai.foundation.snapshot.SnapshotMapper;
+import com.paravai.communities.contracts.event.community.CommunityEventPayloadV1;
+import com.paravai.foundation.snapshot.EncodedSnapshotMapper;
 import org.springframework.stereotype.Component;
 
 /**
  * Serializes Community aggregates into JSON snapshots for historization.
+ *
+ * The snapshot is the integration payload (CommunityEventPayloadV1), encoded once and
+ * shared by the historization and integration envelopes.
  */
 @Component
-public class CommunitySnapshotMapper implements SnapshotMapper<Community> {
+public class CommunitySnapshotMapper extends EncodedSnapshotMapper<Community, CommunityEventPayloadV1> {
 
-    private final ObjectMapper objectMapper;
     private final CommunityToEventPayloadMapperV1 payloadMapper;
 
     public CommunitySnapshotMapper(
             ObjectMapper objectMapper,
             CommunityToEventPayloadMapperV1 payloadMapper
     ) {
-        this.objectMapper = objectMapper;
+        super(objectMapper);
         this.payloadMapper = payloadMapper;
     }
 
     @Override
-    public JsonNode toSnapshot(Community aggregate) {
-        return objectMapper.valueToTree(payloadMapper.map(aggregate));
+    protected CommunityEventPayloadV1 toPayload(Community aggregate) {
+        return payloadMapper.map(aggregate);
     }
-}
\ No newline at end of file
+}
@@ -4,22 +4,37 @@ package com.paravai.communities.community.infrastructure.persistence.mongo.adapt
 import com.paravai.communities.community.application.common.CommunityMetrics;
 import com.paravai.communities.community.domain.exception.DuplicateCommunityBusinessIdentityException;
 import com.paravai.communities.community.domain.model.Community;
+import com.paravai.communities.community.domain.port.CommunitySearchIndex;
 import com.paravai.communities.community.domain.repository.CommunityRepository;
 import com.paravai.communities.community.infrastructure.persistence.mongo.document.CommunityDocument;
 import com.paravai.communities.community.infrastructure.persistence.mongo.springdata.CommunitySpringReactiveMongoRepository;
+import com.paravai.foundation.domain.model.AggregateUpdate;
+import com.paravai.foundation.domain.model.BulkWriteReport;
 import com.paravai.foundation.domain.value.IdValue;
 import com.paravai.foundation.observability.metrics.MetricsSupport;
 import com.paravai.foundation.observability.metrics.OperationCtx;
 import com.paravai.foundation.observability.metrics.ReactiveOperationMetrics;
+import com.paravai.foundation.persistence.cache.SingleFlight;
+import com.paravai.foundation.persistence.mongo.KeysetPage;
 import com.paravai.foundation.persistence.mongo.MongoReactiveEntityFilter;
+import com.paravai.foundation.persistence.mongo.PageCountMode;
+import com.paravai.foundation.persistence.mongo.bulk.MongoBulkWriter;
+import com.paravai.foundation.persistence.mongo.update.MongoPartialUpdater;
+import com.paravai.foundation.viewjsonapi.pagination.PageSlice;
 import com.paravai.foundation.viewjsonapi.query.SearchQueryValue;
+import com.paravai.foundation.viewjsonapi.query.SortSpecValue;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Infrastructure adapter (Mongo + Spring Data) for CommunityRepository.
@@ -33,15 +48,33 @@ public class CommunitySpringReactiveMongoRepositoryAdapter implements CommunityR
     private final CommunitySpringReactiveMongoRepository springRepo;
     private final MongoReactiveEntityFilter<Community, CommunityDocument> filter;
     private final ReactiveOperationMetrics metrics;
+    private final ObjectProvider<CommunitySearchIndex> searchIndex;
+    private final MongoPartialUpdater partialUpdater;
+    private final MongoBulkWriter bulkWriter;
+
+    // Concurrent reads of the same community share one query (documents, not aggregates)
+    private final SingleFlight<String, CommunityDocument> findByIdFlights;
 
     public CommunitySpringReactiveMongoRepositoryAdapter(CommunitySpringReactiveMongoRepository springRepo,
                                                          MongoReactiveEntityFilter<Community, CommunityDocument> filter,
-                                                         ReactiveOperationMetrics metrics) {
+                                                         ReactiveOperationMetrics metrics,
+                                                         ObjectProvider<CommunitySearchIndex> searchIndex,
+                                                         MongoPartialUpdater partialUpdater,
+                                                         MongoBulkWriter bulkWriter,
+                                                         MeterRegistry meterRegistry) {
         this.springRepo = Objects.requireNonNull(springRepo, "springRepo");
         this.filter = Objects.requireNonNull(filter, "filter");
         this.metrics = Objects.requireNonNull(metrics, "metrics");
+        this.searchIndex = Objects.requireNonNull(searchIndex, "searchIndex");
+        this.partialUpdater = Objects.requireNonNull(partialUpdater, "partialUpdater");
+        this.bulkWriter = Objects.requireNonNull(bulkWriter, "bulkWriter");
+        this.findByIdFlights = SingleFlight.create("community.findById", meterRegistry);
     }
 
+    /**
+     * Full write through the partial updater rather than springRepo.save: fromDomain
+     * carries no revision, so a plain save would reset the stored one to 0.
+     */
     @Override
     public Mono<Community> save(Community community) {
         if (community == null) return Mono.error(new IllegalArgumentException("community cannot be null"));
@@ -49,7 +82,15 @@ public class CommunitySpringReactiveMongoRepositoryAdapter implements CommunityR
         OperationCtx opCtx = CommunityMetrics.ID.outbound(ADAPTER_NAME, "save");
 
         return MetricsSupport.timedOutboundMono(metrics, opCtx, () ->
-                springRepo.save(CommunityDocument.fromDomain(community))
+                Mono.defer(() -> {
+                            CommunityDocument document = CommunityDocument.fromDomain(community);
+                            return partialUpdater.overwrite(
+                                            CommunityDocument.class,
+                                            document.getId(),
+                                            CommunityDocument.REVISION_FIELD,
+                                            document)
+                                    .thenReturn(document);
+                        })
                         .map(CommunityDocument::toDomain)
                         .onErrorMap(DuplicateKeyException.class, ex ->
                                 new DuplicateCommunityBusinessIdentityException(community.tenantId(), community.slug())
@@ -57,6 +98,41 @@ public class CommunitySpringReactiveMongoRepositoryAdapter implements CommunityR
         );
     }
 
+    /**
+     * Unordered insert, chunked; every chunk is timed as one outbound call.
+     */
+    @Override
+    public Mono<BulkWriteReport<Community>> saveAll(List<Community> communities) {
+        if (communities == null) return Mono.error(new IllegalArgumentException("communities cannot be null"));
+
+        OperationCtx opCtx = CommunityMetrics.ID.outbound(ADAPTER_NAME, "saveAll");
+
+        return bulkWriter.insertAll(
+                communities,
+                CommunityDocument.class,
+                CommunityDocument::fromDomain,
+                CommunitySpringReactiveMongoRepositoryAdapter::duplicate,
+                chunk -> MetricsSupport.timedOutboundMono(metrics, opCtx, () -> chunk)
+        );
+    }
+
+    @Override
+    public Mono<BulkWriteReport<Community>> upsertAll(List<Community> communities) {
+        if (communities == null) return Mono.error(new IllegalArgumentException("communities cannot be null"));
+
+        OperationCtx opCtx = CommunityMetrics.ID.outbound(ADAPTER_NAME, "upsertAll");
+
+        return bulkWriter.upsertAll(
+                communities,
+                CommunityDocument.class,
+                c -> c.id().value(),
+                c -> partialUpdater.overwriteUpdate(
+                        CommunityDocument.class, CommunityDocument.REVISION_FIELD, CommunityDocument.fromDomain(c)),
+                CommunitySpringReactiveMongoRepositoryAdapter::duplicate,
+                chunk -> MetricsSupport.timedOutboundMono(metrics, opCtx, () -> chunk)
+        );
+    }
+
     @Override
     public Mono<Community> findById(IdValue id) {
         if (id == null) return Mono.error(new IllegalArgumentException("id cannot be null"));
@@ -64,11 +140,45 @@ public class CommunitySpringReactiveMongoRepositoryAdapter implements CommunityR
         OperationCtx opCtx = CommunityMetrics.ID.outbound(ADAPTER_NAME, "findById");
 
         return MetricsSupport.timedOutboundMono(metrics, opCtx, () ->
-                springRepo.findById(id.value())
+                findByIdFlights.execute(id.value(), () -> springRepo.findById(id.value()))
                         .map(CommunityDocument::toDomain)
         );
     }
 
+    /**
+     * Reads straight from Mongo (no single-flight: the stored revision must be this
+     * caller's own read) and diffs fromDomain of the aggregate as read vs as changed.
+     */
+    @Override
+    public Mono<AggregateUpdate<Community>> update(IdValue id, Consumer<Community> change) {
+        if (id == null) return Mono.error(new IllegalArgumentException("id cannot be null"));
+        if (change == null) return Mono.error(new IllegalArgumentException("change cannot be null"));
+
+        OperationCtx opCtx = CommunityMetrics.ID.outbound(ADAPTER_NAME, "update");
+
+        return MetricsSupport.timedOutboundMono(metrics, opCtx, () ->
+                springRepo.findById(id.value())
+                        .flatMap(stored -> {
+                            Community before = stored.toDomain();
+                            Community after = stored.toDomain();
+                            change.accept(after);
+
+                            return partialUpdater.update(
+                                            CommunityDocument.class,
+                                            stored.getId(),
+                                            CommunityDocument.REVISION_FIELD,
+                                            stored.getRevision(),
+                                            CommunityDocument.fromDomain(before),
+                                            CommunityDocument.fromDomain(after))
+                                    .map(outcome -> new AggregateUpdate<>(before, after,
+                                            outcome == MongoPartialUpdater.Outcome.UPDATED))
+                                    .onErrorMap(DuplicateKeyException.class, ex ->
+                                            new DuplicateCommunityBusinessIdentityException(after.tenantId(), after.slug())
+                                    );
+                        })
+        );
+    }
+
     @Override
     public Mono<Void> deleteById(IdValue id) {
         if (id == null) return Mono.error(new IllegalArgumentException("id cannot be null"));
@@ -98,6 +208,16 @@ public class CommunitySpringReactiveMongoRepositoryAdapter implements CommunityR
 
         OperationCtx opCtx = CommunityMetrics.ID.outbound(ADAPTER_NAME, "search");
 
+        if (q.page().isCursorMode()) {
+            return MetricsSupport.timedOutboundFlux(metrics, opCtx, () ->
+                    filter.findByKeyset(
+                            q.filters().values(),
+                            q.search().isEmpty() ? Optional.empty() : Optional.of(q.search().value()),
+                            keysetPage(q)
+                    )
+            );
+        }
+
         return MetricsSupport.timedOutboundFlux(metrics, opCtx, () ->
                 filter.findByFilters(
                                 q.filters().values(),
@@ -122,4 +242,85 @@ public class CommunitySpringReactiveMongoRepositoryAdapter implements CommunityR
                 )
         );
     }
-}
\ No newline at end of file
+
+    @Override
+    public Mono<PageSlice<Community>> searchPage(SearchQueryValue q) {
+        if (q == null) return Mono.error(new IllegalArgumentException("q cannot be null"));
+
+        OperationCtx opCtx = CommunityMetrics.ID.outbound(ADAPTER_NAME, "searchPage");
+        Optional<String> search = q.search().isEmpty() ? Optional.empty() : Optional.of(q.search().value());
+
+        return MetricsSupport.timedOutboundMono(metrics, opCtx, () ->
+                (q.page().isCursorMode()
+                        ? filter.findKeysetPage(q.filters().values(), search, keysetPage(q))
+                        : filter.findPage(
+                                q.filters().values(),
+                                search,
+                                q.sort().isEmpty() ? Optional.empty() : Optional.of(q.sort().toString()),
+                                q.page().getPage(),
+                                q.page().getSize(),
+                                q.page().isCountTotal() ? PageCountMode.FACET : PageCountMode.HAS_NEXT))
+                        .map(r -> PageSlice.of(r.content(), r.total(), r.hasMore(), q.page()))
+        );
+    }
+
+    @Override
+    public Flux<Community> searchRanked(IdValue tenantId, String text, int limit) {
+        if (tenantId == null) return Flux.error(new IllegalArgumentException("tenantId cannot be null"));
+        if (text == null || text.isBlank()) return Flux.error(new IllegalArgumentException("text cannot be null or blank"));
+        if (limit < 1) return Flux.error(new IllegalArgumentException("limit must be >= 1"));
+
+        CommunitySearchIndex index = searchIndex.getIfAvailable();
+
+        if (index == null) {
+            OperationCtx opCtx = CommunityMetrics.ID.outbound(ADAPTER_NAME, "searchRanked");
+
+            return MetricsSupport.timedOutboundFlux(metrics, opCtx, () ->
+                    filter.findByFilters(
+                            Map.of("filter[tenantId]", tenantId.value()),
+                            Optional.of(text),
+                            Optional.empty(),
+                            1,
+                            limit
+                    )
+            );
+        }
+
+        OperationCtx opCtx = CommunityMetrics.ID.outbound(ADAPTER_NAME, "findRankedByIds");
+
+        // The index only ranks ids; aggregates come from Mongo, so stale or rolled-back
+        // index entries cannot leak data that is not in the store.
+        return index.search(tenantId, text, limit)
+                .map(IdValue::value)
+                .collectList()
+                .flatMapMany(ids -> ids.isEmpty()
+                        ? Flux.empty()
+                        : MetricsSupport.timedOutboundFlux(metrics, opCtx, () ->
+                                springRepo.findAllById(ids)
+                                        .filter(d -> tenantId.value().equals(d.getTenantId()))
+                                        .collectMap(CommunityDocument::getId)
+                                        .flatMapIterable(byId -> ids.stream()
+                                                .map(byId::get)
+                                                .filter(Objects::nonNull)
+                                                .map(CommunityDocument::toDomain)
+                                                .toList())
+                        ));
+    }
+
+    private static RuntimeException duplicate(Community community) {
+        return new DuplicateCommunityBusinessIdentityException(community.tenantId(), community.slug());
+    }
+
+    private static KeysetPage keysetPage(SearchQueryValue q) {
+        SortSpecValue.SortFieldValue sort = q.keysetSort();
+        String field = sort == null ? null : sort.field();
+        boolean descending = sort != null && sort.descending();
+        int size = q.page().getSize();
+
+        return q.page().getCursor()
+                .map(c -> q.page().isBackward()
+                        ? KeysetPage.before(field, descending, c.getSortValue(), c.getId(), size)
+                        : KeysetPage.after(field, descending, c.getSortValue(), c.getId(), size))
+                .orElseGet(() -> KeysetPage.first(field, descending, size));
+    }
+}
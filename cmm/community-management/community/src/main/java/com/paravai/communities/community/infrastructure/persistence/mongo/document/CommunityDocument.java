@@ -8,10 +8,12 @@ import com.paravai.communities.community.domain.value.CommunityVisibilityValue;
 import com.paravai.communities.community.domain.value.ExchangeTypeValue;
 import com.paravai.foundation.domain.value.IdValue;
 import com.paravai.foundation.domain.value.TimestampValue;
+import com.paravai.foundation.persistence.mongo.search.SearchTerms;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
@@ -20,14 +22,26 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 @Document("communities")
-@CompoundIndex(
-        name = "ux_community_tenant_slug",
-        def = "{'tenantId': 1, 'slug': 1}",
-        unique = true
-)
+@CompoundIndexes({
+        @CompoundIndex(
+                name = "ux_community_tenant_slug",
+                def = "{'tenantId': 1, 'slug': 1}",
+                unique = true
+        ),
+        @CompoundIndex(
+                name = "ix_community_tenant_name_search",
+                def = "{'tenantId': 1, 'nameSearch': 1}"
+        )
+})
 public class CommunityDocument {
 
-    public static final int DOCUMENT_VERSION = 1;
+    /**
+     * v2: adds nameSearch, the normalized name used by index-backed prefix search.
+     * v3: adds revision, the optimistic concurrency guard of partial updates.
+     */
+    public static final int DOCUMENT_VERSION = 3;
+    public static final String NAME_SEARCH_FIELD = "nameSearch";
+    public static final String REVISION_FIELD = "revision";
     private static final Logger log = LoggerFactory.getLogger(CommunityDocument.class);
 
     @Id
@@ -36,6 +50,7 @@ public class CommunityDocument {
     private String tenantId;
 
     private String name;
+    private String nameSearch;
     private String slug;
 
     private String description;
@@ -55,6 +70,11 @@ public class CommunityDocument {
 
     private int documentVersion = DOCUMENT_VERSION;
 
+    // Incremented by every partial update; missing (older documents) reads as 0.
+    // Not part of the aggregate: fromDomain always yields 0, so full writes must not set it
+    // (MongoPartialUpdater.overwrite increments it instead).
+    private long revision;
+
     public static CommunityDocument fromDomain(Community c) {
         CommunityDocument d = new CommunityDocument();
 
@@ -62,6 +82,7 @@ public class CommunityDocument {
         d.tenantId = c.tenantId().value();
 
         d.name = c.name();
+        d.nameSearch = SearchTerms.normalize(c.name());
         d.slug = c.slug();
 
         d.description = c.description().orElse(null);
@@ -158,6 +179,9 @@ public class CommunityDocument {
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
 
+    public String getNameSearch() { return nameSearch; }
+    public void setNameSearch(String nameSearch) { this.nameSearch = nameSearch; }
+
     public String getSlug() { return slug; }
     public void setSlug(String slug) { this.slug = slug; }
 
@@ -190,4 +214,7 @@ public class CommunityDocument {
 
     public int getDocumentVersion() { return documentVersion; }
     public void setDocumentVersion(int documentVersion) { this.documentVersion = documentVersion; }
+
+    public long getRevision() { return revision; }
+    public void setRevision(long revision) { this.revision = revision; }
 }
\ No newline at end of file
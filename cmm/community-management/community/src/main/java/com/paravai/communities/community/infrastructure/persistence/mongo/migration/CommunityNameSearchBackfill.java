@@ -0,0 +1,62 @@
+package com.paravai.communities.community.infrastructure.persistence.mongo.migration;
+
+import com.paravai.communities.community.infrastructure.persistence.mongo.document.CommunityDocument;
+import com.paravai.foundation.persistence.mongo.search.SearchTerms;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Fills {@code nameSearch} on community documents written before document version 2,
+ * so prefix search (which only reads the shadow field) finds them.
+ *
+ * Idempotent and safe to run on every instance: each update is guarded by the old
+ * version, and new writes already carry the field.
+ */
+@Component
+@ConditionalOnProperty(name = "community.search.backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class CommunityNameSearchBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(CommunityNameSearchBackfill.class);
+
+    private static final int CONCURRENCY = 8;
+
+    private final ReactiveMongoTemplate template;
+
+    public CommunityNameSearchBackfill(ReactiveMongoTemplate template) {
+        this.template = Objects.requireNonNull(template, "template");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        Query outdated = Query.query(Criteria.where("documentVersion").lt(CommunityDocument.DOCUMENT_VERSION));
+        outdated.fields().include("_id", "name");
+
+        template.find(outdated, CommunityDocument.class)
+                .flatMap(doc -> template.updateFirst(
+                        Query.query(Criteria.where("_id").is(doc.getId())
+                                .and("documentVersion").lt(CommunityDocument.DOCUMENT_VERSION)),
+                        new Update()
+                                .set(CommunityDocument.NAME_SEARCH_FIELD, SearchTerms.normalize(doc.getName()))
+                                .set("documentVersion", CommunityDocument.DOCUMENT_VERSION),
+                        CommunityDocument.class), CONCURRENCY)
+                .reduce(0L, (count, result) -> count + result.getModifiedCount())
+                .subscribe(
+                        count -> {
+                            if (count > 0) {
+                                log.info("Backfilled {} on {} community documents", CommunityDocument.NAME_SEARCH_FIELD, count);
+                            }
+                        },
+                        ex -> log.warn("Community {} backfill failed; search may miss older documents",
+                                CommunityDocument.NAME_SEARCH_FIELD, ex));
+    }
+}
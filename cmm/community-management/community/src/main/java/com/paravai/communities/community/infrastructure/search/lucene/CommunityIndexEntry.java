@@ -0,0 +1,44 @@
+package com.paravai.communities.community.infrastructure.search.lucene;
+
+import com.paravai.communities.community.infrastructure.persistence.mongo.document.CommunityDocument;
+import com.paravai.communities.contracts.event.community.CommunityEventPayloadV1;
+
+import java.util.Objects;
+
+/**
+ * Searchable projection of a community.
+ */
+record CommunityIndexEntry(String id,
+                           String tenantId,
+                           String name,
+                           String slug,
+                           String description,
+                           String rulesText) {
+
+    CommunityIndexEntry {
+        Objects.requireNonNull(id, "id");
+        Objects.requireNonNull(tenantId, "tenantId");
+    }
+
+    static CommunityIndexEntry from(CommunityEventPayloadV1 payload) {
+        return new CommunityIndexEntry(
+                payload.communityId(),
+                payload.tenantId(),
+                payload.name(),
+                payload.slug(),
+                payload.description(),
+                payload.rules() != null ? payload.rules().text() : null
+        );
+    }
+
+    static CommunityIndexEntry from(CommunityDocument document) {
+        return new CommunityIndexEntry(
+                document.getId(),
+                document.getTenantId(),
+                document.getName(),
+                document.getSlug(),
+                document.getDescription(),
+                document.getRulesText()
+        );
+    }
+}
@@ -0,0 +1,303 @@
+package com.paravai.communities.community.infrastructure.search.lucene;
+
+import com.paravai.communities.community.domain.port.CommunitySearchIndex;
+import com.paravai.foundation.domain.value.IdValue;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process Lucene index over community name, slug, description and rules text.
+ *
+ * Writes are serialized on a single thread and made visible through a near-real-time
+ * SearcherManager refresh, so a search never waits for a commit. Queries combine exact,
+ * prefix and fuzzy (edit distance) matches per word, boosted name > slug > description >
+ * rules, always filtered by tenant.
+ *
+ * Every document carries the generation it was written in; a rebuild writes a new
+ * generation and then drops the older ones, so the index stays searchable meanwhile.
+ * Ids upserted or deleted while a rebuild runs are skipped by it: the rebuild reads a
+ * Mongo cursor that may be older than the live update.
+ */
+public class CommunityLuceneIndex implements CommunitySearchIndex, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CommunityLuceneIndex.class);
+
+    static final String F_ID = "id";
+    static final String F_TENANT = "tenantId";
+    static final String F_GENERATION = "generation";
+    static final String F_NAME = "name";
+    static final String F_SLUG = "slug";
+    static final String F_DESCRIPTION = "description";
+    static final String F_RULES = "rules";
+
+    private static final Set<String> ID_ONLY = Set.of(F_ID);
+
+    private final CommunityLuceneProperties props;
+    private final Directory directory;
+    private final Analyzer analyzer;
+    private final IndexWriter writer;
+    private final SearcherManager searchers;
+    private final Scheduler writeScheduler;
+    private final AtomicLong generation = new AtomicLong(System.currentTimeMillis());
+
+    // Ids written live during the running rebuild; only touched on the writer thread.
+    private Set<String> touchedDuringRebuild;
+
+    public CommunityLuceneIndex(CommunityLuceneProperties props) throws IOException {
+        this.props = Objects.requireNonNull(props, "props");
+        this.directory = (props.getPath() == null || props.getPath().isBlank())
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(Path.of(props.getPath()));
+        this.analyzer = new CommunitySearchAnalyzer();
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searchers = new SearcherManager(writer, null);
+        this.writeScheduler = Schedulers.newSingle("community-lucene-writer");
+
+        log.info("Community Lucene index opened (directory={}, docs={})",
+                directory.getClass().getSimpleName(), writer.getDocStats().numDocs);
+    }
+
+    // ---- writes ----
+
+    public Mono<Void> upsert(CommunityIndexEntry entry) {
+        Objects.requireNonNull(entry, "entry");
+        return write(() -> {
+            touched(entry.id());
+            writer.updateDocument(new Term(F_ID, entry.id()), toDocument(entry, generation.get()));
+            searchers.maybeRefresh();
+        });
+    }
+
+    public Mono<Void> delete(String id) {
+        Objects.requireNonNull(id, "id");
+        return write(() -> {
+            touched(id);
+            writer.deleteDocuments(new Term(F_ID, id));
+            searchers.maybeRefresh();
+        });
+    }
+
+    /**
+     * Re-indexes every entry under a new generation, then removes what was not re-indexed
+     * (communities deleted while the index was down). Searches keep working meanwhile.
+     *
+     * Entries whose id was upserted or deleted after the rebuild started are skipped, so
+     * a stale cursor read never overwrites a live update nor resurrects a live delete.
+     *
+     * @return number of entries written by the rebuild
+     */
+    public Mono<Long> rebuild(Flux<CommunityIndexEntry> entries) {
+        return Mono.defer(() -> {
+            long rebuildGeneration = generation.updateAndGet(g -> Math.max(g + 1, System.currentTimeMillis()));
+            Set<String> touched = new HashSet<>();
+            AtomicLong written = new AtomicLong();
+
+            return write(() -> touchedDuringRebuild = touched)
+                    .thenMany(entries.buffer(Math.max(1, props.getRebuildBatchSize())))
+                    .concatMap(batch -> write(() -> {
+                        for (CommunityIndexEntry entry : batch) {
+                            if (touched.contains(entry.id())) {
+                                continue;
+                            }
+                            writer.updateDocument(new Term(F_ID, entry.id()), toDocument(entry, rebuildGeneration));
+                            written.incrementAndGet();
+                        }
+                        searchers.maybeRefresh();
+                    }))
+                    .then(write(() -> {
+                        writer.deleteDocuments(LongPoint.newRangeQuery(F_GENERATION, Long.MIN_VALUE, rebuildGeneration - 1));
+                        writer.commit();
+                        searchers.maybeRefresh();
+                    }))
+                    .doFinally(signal -> writeScheduler.schedule(() -> {
+                        if (touchedDuringRebuild == touched) {
+                            touchedDuringRebuild = null;
+                        }
+                    }))
+                    .then(Mono.fromCallable(written::get));
+        });
+    }
+
+    // ---- reads ----
+
+    @Override
+    public Flux<IdValue> search(IdValue tenantId, String text, int limit) {
+        Objects.requireNonNull(tenantId, "tenantId");
+        if (text == null || text.isBlank() || limit < 1) {
+            return Flux.empty();
+        }
+
+        return Mono.fromCallable(() -> searchIds(tenantId.value(), text, Math.min(limit, props.getMaxResults())))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapIterable(ids -> ids)
+                .map(IdValue::of);
+    }
+
+    private List<String> searchIds(String tenantId, String text, int limit) throws IOException {
+        Query query = buildQuery(tenantId, text);
+        if (query == null) {
+            return List.of();
+        }
+
+        IndexSearcher searcher = searchers.acquire();
+        try {
+            TopDocs top = searcher.search(query, limit);
+            StoredFields stored = searcher.storedFields();
+            List<String> ids = new ArrayList<>(top.scoreDocs.length);
+            for (ScoreDoc hit : top.scoreDocs) {
+                ids.add(stored.document(hit.doc, ID_ONLY).get(F_ID));
+            }
+            return ids;
+        } finally {
+            searchers.release(searcher);
+        }
+    }
+
+    Query buildQuery(String tenantId, String text) {
+        List<String> words = analyze(text);
+        if (words.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder matches = new BooleanQuery.Builder();
+        for (String word : words) {
+            matches.add(wordQuery(word), BooleanClause.Occur.SHOULD);
+        }
+        // Short queries need every word; longer ones tolerate one miss.
+        matches.setMinimumNumberShouldMatch(words.size() <= 2 ? words.size() : words.size() - 1);
+
+        return new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(F_TENANT, tenantId)), BooleanClause.Occur.FILTER)
+                .add(matches.build(), BooleanClause.Occur.MUST)
+                .build();
+    }
+
+    private Query wordQuery(String word) {
+        int edits = Math.min(props.getMaxEdits(), word.length() <= 2 ? 0 : word.length() <= 5 ? 1 : 2);
+
+        BooleanQuery.Builder b = new BooleanQuery.Builder();
+        b.add(boost(new TermQuery(new Term(F_NAME, word)), 4f), BooleanClause.Occur.SHOULD);
+        b.add(boost(new TermQuery(new Term(F_SLUG, word)), 2f), BooleanClause.Occur.SHOULD);
+        b.add(boost(new TermQuery(new Term(F_DESCRIPTION, word)), 1f), BooleanClause.Occur.SHOULD);
+        b.add(boost(new TermQuery(new Term(F_RULES, word)), 0.5f), BooleanClause.Occur.SHOULD);
+
+        if (word.length() >= 2) {
+            b.add(boost(new PrefixQuery(new Term(F_NAME, word)), 2f), BooleanClause.Occur.SHOULD);
+        }
+        if (edits > 0) {
+            b.add(boost(new FuzzyQuery(new Term(F_NAME, word), edits, 1), 1.5f), BooleanClause.Occur.SHOULD);
+            b.add(boost(new FuzzyQuery(new Term(F_SLUG, word), edits, 1), 1f), BooleanClause.Occur.SHOULD);
+            b.add(boost(new FuzzyQuery(new Term(F_DESCRIPTION, word), edits, 1), 0.5f), BooleanClause.Occur.SHOULD);
+        }
+        return b.build();
+    }
+
+    private static Query boost(Query query, float boost) {
+        return new BoostQuery(query, boost);
+    }
+
+    private List<String> analyze(String text) {
+        List<String> words = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(F_NAME, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                words.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return words;
+    }
+
+    // ---- internals ----
+
+    private void touched(String id) {
+        if (touchedDuringRebuild != null) {
+            touchedDuringRebuild.add(id);
+        }
+    }
+
+    private static Document toDocument(CommunityIndexEntry entry, long generation) {
+        Document doc = new Document();
+        doc.add(new StringField(F_ID, entry.id(), Field.Store.YES));
+        doc.add(new StringField(F_TENANT, entry.tenantId(), Field.Store.NO));
+        doc.add(new LongPoint(F_GENERATION, generation));
+        addText(doc, F_NAME, entry.name());
+        addText(doc, F_SLUG, entry.slug());
+        addText(doc, F_DESCRIPTION, entry.description());
+        addText(doc, F_RULES, entry.rulesText());
+        return doc;
+    }
+
+    private static void addText(Document doc, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            doc.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    private Mono<Void> write(IoAction action) {
+        return Mono.<Void>fromCallable(() -> {
+                    action.run();
+                    return null;
+                })
+                .subscribeOn(writeScheduler);
+    }
+
+    @FunctionalInterface
+    private interface IoAction {
+        void run() throws IOException;
+    }
+
+    @Override
+    public void close() throws IOException {
+        log.info("Closing community Lucene index");
+        writeScheduler.dispose();
+        searchers.close();
+        writer.commit();
+        writer.close();
+        directory.close();
+    }
+}
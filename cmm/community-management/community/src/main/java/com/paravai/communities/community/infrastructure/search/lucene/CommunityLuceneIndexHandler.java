@@ -0,0 +1,68 @@
+package com.paravai.communities.community.infrastructure.search.lucene;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.paravai.communities.community.infrastructure.event.mapper.CommunitySnapshotToEventPayloadMapperV1;
+import com.paravai.communities.contracts.event.community.CommunityEventPayloadV1;
+import com.paravai.foundation.domain.event.DomainEventHandler;
+import com.paravai.foundation.domain.event.EntityChangedEvent;
+import com.paravai.foundation.domain.value.EntityTypeValue;
+import com.paravai.foundation.domain.value.OperationTypeValue;
+import com.paravai.foundation.snapshot.EncodedSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+/**
+ * Keeps the community Lucene index current from EntityChangedEvent.
+ *
+ * Only sees the changes made on this node; CommunityLuceneIndexListener applies the
+ * changes of every node from the integration topic.
+ *
+ * The index is derived data, so updates are fire-and-forget: they run on the index
+ * writer thread and never slow down or fail the command. Entries of a command that
+ * later rolls back are harmless because searches load the aggregates from Mongo; the
+ * next rebuild drops them.
+ */
+public class CommunityLuceneIndexHandler implements DomainEventHandler<EntityChangedEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(CommunityLuceneIndexHandler.class);
+
+    private final CommunityLuceneIndex index;
+    private final CommunitySnapshotToEventPayloadMapperV1 snapshotMapper;
+
+    public CommunityLuceneIndexHandler(CommunityLuceneIndex index,
+                                       CommunitySnapshotToEventPayloadMapperV1 snapshotMapper) {
+        this.index = Objects.requireNonNull(index, "index");
+        this.snapshotMapper = Objects.requireNonNull(snapshotMapper, "snapshotMapper");
+    }
+
+    @Override
+    public Mono<Void> handle(EntityChangedEvent event) {
+        if (event == null || !EntityTypeValue.COMMUNITY.equals(event.getEntityType())) {
+            return Mono.empty();
+        }
+
+        Mono.defer(() -> update(event))
+                .subscribe(
+                        null,
+                        ex -> log.warn("[{}] Failed to update community search index for {}",
+                                event.getTraceId(), event.getEntityId(), ex));
+
+        return Mono.empty();
+    }
+
+    private Mono<Void> update(EntityChangedEvent event) {
+        if (OperationTypeValue.DELETED.equals(event.getOperationType()) || event.getCurrentState() == null) {
+            return index.delete(event.getEntityId().value());
+        }
+        return index.upsert(CommunityIndexEntry.from(payload(event.getCurrentState())));
+    }
+
+    private CommunityEventPayloadV1 payload(JsonNode snapshot) {
+        return EncodedSnapshot.from(snapshot, CommunityEventPayloadV1.class)
+                .map(EncodedSnapshot::payload)
+                .orElseGet(() -> snapshotMapper.map(snapshot));
+    }
+}
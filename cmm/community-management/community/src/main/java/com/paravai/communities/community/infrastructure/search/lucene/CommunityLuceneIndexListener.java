@@ -0,0 +1,148 @@
+package com.paravai.communities.community.infrastructure.search.lucene;
+
+import com.paravai.communities.contracts.event.community.CommunityEventPayloadV1;
+import com.paravai.foundation.domain.value.EntityTypeValue;
+import com.paravai.foundation.integration.codec.EventContentType;
+import com.paravai.foundation.integration.codec.PayloadCodecRegistry;
+import com.paravai.foundation.integration.domain.event.DomainEventEnvelope;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.kafka.receiver.KafkaReceiver;
+import reactor.kafka.receiver.ReceiverOptions;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Keeps the community Lucene index of every node current from the community integration topic.
+ *
+ * Like the cache invalidation listener, each instance reads in its own throw-away consumer
+ * group from the latest offset, so every node applies every change (the local
+ * CommunityLuceneIndexHandler only sees the changes made on its own node). Events before
+ * startup are covered by the rebuild from Mongo.
+ *
+ * Records are applied one at a time, in partition order; upserts and deletes are
+ * idempotent, so the node that made the change may apply it twice. A record that cannot be
+ * decoded is logged and skipped: the next rebuild repairs the entry.
+ */
+public class CommunityLuceneIndexListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CommunityLuceneIndexListener.class);
+
+    static final String HEADER_ENTITY_TYPE = "entityType";
+    static final String HEADER_ENTITY_ID = "entityId";
+    static final String HEADER_SCHEMA_ID = "schemaId";
+    static final String HEADER_CONTENT_TYPE = EventContentType.HEADER;
+
+    private final KafkaReceiver<String, byte[]> receiver;
+    private final List<String> topics;
+    private final CommunityLuceneIndex index;
+    private final PayloadCodecRegistry codecs;
+
+    private Disposable subscription;
+
+    /**
+     * @param baseOptions consumer settings (bootstrap servers, deserializers); group id,
+     *                    offset reset and commits are overridden.
+     * @param groupPrefix prefix of the per-instance consumer group, e.g. the application name.
+     */
+    public CommunityLuceneIndexListener(ReceiverOptions<String, byte[]> baseOptions,
+                                        String groupPrefix,
+                                        List<String> topics,
+                                        CommunityLuceneIndex index,
+                                        PayloadCodecRegistry codecs) {
+        Objects.requireNonNull(baseOptions, "baseOptions");
+        Objects.requireNonNull(groupPrefix, "groupPrefix");
+        this.topics = List.copyOf(Objects.requireNonNull(topics, "topics"));
+        this.index = Objects.requireNonNull(index, "index");
+        this.codecs = Objects.requireNonNull(codecs, "codecs");
+
+        if (this.topics.isEmpty()) {
+            throw new IllegalStateException("Community search updates require at least one topic");
+        }
+
+        this.receiver = KafkaReceiver.create(baseOptions
+                .consumerProperty(ConsumerConfig.GROUP_ID_CONFIG, groupPrefix + "-search-" + UUID.randomUUID())
+                .consumerProperty(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest")
+                .consumerProperty(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false)
+                .subscription(this.topics));
+    }
+
+    @PostConstruct
+    public void start() {
+        log.info("[Search][Kafka] Community index listener started on {}", topics);
+
+        this.subscription = receiver.receiveAutoAck()
+                .concatMap(batch -> batch)
+                .concatMap(this::apply)
+                .subscribe(
+                        null,
+                        ex -> log.error("[Search][Kafka] Community index stream failed; "
+                                + "other nodes' changes wait for the next rebuild", ex)
+                );
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null && !subscription.isDisposed()) {
+            subscription.dispose();
+        }
+    }
+
+    Mono<Void> apply(ConsumerRecord<String, byte[]> record) {
+        String entityType = header(record, HEADER_ENTITY_TYPE);
+        if (entityType != null && !EntityTypeValue.COMMUNITY.value().equals(entityType)) {
+            return Mono.empty();
+        }
+
+        return Mono.defer(() -> {
+                    DomainEventEnvelope<?> envelope = decode(record);
+                    if (envelope.isDelete()) {
+                        return index.delete(envelope.getEntityId());
+                    }
+                    if (!(envelope.getPayload() instanceof CommunityEventPayloadV1 payload)) {
+                        return Mono.empty();
+                    }
+                    return index.upsert(CommunityIndexEntry.from(payload));
+                })
+                .onErrorResume(ex -> {
+                    log.warn("[Search][Kafka] Failed to update community search index for {}", entityId(record), ex);
+                    return Mono.empty();
+                });
+    }
+
+    private DomainEventEnvelope<?> decode(ConsumerRecord<String, byte[]> record) {
+        try {
+            return codecs.decode(
+                    record.value(),
+                    header(record, HEADER_CONTENT_TYPE),
+                    header(record, HEADER_SCHEMA_ID),
+                    CommunityEventPayloadV1.class);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Cannot decode community event " + entityId(record), ex);
+        }
+    }
+
+    private static String entityId(ConsumerRecord<String, byte[]> record) {
+        String entityId = header(record, HEADER_ENTITY_ID);
+        return entityId != null ? entityId : record.key();
+    }
+
+    private static String header(ConsumerRecord<String, byte[]> record, String name) {
+        Header h = record.headers().lastHeader(name);
+        if (h == null || h.value() == null || h.value().length == 0) {
+            return null;
+        }
+        return new String(h.value(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,51 @@
+package com.paravai.communities.community.infrastructure.search.lucene;
+
+import com.paravai.communities.community.infrastructure.persistence.mongo.document.CommunityDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Objects;
+
+/**
+ * Rebuilds the community Lucene index from Mongo once the application is ready.
+ * Runs in the background; until it completes, searches see the previous index content
+ * (empty for an in-memory index).
+ */
+public class CommunityLuceneIndexRebuilder {
+
+    private static final Logger log = LoggerFactory.getLogger(CommunityLuceneIndexRebuilder.class);
+
+    private final CommunityLuceneIndex index;
+    private final ReactiveMongoTemplate template;
+    private final CommunityLuceneProperties props;
+
+    public CommunityLuceneIndexRebuilder(CommunityLuceneIndex index,
+                                         ReactiveMongoTemplate template,
+                                         CommunityLuceneProperties props) {
+        this.index = Objects.requireNonNull(index, "index");
+        this.template = Objects.requireNonNull(template, "template");
+        this.props = Objects.requireNonNull(props, "props");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!props.isRebuildOnStartup()) {
+            return;
+        }
+
+        Query query = new Query();
+        query.fields().include("_id", "tenantId", "name", "slug", "description", "rulesText");
+        query.cursorBatchSize(Math.max(1, props.getRebuildBatchSize()));
+
+        long start = System.nanoTime();
+        index.rebuild(template.find(query, CommunityDocument.class).map(CommunityIndexEntry::from))
+                .subscribe(
+                        count -> log.info("Community Lucene index rebuilt: {} documents in {} ms",
+                                count, (System.nanoTime() - start) / 1_000_000),
+                        ex -> log.error("Community Lucene index rebuild failed", ex));
+    }
+}
@@ -0,0 +1,57 @@
+package com.paravai.communities.community.infrastructure.search.lucene;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Embedded Lucene index for ranked, typo-tolerant community search.
+ *
+ * The index is derived data: it is rebuilt from Mongo on startup and kept current from
+ * the local community EntityChangedEvent flow and, on every node, from the community
+ * integration topic. With an empty path it lives in memory.
+ */
+@ConfigurationProperties(prefix = "community.search.lucene")
+public class CommunityLuceneProperties {
+
+    private boolean enabled = false;
+    private String path;
+    private boolean rebuildOnStartup = true;
+    private int rebuildBatchSize = 500;
+    private int maxResults = 100;
+    private int maxEdits = 2;
+    private Updates updates = new Updates();
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public String getPath() { return path; }
+    public void setPath(String path) { this.path = path; }
+
+    public boolean isRebuildOnStartup() { return rebuildOnStartup; }
+    public void setRebuildOnStartup(boolean rebuildOnStartup) { this.rebuildOnStartup = rebuildOnStartup; }
+
+    public int getRebuildBatchSize() { return rebuildBatchSize; }
+    public void setRebuildBatchSize(int rebuildBatchSize) { this.rebuildBatchSize = rebuildBatchSize; }
+
+    public int getMaxResults() { return maxResults; }
+    public void setMaxResults(int maxResults) { this.maxResults = maxResults; }
+
+    public int getMaxEdits() { return maxEdits; }
+    public void setMaxEdits(int maxEdits) { this.maxEdits = maxEdits; }
+
+    public Updates getUpdates() { return updates; }
+    public void setUpdates(Updates updates) { this.updates = updates; }
+
+    public static class Updates {
+        private boolean kafkaEnabled = false;
+        private List<String> topics = new ArrayList<>();
+
+        public boolean isKafkaEnabled() { return kafkaEnabled; }
+        public void setKafkaEnabled(boolean kafkaEnabled) { this.kafkaEnabled = kafkaEnabled; }
+
+        public List<String> getTopics() { return topics; }
+        public void setTopics(List<String> topics) { this.topics = topics; }
+    }
+}
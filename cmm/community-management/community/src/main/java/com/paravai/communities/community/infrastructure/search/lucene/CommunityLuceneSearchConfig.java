@@ -0,0 +1,69 @@
+package com.paravai.communities.community.infrastructure.search.lucene;
+
+import com.paravai.communities.community.infrastructure.event.mapper.CommunitySnapshotToEventPayloadMapperV1;
+import com.paravai.foundation.integration.codec.PayloadCodecRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.kafka.receiver.ReceiverOptions;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Optional embedded search index for communities (community.search.lucene.enabled).
+ * When disabled, CommunityRepository.searchRanked falls back to the Mongo prefix search.
+ */
+@Configuration
+@ConditionalOnProperty(name = "community.search.lucene.enabled", havingValue = "true")
+@EnableConfigurationProperties(CommunityLuceneProperties.class)
+public class CommunityLuceneSearchConfig {
+
+    @Bean(destroyMethod = "close")
+    public CommunityLuceneIndex communityLuceneIndex(CommunityLuceneProperties props) throws IOException {
+        return new CommunityLuceneIndex(props);
+    }
+
+    @Bean
+    public CommunityLuceneIndexHandler communityLuceneIndexHandler(CommunityLuceneIndex index,
+                                                                   CommunitySnapshotToEventPayloadMapperV1 snapshotMapper) {
+        return new CommunityLuceneIndexHandler(index, snapshotMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "community.search.lucene.updates.kafka-enabled", havingValue = "true")
+    public CommunityLuceneIndexListener communityLuceneIndexListener(
+            @Value("${kafka.bootstrapServers}") String bootstrapServers,
+            @Value("${spring.application.name}") String applicationName,
+            CommunityLuceneProperties props,
+            CommunityLuceneIndex index,
+            PayloadCodecRegistry codecs
+    ) {
+        Map<String, Object> consumerProps = new HashMap<>();
+        consumerProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+
+        return new CommunityLuceneIndexListener(
+                ReceiverOptions.create(consumerProps),
+                applicationName,
+                props.getUpdates().getTopics(),
+                index,
+                codecs
+        );
+    }
+
+    @Bean
+    public CommunityLuceneIndexRebuilder communityLuceneIndexRebuilder(CommunityLuceneIndex index,
+                                                                       ReactiveMongoTemplate template,
+                                                                       CommunityLuceneProperties props) {
+        return new CommunityLuceneIndexRebuilder(index, template, props);
+    }
+}
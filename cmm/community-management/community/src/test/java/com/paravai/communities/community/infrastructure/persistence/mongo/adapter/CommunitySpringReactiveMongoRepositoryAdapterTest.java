@@ -0,0 +1,127 @@
+package com.paravai.communities.community.infrastructure.persistence.mongo.adapter;
+
+import com.paravai.communities.community.domain.model.Community;
+import com.paravai.communities.community.domain.port.CommunitySearchIndex;
+import com.paravai.communities.community.infrastructure.persistence.mongo.document.CommunityDocument;
+import com.paravai.communities.community.infrastructure.persistence.mongo.springdata.CommunitySpringReactiveMongoRepository;
+import com.paravai.foundation.domain.value.IdValue;
+import com.paravai.foundation.observability.metrics.ReactiveOperationMetrics;
+import com.paravai.foundation.persistence.mongo.MongoReactiveEntityFilter;
+import com.paravai.foundation.persistence.mongo.bulk.MongoBulkWriter;
+import com.paravai.foundation.persistence.mongo.update.MongoPartialUpdater;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CommunitySpringReactiveMongoRepositoryAdapterTest {
+
+    private final CommunitySpringReactiveMongoRepository springRepo = mock(CommunitySpringReactiveMongoRepository.class);
+    @SuppressWarnings("unchecked")
+    private final MongoReactiveEntityFilter<Community, CommunityDocument> filter = mock(MongoReactiveEntityFilter.class);
+    @SuppressWarnings("unchecked")
+    private final ObjectProvider<CommunitySearchIndex> searchIndex = mock(ObjectProvider.class);
+    private final MongoPartialUpdater partialUpdater = mock(MongoPartialUpdater.class);
+    private final MongoBulkWriter bulkWriter = mock(MongoBulkWriter.class);
+
+    private final CommunitySpringReactiveMongoRepositoryAdapter adapter = new CommunitySpringReactiveMongoRepositoryAdapter(
+            springRepo, filter, new ReactiveOperationMetrics(new SimpleMeterRegistry()), searchIndex,
+            partialUpdater, bulkWriter, new SimpleMeterRegistry());
+
+    @DisplayName("Given a save, the adapter should overwrite through the partial updater so the stored revision is kept")
+    @Test
+    void save_keepsRevision() {
+        //Given
+        when(partialUpdater.overwrite(eq(CommunityDocument.class), eq("c1"), eq(CommunityDocument.REVISION_FIELD),
+                any(CommunityDocument.class))).thenReturn(Mono.empty());
+
+        //When
+        Community saved = adapter.save(document("c1", "t1", "Bike lovers").toDomain()).block();
+
+        //Then
+        assertEquals("c1", saved.id().value());
+        verify(springRepo, never()).save(any(CommunityDocument.class));
+    }
+
+    @DisplayName("Given no search index, searchRanked should fall back to the Mongo name search")
+    @Test
+    void searchRanked_withoutIndexUsesMongo() {
+        //Given
+        when(searchIndex.getIfAvailable()).thenReturn(null);
+        when(filter.findByFilters(Map.of("filter[tenantId]", "t1"), Optional.of("bike"), Optional.empty(), 1, 5))
+                .thenReturn(Flux.just(document("c1", "t1", "Bike lovers").toDomain()));
+
+        //When
+        List<Community> found = adapter.searchRanked(IdValue.of("t1"), "bike", 5).collectList().block();
+
+        //Then
+        assertEquals(List.of("c1"), ids(found));
+        verify(springRepo, never()).findAllById(anyIterable());
+    }
+
+    @DisplayName("Given a search index, searchRanked should load the aggregates from Mongo in index order")
+    @Test
+    void searchRanked_withIndexKeepsRanking() {
+        //Given
+        CommunitySearchIndex index = (tenantId, text, limit) ->
+                Flux.just(IdValue.of("c2"), IdValue.of("missing"), IdValue.of("c1"), IdValue.of("foreign"));
+        when(searchIndex.getIfAvailable()).thenReturn(index);
+        when(springRepo.findAllById(anyIterable())).thenReturn(Flux.just(
+                document("c1", "t1", "Bike lovers"),
+                document("foreign", "t2", "Bike club"),
+                document("c2", "t1", "Bikers")));
+
+        //When
+        List<Community> found = adapter.searchRanked(IdValue.of("t1"), "bike", 5).collectList().block();
+
+        //Then
+        assertEquals(List.of("c2", "c1"), ids(found));
+        verifyNoInteractions(filter);
+    }
+
+    @DisplayName("Given a search index without hits, searchRanked should not query Mongo")
+    @Test
+    void searchRanked_noHits() {
+        //Given
+        when(searchIndex.getIfAvailable()).thenReturn((tenantId, text, limit) -> Flux.empty());
+
+        //When
+        List<Community> found = adapter.searchRanked(IdValue.of("t1"), "bike", 5).collectList().block();
+
+        //Then
+        assertTrue(found.isEmpty());
+        verifyNoInteractions(springRepo, filter);
+    }
+
+    private static List<String> ids(List<Community> communities) {
+        return communities.stream().map(c -> c.id().value()).toList();
+    }
+
+    static CommunityDocument document(String id, String tenantId, String name) {
+        Instant now = Instant.parse("2026-01-01T00:00:00Z");
+        CommunityDocument d = new CommunityDocument();
+        d.setId(id);
+        d.setTenantId(tenantId);
+        d.setName(name);
+        d.setSlug(id + "-slug");
+        d.setVisibilityCode("PUBLIC");
+        d.setStatusCode("ACTIVE");
+        d.setCreatedBy("u1");
+        d.setCreatedAt(now);
+        d.setUpdatedAt(now);
+        return d;
+    }
+}
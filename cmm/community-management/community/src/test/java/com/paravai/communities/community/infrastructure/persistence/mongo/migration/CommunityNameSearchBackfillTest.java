@@ -0,0 +1,72 @@
+package com.paravai.communities.community.infrastructure.persistence.mongo.migration;
+
+import com.mongodb.client.result.UpdateResult;
+import com.paravai.communities.community.infrastructure.persistence.mongo.document.CommunityDocument;
+import com.paravai.foundation.persistence.mongo.search.SearchTerms;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CommunityNameSearchBackfillTest {
+
+    private final ReactiveMongoTemplate template = mock(ReactiveMongoTemplate.class);
+
+    private final CommunityNameSearchBackfill backfill = new CommunityNameSearchBackfill(template);
+
+    @DisplayName("Given an outdated community document, the backfill should set nameSearch and the version, guarded by the old version")
+    @Test
+    void backfill_updatesOutdated() {
+        //Given
+        CommunityDocument outdated = new CommunityDocument();
+        outdated.setId("c1");
+        outdated.setName("Ciclistas Ávila");
+        when(template.find(any(Query.class), eq(CommunityDocument.class))).thenReturn(Flux.just(outdated));
+        when(template.updateFirst(any(Query.class), any(UpdateDefinition.class), eq(CommunityDocument.class)))
+                .thenReturn(Mono.just(UpdateResult.acknowledged(1, 1L, null)));
+
+        //When
+        backfill.backfill();
+
+        //Then
+        ArgumentCaptor<Query> guard = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<UpdateDefinition> update = ArgumentCaptor.forClass(UpdateDefinition.class);
+        verify(template).updateFirst(guard.capture(), update.capture(), eq(CommunityDocument.class));
+
+        Document criteria = guard.getValue().getQueryObject();
+        assertEquals("c1", criteria.get("_id"));
+        assertEquals(new Document("$lt", CommunityDocument.DOCUMENT_VERSION), criteria.get("documentVersion"));
+
+        Document set = (Document) ((Update) update.getValue()).getUpdateObject().get("$set");
+        assertEquals(SearchTerms.normalize("Ciclistas Ávila"), set.get(CommunityDocument.NAME_SEARCH_FIELD));
+        assertEquals(CommunityDocument.DOCUMENT_VERSION, set.get("documentVersion"));
+    }
+
+    @DisplayName("Given no outdated community documents, the backfill should not update anything")
+    @Test
+    void backfill_nothingOutdated() {
+        //Given
+        when(template.find(any(Query.class), eq(CommunityDocument.class))).thenReturn(Flux.empty());
+
+        //When
+        backfill.backfill();
+
+        //Then
+        ArgumentCaptor<Query> outdated = ArgumentCaptor.forClass(Query.class);
+        verify(template).find(outdated.capture(), eq(CommunityDocument.class));
+        assertEquals(new Document("$lt", CommunityDocument.DOCUMENT_VERSION),
+                outdated.getValue().getQueryObject().get("documentVersion"));
+        verify(template, never()).updateFirst(any(Query.class), any(UpdateDefinition.class), eq(CommunityDocument.class));
+    }
+}
@@ -0,0 +1,103 @@
+package com.paravai.communities.community.infrastructure.search.lucene;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paravai.communities.community.infrastructure.event.mapper.CommunitySnapshotToEventPayloadMapperV1;
+import com.paravai.communities.contracts.event.community.CommunityEventPayloadV1;
+import com.paravai.foundation.domain.event.EntityChangedEvent;
+import com.paravai.foundation.domain.value.EntityTypeValue;
+import com.paravai.foundation.domain.value.IdValue;
+import com.paravai.foundation.domain.value.OidValue;
+import com.paravai.foundation.domain.value.OperationTypeValue;
+import com.paravai.foundation.domain.value.ResourceTypeValue;
+import com.paravai.foundation.snapshot.EncodedSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommunityLuceneIndexHandlerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CommunityLuceneIndex index;
+    private CommunityLuceneIndexHandler handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        index = new CommunityLuceneIndex(new CommunityLuceneProperties());
+        handler = new CommunityLuceneIndexHandler(index, new CommunitySnapshotToEventPayloadMapperV1());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        index.close();
+    }
+
+    @DisplayName("Given a community change, the handler should upsert the entry without waiting for the index")
+    @Test
+    void handle_upsertsCommunity() {
+        //When
+        handler.handle(event(EntityTypeValue.COMMUNITY, OperationTypeValue.CREATED, "Bike lovers")).block();
+        awaitWrites();
+
+        //Then
+        assertEquals(List.of("c1"), search("bike"));
+    }
+
+    @DisplayName("Given a community deletion, the handler should remove the entry")
+    @Test
+    void handle_deletesCommunity() {
+        //Given
+        handler.handle(event(EntityTypeValue.COMMUNITY, OperationTypeValue.CREATED, "Bike lovers")).block();
+
+        //When
+        handler.handle(event(EntityTypeValue.COMMUNITY, OperationTypeValue.DELETED, "Bike lovers")).block();
+        awaitWrites();
+
+        //Then
+        assertTrue(search("bike").isEmpty());
+    }
+
+    @DisplayName("Given a change of another entity type, the handler should leave the index untouched")
+    @Test
+    void handle_ignoresOtherEntityTypes() {
+        //When
+        handler.handle(event(EntityTypeValue.MEMBERSHIP, OperationTypeValue.CREATED, "Bike lovers")).block();
+        awaitWrites();
+
+        //Then
+        assertTrue(search("bike").isEmpty());
+    }
+
+    // Writes run in order on the single writer thread: once this one is done, so are the handler's.
+    private void awaitWrites() {
+        index.delete("barrier").block();
+    }
+
+    private List<String> search(String text) {
+        return index.search(IdValue.of("t1"), text, 10).map(IdValue::value).collectList().block();
+    }
+
+    private EntityChangedEvent event(EntityTypeValue entityType, OperationTypeValue operation, String name) {
+        CommunityEventPayloadV1 payload = new CommunityEventPayloadV1(
+                "c1", "t1", name, "bike-lovers", null, "PUBLIC", "Public", "ACTIVE", "Active",
+                null, null, null, "u1", null);
+
+        return new EntityChangedEvent(
+                IdValue.of("c1"),
+                ResourceTypeValue.COMMUNITIES,
+                entityType,
+                OidValue.of("u1"),
+                IdValue.of("trace-1"),
+                "test",
+                operation,
+                null,
+                null,
+                EncodedSnapshot.encode(objectMapper, payload).asNode()
+        );
+    }
+}
@@ -0,0 +1,125 @@
+package com.paravai.communities.community.infrastructure.search.lucene;
+
+import com.paravai.communities.contracts.event.community.CommunityEventPayloadV1;
+import com.paravai.foundation.domain.value.IdValue;
+import com.paravai.foundation.integration.codec.PayloadCodecRegistry;
+import com.paravai.foundation.integration.domain.event.DomainEventEnvelope;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.kafka.receiver.ReceiverOptions;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CommunityLuceneIndexListenerTest {
+
+    private static final String TOPIC = "communities.communities-management.community.integration.v1";
+    private static final String SCHEMA = "communities-management.community.integration.v1";
+
+    private final PayloadCodecRegistry codecs = mock(PayloadCodecRegistry.class);
+
+    private CommunityLuceneIndex index;
+    private CommunityLuceneIndexListener listener;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        index = new CommunityLuceneIndex(new CommunityLuceneProperties());
+        ReceiverOptions<String, byte[]> options = ReceiverOptions.create(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092",
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class));
+        listener = new CommunityLuceneIndexListener(options, "community", List.of(TOPIC), index, codecs);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        index.close();
+    }
+
+    @DisplayName("Given a community change from another node, the listener should upsert the entry")
+    @Test
+    void apply_upsertsCommunity() throws Exception {
+        //Given
+        ConsumerRecord<String, byte[]> record = record("Community", "e1");
+        doReturn(envelope("UPDATED", "Bike lovers")).when(codecs)
+                .decode(any(), any(), eq(SCHEMA), eq(CommunityEventPayloadV1.class));
+
+        //When
+        listener.apply(record).block();
+
+        //Then
+        assertEquals(List.of("c1"), search("bike"));
+    }
+
+    @DisplayName("Given a community deletion from another node, the listener should remove the entry")
+    @Test
+    void apply_deletesCommunity() throws Exception {
+        //Given
+        doReturn(envelope("CREATED", "Bike lovers"), envelope("DELETED", "Bike lovers")).when(codecs)
+                .decode(any(), any(), eq(SCHEMA), eq(CommunityEventPayloadV1.class));
+        listener.apply(record("Community", "e1")).block();
+
+        //When
+        listener.apply(record("Community", "e2")).block();
+
+        //Then
+        assertTrue(search("bike").isEmpty());
+    }
+
+    @DisplayName("Given an event of another entity type, the listener should not decode it")
+    @Test
+    void apply_ignoresOtherEntityTypes() {
+        //When
+        listener.apply(record("Membership", "e1")).block();
+
+        //Then
+        verifyNoInteractions(codecs);
+    }
+
+    @DisplayName("Given an undecodable record, the listener should skip it and keep the stream alive")
+    @Test
+    void apply_skipsUndecodable() throws Exception {
+        //Given
+        when(codecs.decode(any(), any(), any(), any())).thenThrow(new IOException("bad payload"));
+
+        //When / Then
+        assertDoesNotThrow(() -> listener.apply(record("Community", "e1")).block());
+        assertTrue(search("bike").isEmpty());
+    }
+
+    private List<String> search(String text) {
+        return index.search(IdValue.of("t1"), text, 10).map(IdValue::value).collectList().block();
+    }
+
+    private static ConsumerRecord<String, byte[]> record(String entityType, String eventId) {
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>(TOPIC, 0, 0L, "c1",
+                ("{\"eventId\":\"" + eventId + "\"}").getBytes(StandardCharsets.UTF_8));
+        record.headers().add(CommunityLuceneIndexListener.HEADER_ENTITY_TYPE, entityType.getBytes(StandardCharsets.UTF_8));
+        record.headers().add(CommunityLuceneIndexListener.HEADER_ENTITY_ID, "c1".getBytes(StandardCharsets.UTF_8));
+        record.headers().add(CommunityLuceneIndexListener.HEADER_SCHEMA_ID, SCHEMA.getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    private static DomainEventEnvelope<CommunityEventPayloadV1> envelope(String changeType, String name) {
+        CommunityEventPayloadV1 payload = new CommunityEventPayloadV1(
+                "c1", "t1", name, "bike-lovers", null, "PUBLIC", "Public", "ACTIVE", "Active",
+                null, null, null, "u1", null);
+        return new DomainEventEnvelope<>(
+                "e1", "c1", "Community", changeType, "community", Instant.now(),
+                "trace-1", null, SCHEMA, null, payload);
+    }
+}
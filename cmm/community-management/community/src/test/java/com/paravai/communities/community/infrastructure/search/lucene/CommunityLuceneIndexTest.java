@@ -0,0 +1,160 @@
+package com.paravai.communities.community.infrastructure.search.lucene;
+
+import com.paravai.foundation.domain.value.IdValue;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommunityLuceneIndexTest {
+
+    private CommunityLuceneIndex index;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        CommunityLuceneProperties props = new CommunityLuceneProperties();
+        props.setRebuildBatchSize(1);
+        index = new CommunityLuceneIndex(props);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        index.close();
+    }
+
+    @DisplayName("Given a text, the query should filter by tenant and require every word of a short text")
+    @Test
+    void buildQuery_tenantFilterAndMinimumMatch() {
+        //When
+        BooleanQuery query = (BooleanQuery) index.buildQuery("t1", "Ciclistas Álava");
+
+        //Then
+        BooleanClause tenant = query.clauses().get(0);
+        assertEquals(BooleanClause.Occur.FILTER, tenant.getOccur());
+        assertEquals("tenantId:t1", ((TermQuery) tenant.getQuery()).toString());
+
+        BooleanQuery words = (BooleanQuery) query.clauses().get(1).getQuery();
+        assertEquals(2, words.clauses().size());
+        assertEquals(2, words.getMinimumNumberShouldMatch());
+        assertTrue(words.toString().contains("name:alava"));
+    }
+
+    @DisplayName("Given a text of three or more words, the query should tolerate one missing word")
+    @Test
+    void buildQuery_longTextToleratesOneMiss() {
+        //When
+        BooleanQuery query = (BooleanQuery) index.buildQuery("t1", "ciclistas de alava");
+
+        //Then
+        BooleanQuery words = (BooleanQuery) query.clauses().get(1).getQuery();
+        assertEquals(3, words.clauses().size());
+        assertEquals(2, words.getMinimumNumberShouldMatch());
+    }
+
+    @DisplayName("Given a text without word characters, no query should be built")
+    @Test
+    void buildQuery_noWords() {
+        //When
+        Query query = index.buildQuery("t1", " - ... ");
+
+        //Then
+        assertNull(query);
+    }
+
+    @DisplayName("Given indexed communities, a search should rank name matches first and never cross tenants")
+    @Test
+    void search_ranksByFieldAndFiltersTenant() {
+        //Given
+        index.upsert(entry("c1", "t1", "Bike lovers", null)).block();
+        index.upsert(entry("c2", "t1", "Runners", "we also like the bike")).block();
+        index.upsert(entry("c3", "t2", "Bike club", null)).block();
+
+        //When
+        List<String> ids = search("t1", "bike");
+
+        //Then
+        assertEquals(List.of("c1", "c2"), ids);
+    }
+
+    @DisplayName("Given a misspelled or accent-less word, a search should still find the community")
+    @Test
+    void search_toleratesTyposAndAccents() {
+        //Given
+        index.upsert(entry("c1", "t1", "Ciclistas de Álava", null)).block();
+
+        //When / Then
+        assertEquals(List.of("c1"), search("t1", "ciclsitas"));
+        assertEquals(List.of("c1"), search("t1", "alava"));
+    }
+
+    @DisplayName("Given a deleted community, a search should no longer return it")
+    @Test
+    void delete_removesEntry() {
+        //Given
+        index.upsert(entry("c1", "t1", "Bike lovers", null)).block();
+
+        //When
+        index.delete("c1").block();
+
+        //Then
+        assertTrue(search("t1", "bike").isEmpty());
+    }
+
+    @DisplayName("Given a rebuild, entries missing from the source should be dropped")
+    @Test
+    void rebuild_dropsStaleEntries() {
+        //Given
+        index.upsert(entry("gone", "t1", "Chess club", null)).block();
+
+        //When
+        Long written = index.rebuild(Flux.just(entry("c1", "t1", "Bike lovers", null))).block();
+
+        //Then
+        assertEquals(1L, written);
+        assertTrue(search("t1", "chess").isEmpty());
+        assertEquals(List.of("c1"), search("t1", "bike"));
+    }
+
+    @DisplayName("Given ids upserted or deleted while a rebuild runs, the rebuild should not overwrite them with its older read")
+    @Test
+    void rebuild_skipsIdsWrittenAfterStart() {
+        //Given
+        index.upsert(entry("c3", "t1", "Chess club", null)).block();
+
+        // The cursor is read lazily: the live writes land after the rebuild started
+        Flux<CommunityIndexEntry> cursor = Flux.concat(
+                Flux.just(entry("c1", "t1", "Bike lovers", null)),
+                index.upsert(entry("c2", "t1", "Trail runners", null))
+                        .then(index.delete("c3"))
+                        .thenMany(Flux.just(
+                                entry("c2", "t1", "Road runners", null),
+                                entry("c3", "t1", "Chess club", null))));
+
+        //When
+        Long written = index.rebuild(cursor).block();
+
+        //Then
+        assertEquals(1L, written);
+        assertEquals(List.of("c2"), search("t1", "trail"));
+        assertTrue(search("t1", "road").isEmpty());
+        assertTrue(search("t1", "chess").isEmpty());
+        assertEquals(List.of("c1"), search("t1", "bike"));
+    }
+
+    private List<String> search(String tenantId, String text) {
+        return index.search(IdValue.of(tenantId), text, 10).map(IdValue::value).collectList().block();
+    }
+
+    private static CommunityIndexEntry entry(String id, String tenantId, String name, String description) {
+        return new CommunityIndexEntry(id, tenantId, name, null, description, null);
+    }
+}
@@ -0,0 +1,150 @@
+package com.paravai.communities.contracts.event.proto;
+
+import com.google.protobuf.Timestamp;
+import com.paravai.communities.contracts.event.community.CommunityEventPayloadV1;
+import com.paravai.communities.contracts.event.community.CommunityEventPayloadV1.CommunityRulesPayloadV1;
+import com.paravai.communities.contracts.event.community.CommunityEventPayloadV1.ExchangeTypePayloadV1;
+import com.paravai.communities.contracts.event.membership.MembershipEventPayloadV1;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Maps the V1 integration payload records to/from their protobuf messages
+ * (integration_events.proto). Pure functions, no framework dependencies.
+ */
+public final class IntegrationEventProtoMapper {
+
+    private IntegrationEventProtoMapper() {}
+
+    // ---- community ----
+
+    public static CommunityEventPayload toProto(CommunityEventPayloadV1 p) {
+        CommunityEventPayload.Builder b = CommunityEventPayload.newBuilder();
+        set(p.communityId(), b::setCommunityId);
+        set(p.tenantId(), b::setTenantId);
+        set(p.name(), b::setName);
+        set(p.slug(), b::setSlug);
+        set(p.description(), b::setDescription);
+        set(p.visibilityCode(), b::setVisibilityCode);
+        set(p.visibilityLabel(), b::setVisibilityLabel);
+        set(p.statusCode(), b::setStatusCode);
+        set(p.statusLabel(), b::setStatusLabel);
+        set(toTimestamp(p.archivedAt()), b::setArchivedAt);
+        set(toTimestamp(p.createdAt()), b::setCreatedAt);
+        set(toTimestamp(p.updatedAt()), b::setUpdatedAt);
+        set(p.createdBy(), b::setCreatedBy);
+
+        if (p.rules() != null) {
+            CommunityRules.Builder rules = CommunityRules.newBuilder();
+            set(p.rules().text(), rules::setText);
+            if (p.rules().allowedExchangeTypes() != null) {
+                rules.setAllowedExchangeTypesPresent(true);
+                for (ExchangeTypePayloadV1 t : p.rules().allowedExchangeTypes()) {
+                    ExchangeType.Builder et = ExchangeType.newBuilder();
+                    if (t != null) {
+                        set(t.code(), et::setCode);
+                        set(t.label(), et::setLabel);
+                    }
+                    rules.addAllowedExchangeTypes(et);
+                }
+            }
+            b.setRules(rules);
+        }
+        return b.build();
+    }
+
+    public static CommunityEventPayloadV1 fromProto(CommunityEventPayload m) {
+        CommunityRulesPayloadV1 rules = null;
+        if (m.hasRules()) {
+            CommunityRules r = m.getRules();
+            List<ExchangeTypePayloadV1> types = null;
+            if (r.getAllowedExchangeTypesPresent()) {
+                types = new ArrayList<>(r.getAllowedExchangeTypesCount());
+                for (ExchangeType t : r.getAllowedExchangeTypesList()) {
+                    types.add(new ExchangeTypePayloadV1(
+                            t.hasCode() ? t.getCode() : null,
+                            t.hasLabel() ? t.getLabel() : null));
+                }
+            }
+            rules = new CommunityRulesPayloadV1(r.hasText() ? r.getText() : null, types);
+        }
+
+        return new CommunityEventPayloadV1(
+                m.hasCommunityId() ? m.getCommunityId() : null,
+                m.hasTenantId() ? m.getTenantId() : null,
+                m.hasName() ? m.getName() : null,
+                m.hasSlug() ? m.getSlug() : null,
+                m.hasDescription() ? m.getDescription() : null,
+                m.hasVisibilityCode() ? m.getVisibilityCode() : null,
+                m.hasVisibilityLabel() ? m.getVisibilityLabel() : null,
+                m.hasStatusCode() ? m.getStatusCode() : null,
+                m.hasStatusLabel() ? m.getStatusLabel() : null,
+                m.hasArchivedAt() ? toInstant(m.getArchivedAt()) : null,
+                m.hasCreatedAt() ? toInstant(m.getCreatedAt()) : null,
+                m.hasUpdatedAt() ? toInstant(m.getUpdatedAt()) : null,
+                m.hasCreatedBy() ? m.getCreatedBy() : null,
+                rules
+        );
+    }
+
+    // ---- membership ----
+
+    public static MembershipEventPayload toProto(MembershipEventPayloadV1 p) {
+        MembershipEventPayload.Builder b = MembershipEventPayload.newBuilder();
+        set(p.membershipId(), b::setMembershipId);
+        set(p.tenantId(), b::setTenantId);
+        set(p.communityId(), b::setCommunityId);
+        set(p.userId(), b::setUserId);
+        set(p.roleCode(), b::setRoleCode);
+        set(p.roleLabel(), b::setRoleLabel);
+        set(p.statusCode(), b::setStatusCode);
+        set(p.statusLabel(), b::setStatusLabel);
+        set(toTimestamp(p.since()), b::setSince);
+        set(toTimestamp(p.deactivatedAt()), b::setDeactivatedAt);
+        set(toTimestamp(p.createdAt()), b::setCreatedAt);
+        set(toTimestamp(p.updatedAt()), b::setUpdatedAt);
+        return b.build();
+    }
+
+    public static MembershipEventPayloadV1 fromProto(MembershipEventPayload m) {
+        return new MembershipEventPayloadV1(
+                m.hasMembershipId() ? m.getMembershipId() : null,
+                m.hasTenantId() ? m.getTenantId() : null,
+                m.hasCommunityId() ? m.getCommunityId() : null,
+                m.hasUserId() ? m.getUserId() : null,
+                m.hasRoleCode() ? m.getRoleCode() : null,
+                m.hasRoleLabel() ? m.getRoleLabel() : null,
+                m.hasStatusCode() ? m.getStatusCode() : null,
+                m.hasStatusLabel() ? m.getStatusLabel() : null,
+                m.hasSince() ? toInstant(m.getSince()) : null,
+                m.hasDeactivatedAt() ? toInstant(m.getDeactivatedAt()) : null,
+                m.hasCreatedAt() ? toInstant(m.getCreatedAt()) : null,
+                m.hasUpdatedAt() ? toInstant(m.getUpdatedAt()) : null
+        );
+    }
+
+    // ---- helpers ----
+
+    public static Timestamp toTimestamp(Instant instant) {
+        if (instant == null) {
+            return null;
+        }
+        return Timestamp.newBuilder()
+                .setSeconds(instant.getEpochSecond())
+                .setNanos(instant.getNano())
+                .build();
+    }
+
+    public static Instant toInstant(Timestamp ts) {
+        return Instant.ofEpochSecond(ts.getSeconds(), ts.getNanos());
+    }
+
+    private static <T> void set(T value, Consumer<T> setter) {
+        if (value != null) {
+            setter.accept(value);
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.util.Locale;
 		"com.paravai.foundation.infrastructure.event",
 		"com.paravai.foundation.infrastructure.kafka",
         "com.paravai.foundation.integration",
+        "com.paravai.foundation.domain.config",
 
 })
 public class MembershipApplication {
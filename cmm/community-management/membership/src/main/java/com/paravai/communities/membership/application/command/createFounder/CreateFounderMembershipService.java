@@ -2,19 +2,27 @@ package com.paravai.communities.membership.application.command.createfounder;
 
 import com.paravai.communities.membership.application.event.MembershipEventFactory;
 import com.paravai.communities.membership.application.snapshot.MembershipSnapshotSupport;
+import com.paravai.communities.membership.domain.exception.DuplicateMembershipBusinessIdentityException;
 import com.paravai.communities.membership.domain.model.Membership;
 import com.paravai.communities.membership.domain.model.MembershipFactory;
 import com.paravai.communities.membership.domain.repository.MembershipRepository;
 import com.paravai.foundation.domain.event.EntityChangedEvent;
-import com.paravai.foundation.domain.event.NonBlockingEventPublisher;
 import com.paravai.foundation.domain.event.ReactiveDomainEventPublisher;
+import com.paravai.foundation.domain.model.BulkWriteReport;
 import com.paravai.foundation.domain.value.OperationTypeValue;
+import com.paravai.foundation.persistence.mongo.outbox.TransactionalEventPublisher;
+import com.paravai.foundation.persistence.mongo.outbox.TransactionalOutbox;
 import com.paravai.foundation.snapshot.SnapshotMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 @Service
@@ -24,7 +32,7 @@ public class CreateFounderMembershipService {
             LoggerFactory.getLogger(CreateFounderMembershipService.class);
 
     private final MembershipRepository repo;
-    private final NonBlockingEventPublisher eventPublisher;
+    private final TransactionalEventPublisher eventPublisher;
     private final MembershipSnapshotSupport snapshots;
     private final MembershipEventFactory eventFactory;
 
@@ -32,11 +40,13 @@ public class CreateFounderMembershipService {
             MembershipRepository repo,
             ReactiveDomainEventPublisher domainEventPublisher,
             SnapshotMapper<Membership> snapshotMapper,
-            MembershipEventFactory eventFactory
+            MembershipEventFactory eventFactory,
+            TransactionalOutbox outbox
     ) {
         this.repo = Objects.requireNonNull(repo, "repo is required");
-        this.eventPublisher = new NonBlockingEventPublisher(
+        this.eventPublisher = new TransactionalEventPublisher(
                 Objects.requireNonNull(domainEventPublisher, "domainEventPublisher is required"),
+                Objects.requireNonNull(outbox, "outbox is required"),
                 log
         );
         this.snapshots = new MembershipSnapshotSupport(
@@ -48,54 +58,104 @@ public class CreateFounderMembershipService {
     public Mono<Void> createFounderMembership(CreateFounderMembershipRequest request) {
         Objects.requireNonNull(request, "request is required");
 
-        return repo.findByTenantIdAndCommunityIdAndUserId(
+        return Mono.defer(() -> {
+            Membership membership = MembershipFactory.createFounder(
+                    request.tenantId(),
+                    request.communityId(),
+                    request.founderUserId()
+            );
+
+            // One atomic write per (re)delivered event: the event is emitted only by the
+            // delivery that actually created the membership.
+            return eventPublisher.inTransaction(() -> repo.insertIfAbsent(membership)
+                    .flatMap(created -> {
+                        if (!created) {
+                            log.debug(
+                                    "[{}] Founder membership already exists for community {} and user {}",
+                                    request.traceId(),
+                                    request.communityId().value(),
+                                    request.founderUserId().value()
+                            );
+                            return Mono.<Void>empty();
+                        }
+
+                        return publishCreated(membership, request);
+                    }));
+        });
+    }
+
+    /**
+     * Bulk variant for a batch of community creations: one unordered insertIfAbsent for all
+     * the memberships, then one event per membership actually created. Memberships that
+     * already exist are matched rather than rejected, so they never abort the transaction and
+     * are skipped as in {@link #createFounderMembership}. A duplicate reported by a racing
+     * insert outside a transaction is skipped too; any other write failure fails the call,
+     * after the events of the written memberships have been published.
+     */
+    public Mono<Void> createFounderMemberships(List<CreateFounderMembershipRequest> requests) {
+        Objects.requireNonNull(requests, "requests is required");
+
+        return Mono.defer(() -> {
+            if (requests.isEmpty()) {
+                return Mono.empty();
+            }
+
+            Map<Membership, CreateFounderMembershipRequest> byMembership = new IdentityHashMap<>();
+            List<Membership> memberships = new ArrayList<>(requests.size());
+            for (CreateFounderMembershipRequest request : requests) {
+                Membership membership = MembershipFactory.createFounder(
                         request.tenantId(),
                         request.communityId(),
                         request.founderUserId()
-                )
-                .hasElement()
-                .flatMap(exists -> {
-                    if (exists) {
-                        log.debug(
-                                "[{}] Founder membership already exists for community {} and user {}",
-                                request.traceId(),
-                                request.communityId().value(),
-                                request.founderUserId().value()
-                        );
-                        return Mono.empty();
-                    }
-
-                    Membership membership = MembershipFactory.createFounder(
-                            request.tenantId(),
-                            request.communityId(),
-                            request.founderUserId()
-                    );
-
-                    return repo.save(membership)
-                            .flatMap(saved -> {
-                                log.info(
-                                        "[{}] Founder membership {} created for community {} and user {}",
-                                        request.traceId(),
-                                        saved.id().value(),
-                                        request.communityId().value(),
-                                        request.founderUserId().value()
-                                );
-
-                                var snapshot = snapshots.snapshot(saved);
-
-                                EntityChangedEvent evt = eventFactory.build(
-                                        OperationTypeValue.CREATED,
-                                        saved.id(),
-                                        request.traceId(),
-                                        request.founderUserId().value(),
-                                        request.sourceSystem(),
-                                        "Founder membership created after community creation",
-                                        null,
-                                        snapshot
-                                );
-
-                                return eventPublisher.publish(evt).then();
-                            });
-                });
+                );
+                byMembership.put(membership, request);
+                memberships.add(membership);
+            }
+
+            return eventPublisher.inTransaction(() -> repo.insertAllIfAbsent(memberships)
+                    .flatMap(report -> Flux.fromIterable(report.written())
+                            .concatMap(membership -> publishCreated(membership, byMembership.get(membership)))
+                            .then(Mono.defer(() -> failureOf(report)))));
+        });
+    }
+
+    private Mono<Void> failureOf(BulkWriteReport<Membership> report) {
+        for (BulkWriteReport.Failure<Membership> failure : report.failures()) {
+            if (failure.error() instanceof DuplicateMembershipBusinessIdentityException) {
+                log.debug(
+                        "Founder membership already exists for community {} and user {}",
+                        failure.item().communityId().value(),
+                        failure.item().userId().value()
+                );
+                continue;
+            }
+            return Mono.error(failure.error());
+        }
+        return Mono.empty();
+    }
+
+    private Mono<Void> publishCreated(Membership membership, CreateFounderMembershipRequest request) {
+        log.info(
+                "[{}] Founder membership {} created for community {} and user {}",
+                request.traceId(),
+                membership.id().value(),
+                request.communityId().value(),
+                request.founderUserId().value()
+        );
+
+        var snapshot = snapshots.snapshot(membership);
+
+        EntityChangedEvent evt = eventFactory.build(
+                OperationTypeValue.CREATED,
+                membership.id(),
+                request.traceId(),
+                request.founderUserId().value(),
+                request.sourceSystem(),
+                "Founder membership created after community creation",
+                null,
+                snapshot
+        );
+
+        return eventPublisher.publish(evt).then();
     }
 }
\ No newline at end of file
@@ -9,13 +9,14 @@ import com.paravai.communities.membership.domain.model.Membership;
 import com.paravai.communities.membership.domain.model.MembershipFactory;
 import com.paravai.communities.membership.domain.repository.MembershipRepository;
 import com.paravai.foundation.domain.event.EntityChangedEvent;
-import com.paravai.foundation.domain.event.NonBlockingEventPublisher;
 import com.paravai.foundation.domain.event.ReactiveDomainEventPublisher;
 import com.paravai.foundation.domain.value.IdValue;
 import com.paravai.foundation.domain.value.OperationTypeValue;
 import com.paravai.foundation.observability.metrics.MetricsSupport;
 import com.paravai.foundation.observability.metrics.OperationCtx;
 import com.paravai.foundation.observability.metrics.ReactiveOperationMetrics;
+import com.paravai.foundation.persistence.mongo.outbox.TransactionalEventPublisher;
+import com.paravai.foundation.persistence.mongo.outbox.TransactionalOutbox;
 import com.paravai.foundation.securityutils.reactive.context.RequestContext;
 import com.paravai.foundation.snapshot.SnapshotMapper;
 import org.slf4j.Logger;
@@ -31,7 +32,7 @@ public class InviteMemberService {
 
     private final MembershipRepository repo;
     private final MembershipAuthorizationService authorization;
-    private final NonBlockingEventPublisher publisher;
+    private final TransactionalEventPublisher publisher;
     private final MembershipSnapshotSupport snapshots;
     private final MembershipEventFactory eventFactory;
     private final ReactiveOperationMetrics metrics;
@@ -43,11 +44,12 @@ public class InviteMemberService {
             ReactiveDomainEventPublisher domainEventPublisher,
             SnapshotMapper<Membership> snapshotMapper,
             MembershipEventFactory eventFactory,
-            ReactiveOperationMetrics metrics
+            ReactiveOperationMetrics metrics,
+            TransactionalOutbox outbox
     ) {
         this.repo = Objects.requireNonNull(repo);
         this.authorization = Objects.requireNonNull(authorization);
-        this.publisher = new NonBlockingEventPublisher(Objects.requireNonNull(domainEventPublisher), log);
+        this.publisher = new TransactionalEventPublisher(Objects.requireNonNull(domainEventPublisher), Objects.requireNonNull(outbox), log);
         this.snapshots = new MembershipSnapshotSupport(Objects.requireNonNull(snapshotMapper));
         this.eventFactory = Objects.requireNonNull(eventFactory);
         this.metrics = Objects.requireNonNull(metrics);
@@ -66,7 +68,7 @@ public class InviteMemberService {
 
             return MetricsSupport.timedMono(metrics, opCtx, () ->
                     authorization.assertAdmin(tenantId, communityId, inviterUserId)
-                            .then(repo.findByTenantIdAndCommunityIdAndUserId(tenantId, communityId, inviteeUserId))
+                            .then(publisher.inTransaction(() -> repo.findByTenantIdAndCommunityIdAndUserId(tenantId, communityId, inviteeUserId)
                             .flatMap(existing -> {
                                 if (existing.status().isActive()) {
                                     return Mono.error(new IllegalArgumentException("Invitee already active member"));
@@ -105,7 +107,7 @@ public class InviteMemberService {
                                 );
 
                                 return publisher.publish(evt).thenReturn(saved);
-                            })
+                            })))
             );
         });
     }
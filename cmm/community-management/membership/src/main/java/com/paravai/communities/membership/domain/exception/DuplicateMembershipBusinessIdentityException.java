@@ -0,0 +1,31 @@
+package com.paravai.communities.membership.domain.exception;
+
+import com.paravai.foundation.domain.exception.CustomException;
+import com.paravai.foundation.domain.value.IdValue;
+import org.springframework.http.HttpStatus;
+
+import java.util.Objects;
+
+public final class DuplicateMembershipBusinessIdentityException extends CustomException {
+
+    private final IdValue tenantId;
+    private final IdValue communityId;
+    private final IdValue userId;
+
+    public DuplicateMembershipBusinessIdentityException(IdValue tenantId, IdValue communityId, IdValue userId) {
+        super(
+                "membership.error.duplicateBusinessIdentity",
+                HttpStatus.CONFLICT,
+                tenantId != null ? tenantId.value() : null,
+                communityId != null ? communityId.value() : null,
+                userId != null ? userId.value() : null
+        );
+        this.tenantId = Objects.requireNonNull(tenantId, "tenantId");
+        this.communityId = Objects.requireNonNull(communityId, "communityId");
+        this.userId = Objects.requireNonNull(userId, "userId");
+    }
+
+    public IdValue tenantId() { return tenantId; }
+    public IdValue communityId() { return communityId; }
+    public IdValue userId() { return userId; }
+}
@@ -1,11 +1,15 @@
 package com.paravai.communities.membership.domain.repository;
 
 import com.paravai.communities.membership.domain.model.Membership;
+import com.paravai.foundation.domain.model.BulkWriteReport;
 import com.paravai.foundation.domain.value.IdValue;
+import com.paravai.foundation.viewjsonapi.pagination.PageSlice;
 import com.paravai.foundation.viewjsonapi.query.SearchQueryValue;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Domain port (Hexagonal Architecture).
  * No Spring, no Mongo, no DTOs.
@@ -14,6 +18,32 @@ public interface MembershipRepository {
 
     Mono<Membership> save(Membership membership);
 
+    /**
+     * Creates the membership unless one already exists for its tenantId + communityId + userId,
+     * in a single atomic write. Emits true when it was created, false when it already existed.
+     */
+    Mono<Boolean> insertIfAbsent(Membership membership);
+
+    /**
+     * Inserts new memberships in bulk. Items that fail (e.g. the user already has a
+     * membership in that community) do not stop the rest; the report says which were
+     * written and why the others were not.
+     */
+    Mono<BulkWriteReport<Membership>> saveAll(List<Membership> memberships);
+
+    /**
+     * Bulk insertIfAbsent: the report's written list holds the memberships created; one
+     * that already existed is left untouched and is in neither list. An existing membership
+     * is not a write error, so this is safe inside a transaction.
+     */
+    Mono<BulkWriteReport<Membership>> insertAllIfAbsent(List<Membership> memberships);
+
+    /**
+     * Bulk save(): each membership replaces the stored one with its id, or is inserted.
+     * Per-item errors are reported as in saveAll.
+     */
+    Mono<BulkWriteReport<Membership>> upsertAll(List<Membership> memberships);
+
     Mono<Membership> findById(IdValue id);
 
     Mono<Void> deleteById(IdValue id);
@@ -34,4 +64,7 @@ public interface MembershipRepository {
 
     // Needed for pagination
     Mono<Long> count(SearchQueryValue query);
+
+    // Page + total (or hasNext when the request skips the total) in a single round trip
+    Mono<PageSlice<Membership>> searchPage(SearchQueryValue query);
 }
\ No newline at end of file
@@ -3,15 +3,19 @@ package com.paravai.communities.membership.inbound.event.handler;
 import com.paravai.communities.contracts.event.community.CommunityEventPayloadV1;
 import com.paravai.communities.membership.application.command.createfounder.CreateFounderMembershipService;
 import com.paravai.communities.membership.inbound.event.mapper.CommunityEventToCreateFounderMembershipRequestMapper;
-import com.paravai.foundation.integration.application.inbound.dispatcher.EventInboundHandler;
+import com.paravai.foundation.integration.application.inbound.dispatcher.BatchEventInboundHandler;
+import com.paravai.foundation.integration.application.inbound.dispatcher.EventRouteKey;
 import com.paravai.foundation.integration.domain.event.DomainEventEnvelope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Set;
+
 @Component
-public class CommunityCreatedEventHandler implements EventInboundHandler {
+public class CommunityCreatedEventHandler implements BatchEventInboundHandler {
 
     private static final Logger log = LoggerFactory.getLogger(CommunityCreatedEventHandler.class);
 
@@ -19,6 +23,10 @@ public class CommunityCreatedEventHandler implements EventInboundHandler {
     private static final String EXPECTED_CHANGE_TYPE = "created";
     private static final String EXPECTED_SCHEMA_ID = "communities-management.community.integration.v1";
 
+    private static final Set<EventRouteKey> ROUTE_KEYS = Set.of(
+            EventRouteKey.of(EXPECTED_SCHEMA_ID, EXPECTED_ENTITY_TYPE, EXPECTED_CHANGE_TYPE)
+    );
+
     private final CommunityEventToCreateFounderMembershipRequestMapper mapper;
     private final CreateFounderMembershipService service;
 
@@ -30,6 +38,17 @@ public class CommunityCreatedEventHandler implements EventInboundHandler {
         this.service = service;
     }
 
+    @Override
+    public Set<EventRouteKey> routeKeys() {
+        return ROUTE_KEYS;
+    }
+
+    @Override
+    public Class<?> payloadType() {
+        return CommunityEventPayloadV1.class;
+    }
+
+    // Not used by the dispatcher while routeKeys() is declared; kept for direct callers.
     @Override
     public boolean supports(DomainEventEnvelope<?> event) {
         if (event == null) {
@@ -39,12 +58,6 @@ public class CommunityCreatedEventHandler implements EventInboundHandler {
 /*        if (!(event.getPayload() instanceof CommunityEventPayloadV1)) {
             return false;
         }*/
-        log.debug(
-                "CommunityCreatedEventHandler checking event schemaId={} entityType={} changeType={}",
-                event.getSchemaId(),
-                event.getEntityType(),
-                event.getChangeType()
-        );
         return EXPECTED_SCHEMA_ID.equals(event.getSchemaId())
                 && EXPECTED_ENTITY_TYPE.equals(event.getEntityType())
                 && EXPECTED_CHANGE_TYPE.equalsIgnoreCase(event.getChangeType());
@@ -67,4 +80,13 @@ public class CommunityCreatedEventHandler implements EventInboundHandler {
         );
         return service.createFounderMembership(mapper.map(event));
     }
-}
\ No newline at end of file
+
+    /**
+     * A burst of community creations becomes one bulk insert of founder memberships.
+     */
+    @Override
+    public Mono<Void> handleBatch(List<DomainEventEnvelope<?>> events) {
+        log.debug("CommunityCreatedEventHandler handling {} community events", events.size());
+        return Mono.defer(() -> service.createFounderMemberships(events.stream().map(mapper::map).toList()));
+    }
+}
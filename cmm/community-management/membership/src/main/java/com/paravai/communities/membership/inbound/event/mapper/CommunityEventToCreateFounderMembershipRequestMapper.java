@@ -26,8 +26,10 @@ public class CommunityEventToCreateFounderMembershipRequestMapper {
             throw new IllegalArgumentException("event payload must not be null");
         }
 
-        CommunityEventPayloadV1 payload =
-                objectMapper.convertValue(rawPayload, CommunityEventPayloadV1.class);
+        // Typed when decoded through the handler's payloadType(); untyped for legacy paths.
+        CommunityEventPayloadV1 payload = rawPayload instanceof CommunityEventPayloadV1 typed
+                ? typed
+                : objectMapper.convertValue(rawPayload, CommunityEventPayloadV1.class);
 
         IdValue tenantId = IdValue.of(payload.tenantId());
         IdValue communityId = IdValue.of(payload.communityId());
@@ -0,0 +1,60 @@
+package com.paravai.communities.membership.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paravai.communities.common.integration.ProtobufEnvelopeCodec;
+import com.paravai.communities.contracts.event.community.CommunityEventPayloadV1;
+import com.paravai.communities.contracts.event.membership.MembershipEventPayloadV1;
+import com.paravai.foundation.governance.events.audit.v1.AuditTrailPayloadV1;
+import com.paravai.foundation.governance.events.historization.v1.HistorizationPayloadV1;
+import com.paravai.foundation.integration.codec.BinaryEnvelopeCodec;
+import com.paravai.foundation.integration.codec.PayloadSchemaRegistration;
+import com.paravai.foundation.integration.domain.event.EventChannel;
+import com.paravai.foundation.integration.domain.event.EventCmm;
+import com.paravai.foundation.integration.domain.event.SchemaId;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Payload classes of the schemas produced (membership) and consumed (community integration)
+ * by the Membership module.
+ */
+@Configuration
+public class IntegrationSchemaConfig {
+
+    private static final EventCmm CMM = EventCmm.COMMUNITIES_MANAGEMENT;
+    private static final String COMPONENT = "membership";
+    private static final int MAJOR = 1;
+
+    @Bean
+    public PayloadSchemaRegistration membershipAuditSchema() {
+        return PayloadSchemaRegistration.of(
+                SchemaId.of(CMM, COMPONENT, EventChannel.AUDIT, MAJOR), AuditTrailPayloadV1.class);
+    }
+
+    @Bean
+    public PayloadSchemaRegistration membershipHistorizationSchema() {
+        return PayloadSchemaRegistration.of(
+                SchemaId.of(CMM, COMPONENT, EventChannel.HISTORIZATION, MAJOR), HistorizationPayloadV1.class);
+    }
+
+    @Bean
+    public PayloadSchemaRegistration membershipIntegrationSchema() {
+        return PayloadSchemaRegistration.of(
+                SchemaId.of(CMM, COMPONENT, EventChannel.INTEGRATION, MAJOR), MembershipEventPayloadV1.class);
+    }
+
+    @Bean
+    public PayloadSchemaRegistration communityIntegrationSchema() {
+        return PayloadSchemaRegistration.of(
+                SchemaId.of(CMM, "community", EventChannel.INTEGRATION, MAJOR), CommunityEventPayloadV1.class);
+    }
+
+    /**
+     * Protobuf encoding of the integration schemas; only used on topics that opt in
+     * through kafka.integration.encoding.topics.
+     */
+    @Bean
+    public BinaryEnvelopeCodec protobufEnvelopeCodec(ObjectMapper objectMapper) {
+        return new ProtobufEnvelopeCodec(objectMapper);
+    }
+}
@@ -2,11 +2,16 @@ package com.paravai.communities.membership.infrastructure.config;
 
 import com.paravai.communities.membership.domain.model.Membership;
 import com.paravai.communities.membership.infrastructure.persistence.mongo.document.MembershipDocument;
+import com.paravai.foundation.persistence.mongo.MongoIndexInitializer;
 import com.paravai.foundation.persistence.mongo.MongoReactiveEntityFilter;
+import com.paravai.foundation.persistence.mongo.bulk.MongoBulkWriter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 
+import java.util.List;
+
 @Configuration
 public class MongoFilterConfig {
 
@@ -20,4 +25,15 @@ public class MongoFilterConfig {
         );
     }
 
+    // ux_membership_tenant_community_user backs insertIfAbsent (auto index creation is off)
+    @Bean
+    public MongoIndexInitializer membershipIndexInitializer(ReactiveMongoTemplate template) {
+        return new MongoIndexInitializer(template, List.of(MembershipDocument.class));
+    }
+
+    @Bean
+    public MongoBulkWriter bulkWriter(ReactiveMongoTemplate template,
+                                      @Value("${foundation.persistence.bulk-chunk-size:500}") int chunkSize) {
+        return new MongoBulkWriter(template, chunkSize);
+    }
 }
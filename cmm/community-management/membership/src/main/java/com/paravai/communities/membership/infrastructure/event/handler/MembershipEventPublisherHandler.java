@@ -0,0 +1,63 @@
+package com.paravai.communities.membership.infrastructure.event.handler;
+
+import com.paravai.communities.membership.infrastructure.event.mapper.AuditTrailEnvelopeMapper;
+import com.paravai.communities.membership.infrastructure.event.mapper.HistorizationEnvelopeMapper;
+import com.paravai.communities.membership.infrastructure.event.mapper.MembershipEventEnvelopeMapper;
+import com.paravai.foundation.domain.event.DomainEventHandler;
+import com.paravai.foundation.domain.event.EntityChangedEvent;
+import com.paravai.foundation.infrastructure.kafka.IntegrationEventPublisher;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Single platform handler for Membership:
+ * publishes all platform channels derived from EntityChangedEvent:
+ *  - AUDIT
+ *  - HISTORIZATION
+ *  - INTEGRATION
+ *
+ * Same semantics as the Community handler: with the transactional outbox enabled the
+ * envelopes are staged in the command transaction and failures are propagated.
+ */
+@Component
+@RequiredArgsConstructor
+public class MembershipEventPublisherHandler implements DomainEventHandler<EntityChangedEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(MembershipEventPublisherHandler.class);
+
+    private final IntegrationEventPublisher publisher;
+
+    private final AuditTrailEnvelopeMapper auditMapper;
+    private final HistorizationEnvelopeMapper historizationMapper;
+    private final MembershipEventEnvelopeMapper integrationMapper;
+
+    @Override
+    public Mono<Void> handle(EntityChangedEvent event) {
+
+        Mono<Void> audit = Mono.defer(() -> publisher.publish(auditMapper.map(event)))
+                .doOnError(ex -> log.warn("[{}][{}] Failed to publish AUDIT envelope",
+                        safeTraceId(event), safeEntityId(event), ex));
+
+        Mono<Void> historization = Mono.defer(() -> publisher.publish(historizationMapper.map(event)))
+                .doOnError(ex -> log.warn("[{}][{}] Failed to publish HISTORIZATION envelope",
+                        safeTraceId(event), safeEntityId(event), ex));
+
+        Mono<Void> integration = Mono.defer(() -> publisher.publish(integrationMapper.map(event)))
+                .doOnError(ex -> log.warn("[{}][{}] Failed to publish INTEGRATION envelope",
+                        safeTraceId(event), safeEntityId(event), ex));
+
+        return Mono.whenDelayError(audit, historization, integration);
+    }
+
+    private static String safeTraceId(EntityChangedEvent e) {
+        return e.getTraceId() != null ? e.getTraceId().toString() : "no-trace";
+    }
+
+    private static String safeEntityId(EntityChangedEvent e) {
+        return e.getEntityId() != null ? e.getEntityId().toString() : "no-entity";
+    }
+}
@@ -1,6 +1,7 @@
 package com.paravai.communities.membership.infrastructure.event.mapper;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.paravai.communities.contracts.event.membership.MembershipEventPayloadV1;
 import com.paravai.foundation.domain.event.EntityChangedEvent;
 import com.paravai.foundation.integration.domain.event.DomainEventEnvelope;
@@ -8,6 +9,7 @@ import com.paravai.foundation.integration.domain.event.EventChannel;
 import com.paravai.foundation.integration.domain.event.EventCmm;
 import com.paravai.foundation.integration.domain.event.SchemaId;
 import com.paravai.foundation.integration.mapper.DomainEventEnvelopeFactory;
+import com.paravai.foundation.snapshot.EncodedSnapshot;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -18,12 +20,20 @@ public class MembershipEventEnvelopeMapper {
     private static final int MAJOR = 1;
 
     private final MembershipSnapshotToEventPayloadMapperV1 snapshotMapper;
+    private final ObjectMapper objectMapper;
 
-    public MembershipEventEnvelopeMapper(MembershipSnapshotToEventPayloadMapperV1 snapshotMapper) {
+    public MembershipEventEnvelopeMapper(MembershipSnapshotToEventPayloadMapperV1 snapshotMapper,
+                                         ObjectMapper objectMapper) {
         this.snapshotMapper = snapshotMapper;
+        this.objectMapper = objectMapper;
     }
 
-    public DomainEventEnvelope<MembershipEventPayloadV1> map(EntityChangedEvent event) {
+    /**
+     * Snapshots produced by MembershipSnapshotMapper already carry the encoded payload: it is
+     * embedded as-is (no tree parsing, no second encoding). Plain JSON trees are still
+     * mapped field by field.
+     */
+    public DomainEventEnvelope<EncodedSnapshot<MembershipEventPayloadV1>> map(EntityChangedEvent event) {
         if (event == null) {
             throw new IllegalArgumentException("EntityChangedEvent must not be null");
         }
@@ -36,7 +46,8 @@ public class MembershipEventEnvelopeMapper {
             throw new IllegalStateException("Cannot build MembershipEventPayloadV1: snapshot is null");
         }
 
-        MembershipEventPayloadV1 payload = snapshotMapper.map(snapshot);
+        EncodedSnapshot<MembershipEventPayloadV1> payload = EncodedSnapshot.from(snapshot, MembershipEventPayloadV1.class)
+                .orElseGet(() -> EncodedSnapshot.encode(objectMapper, snapshotMapper.map(snapshot)));
 
         String schemaId = SchemaId.of(CMM, COMPONENT, EventChannel.INTEGRATION, MAJOR);
         return DomainEventEnvelopeFactory.create(event, schemaId, payload);
@@ -0,0 +1,153 @@
+package com.paravai.communities.membership.infrastructure.persistence.cache;
+
+import com.paravai.communities.membership.domain.model.Membership;
+import com.paravai.communities.membership.domain.repository.MembershipRepository;
+import com.paravai.communities.membership.infrastructure.persistence.mongo.document.MembershipDocument;
+import com.paravai.foundation.domain.model.BulkWriteReport;
+import com.paravai.foundation.domain.value.IdValue;
+import com.paravai.foundation.persistence.cache.AfterTransactionCompletion;
+import com.paravai.foundation.persistence.cache.ReadThroughCache;
+import com.paravai.foundation.viewjsonapi.pagination.PageSlice;
+import com.paravai.foundation.viewjsonapi.query.SearchQueryValue;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * MembershipRepository decorator that serves findById and the business-key lookup from
+ * read-through caches, so permission checks stop costing a Mongo round trip.
+ *
+ * Membership is mutable, so the id cache keeps the persisted document form and every hit
+ * builds a fresh aggregate. Absent memberships are not cached. Writes only invalidate (the
+ * surrounding transaction may still roll back): once the write finishes and, inside a
+ * transaction, again after it completes, since a read between the write and the commit
+ * still sees the old document. Queries always go to the delegate.
+ *
+ * The business-key cache only maps a key to its membership id, which never changes, and
+ * the document is served by the id cache: change events carry only the id, so evicting the
+ * id is enough. A key left mapped to a deleted membership falls back to the delegate.
+ */
+public class CachingMembershipRepository implements MembershipRepository {
+
+    /**
+     * Business key of a membership (unique per tenant + community + user).
+     */
+    record MembershipKey(String tenantId, String communityId, String userId) {}
+
+    private final MembershipRepository delegate;
+    private final ReadThroughCache<String, MembershipDocument> byId;
+    private final ReadThroughCache<MembershipKey, String> byKey;
+
+    public CachingMembershipRepository(MembershipRepository delegate,
+                                       ReadThroughCache<String, MembershipDocument> byId,
+                                       ReadThroughCache<MembershipKey, String> byKey) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.byId = Objects.requireNonNull(byId, "byId");
+        this.byKey = Objects.requireNonNull(byKey, "byKey");
+    }
+
+    @Override
+    public Mono<Membership> save(Membership membership) {
+        if (membership == null) return delegate.save(null);
+        return invalidating(delegate.save(membership), () -> invalidate(membership));
+    }
+
+    @Override
+    public Mono<Boolean> insertIfAbsent(Membership membership) {
+        if (membership == null) return delegate.insertIfAbsent(null);
+        return invalidating(delegate.insertIfAbsent(membership), () -> byKey.invalidate(keyOf(membership)));
+    }
+
+    @Override
+    public Mono<BulkWriteReport<Membership>> saveAll(List<Membership> memberships) {
+        if (memberships == null) return delegate.saveAll(null);
+        return invalidating(delegate.saveAll(memberships), () -> memberships.forEach(this::invalidate));
+    }
+
+    @Override
+    public Mono<BulkWriteReport<Membership>> insertAllIfAbsent(List<Membership> memberships) {
+        if (memberships == null) return delegate.insertAllIfAbsent(null);
+        return invalidating(delegate.insertAllIfAbsent(memberships),
+                () -> memberships.forEach(m -> byKey.invalidate(keyOf(m))));
+    }
+
+    @Override
+    public Mono<BulkWriteReport<Membership>> upsertAll(List<Membership> memberships) {
+        if (memberships == null) return delegate.upsertAll(null);
+        return invalidating(delegate.upsertAll(memberships), () -> memberships.forEach(this::invalidate));
+    }
+
+    @Override
+    public Mono<Membership> findById(IdValue id) {
+        if (id == null) return delegate.findById(null);
+        return byId.get(id.value(), () -> delegate.findById(id).map(MembershipDocument::fromDomain))
+                .map(MembershipDocument::toDomain);
+    }
+
+    @Override
+    public Mono<Void> deleteById(IdValue id) {
+        if (id == null) return delegate.deleteById(null);
+        return invalidating(delegate.deleteById(id), () -> evict(id.value()));
+    }
+
+    @Override
+    public Mono<Boolean> existsByTenantIdAndCommunityIdAndUserId(IdValue tenantId, IdValue communityId, IdValue userId) {
+        return delegate.existsByTenantIdAndCommunityIdAndUserId(tenantId, communityId, userId);
+    }
+
+    @Override
+    public Mono<Membership> findByTenantIdAndCommunityIdAndUserId(IdValue tenantId, IdValue communityId, IdValue userId) {
+        if (tenantId == null || communityId == null || userId == null) {
+            return delegate.findByTenantIdAndCommunityIdAndUserId(tenantId, communityId, userId);
+        }
+
+        MembershipKey key = new MembershipKey(tenantId.value(), communityId.value(), userId.value());
+        return byKey.get(key, () -> delegate.findByTenantIdAndCommunityIdAndUserId(tenantId, communityId, userId)
+                        .map(m -> m.id().value()))
+                .flatMap(id -> findById(IdValue.of(id))
+                        .switchIfEmpty(Mono.defer(() -> {
+                            // Deleted since the key was cached; the key may belong to a newer membership
+                            byKey.invalidate(key);
+                            return delegate.findByTenantIdAndCommunityIdAndUserId(tenantId, communityId, userId);
+                        })));
+    }
+
+    @Override
+    public Flux<Membership> search(SearchQueryValue query) {
+        return delegate.search(query);
+    }
+
+    @Override
+    public Mono<Long> count(SearchQueryValue query) {
+        return delegate.count(query);
+    }
+
+    @Override
+    public Mono<PageSlice<Membership>> searchPage(SearchQueryValue query) {
+        return delegate.searchPage(query);
+    }
+
+    /**
+     * Drops the cached document of one membership (change events, local or remote).
+     */
+    public void evict(String membershipId) {
+        byId.invalidate(membershipId);
+    }
+
+    private static <T> Mono<T> invalidating(Mono<T> write, Runnable invalidation) {
+        return AfterTransactionCompletion.register(invalidation)
+                .then(write)
+                .doFinally(signal -> invalidation.run());
+    }
+
+    private void invalidate(Membership membership) {
+        byId.invalidate(membership.id().value());
+        byKey.invalidate(keyOf(membership));
+    }
+
+    private static MembershipKey keyOf(Membership m) {
+        return new MembershipKey(m.tenantId().value(), m.communityId().value(), m.userId().value());
+    }
+}
@@ -0,0 +1,66 @@
+package com.paravai.communities.membership.infrastructure.persistence.cache;
+
+import com.paravai.communities.membership.infrastructure.persistence.mongo.adapter.MembershipSpringReactiveMongoRepositoryAdapter;
+import com.paravai.communities.membership.infrastructure.persistence.mongo.document.MembershipDocument;
+import com.paravai.foundation.domain.value.EntityTypeValue;
+import com.paravai.foundation.infrastructure.kafka.cache.KafkaCacheInvalidationListener;
+import com.paravai.foundation.persistence.cache.ReadThroughCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import reactor.kafka.receiver.ReceiverOptions;
+
+/**
+ * Optional read-through cache for membership lookups (membership.cache.enabled).
+ * The caching decorator becomes the primary MembershipRepository; the Mongo adapter stays
+ * available by its concrete type.
+ */
+@Configuration
+@ConditionalOnProperty(name = "membership.cache.enabled", havingValue = "true")
+@EnableConfigurationProperties(MembershipCacheProperties.class)
+public class MembershipCacheConfig {
+
+    @Bean
+    @Primary
+    public CachingMembershipRepository cachingMembershipRepository(MembershipSpringReactiveMongoRepositoryAdapter adapter,
+                                                                   MembershipCacheProperties props,
+                                                                   MeterRegistry registry) {
+        ReadThroughCache<String, MembershipDocument> byId =
+                ReadThroughCache.create("membership.byId", props.getTtl(), props.getMaxSize(), registry);
+        ReadThroughCache<CachingMembershipRepository.MembershipKey, String> byKey =
+                ReadThroughCache.create("membership.byKey", props.getTtl(), props.getMaxSize(), registry);
+        return new CachingMembershipRepository(adapter, byId, byKey);
+    }
+
+    @Bean
+    public MembershipCacheInvalidationHandler membershipCacheInvalidationHandler(CachingMembershipRepository repository) {
+        return new MembershipCacheInvalidationHandler(repository);
+    }
+
+    /**
+     * Reuses the inbound receiver settings; the listener replaces the group with its own.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "membership.cache.invalidation.kafka-enabled", havingValue = "true")
+    public KafkaCacheInvalidationListener membershipCacheInvalidationListener(
+            ReceiverOptions<String, byte[]> inboundKafkaReceiverOptions,
+            @Value("${spring.application.name}") String applicationName,
+            MembershipCacheProperties props,
+            CachingMembershipRepository repository
+    ) {
+        return new KafkaCacheInvalidationListener(
+                inboundKafkaReceiverOptions,
+                applicationName,
+                props.getInvalidation().getTopics(),
+                (entityType, entityId) -> {
+                    if (EntityTypeValue.MEMBERSHIP.value().equals(entityType)) {
+                        repository.evict(entityId);
+                    }
+                }
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package com.paravai.communities.membership.infrastructure.persistence.cache;
+
+import com.paravai.foundation.domain.event.DomainEventHandler;
+import com.paravai.foundation.domain.event.EntityChangedEvent;
+import com.paravai.foundation.domain.value.EntityTypeValue;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+/**
+ * Evicts a membership from the local caches as soon as its EntityChangedEvent is dispatched.
+ * Other nodes (and this one, again after commit) are covered by the integration topic.
+ */
+public class MembershipCacheInvalidationHandler implements DomainEventHandler<EntityChangedEvent> {
+
+    private final CachingMembershipRepository repository;
+
+    public MembershipCacheInvalidationHandler(CachingMembershipRepository repository) {
+        this.repository = Objects.requireNonNull(repository, "repository");
+    }
+
+    @Override
+    public Mono<Void> handle(EntityChangedEvent event) {
+        if (event != null && EntityTypeValue.MEMBERSHIP.equals(event.getEntityType())) {
+            repository.evict(event.getEntityId().value());
+        }
+        return Mono.empty();
+    }
+}
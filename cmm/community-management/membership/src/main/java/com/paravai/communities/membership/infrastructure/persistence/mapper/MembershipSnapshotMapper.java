@@ -1,32 +1,33 @@
 package com.paravai.communities.membership.infrastructure.persistence.mapper;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.paravai.communities.contracts.event.membership.MembershipEventPayloadV1;
 import com.paravai.communities.membership.domain.model.Membership;
 import com.paravai.communities.membership.infrastructure.event.mapper.MembershipToEventPayloadMapperV1;
-import com.paravai.foundation.snapshot.SnapshotMapper;
+import com.paravai.foundation.snapshot.EncodedSnapshotMapper;
 import org.springframework.stereotype.Component;
 
 /**
  * Serializes S aggregates into JSON snapshots for historization.
+ *
+ * The snapshot is the integration payload (MembershipEventPayloadV1), encoded once and
+ * shared by the historization and integration envelopes.
  */
 @Component
-public class MembershipSnapshotMapper implements SnapshotMapper<Membership> {
+public class MembershipSnapshotMapper extends EncodedSnapshotMapper<Membership, MembershipEventPayloadV1> {
 
-    private final ObjectMapper objectMapper;
     private final MembershipToEventPayloadMapperV1 payloadMapper;
 
     public MembershipSnapshotMapper(
             ObjectMapper objectMapper,
             MembershipToEventPayloadMapperV1 payloadMapper
     ) {
-        this.objectMapper = objectMapper;
+        super(objectMapper);
         this.payloadMapper = payloadMapper;
     }
 
     @Override
-    public JsonNode toSnapshot(Membership aggregate) {
-        return objectMapper.valueToTree(payloadMapper.map(aggregate));
+    protected MembershipEventPayloadV1 toPayload(Membership aggregate) {
+        return payloadMapper.map(aggregate);
     }
 }
@@ -2,20 +2,36 @@ package com.paravai.communities.membership.infrastructure.persistence.mongo.adap
 
 import com.paravai.communities.membership.infrastructure.persistence.mongo.springdata.MembershipSpringReactiveMongoRepository;
 import com.paravai.communities.membership.application.common.MembershipMetrics;
+import com.paravai.communities.membership.domain.exception.DuplicateMembershipBusinessIdentityException;
 import com.paravai.communities.membership.domain.model.Membership;
 import com.paravai.communities.membership.domain.repository.MembershipRepository;
 import com.paravai.communities.membership.infrastructure.persistence.mongo.document.MembershipDocument;
+import com.paravai.foundation.domain.model.BulkWriteReport;
 import com.paravai.foundation.domain.value.IdValue;
 import com.paravai.foundation.observability.metrics.MetricsSupport;
 import com.paravai.foundation.observability.metrics.OperationCtx;
 import com.paravai.foundation.observability.metrics.ReactiveOperationMetrics;
+import com.paravai.foundation.persistence.cache.SingleFlight;
+import com.paravai.foundation.persistence.mongo.KeysetPage;
 import com.paravai.foundation.persistence.mongo.MongoReactiveEntityFilter;
+import com.paravai.foundation.persistence.mongo.PageCountMode;
+import com.paravai.foundation.persistence.mongo.bulk.MongoBulkWriter;
+import com.paravai.foundation.persistence.mongo.update.MongoUpserts;
+import com.paravai.foundation.viewjsonapi.pagination.PageSlice;
 import com.paravai.foundation.viewjsonapi.query.SearchQueryValue;
+import com.paravai.foundation.viewjsonapi.query.SortSpecValue;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -29,15 +45,28 @@ public class MembershipSpringReactiveMongoRepositoryAdapter implements Membershi
     private static final String ADAPTER_NAME = "mongo";
 
     private final MembershipSpringReactiveMongoRepository springRepo;
+    private final ReactiveMongoTemplate template;
     private final MongoReactiveEntityFilter<Membership, MembershipDocument> filter;
     private final ReactiveOperationMetrics metrics;
+    private final MongoBulkWriter bulkWriter;
+
+    // Concurrent permission checks for the same member share one query (documents, not aggregates)
+    private final SingleFlight<BusinessKey, MembershipDocument> businessKeyFlights;
+
+    private record BusinessKey(String tenantId, String communityId, String userId) {}
 
     public MembershipSpringReactiveMongoRepositoryAdapter(MembershipSpringReactiveMongoRepository springRepo,
+                                                          ReactiveMongoTemplate template,
                                                           MongoReactiveEntityFilter<Membership, MembershipDocument> filter,
-                                                          ReactiveOperationMetrics metrics) {
+                                                          ReactiveOperationMetrics metrics,
+                                                          MongoBulkWriter bulkWriter,
+                                                          MeterRegistry meterRegistry) {
         this.springRepo = Objects.requireNonNull(springRepo, "springRepo");
+        this.template = Objects.requireNonNull(template, "template");
         this.filter = Objects.requireNonNull(filter, "filter");
         this.metrics = Objects.requireNonNull(metrics, "metrics");
+        this.bulkWriter = Objects.requireNonNull(bulkWriter, "bulkWriter");
+        this.businessKeyFlights = SingleFlight.create("membership.findByTenantCommunityUser", meterRegistry);
     }
 
     @Override
@@ -50,11 +79,90 @@ public class MembershipSpringReactiveMongoRepositoryAdapter implements Membershi
                 springRepo.save(MembershipDocument.fromDomain(membership))
                         .map(MembershipDocument::toDomain)
                         .onErrorMap(DuplicateKeyException.class, ex ->
-                                new IllegalArgumentException("Duplicate Membership business identity (tenantId+communityId+userId)", ex)
+                                duplicate(membership)
                         )
         );
     }
 
+    /**
+     * Upsert on the ux_membership_tenant_community_user key with $setOnInsert only: an
+     * existing membership is matched and left untouched. Two racing inserts can still hit
+     * the unique index; outside a transaction the loser means "already exists". Inside one
+     * the failed write has aborted the transaction, so the error is propagated and the
+     * caller's retry (or the redelivery) then finds the membership.
+     */
+    @Override
+    public Mono<Boolean> insertIfAbsent(Membership membership) {
+        if (membership == null) return Mono.error(new IllegalArgumentException("membership cannot be null"));
+
+        OperationCtx opCtx = MembershipMetrics.ID.outbound(ADAPTER_NAME, "insertMembershipIfAbsent");
+
+        return MetricsSupport.timedOutboundMono(metrics, opCtx, () ->
+                template.upsert(
+                                byBusinessKey(membership),
+                                MongoUpserts.setOnInsert(template.getConverter(), MembershipDocument.fromDomain(membership)),
+                                MembershipDocument.class
+                        )
+                        .map(result -> result.getUpsertedId() != null)
+                        .onErrorResume(DuplicateKeyException.class, ex -> inTransaction()
+                                .flatMap(inTx -> inTx ? Mono.<Boolean>error(ex) : Mono.just(false)))
+        );
+    }
+
+    /**
+     * Unordered insert, chunked; every chunk is timed as one outbound call.
+     */
+    @Override
+    public Mono<BulkWriteReport<Membership>> saveAll(List<Membership> memberships) {
+        if (memberships == null) return Mono.error(new IllegalArgumentException("memberships cannot be null"));
+
+        OperationCtx opCtx = MembershipMetrics.ID.outbound(ADAPTER_NAME, "saveAllMemberships");
+
+        return bulkWriter.insertAll(
+                memberships,
+                MembershipDocument.class,
+                MembershipDocument::fromDomain,
+                MembershipSpringReactiveMongoRepositoryAdapter::duplicate,
+                chunk -> MetricsSupport.timedOutboundMono(metrics, opCtx, () -> chunk)
+        );
+    }
+
+    /**
+     * Bulk counterpart of insertIfAbsent: unordered $setOnInsert upserts on the business
+     * key, chunked; every chunk is timed as one outbound call.
+     */
+    @Override
+    public Mono<BulkWriteReport<Membership>> insertAllIfAbsent(List<Membership> memberships) {
+        if (memberships == null) return Mono.error(new IllegalArgumentException("memberships cannot be null"));
+
+        OperationCtx opCtx = MembershipMetrics.ID.outbound(ADAPTER_NAME, "insertAllMembershipsIfAbsent");
+
+        return bulkWriter.insertAllIfAbsent(
+                memberships,
+                MembershipDocument.class,
+                MembershipSpringReactiveMongoRepositoryAdapter::byBusinessKey,
+                m -> MongoUpserts.setOnInsert(template.getConverter(), MembershipDocument.fromDomain(m)),
+                MembershipSpringReactiveMongoRepositoryAdapter::duplicate,
+                chunk -> MetricsSupport.timedOutboundMono(metrics, opCtx, () -> chunk)
+        );
+    }
+
+    @Override
+    public Mono<BulkWriteReport<Membership>> upsertAll(List<Membership> memberships) {
+        if (memberships == null) return Mono.error(new IllegalArgumentException("memberships cannot be null"));
+
+        OperationCtx opCtx = MembershipMetrics.ID.outbound(ADAPTER_NAME, "upsertAllMemberships");
+
+        return bulkWriter.replaceAll(
+                memberships,
+                MembershipDocument.class,
+                MembershipDocument::fromDomain,
+                MembershipDocument::getId,
+                MembershipSpringReactiveMongoRepositoryAdapter::duplicate,
+                chunk -> MetricsSupport.timedOutboundMono(metrics, opCtx, () -> chunk)
+        );
+    }
+
     @Override
     public Mono<Membership> findById(IdValue id) {
         if (id == null) return Mono.error(new IllegalArgumentException("id cannot be null"));
@@ -103,12 +211,15 @@ public class MembershipSpringReactiveMongoRepositoryAdapter implements Membershi
 
         OperationCtx opCtx = MembershipMetrics.ID.outbound(ADAPTER_NAME, "findByTenantCommunityUser");
 
+        BusinessKey key = new BusinessKey(tenantId.value(), communityId.value(), userId.value());
+
         return MetricsSupport.timedOutboundMono(metrics, opCtx, () ->
-                springRepo.findByTenantIdAndCommunityIdAndUserId(
-                                tenantId.value(),
-                                communityId.value(),
-                                userId.value()
-                        )
+                businessKeyFlights.execute(key, () ->
+                                springRepo.findByTenantIdAndCommunityIdAndUserId(
+                                        key.tenantId(),
+                                        key.communityId(),
+                                        key.userId()
+                                ))
                         .map(MembershipDocument::toDomain)
         );
     }
@@ -119,6 +230,16 @@ public class MembershipSpringReactiveMongoRepositoryAdapter implements Membershi
 
         OperationCtx opCtx = MembershipMetrics.ID.outbound(ADAPTER_NAME, "searchMemberships");
 
+        if (q.page().isCursorMode()) {
+            return MetricsSupport.timedOutboundFlux(metrics, opCtx, () ->
+                    filter.findByKeyset(
+                            q.filters().values(),
+                            q.search().isEmpty() ? Optional.empty() : Optional.of(q.search().value()),
+                            keysetPage(q)
+                    )
+            );
+        }
+
         return MetricsSupport.timedOutboundFlux(metrics, opCtx, () ->
                 filter.findByFilters(
                                 q.filters().values(),
@@ -143,4 +264,56 @@ public class MembershipSpringReactiveMongoRepositoryAdapter implements Membershi
                 )
         );
     }
-}
\ No newline at end of file
+
+    @Override
+    public Mono<PageSlice<Membership>> searchPage(SearchQueryValue q) {
+        if (q == null) return Mono.error(new IllegalArgumentException("q cannot be null"));
+
+        OperationCtx opCtx = MembershipMetrics.ID.outbound(ADAPTER_NAME, "searchMembershipsPage");
+        Optional<String> search = q.search().isEmpty() ? Optional.empty() : Optional.of(q.search().value());
+
+        return MetricsSupport.timedOutboundMono(metrics, opCtx, () ->
+                (q.page().isCursorMode()
+                        ? filter.findKeysetPage(q.filters().values(), search, keysetPage(q))
+                        : filter.findPage(
+                                q.filters().values(),
+                                search,
+                                q.sort().isEmpty() ? Optional.empty() : Optional.of(q.sort().toString()),
+                                q.page().getPage(),
+                                q.page().getSize(),
+                                q.page().isCountTotal() ? PageCountMode.FACET : PageCountMode.HAS_NEXT))
+                        .map(r -> PageSlice.of(r.content(), r.total(), r.hasMore(), q.page()))
+        );
+    }
+
+    private static Query byBusinessKey(Membership membership) {
+        return Query.query(Criteria
+                .where("tenantId").is(membership.tenantId().value())
+                .and("communityId").is(membership.communityId().value())
+                .and("userId").is(membership.userId().value()));
+    }
+
+    private static Mono<Boolean> inTransaction() {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .map(TransactionSynchronizationManager::isActualTransactionActive)
+                .onErrorResume(NoTransactionException.class, ex -> Mono.just(false));
+    }
+
+    private static RuntimeException duplicate(Membership membership) {
+        return new DuplicateMembershipBusinessIdentityException(
+                membership.tenantId(), membership.communityId(), membership.userId());
+    }
+
+    private static KeysetPage keysetPage(SearchQueryValue q) {
+        SortSpecValue.SortFieldValue sort = q.keysetSort();
+        String field = sort == null ? null : sort.field();
+        boolean descending = sort != null && sort.descending();
+        int size = q.page().getSize();
+
+        return q.page().getCursor()
+                .map(c -> q.page().isBackward()
+                        ? KeysetPage.before(field, descending, c.getSortValue(), c.getId(), size)
+                        : KeysetPage.after(field, descending, c.getSortValue(), c.getId(), size))
+                .orElseGet(() -> KeysetPage.first(field, descending, size));
+    }
+}
@@ -0,0 +1,156 @@
+package com.paravai.communities.membership.infrastructure.persistence.mongo.adapter;
+
+import com.mongodb.client.result.UpdateResult;
+import com.paravai.communities.membership.domain.model.Membership;
+import com.paravai.communities.membership.domain.model.MembershipFactory;
+import com.paravai.communities.membership.infrastructure.persistence.mongo.document.MembershipDocument;
+import com.paravai.communities.membership.infrastructure.persistence.mongo.springdata.MembershipSpringReactiveMongoRepository;
+import com.paravai.foundation.domain.value.IdValue;
+import com.paravai.foundation.observability.metrics.ReactiveOperationMetrics;
+import com.paravai.foundation.persistence.mongo.MongoReactiveEntityFilter;
+import com.paravai.foundation.persistence.mongo.bulk.MongoBulkWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class MembershipSpringReactiveMongoRepositoryAdapterTest {
+
+    private final ReactiveMongoTemplate template = mock(ReactiveMongoTemplate.class);
+
+    private MembershipSpringReactiveMongoRepositoryAdapter adapter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        // Store conversions so Instant fields are written as dates, as in the application
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        when(template.getConverter()).thenReturn(converter);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        adapter = new MembershipSpringReactiveMongoRepositoryAdapter(
+                mock(MembershipSpringReactiveMongoRepository.class), template, mock(MongoReactiveEntityFilter.class),
+                new ReactiveOperationMetrics(registry), mock(MongoBulkWriter.class), registry);
+    }
+
+    @DisplayName("Given no membership for the business key, insertIfAbsent should insert it with $setOnInsert and report it as created")
+    @Test
+    void insertIfAbsent_created() {
+        //Given
+        Membership founder = founder();
+        when(template.upsert(any(Query.class), any(UpdateDefinition.class), eq(MembershipDocument.class)))
+                .thenReturn(Mono.just(UpdateResult.acknowledged(0, 0L, new BsonString(founder.id().value()))));
+
+        //When
+        Boolean created = adapter.insertIfAbsent(founder).block();
+
+        //Then
+        assertTrue(created);
+        ArgumentCaptor<Query> key = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<UpdateDefinition> update = ArgumentCaptor.forClass(UpdateDefinition.class);
+        verify(template).upsert(key.capture(), update.capture(), eq(MembershipDocument.class));
+        assertEquals(new Document("tenantId", "t1").append("communityId", "c1").append("userId", "u1"),
+                key.getValue().getQueryObject());
+        assertEquals(1, update.getValue().getUpdateObject().size());
+        assertTrue(update.getValue().getUpdateObject().containsKey("$setOnInsert"));
+    }
+
+    @DisplayName("Given an existing membership for the business key, insertIfAbsent should leave it untouched and report it as existing")
+    @Test
+    void insertIfAbsent_existing() {
+        //Given
+        when(template.upsert(any(Query.class), any(UpdateDefinition.class), eq(MembershipDocument.class)))
+                .thenReturn(Mono.just(UpdateResult.acknowledged(1, 0L, null)));
+
+        //When
+        Boolean created = adapter.insertIfAbsent(founder()).block();
+
+        //Then
+        assertFalse(created);
+    }
+
+    @DisplayName("Given a racing insert outside a transaction, the duplicate key should mean the membership exists")
+    @Test
+    void insertIfAbsent_raceOutsideTransaction() {
+        //Given
+        when(template.upsert(any(Query.class), any(UpdateDefinition.class), eq(MembershipDocument.class)))
+                .thenReturn(Mono.error(new DuplicateKeyException("E11000")));
+
+        //When
+        Boolean created = adapter.insertIfAbsent(founder()).block();
+
+        //Then
+        assertFalse(created);
+    }
+
+    @DisplayName("Given a racing insert inside a transaction, the duplicate key should propagate so the transaction rolls back")
+    @Test
+    void insertIfAbsent_raceInTransaction() {
+        //Given
+        when(template.upsert(any(Query.class), any(UpdateDefinition.class), eq(MembershipDocument.class)))
+                .thenReturn(Mono.error(new DuplicateKeyException("E11000")));
+        TransactionalOperator tx = TransactionalOperator.create(new NoOpTransactionManager());
+
+        //When / Then
+        assertThrows(DuplicateKeyException.class, () -> tx.transactional(adapter.insertIfAbsent(founder())).block());
+    }
+
+    private static Membership founder() {
+        return MembershipFactory.createFounder(IdValue.of("t1"), IdValue.of("c1"), IdValue.of("u1"));
+    }
+
+    private static final class NoOpTransactionManager extends AbstractReactiveTransactionManager {
+
+        @Override
+        protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+            return new Object();
+        }
+
+        @Override
+        protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager,
+                                     Object transaction, TransactionDefinition definition) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+                                      GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager,
+                                        GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+    }
+}
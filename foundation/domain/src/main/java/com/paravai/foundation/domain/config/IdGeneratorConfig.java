@@ -0,0 +1,26 @@
+package com.paravai.foundation.domain.config;
+
+import com.paravai.foundation.domain.value.IdGenerator;
+import com.paravai.foundation.domain.value.IdGenerators;
+import com.paravai.foundation.domain.value.IdValue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Id strategy for new aggregates (foundation.id.generator: nanoid | time-ordered).
+ *
+ * This is the single place that installs the generator behind IdValue.generate(), so
+ * domain factories keep minting ids without an injected dependency. Services opt in by
+ * scanning com.paravai.foundation.domain.config; without it IdValue stays on NanoID.
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public IdGenerator idGenerator(@Value("${foundation.id.generator:nanoid}") String generatorName) {
+        IdGenerator generator = IdGenerators.byName(generatorName);
+        IdValue.useGenerator(generator);
+        return generator;
+    }
+}
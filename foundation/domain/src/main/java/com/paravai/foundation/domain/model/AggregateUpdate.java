@@ -0,0 +1,18 @@
+package com.paravai.foundation.domain.model;
+
+import java.util.Objects;
+
+/**
+ * Outcome of a read-modify-write on an aggregate.
+ *
+ * @param before  the aggregate as it was read.
+ * @param after   the aggregate after the change (same state as before when unchanged).
+ * @param changed false when the change was a no-op and nothing was written.
+ */
+public record AggregateUpdate<T>(T before, T after, boolean changed) {
+
+    public AggregateUpdate {
+        Objects.requireNonNull(before, "before");
+        Objects.requireNonNull(after, "after");
+    }
+}
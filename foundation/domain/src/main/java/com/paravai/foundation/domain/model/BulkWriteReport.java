@@ -0,0 +1,48 @@
+package com.paravai.foundation.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Per-item outcome of a bulk write: items that were written and items that failed,
+ * each failure with the item's position in the submitted list and its own error.
+ * One failing item does not prevent the others from being written.
+ */
+public record BulkWriteReport<T>(List<T> written, List<Failure<T>> failures) {
+
+    public BulkWriteReport {
+        written = List.copyOf(Objects.requireNonNull(written, "written"));
+        failures = List.copyOf(Objects.requireNonNull(failures, "failures"));
+    }
+
+    /**
+     * @param index position of the item in the list passed to the bulk operation.
+     */
+    public record Failure<T>(int index, T item, RuntimeException error) {
+        public Failure {
+            Objects.requireNonNull(item, "item");
+            Objects.requireNonNull(error, "error");
+        }
+    }
+
+    public static <T> BulkWriteReport<T> empty() {
+        return new BulkWriteReport<>(List.of(), List.of());
+    }
+
+    public static <T> BulkWriteReport<T> allWritten(List<T> items) {
+        return new BulkWriteReport<>(items, List.of());
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    public BulkWriteReport<T> merge(BulkWriteReport<T> other) {
+        List<T> w = new ArrayList<>(written);
+        w.addAll(other.written);
+        List<Failure<T>> f = new ArrayList<>(failures);
+        f.addAll(other.failures);
+        return new BulkWriteReport<>(w, f);
+    }
+}
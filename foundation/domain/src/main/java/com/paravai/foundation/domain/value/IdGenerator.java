@@ -0,0 +1,11 @@
+package com.paravai.foundation.domain.value;
+
+/**
+ * Strategy used by {@link IdValue#generate()} to mint new identifiers.
+ * Implementations must be thread-safe and must not block.
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    String nextId();
+}
@@ -0,0 +1,50 @@
+package com.paravai.foundation.domain.value;
+
+import com.aventrix.jnanoid.jnanoid.NanoIdUtils;
+
+import java.time.Clock;
+import java.util.Locale;
+
+/**
+ * Built-in {@link IdGenerator}s.
+ */
+public final class IdGenerators {
+
+    public static final String NANOID = "nanoid";
+    public static final String TIME_ORDERED = "time-ordered";
+
+    private static final IdGenerator NANO_ID = NanoIdUtils::randomNanoId;
+
+    private IdGenerators() {
+    }
+
+    /**
+     * Random 21-char NanoID from SecureRandom. Ids are uniformly spread, so inserts land
+     * at random positions of an _id index.
+     */
+    public static IdGenerator nanoId() {
+        return NANO_ID;
+    }
+
+    /**
+     * ULID-style 26-char ids that sort by creation time as plain strings, monotonic within
+     * a JVM. Inserts append to the right edge of an _id index.
+     */
+    public static IdGenerator timeOrdered() {
+        return new TimeOrderedIdGenerator(Clock.systemUTC());
+    }
+
+    /**
+     * @param name {@value #NANOID} or {@value #TIME_ORDERED} (case-insensitive).
+     */
+    public static IdGenerator byName(String name) {
+        if (name == null || name.isBlank()) {
+            return nanoId();
+        }
+        return switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case NANOID -> nanoId();
+            case TIME_ORDERED, "ulid" -> timeOrdered();
+            default -> throw new IllegalArgumentException("Unsupported id generator: " + name);
+        };
+    }
+}
@@ -1,6 +1,5 @@
 package com.paravai.foundation.domain.value;
 
-import com.aventrix.jnanoid.jnanoid.NanoIdUtils;
 import com.fasterxml.jackson.annotation.JsonValue;
 import io.swagger.v3.oas.annotations.media.Schema;
 
@@ -9,14 +8,16 @@ import java.util.Objects;
 
 /**
  * Value Object representing an opaque unique identifier.
- * Accepts any non-blank string (UUID, NanoID, legacy IDs, etc.)
- * and generates new IDs using NanoID.
+ * Accepts any non-blank string (UUID, NanoID, ULID, legacy IDs, etc.)
+ * and generates new IDs through the installed {@link IdGenerator} (NanoID by default).
  */
 @Schema(hidden = true)
 public final class IdValue implements Serializable {
 
     private static final String UNASSIGNED = "UNASSIGNED";
 
+    private static volatile IdGenerator generator = IdGenerators.nanoId();
+
     private final String value;
 
     private IdValue(String value) {
@@ -24,10 +25,18 @@ public final class IdValue implements Serializable {
     }
 
     /**
-     * Generates a new identifier using NanoID.
+     * Generates a new identifier with the installed generator.
      */
     public static IdValue generate() {
-        return new IdValue(NanoIdUtils.randomNanoId());
+        return new IdValue(generator.nextId());
+    }
+
+    /**
+     * Installs the generator used by {@link #generate()} for the whole JVM.
+     * Meant to be called once at application startup.
+     */
+    public static void useGenerator(IdGenerator idGenerator) {
+        generator = Objects.requireNonNull(idGenerator, "idGenerator");
     }
 
     /**
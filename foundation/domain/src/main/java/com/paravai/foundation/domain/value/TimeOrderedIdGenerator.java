@@ -0,0 +1,81 @@
+package com.paravai.foundation.domain.value;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ULID-compatible generator: 48-bit millisecond timestamp + 80 random bits, encoded as
+ * 26 Crockford base32 characters, so the string order is the creation order.
+ *
+ * Monotonic: within the same millisecond (or if the clock goes backwards) the previous
+ * random part is incremented instead of redrawn, so ids from one JVM strictly increase.
+ * Randomness comes from ThreadLocalRandom: ids must be unique, not unguessable, and the
+ * generator must never block on entropy.
+ */
+final class TimeOrderedIdGenerator implements IdGenerator {
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int LENGTH = 26;
+    private static final long RANDOM_HI_MASK = 0xFFFFL;
+
+    private final Clock clock;
+
+    private long lastMillis = -1L;
+    private long randomHi;   // upper 16 of the 80 random bits
+    private long randomLo;   // lower 64
+
+    TimeOrderedIdGenerator(Clock clock) {
+        this.clock = Objects.requireNonNull(clock, "clock");
+    }
+
+    @Override
+    public String nextId() {
+        long now = clock.millis();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long freshHi = random.nextLong() & RANDOM_HI_MASK;
+        long freshLo = random.nextLong();
+
+        long millis;
+        long hi;
+        long lo;
+        synchronized (this) {
+            if (now > lastMillis) {
+                lastMillis = now;
+                randomHi = freshHi;
+                randomLo = freshLo;
+            } else if (++randomLo == 0L) {
+                randomHi = (randomHi + 1) & RANDOM_HI_MASK;
+                if (randomHi == 0L) {
+                    lastMillis++; // 80-bit overflow: borrow the next millisecond
+                }
+            }
+            millis = lastMillis;
+            hi = randomHi;
+            lo = randomLo;
+        }
+        return encode(millis, hi, lo);
+    }
+
+    static String encode(long millis, long hi, long lo) {
+        char[] out = new char[LENGTH];
+        for (int i = 9; i >= 0; i--) {
+            out[i] = ALPHABET[(int) (millis & 31)];
+            millis >>>= 5;
+        }
+        // 80 random bits, most significant first: char j covers bits [79 - 5j, 75 - 5j]
+        for (int j = 0; j < 16; j++) {
+            int shift = 75 - 5 * j;
+            int bits;
+            if (shift >= 64) {
+                bits = (int) (hi >>> (shift - 64)) & 31;
+            } else if (shift + 5 <= 64) {
+                bits = (int) (lo >>> shift) & 31;
+            } else {
+                bits = (int) ((hi << (64 - shift)) | (lo >>> shift)) & 31;
+            }
+            out[10 + j] = ALPHABET[bits];
+        }
+        return new String(out);
+    }
+}
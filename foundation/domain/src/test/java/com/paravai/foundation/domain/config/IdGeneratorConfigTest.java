@@ -0,0 +1,23 @@
+package com.paravai.foundation.domain.config;
+
+import com.paravai.foundation.domain.value.IdGenerators;
+import com.paravai.foundation.domain.value.IdValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdGeneratorConfigTest {
+
+    @AfterEach
+    void restoreDefault() {
+        IdValue.useGenerator(IdGenerators.nanoId());
+    }
+
+    @Test
+    void testConfiguredGeneratorIsInstalledForIdValue() {
+        new IdGeneratorConfig().idGenerator(IdGenerators.TIME_ORDERED);
+
+        assertEquals(26, IdValue.generate().value().length());
+    }
+}
@@ -0,0 +1,69 @@
+package com.paravai.foundation.domain.value;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of minting one id: NanoID (SecureRandom, the previous default) vs the time-ordered
+ * generator (ThreadLocalRandom + a short synchronized section), single-threaded and
+ * under contention.
+ *
+ * Run from the domain module (not part of the test suite):
+ *   mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.paravai.foundation.domain.value.IdGenerationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdGenerationBenchmark {
+
+    @Param({IdGenerators.NANOID, IdGenerators.TIME_ORDERED})
+    public String generator;
+
+    private IdGenerator idGenerator;
+
+    @Setup
+    public void setup() {
+        idGenerator = IdGenerators.byName(generator);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String singleThread() {
+        return idGenerator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String contended() {
+        return idGenerator.nextId();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(IdGenerationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,43 @@
+package com.paravai.foundation.domain.value;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    void testIdsAreSortableAndMonotonicWithinSameMillisecond() {
+        Clock fixed = Clock.fixed(Instant.parse("2024-05-01T10:15:30Z"), ZoneOffset.UTC);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(fixed);
+
+        String previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            String next = generator.nextId();
+            assertEquals(26, next.length());
+            assertTrue(next.compareTo(previous) > 0, previous + " !< " + next);
+            previous = next;
+        }
+    }
+
+    @Test
+    void testTimestampPrefixFollowsClock() {
+        String earlier = TimeOrderedIdGenerator.encode(1_000L, 0xFFFFL, -1L);
+        String later = TimeOrderedIdGenerator.encode(1_001L, 0L, 0L);
+
+        assertTrue(earlier.compareTo(later) < 0);
+        assertEquals("00000000Z8", earlier.substring(0, 10));
+        assertEquals("ZZZZZZZZZZZZZZZZ", earlier.substring(10));
+    }
+
+    @Test
+    void testGeneratorIsSelectedByName() {
+        assertEquals(21, IdGenerators.byName("nanoid").nextId().length());
+        assertEquals(26, IdGenerators.byName("time-ordered").nextId().length());
+        assertThrows(IllegalArgumentException.class, () -> IdGenerators.byName("uuid"));
+    }
+}
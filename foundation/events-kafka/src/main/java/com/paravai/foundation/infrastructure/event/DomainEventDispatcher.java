@@ -20,15 +20,24 @@ public class DomainEventDispatcher {
     private static final String METRIC_DISPATCH = "foundation.events.dispatch";
     private static final String METRIC_HANDLER  = "foundation.events.handler";
 
-    private final Map<Class<?>, List<DomainEventHandler<?>>> handlersByType = new HashMap<>();
+    private final Map<Class<?>, Route> routes;
     private final ReactiveOperationMetrics metrics;
 
+    /**
+     * Handlers of one event type, with their metric contexts built once at startup.
+     */
+    private record Route(OperationCtx dispatchCtx, List<HandlerBinding> handlers) {}
+
+    private record HandlerBinding(DomainEventHandler<?> handler, OperationCtx ctx) {}
+
     public DomainEventDispatcher(
             List<DomainEventHandler<?>> allHandlers,
             ReactiveOperationMetrics metrics
     ) {
         this.metrics = Objects.requireNonNull(metrics, "metrics");
 
+        Map<Class<?>, List<DomainEventHandler<?>>> handlersByType = new HashMap<>();
+
         for (DomainEventHandler<?> handler : allHandlers) {
             try {
                 Class<?> targetClass = AopUtils.getTargetClass(handler);
@@ -46,6 +55,10 @@ public class DomainEventDispatcher {
                         handler.getClass().getSimpleName(), e);
             }
         }
+
+        Map<Class<?>, Route> built = new HashMap<>();
+        handlersByType.forEach((type, handlers) -> built.put(type, route(type, handlers)));
+        this.routes = Map.copyOf(built);
     }
 
     public Mono<Void> dispatch(DomainEvent event) {
@@ -57,50 +70,48 @@ public class DomainEventDispatcher {
             return Mono.error(new IllegalStateException("DomainEvent.metadata must not be null"));
         }
 
-        final String eventType = event.getClass().getSimpleName();
+        Route route = routes.get(event.getClass());
 
-        List<DomainEventHandler<?>> handlers =
-                handlersByType.getOrDefault(event.getClass(), List.of());
-
-        if (handlers.isEmpty()) {
-            log.debug("No DomainEventHandler registered for event type: {}", eventType);
+        if (route == null) {
+            log.debug("No DomainEventHandler registered for event type: {}", event.getClass().getSimpleName());
             return Mono.empty();
         }
 
-        log.debug("Dispatching {} to {} handler(s)", eventType, handlers.size());
+        log.debug("Dispatching {} to {} handler(s)", event.getClass().getSimpleName(), route.handlers().size());
 
-        Mono<Void> dispatchMono = Flux.fromIterable(handlers)
-                .concatMap(handler -> invokeHandlerTimed(handler, event)) // preserves handler order
+        Mono<Void> dispatchMono = Flux.fromIterable(route.handlers())
+                .concatMap(binding -> invokeHandlerTimed(binding, event)) // preserves handler order
                 .then();
 
-        return metrics.timedMono(
-                new OperationCtx(
-                        METRIC_DISPATCH,
-                        Map.of(
-                                "eventType", eventType,
-                                "handlers", Integer.toString(handlers.size())
-                        )
-                ),
-                dispatchMono
-        );
+        return metrics.timedMono(route.dispatchCtx(), dispatchMono);
+    }
+
+    private Mono<Void> invokeHandlerTimed(HandlerBinding binding, DomainEvent event) {
+        return metrics.timedMono(binding.ctx(), invokeHandler(binding.handler(), event));
     }
 
-    private Mono<Void> invokeHandlerTimed(DomainEventHandler<?> handler, DomainEvent event) {
-        final String eventType = event.getClass().getSimpleName();
-        final String handlerName = AopUtils.getTargetClass(handler).getSimpleName();
+    private static Route route(Class<?> eventType, List<DomainEventHandler<?>> handlers) {
+        String eventTypeName = eventType.getSimpleName();
 
-        Mono<Void> handlerMono = invokeHandler(handler, event);
+        OperationCtx dispatchCtx = new OperationCtx(
+                METRIC_DISPATCH,
+                Map.of(
+                        "eventType", eventTypeName,
+                        "handlers", Integer.toString(handlers.size())
+                )
+        );
 
-        return metrics.timedMono(
-                new OperationCtx(
+        List<HandlerBinding> bindings = handlers.stream()
+                .map(handler -> new HandlerBinding(handler, new OperationCtx(
                         METRIC_HANDLER,
                         Map.of(
-                                "eventType", eventType,
-                                "handler", handlerName
+                                "eventType", eventTypeName,
+                                "handler", AopUtils.getTargetClass(handler).getSimpleName()
                         )
-                ),
-                handlerMono
-        );
+                )))
+                .toList();
+
+        return new Route(dispatchCtx, bindings);
     }
 
     @SuppressWarnings("unchecked")
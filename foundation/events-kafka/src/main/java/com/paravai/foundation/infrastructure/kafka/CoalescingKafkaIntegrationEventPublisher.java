@@ -0,0 +1,236 @@
+package com.paravai.foundation.infrastructure.kafka;
+
+import com.paravai.foundation.integration.domain.event.DomainEventEnvelope;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
+import reactor.util.concurrent.Queues;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * IntegrationEventPublisher that coalesces envelopes from concurrent callers into
+ * shared Kafka sends.
+ *
+ * publish() only enqueues; the queue is flushed as a single SenderRecord flux when
+ * maxBatchSize envelopes are pending or lingerMs after the first envelope of a batch,
+ * whichever comes first. Every caller's Mono completes on the ack (or error) of its own
+ * record, so a failed record does not fail its neighbours.
+ *
+ * The queue is a lock-free MPSC queue; flushes are serialized with a work-in-progress
+ * counter, so there is no lock on the publish path. Every envelope goes through the queue,
+ * even past queueCapacity (counted as overflow and flushed at once): a direct send could
+ * overtake an earlier queued event of the same entity. Published/failed counters and the
+ * outbound timer are the ones of {@link KafkaIntegrationEventPublisher}, per envelope.
+ *
+ * Cancelling a caller's Mono does not withdraw an envelope that was already queued.
+ */
+public class CoalescingKafkaIntegrationEventPublisher implements IntegrationEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(CoalescingKafkaIntegrationEventPublisher.class);
+
+    private static final String METRIC_BATCH_SIZE = "cmm.outbound.events.coalesced.batch.size";
+    private static final String METRIC_OVERFLOW = "cmm.outbound.events.coalesced.overflow";
+
+    private final KafkaSender<String, DomainEventEnvelope<?>> kafkaSender;
+    private final KafkaIntegrationTopicResolver topicResolver;
+    private final KafkaIntegrationEventPublisher direct;
+
+    private final int maxBatchSize;
+    private final long lingerMs;
+    private final int queueCapacity;
+    private final Scheduler lingerScheduler;
+
+    private final Queue<Pending> queue = Queues.<Pending>unboundedMultiproducer().get();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicBoolean lingerScheduled = new AtomicBoolean();
+
+    private final DistributionSummary batchSizeSummary;
+    private final Counter overflow;
+
+    public CoalescingKafkaIntegrationEventPublisher(KafkaSender<String, DomainEventEnvelope<?>> kafkaSender,
+                                                    KafkaIntegrationTopicResolver topicResolver,
+                                                    KafkaIntegrationEventPublisher direct,
+                                                    KafkaCoalescingProperties properties,
+                                                    MeterRegistry registry) {
+        this(kafkaSender, topicResolver, direct, properties, registry, Schedulers.parallel());
+    }
+
+    CoalescingKafkaIntegrationEventPublisher(KafkaSender<String, DomainEventEnvelope<?>> kafkaSender,
+                                             KafkaIntegrationTopicResolver topicResolver,
+                                             KafkaIntegrationEventPublisher direct,
+                                             KafkaCoalescingProperties properties,
+                                             MeterRegistry registry,
+                                             Scheduler lingerScheduler) {
+        this.kafkaSender = Objects.requireNonNull(kafkaSender, "kafkaSender");
+        this.topicResolver = Objects.requireNonNull(topicResolver, "topicResolver");
+        this.direct = Objects.requireNonNull(direct, "direct");
+        Objects.requireNonNull(properties, "properties");
+        Objects.requireNonNull(registry, "registry");
+        this.lingerScheduler = Objects.requireNonNull(lingerScheduler, "lingerScheduler");
+
+        this.maxBatchSize = Math.max(1, properties.getMaxBatchSize());
+        this.lingerMs = Math.max(0, properties.getLingerMs());
+        this.queueCapacity = Math.max(this.maxBatchSize, properties.getQueueCapacity());
+
+        this.batchSizeSummary = DistributionSummary.builder(METRIC_BATCH_SIZE)
+                .baseUnit("events")
+                .description("Envelopes sent per coalesced Kafka flush")
+                .register(registry);
+        this.overflow = Counter.builder(METRIC_OVERFLOW)
+                .description("Envelopes queued while more than queueCapacity were pending")
+                .register(registry);
+
+        log.info("Coalescing integration publisher enabled (maxBatchSize={}, lingerMs={}, queueCapacity={})",
+                maxBatchSize, lingerMs, queueCapacity);
+    }
+
+    @Override
+    public <T> Mono<Void> publish(DomainEventEnvelope<T> envelope) {
+        if (envelope == null) {
+            return Mono.error(new IllegalArgumentException("envelope cannot be null"));
+        }
+        return Mono.defer(() -> {
+            String topic = topicResolver.resolve(envelope);
+            return direct.metered(topic, envelope,
+                    Mono.<Void>create(sink -> enqueue(new Pending(topic, envelope, sink))));
+        });
+    }
+
+    @Override
+    public Mono<Void> publishAll(List<? extends DomainEventEnvelope<?>> envelopes) {
+        if (envelopes == null || envelopes.isEmpty()) {
+            return Mono.empty();
+        }
+        List<Mono<Void>> acks = new ArrayList<>(envelopes.size());
+        for (DomainEventEnvelope<?> envelope : envelopes) {
+            acks.add(publish(envelope));
+        }
+        return Mono.whenDelayError(acks);
+    }
+
+    /**
+     * Sends whatever is still queued; called on shutdown before the sender is closed.
+     */
+    @PreDestroy
+    public void flushPending() {
+        flush();
+    }
+
+    // ---- queue ----
+
+    private void enqueue(Pending pending) {
+        // size counts queued envelopes; MPSC queues have no O(1) size()
+        int queued = size.incrementAndGet();
+        queue.offer(pending);
+
+        if (queued > queueCapacity) {
+            overflow.increment();
+        }
+        if (queued >= maxBatchSize || lingerMs == 0) {
+            flush();
+        } else if (lingerScheduled.compareAndSet(false, true)) {
+            lingerScheduler.schedule(() -> {
+                lingerScheduled.set(false);
+                flush();
+            }, lingerMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Drains the queue in chunks of maxBatchSize. Only one thread drains at a time;
+     * concurrent triggers are folded into another pass of the active drainer.
+     */
+    private void flush() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            List<Pending> batch;
+            while (!(batch = poll()).isEmpty()) {
+                send(batch);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private List<Pending> poll() {
+        List<Pending> batch = new ArrayList<>(Math.min(maxBatchSize, Math.max(1, size.get())));
+        Pending p;
+        while (batch.size() < maxBatchSize && (p = queue.poll()) != null) {
+            batch.add(p);
+        }
+        if (!batch.isEmpty()) {
+            size.addAndGet(-batch.size());
+        }
+        return batch;
+    }
+
+    // ---- send ----
+
+    private void send(List<Pending> batch) {
+        batchSizeSummary.record(batch.size());
+
+        Flux<SenderRecord<String, DomainEventEnvelope<?>, Pending>> records = Flux.fromIterable(batch)
+                .map(p -> SenderRecord.create(
+                        KafkaIntegrationEventPublisher.toProducerRecord(p.topic, p.envelope),
+                        p));
+
+        kafkaSender.send(records)
+                .subscribe(
+                        result -> result.correlationMetadata().complete(result.exception()),
+                        error -> {
+                            log.error("Coalesced Kafka send of {} integration events failed", batch.size(), error);
+                            batch.forEach(p -> p.complete(error));
+                        },
+                        () -> batch.forEach(p -> p.complete(
+                                new IllegalStateException("No broker ack received for event " + p.envelope.getEventId())))
+                );
+    }
+
+    private static final class Pending {
+
+        private final String topic;
+        private final DomainEventEnvelope<?> envelope;
+        private final MonoSink<Void> sink;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Pending(String topic, DomainEventEnvelope<?> envelope, MonoSink<Void> sink) {
+            this.topic = topic;
+            this.envelope = envelope;
+            this.sink = sink;
+        }
+
+        /**
+         * First signal wins: the per-record result, then the flux-level error/complete.
+         */
+        void complete(Throwable error) {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            if (error == null) {
+                sink.success();
+            } else {
+                sink.error(error);
+            }
+        }
+    }
+}
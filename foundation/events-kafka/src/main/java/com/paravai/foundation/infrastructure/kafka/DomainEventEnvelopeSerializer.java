@@ -0,0 +1,83 @@
+package com.paravai.foundation.infrastructure.kafka;
+
+import com.paravai.foundation.integration.codec.EventContentType;
+import com.paravai.foundation.integration.codec.PayloadCodecRegistry;
+import com.paravai.foundation.integration.domain.event.DomainEventEnvelope;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Kafka value serializer backed by the schema codec registry: each envelope is written
+ * with the pre-built writer of its schemaId instead of a generic JsonSerializer lookup.
+ *
+ * The encoding is chosen per topic ({@link KafkaIntegrationEncodingProperties}) and
+ * advertised in the contentType header. An opted-in topic still gets JSON for schemas
+ * that have no binary codec, so the header always matches the body.
+ */
+public class DomainEventEnvelopeSerializer implements Serializer<DomainEventEnvelope<?>> {
+
+    private static final byte[] JSON_HEADER = EventContentType.JSON.getBytes(StandardCharsets.UTF_8);
+
+    private final PayloadCodecRegistry codecs;
+    private final KafkaIntegrationEncodingProperties encoding;
+
+    // topic -> requested content type (topics are few and fixed)
+    private final Map<String, String> topicContentTypes = new ConcurrentHashMap<>();
+
+    public DomainEventEnvelopeSerializer(PayloadCodecRegistry codecs) {
+        this(codecs, new KafkaIntegrationEncodingProperties());
+    }
+
+    public DomainEventEnvelopeSerializer(PayloadCodecRegistry codecs, KafkaIntegrationEncodingProperties encoding) {
+        this.codecs = Objects.requireNonNull(codecs, "codecs");
+        this.encoding = Objects.requireNonNull(encoding, "encoding");
+    }
+
+    @Override
+    public byte[] serialize(String topic, DomainEventEnvelope<?> envelope) {
+        if (envelope == null) {
+            return null;
+        }
+        try {
+            return codecs.encode(envelope);
+        } catch (Exception ex) {
+            throw failure(topic, envelope, ex);
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, DomainEventEnvelope<?> envelope) {
+        if (envelope == null) {
+            return null;
+        }
+
+        String contentType = topicContentTypes.computeIfAbsent(topic, encoding::contentTypeFor);
+        if (!EventContentType.isJson(contentType) && !codecs.supports(contentType, envelope.getSchemaId())) {
+            contentType = EventContentType.JSON;
+        }
+
+        try {
+            byte[] body = codecs.encode(envelope, contentType);
+
+            headers.remove(EventContentType.HEADER);
+            headers.add(EventContentType.HEADER, EventContentType.JSON.equals(contentType)
+                    ? JSON_HEADER
+                    : contentType.getBytes(StandardCharsets.UTF_8));
+            return body;
+        } catch (Exception ex) {
+            throw failure(topic, envelope, ex);
+        }
+    }
+
+    private static SerializationException failure(String topic, DomainEventEnvelope<?> envelope, Exception ex) {
+        return new SerializationException(
+                "Cannot serialize envelope eventId=%s schemaId=%s for topic %s"
+                        .formatted(envelope.getEventId(), envelope.getSchemaId(), topic), ex);
+    }
+}
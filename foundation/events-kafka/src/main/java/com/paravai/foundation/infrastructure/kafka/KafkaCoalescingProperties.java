@@ -0,0 +1,32 @@
+package com.paravai.foundation.infrastructure.kafka;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Micro-batching of direct (non-outbox) integration event publishing.
+ *
+ * When enabled, concurrent publish() calls are queued and sent to Kafka as one record
+ * flux once maxBatchSize envelopes are pending or lingerMs has elapsed since the first
+ * one. Envelopes queued beyond queueCapacity are counted as overflow; they still go through
+ * the queue, so events of one entity are never reordered.
+ */
+@ConfigurationProperties(prefix = "kafka.integration.coalescing")
+public class KafkaCoalescingProperties {
+
+    private boolean enabled = false;
+    private int maxBatchSize = 256;
+    private long lingerMs = 5;
+    private int queueCapacity = 8_192;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getMaxBatchSize() { return maxBatchSize; }
+    public void setMaxBatchSize(int maxBatchSize) { this.maxBatchSize = maxBatchSize; }
+
+    public long getLingerMs() { return lingerMs; }
+    public void setLingerMs(long lingerMs) { this.lingerMs = lingerMs; }
+
+    public int getQueueCapacity() { return queueCapacity; }
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+}
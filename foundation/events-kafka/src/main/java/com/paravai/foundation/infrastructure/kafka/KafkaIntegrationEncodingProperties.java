@@ -0,0 +1,40 @@
+package com.paravai.foundation.infrastructure.kafka;
+
+import com.paravai.foundation.integration.codec.EventContentType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Wire encoding of outbound integration events, per topic.
+ *
+ * JSON stays the default; a topic opts into a binary encoding (e.g. "protobuf") once all
+ * of its consumers understand the contentType header. Schemas without a binary codec are
+ * still written as JSON on an opted-in topic.
+ *
+ * kafka.integration.encoding:
+ *   default-encoding: json
+ *   topics:
+ *     communities.cmm.community.integration.v1: protobuf
+ */
+@ConfigurationProperties(prefix = "kafka.integration.encoding")
+public class KafkaIntegrationEncodingProperties {
+
+    private String defaultEncoding = "json";
+    private Map<String, String> topics = new HashMap<>();
+
+    public String getDefaultEncoding() { return defaultEncoding; }
+    public void setDefaultEncoding(String defaultEncoding) { this.defaultEncoding = defaultEncoding; }
+
+    public Map<String, String> getTopics() { return topics; }
+    public void setTopics(Map<String, String> topics) { this.topics = topics; }
+
+    /**
+     * Content type requested for the topic (normalized), falling back to the default.
+     */
+    public String contentTypeFor(String topic) {
+        String encoding = topic != null ? topics.get(topic) : null;
+        return EventContentType.normalize(encoding != null ? encoding : defaultEncoding);
+    }
+}
@@ -19,6 +19,7 @@ import reactor.kafka.sender.SenderRecord;
 
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Publishes integration events (DomainEventEnvelope) to Kafka.
@@ -41,6 +42,8 @@ public class KafkaIntegrationEventPublisher implements IntegrationEventPublisher
     private static final String METRIC_EVENTS_FAILED    = "cmm.outbound.events.failed";
     private static final String METRIC_BATCH_SIZE       = "cmm.outbound.events.batch.size";
 
+    private static final String MIXED = "mixed";
+
     private final KafkaSender<String, DomainEventEnvelope<?>> kafkaSender;
     private final KafkaIntegrationTopicResolver topicResolver;
 
@@ -49,6 +52,10 @@ public class KafkaIntegrationEventPublisher implements IntegrationEventPublisher
 
     // Shared instruments
     private final DistributionSummary batchSizeSummary;
+    private final OperationCtx batchCtx;
+
+    // topic -> entityType -> changeType -> instruments
+    private final Map<String, Map<String, Map<String, Instruments>>> instrumentsByTopic = new ConcurrentHashMap<>();
 
     public KafkaIntegrationEventPublisher(
             KafkaSender<String, DomainEventEnvelope<?>> kafkaSender,
@@ -66,6 +73,16 @@ public class KafkaIntegrationEventPublisher implements IntegrationEventPublisher
                 .baseUnit("events")
                 .description("Batch size for Kafka integration event publishing")
                 .register(registry);
+
+        // NOTE: in a batch, envelopes may map to different topics/types.
+        // We keep the timer tags generic to avoid high cardinality and ambiguity.
+        this.batchCtx = new OperationCtx(
+                METRIC_OUTBOUND_DURATION,
+                tags(
+                        "operation", OP_PUBLISH_BATCH,
+                        "adapter", "kafka"
+                )
+        );
     }
 
     @Override
@@ -82,20 +99,10 @@ public class KafkaIntegrationEventPublisher implements IntegrationEventPublisher
         final String changeType = safe(envelope.getChangeType());
         final String topicTag = safeTopicTag(topic); // see method below
 
-        OperationCtx ctx = new OperationCtx(
-                METRIC_OUTBOUND_DURATION,
-                tags(
-                        "operation", OP_PUBLISH_SINGLE,
-                        "adapter", "kafka",
-                        "entityType", entityType,
-                        "changeType", changeType,
-                        "topic", topicTag
-                )
-        );
+        final Instruments meters = instruments(topicTag, entityType, changeType);
 
         Mono<Void> sendMono = Mono.defer(() -> {
-            ProducerRecord<String, DomainEventEnvelope<?>> record =
-                    new ProducerRecord<>(topic, null, key, raw(envelope), buildHeaders(envelope));
+            ProducerRecord<String, DomainEventEnvelope<?>> record = toProducerRecord(topic, envelope);
 
             SenderRecord<String, DomainEventEnvelope<?>, String> senderRecord =
                     SenderRecord.create(record, key);
@@ -105,7 +112,7 @@ public class KafkaIntegrationEventPublisher implements IntegrationEventPublisher
 
             return kafkaSender.send(Mono.just(senderRecord))
                     .doOnNext(result -> {
-                        incrementPublished(topicTag, entityType, changeType);
+                        meters.published.increment();
 
                         log.info("Integration event {} successfully sent to topic {} with offset {}",
                                 envelope.getEventId(),
@@ -113,7 +120,7 @@ public class KafkaIntegrationEventPublisher implements IntegrationEventPublisher
                                 result.recordMetadata().offset());
                     })
                     .doOnError(e -> {
-                        incrementFailed(topicTag, entityType, changeType, e);
+                        meters.failed(e).increment();
 
                         log.error("Failed to publish integration event {} to Kafka topic {}",
                                 envelope.getEventId(), topic, e);
@@ -122,7 +129,7 @@ public class KafkaIntegrationEventPublisher implements IntegrationEventPublisher
         });
 
         // Timer around the whole outbound send path (including broker ack)
-        return opMetrics.timedMono(ctx, sendMono);
+        return opMetrics.timedMono(meters.publishCtx, sendMono);
     }
 
     @Override
@@ -134,81 +141,135 @@ public class KafkaIntegrationEventPublisher implements IntegrationEventPublisher
         // Record batch size
         batchSizeSummary.record(envelopes.size());
 
-        // NOTE: in a batch, envelopes may map to different topics/types.
-        // We keep the timer tags generic to avoid high cardinality and ambiguity.
-        OperationCtx ctx = new OperationCtx(
-                METRIC_OUTBOUND_DURATION,
-                tags(
-                        "operation", OP_PUBLISH_BATCH,
-                        "adapter", "kafka"
-                )
-        );
-
         Mono<Void> sendMono = Mono.defer(() ->
                 kafkaSender.send(
                                 Flux.fromIterable(envelopes)
                                         .map(envelope -> {
-                                            String topic = topicResolver.resolve(envelope);
-                                            String key = envelope.getEntityId();
-
                                             ProducerRecord<String, DomainEventEnvelope<?>> record =
-                                                    new ProducerRecord<>(topic, null, key, raw(envelope), buildHeaders(envelope));
+                                                    toProducerRecord(topicResolver.resolve(envelope), envelope);
 
-                                            return SenderRecord.create(record, key);
+                                            return SenderRecord.create(record, record.key());
                                         })
                         )
                         .doOnNext(result -> {
                             // We only know topic here; entityType/changeType vary per record.
                             String topicTag = safeTopicTag(result.recordMetadata().topic());
-                            incrementPublished(topicTag, "mixed", "mixed");
+                            instruments(topicTag, MIXED, MIXED).published.increment();
 
                             log.info("Integration event batch record sent, topic={}, offset={}",
                                     result.recordMetadata().topic(),
                                     result.recordMetadata().offset());
                         })
                         .doOnError(e -> {
-                            incrementFailed("mixed", "mixed", "mixed", e);
+                            instruments(MIXED, MIXED, MIXED).failed(e).increment();
                             log.error("Failed to publish integration event batch to Kafka", e);
                         })
                         .then()
         );
 
-        return opMetrics.timedMono(ctx, sendMono);
+        return opMetrics.timedMono(batchCtx, sendMono);
     }
 
-    // ---------- Counters (bounded tags only) ----------
+    /**
+     * Wraps a send of one envelope made outside this publisher (coalesced flushes) with the
+     * same outbound timer and published/failed counters as {@link #publish(DomainEventEnvelope)}.
+     */
+    <T> Mono<T> metered(String topic, DomainEventEnvelope<?> envelope, Mono<T> send) {
+        Instruments meters = instruments(
+                safeTopicTag(topic), safe(envelope.getEntityType()), safe(envelope.getChangeType()));
 
-    private void incrementPublished(String topic, String entityType, String changeType) {
-        Counter.builder(METRIC_EVENTS_PUBLISHED)
-                .description("Number of integration events successfully published to Kafka")
-                .tags(
-                        "adapter", "kafka",
-                        "topic", topic,
-                        "entityType", entityType,
-                        "changeType", changeType
-                )
-                .register(registry)
-                .increment();
+        return opMetrics.timedMono(meters.publishCtx, send
+                .doOnSuccess(v -> meters.published.increment())
+                .doOnError(e -> meters.failed(e).increment()));
     }
 
-    private void incrementFailed(String topic, String entityType, String changeType, Throwable error) {
-        String errorType = (error != null) ? error.getClass().getSimpleName() : "unknown";
-
-        Counter.builder(METRIC_EVENTS_FAILED)
-                .description("Number of integration events that failed to publish to Kafka")
-                .tags(
-                        "adapter", "kafka",
-                        "topic", topic,
-                        "entityType", entityType,
-                        "changeType", changeType,
-                        "errorType", errorType
-                )
-                .register(registry)
-                .increment();
+    // ---------- Instruments (bounded tags only, built once per combination) ----------
+
+    private Instruments instruments(String topic, String entityType, String changeType) {
+        Map<String, Map<String, Instruments>> byEntity = instrumentsByTopic.get(topic);
+        if (byEntity == null) {
+            byEntity = instrumentsByTopic.computeIfAbsent(topic, t -> new ConcurrentHashMap<>());
+        }
+        Map<String, Instruments> byChange = byEntity.get(entityType);
+        if (byChange == null) {
+            byChange = byEntity.computeIfAbsent(entityType, e -> new ConcurrentHashMap<>());
+        }
+        Instruments found = byChange.get(changeType);
+        if (found == null) {
+            found = byChange.computeIfAbsent(changeType, c -> new Instruments(topic, entityType, c));
+        }
+        return found;
+    }
+
+    /**
+     * Timer context and counters of one (topic, entityType, changeType) combination.
+     */
+    private final class Instruments {
+
+        private final String topic;
+        private final String entityType;
+        private final String changeType;
+
+        private final OperationCtx publishCtx;
+        private final Counter published;
+        private final Map<String, Counter> failedByErrorType = new ConcurrentHashMap<>();
+
+        private Instruments(String topic, String entityType, String changeType) {
+            this.topic = topic;
+            this.entityType = entityType;
+            this.changeType = changeType;
+
+            this.publishCtx = new OperationCtx(
+                    METRIC_OUTBOUND_DURATION,
+                    tags(
+                            "operation", OP_PUBLISH_SINGLE,
+                            "adapter", "kafka",
+                            "entityType", entityType,
+                            "changeType", changeType,
+                            "topic", topic
+                    )
+            );
+            this.published = Counter.builder(METRIC_EVENTS_PUBLISHED)
+                    .description("Number of integration events successfully published to Kafka")
+                    .tags(
+                            "adapter", "kafka",
+                            "topic", topic,
+                            "entityType", entityType,
+                            "changeType", changeType
+                    )
+                    .register(registry);
+        }
+
+        private Counter failed(Throwable error) {
+            String errorType = (error != null) ? error.getClass().getSimpleName() : "unknown";
+
+            Counter counter = failedByErrorType.get(errorType);
+            if (counter == null) {
+                counter = failedByErrorType.computeIfAbsent(errorType, et ->
+                        Counter.builder(METRIC_EVENTS_FAILED)
+                                .description("Number of integration events that failed to publish to Kafka")
+                                .tags(
+                                        "adapter", "kafka",
+                                        "topic", topic,
+                                        "entityType", entityType,
+                                        "changeType", changeType,
+                                        "errorType", et
+                                )
+                                .register(registry));
+            }
+            return counter;
+        }
     }
 
     // ---------- Helpers ----------
 
+    /**
+     * Keyed by entityId (per-entity ordering), routing metadata as headers.
+     */
+    static ProducerRecord<String, DomainEventEnvelope<?>> toProducerRecord(String topic, DomainEventEnvelope<?> envelope) {
+        return new ProducerRecord<>(topic, null, envelope.getEntityId(), raw(envelope), buildHeaders(envelope));
+    }
+
     private static RecordHeaders buildHeaders(DomainEventEnvelope<?> envelope) {
         RecordHeaders headers = new RecordHeaders();
         addHeader(headers, "eventId", envelope.getEventId());
@@ -218,6 +279,7 @@ public class KafkaIntegrationEventPublisher implements IntegrationEventPublisher
         addHeader(headers, "sourceService", envelope.getSourceService());
         addHeader(headers, "traceId", envelope.getTraceId());
         addHeader(headers, "userOid", envelope.getUserOid());
+        addHeader(headers, "schemaId", envelope.getSchemaId());
         addHeader(headers, "eventVersion", envelope.getVersion());
         addHeader(headers, "eventType", (envelope.getEntityType() + "." + envelope.getChangeType()));
         return headers;
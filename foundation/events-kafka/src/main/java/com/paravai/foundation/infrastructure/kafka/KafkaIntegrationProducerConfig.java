@@ -1,13 +1,17 @@
 package com.paravai.foundation.infrastructure.kafka;
 
+import com.paravai.foundation.integration.codec.PayloadCodecRegistry;
 import com.paravai.foundation.integration.domain.event.DomainEventEnvelope;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.context.annotation.Primary;
 import reactor.kafka.sender.KafkaSender;
 import reactor.kafka.sender.SenderOptions;
 
@@ -16,6 +20,7 @@ import java.util.Map;
 
 @Configuration
 @ConditionalOnProperty(name = "kafka.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties({KafkaIntegrationEncodingProperties.class, KafkaCoalescingProperties.class})
 public class KafkaIntegrationProducerConfig {
 
     @Bean
@@ -23,25 +28,42 @@ public class KafkaIntegrationProducerConfig {
             @Value("${kafka.bootstrap-servers}") String bootstrapServers,
             @Value("${kafka.producer.acks:all}") String acks,
             @Value("${kafka.producer.retries:3}") int retries,
-            @Value("${kafka.producer.client-id:${spring.application.name}}") String clientId
+            @Value("${kafka.producer.client-id:${spring.application.name}}") String clientId,
+            PayloadCodecRegistry payloadCodecs,
+            KafkaIntegrationEncodingProperties encoding
     ) {
         Map<String, Object> props = new HashMap<>();
 
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
 
         // producer tuning (optional)
         props.put(ProducerConfig.ACKS_CONFIG, acks);
         props.put(ProducerConfig.RETRIES_CONFIG, retries);
         props.put(ProducerConfig.CLIENT_ID_CONFIG, clientId);
 
-        // Avoid type headers in Spring JsonSerializer
-        props.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
-
-        SenderOptions<String, DomainEventEnvelope<?>> senderOptions = SenderOptions.create(props);
+        // Values are written with the per-schema codec; encoding per topic, advertised in contentType
+        SenderOptions<String, DomainEventEnvelope<?>> senderOptions = SenderOptions.<String, DomainEventEnvelope<?>>create(props)
+                .withKeySerializer(new StringSerializer())
+                .withValueSerializer(new DomainEventEnvelopeSerializer(payloadCodecs, encoding));
 
         return KafkaSender.create(senderOptions);
     }
-}
 
+    /**
+     * Micro-batching front for direct publishing. Not used with the outbox, whose
+     * publisher only writes to Mongo and whose relay already sends in batches.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnExpression("${kafka.integration.coalescing.enabled:false} and !${integration.outbox.enabled:false}")
+    public CoalescingKafkaIntegrationEventPublisher coalescingKafkaIntegrationEventPublisher(
+            KafkaSender<String, DomainEventEnvelope<?>> integrationKafkaSender,
+            KafkaIntegrationTopicResolver topicResolver,
+            KafkaIntegrationEventPublisher kafkaIntegrationEventPublisher,
+            KafkaCoalescingProperties properties,
+            MeterRegistry registry
+    ) {
+        return new CoalescingKafkaIntegrationEventPublisher(
+                integrationKafkaSender, topicResolver, kafkaIntegrationEventPublisher, properties, registry);
+    }
+}
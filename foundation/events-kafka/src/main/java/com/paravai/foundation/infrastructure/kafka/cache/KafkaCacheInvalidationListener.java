@@ -0,0 +1,132 @@
+package com.paravai.foundation.infrastructure.kafka.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import net.logstash.logback.argument.StructuredArguments;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.kafka.receiver.KafkaReceiver;
+import reactor.kafka.receiver.ReceiverOptions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Cross-node cache invalidation driven by the integration topics.
+ *
+ * Every instance reads the topics in its own throw-away consumer group, from the latest
+ * offset, so each node sees every change event (unlike the inbound consumer, whose group
+ * shares the records). Events are published after the command transaction commits, which
+ * also makes this the post-commit invalidation for the node that made the change.
+ *
+ * Only the routing headers are read (entityType, entityId; the record key as fallback):
+ * payloads are never decoded. A missed event is bounded by the cache TTL.
+ */
+public class KafkaCacheInvalidationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(KafkaCacheInvalidationListener.class);
+
+    static final String HEADER_ENTITY_TYPE = "entityType";
+    static final String HEADER_ENTITY_ID = "entityId";
+
+    /**
+     * Drops what is cached for one entity.
+     */
+    @FunctionalInterface
+    public interface CacheInvalidator {
+        void invalidate(String entityType, String entityId);
+    }
+
+    private final KafkaReceiver<String, byte[]> receiver;
+    private final List<String> topics;
+    private final CacheInvalidator invalidator;
+
+    private Disposable subscription;
+
+    /**
+     * @param baseOptions consumer settings (bootstrap servers, deserializers); group id,
+     *                    offset reset and commits are overridden.
+     * @param groupPrefix prefix of the per-instance consumer group, e.g. the application name.
+     */
+    public KafkaCacheInvalidationListener(ReceiverOptions<String, byte[]> baseOptions,
+                                          String groupPrefix,
+                                          List<String> topics,
+                                          CacheInvalidator invalidator) {
+        Objects.requireNonNull(baseOptions, "baseOptions");
+        Objects.requireNonNull(groupPrefix, "groupPrefix");
+        this.topics = List.copyOf(Objects.requireNonNull(topics, "topics"));
+        this.invalidator = Objects.requireNonNull(invalidator, "invalidator");
+
+        if (this.topics.isEmpty()) {
+            throw new IllegalStateException("Cache invalidation requires at least one topic");
+        }
+
+        this.receiver = KafkaReceiver.create(baseOptions
+                .consumerProperty(ConsumerConfig.GROUP_ID_CONFIG, groupPrefix + "-cache-" + UUID.randomUUID())
+                .consumerProperty(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest")
+                .consumerProperty(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false)
+                .subscription(this.topics));
+    }
+
+    @PostConstruct
+    public void start() {
+        log.info(
+                "[Cache][Kafka] Invalidation listener started",
+                StructuredArguments.value("topics", topics)
+        );
+
+        this.subscription = receiver.receiveAutoAck()
+                .concatMap(batch -> batch)
+                .subscribe(
+                        this::onRecord,
+                        ex -> log.error(
+                                "[Cache][Kafka] Invalidation stream failed; entries now expire by TTL only",
+                                StructuredArguments.kv("error", ex.toString()),
+                                ex
+                        )
+                );
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null && !subscription.isDisposed()) {
+            subscription.dispose();
+        }
+    }
+
+    private void onRecord(ConsumerRecord<String, byte[]> record) {
+        String entityType = header(record, HEADER_ENTITY_TYPE);
+        String entityId = header(record, HEADER_ENTITY_ID);
+        if (entityId == null) {
+            entityId = record.key();
+        }
+        if (entityType == null || entityId == null) {
+            return;
+        }
+
+        try {
+            invalidator.invalidate(entityType, entityId);
+        } catch (RuntimeException ex) {
+            log.warn(
+                    "[Cache][Kafka] Invalidation failed",
+                    StructuredArguments.kv("entityType", entityType),
+                    StructuredArguments.kv("entityId", entityId),
+                    ex
+            );
+        }
+    }
+
+    private static String header(ConsumerRecord<String, byte[]> record, String name) {
+        Header h = record.headers().lastHeader(name);
+        if (h == null || h.value() == null || h.value().length == 0) {
+            return null;
+        }
+        return new String(h.value(), StandardCharsets.UTF_8);
+    }
+}
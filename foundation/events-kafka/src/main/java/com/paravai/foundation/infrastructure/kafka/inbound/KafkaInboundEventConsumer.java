@@ -2,14 +2,29 @@ package com.paravai.foundation.infrastructure.kafka.inbound;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.paravai.foundation.integration.application.inbound.InboundEventConsumer;
+import com.paravai.foundation.integration.application.inbound.RawInboundEvent;
+import com.paravai.foundation.integration.application.inbound.dispatcher.BatchEventInboundHandler;
+import com.paravai.foundation.integration.codec.EventContentType;
 import com.paravai.foundation.integration.domain.event.DomainEventEnvelope;
 import com.paravai.foundation.infrastructure.kafka.inbound.config.InboundKafkaProperties;
 import com.paravai.foundation.infrastructure.kafka.inbound.dlq.InboundDlqPublisher;
 import com.paravai.foundation.infrastructure.kafka.inbound.dlq.InboundDlqTopicResolver;
-
+import com.paravai.foundation.infrastructure.kafka.inbound.dlq.PayloadLogging;
+import com.paravai.foundation.infrastructure.kafka.inbound.retry.InboundRetryHeaders;
+import com.paravai.foundation.infrastructure.kafka.inbound.retry.KafkaInboundRetryPublisher;
+import com.paravai.foundation.infrastructure.kafka.inbound.retry.KafkaInboundRetryTierConsumer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.kafka.KafkaClientMetrics;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import net.logstash.logback.argument.StructuredArguments;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import reactor.kafka.receiver.KafkaReceiver;
 import reactor.kafka.receiver.ReceiverOptions;
@@ -17,12 +32,15 @@ import reactor.kafka.receiver.ReceiverRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import reactor.util.retry.Retry;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -31,13 +49,36 @@ public class KafkaInboundEventConsumer {
     private static final Logger log =
             LoggerFactory.getLogger(KafkaInboundEventConsumer.class);
 
+    // Routing headers written by KafkaIntegrationEventPublisher
+    static final String HEADER_EVENT_ID = "eventId";
+    static final String HEADER_SCHEMA_ID = "schemaId";
+    static final String HEADER_ENTITY_TYPE = "entityType";
+    static final String HEADER_CHANGE_TYPE = "changeType";
+    static final String HEADER_TRACE_ID = "traceId";
+    static final String HEADER_CONTENT_TYPE = EventContentType.HEADER;
+
     private final KafkaReceiver<String, byte[]> receiver;
 
     private final InboundEventConsumer inboundEventConsumer;
     private final ObjectMapper objectMapper;
+    private final ObjectReader envelopeReader;
     private final InboundDlqPublisher dlqPublisher;
     private final InboundDlqTopicResolver dlqTopicResolver;
     private final InboundKafkaProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // Tiered retry topics (null / empty when failed records are retried in-line)
+    private final KafkaInboundRetryPublisher retryPublisher;
+    private final List<InboundKafkaProperties.Tier> retryTiers;
+    private final List<KafkaInboundRetryTierConsumer> retryConsumers = new ArrayList<>();
+
+    // Batch delivery
+    private final Counter batchesHandled;
+    private final Counter batchFallbacks;
+    private final DistributionSummary batchSize;
+
+    private Disposable subscription;
+    private KafkaClientMetrics clientMetrics;
 
     public KafkaInboundEventConsumer(
             ReceiverOptions<String, byte[]> baseOptions,
@@ -45,14 +86,27 @@ public class KafkaInboundEventConsumer {
             InboundEventConsumer inboundEventConsumer,
             ObjectMapper objectMapper,
             InboundDlqPublisher dlqPublisher,
-            InboundDlqTopicResolver dlqTopicResolver
+            InboundDlqTopicResolver dlqTopicResolver,
+            KafkaInboundRetryPublisher retryPublisher,
+            MeterRegistry meterRegistry
     ) {
 
         this.properties = Objects.requireNonNull(properties);
         this.inboundEventConsumer = Objects.requireNonNull(inboundEventConsumer);
         this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.envelopeReader = objectMapper.readerFor(new TypeReference<DomainEventEnvelope<?>>() {});
         this.dlqPublisher = Objects.requireNonNull(dlqPublisher);
         this.dlqTopicResolver = Objects.requireNonNull(dlqTopicResolver);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+
+        this.batchesHandled = Counter.builder("foundation.inbound.batch")
+                .tag("result", "handled")
+                .register(meterRegistry);
+        this.batchFallbacks = Counter.builder("foundation.inbound.batch")
+                .tag("result", "fallback")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("foundation.inbound.batch.size")
+                .register(meterRegistry);
 
         List<String> topics = properties.topics();
 
@@ -65,9 +119,64 @@ public class KafkaInboundEventConsumer {
                 StructuredArguments.value("topics", topics)
         );
 
-        this.receiver = KafkaReceiver.create(
-                baseOptions.subscription(topics)
-        );
+        ReceiverOptions<String, byte[]> commitOptions = commitOptions(baseOptions, properties);
+
+        // The listener only logs: reactor-kafka commits the acknowledged offsets itself
+        // before it calls the revoke listeners.
+        ReceiverOptions<String, byte[]> options = commitOptions
+                .subscription(topics)
+                .addRevokeListener(partitions -> log.info(
+                        "[Inbound][Kafka] Partitions revoked, pending acknowledged offsets committed",
+                        StructuredArguments.kv("partitions", partitions.toString())
+                ));
+
+        // KEY lanes acknowledge offsets of one partition out of order: let the receiver hold
+        // commits back until the gaps below them are filled, so a crash never skips a record.
+        if (properties.getConcurrency().getMode() == InboundKafkaProperties.Concurrency.Mode.KEY) {
+            options = options.maxDeferredCommits(properties.getConcurrency().getMaxDeferredCommits());
+        }
+
+        this.receiver = KafkaReceiver.create(options);
+
+        InboundKafkaProperties.Topics retryTopics = properties.getRetry().getTopics();
+
+        if (retryTopics.isEnabled()) {
+            if (retryPublisher == null) {
+                throw new IllegalStateException("Inbound retry topics require a retry publisher");
+            }
+            if (retryTopics.getTiers().isEmpty()) {
+                throw new IllegalStateException("Inbound retry topics require at least one tier");
+            }
+            this.retryPublisher = retryPublisher;
+            this.retryTiers = List.copyOf(retryTopics.getTiers());
+
+            // One consumer group per tier: tiers are independent, and each one's lag shows on its own
+            for (InboundKafkaProperties.Tier tier : retryTiers) {
+                retryConsumers.add(new KafkaInboundRetryTierConsumer(
+                        commitOptions,
+                        properties.getConsumerGroupId() + tier.getSuffix(),
+                        tier.getSuffix(),
+                        topics.stream().map(t -> dlqTopicResolver.resolveRetry(t, tier.getSuffix())).toList(),
+                        retryTopics.getMaxPollRecords(),
+                        this::processRecord
+                ));
+            }
+        } else {
+            this.retryPublisher = null;
+            this.retryTiers = List.of();
+        }
+    }
+
+    /**
+     * Ack-then-batch-commit: acknowledged offsets are flushed by count or by time.
+     * reactor-kafka also commits acknowledged offsets before partitions are revoked
+     * and when the receiver is closed (see stop()).
+     */
+    static <K, V> ReceiverOptions<K, V> commitOptions(ReceiverOptions<K, V> baseOptions,
+                                                      InboundKafkaProperties properties) {
+        return baseOptions
+                .commitBatchSize(properties.getCommitBatchSize())
+                .commitInterval(Duration.ofMillis(properties.getCommitIntervalMs()));
     }
 
     // -------------------------------------------------------------------------
@@ -82,14 +191,17 @@ public class KafkaInboundEventConsumer {
             return;
         }
 
+        InboundKafkaProperties.Concurrency concurrency = properties.getConcurrency();
+
         log.info(
                 "[Inbound][Kafka] Consumer started",
-                StructuredArguments.kv("consumerGroup", properties.getConsumerGroupId())
+                StructuredArguments.kv("consumerGroup", properties.getConsumerGroupId()),
+                StructuredArguments.kv("concurrencyMode", concurrency.getMode()),
+                StructuredArguments.kv("maxConcurrency", concurrency.getMaxConcurrency()),
+                StructuredArguments.kv("batch", properties.getBatch().isEnabled())
         );
 
-        receiver.receive()
-
-                .concatMap(record -> processRecord(record))
+        this.subscription = process(receiver.receive(), concurrency)
 
                 .subscribe(
                         null,
@@ -100,6 +212,95 @@ public class KafkaInboundEventConsumer {
                         ),
                         () -> log.warn("[Inbound][Kafka] Kafka stream closed unexpectedly")
                 );
+
+        retryConsumers.forEach(KafkaInboundRetryTierConsumer::start);
+
+        bindClientMetrics();
+    }
+
+    /**
+     * Disposing the receive flux closes the consumer; reactor-kafka commits every
+     * acknowledged-but-uncommitted offset as part of the close.
+     */
+    @PreDestroy
+    public void stop() {
+        if (subscription != null && !subscription.isDisposed()) {
+            log.info("[Inbound][Kafka] Stopping consumer, committing pending offsets");
+            subscription.dispose();
+        }
+        retryConsumers.forEach(KafkaInboundRetryTierConsumer::stop);
+        if (clientMetrics != null) {
+            clientMetrics.close();
+        }
+    }
+
+    /**
+     * Exposes the consumer's own metrics, including commit latency
+     * (kafka.consumer.coordinator.commit.latency.avg/max) and commit rate.
+     */
+    private void bindClientMetrics() {
+        receiver.doOnConsumer(consumer -> {
+                    KafkaClientMetrics metrics = new KafkaClientMetrics(consumer);
+                    metrics.bindTo(meterRegistry);
+                    return metrics;
+                })
+                .subscribe(
+                        metrics -> this.clientMetrics = metrics,
+                        ex -> log.warn(
+                                "[Inbound][Kafka] Unable to bind consumer metrics",
+                                StructuredArguments.kv("error", ex.toString())
+                        )
+                );
+    }
+
+    // -------------------------------------------------------------------------
+    // Lanes
+    // -------------------------------------------------------------------------
+
+    /**
+     * SEQUENTIAL keeps the historical concatMap. Otherwise records are hashed into a fixed
+     * number of lanes (bounded groupBy, so flatMap concurrency always covers every group and
+     * cannot stall); each lane is a concatMap, which keeps partition/key order.
+     */
+    private Flux<Void> process(Flux<ReceiverRecord<String, byte[]>> records,
+                               InboundKafkaProperties.Concurrency concurrency) {
+
+        if (concurrency.getMode() == InboundKafkaProperties.Concurrency.Mode.SEQUENTIAL) {
+            return processLane(records);
+        }
+
+        int lanes = Math.max(1, concurrency.getMaxConcurrency());
+
+        return records
+                .groupBy(record -> laneOf(record, concurrency.getMode(), lanes))
+                .flatMap(this::processLane, lanes);
+    }
+
+    /**
+     * With batch delivery the lane is cut into windows (max records / max wait); windows,
+     * like records, are processed one after the other.
+     */
+    private Flux<Void> processLane(Flux<ReceiverRecord<String, byte[]>> lane) {
+        InboundKafkaProperties.Batch batch = properties.getBatch();
+
+        if (!batch.isEnabled()) {
+            return lane.concatMap(this::processRecord);
+        }
+
+        return lane
+                .bufferTimeout(Math.max(1, batch.getMaxRecords()), batch.getMaxWait(), true)
+                .concatMap(this::processWindow);
+    }
+
+    static int laneOf(ReceiverRecord<String, byte[]> record,
+                      InboundKafkaProperties.Concurrency.Mode mode,
+                      int lanes) {
+
+        Object laneKey = (mode == InboundKafkaProperties.Concurrency.Mode.KEY && record.key() != null)
+                ? record.key()
+                : record.receiverOffset().topicPartition();
+
+        return Math.floorMod(laneKey.hashCode(), lanes);
     }
 
     // -------------------------------------------------------------------------
@@ -112,21 +313,31 @@ public class KafkaInboundEventConsumer {
         byte[] rawBytes = record.value();
         String topic = record.topic();
 
-        return handleRecord(rawBytes, topic)
+        // With retry topics a failure leaves the lane at once; otherwise it backs off in-line
+        Mono<Void> processed = retryTiers.isEmpty()
+                ? handleRecord(record, rawBytes, topic)
+
+                        .retryWhen(
+                                Retry.backoff(
+                                                properties.getRetry().getMaxAttempts(),
+                                                Duration.ofMillis(properties.getRetry().getBackoffMs())
+                                        )
+                                        .maxBackoff(Duration.ofMillis(properties.getRetry().getMaxBackoffMs()))
+                                        .transientErrors(true)
+
+                        )
+
+                        .then(acknowledge(record))
+
+                        .onErrorResume(ex -> sendToDlq(record, rawBytes, ex))
 
-                .retryWhen(
-                        Retry.backoff(
-                                        properties.getRetry().getMaxAttempts(),
-                                        Duration.ofMillis(properties.getRetry().getBackoffMs())
-                                )
-                                .maxBackoff(Duration.ofMillis(properties.getRetry().getMaxBackoffMs()))
-                                .transientErrors(true)
+                : handleRecord(record, rawBytes, topic)
 
-                )
+                        .then(acknowledge(record))
 
-                .then(record.receiverOffset().commit())
+                        .onErrorResume(ex -> sendToRetryOrDlq(record, rawBytes, ex));
 
-                .onErrorResume(ex -> sendToDlq(record, rawBytes, ex))
+        return processed
 
                 .doFinally(signal ->
                         log.debug(
@@ -137,11 +348,113 @@ public class KafkaInboundEventConsumer {
                 );
     }
 
+    // -------------------------------------------------------------------------
+    // Batch delivery
+    // -------------------------------------------------------------------------
+
+    private record Run(BatchEventInboundHandler handler, List<ReceiverRecord<String, byte[]>> records) {
+    }
+
+    /**
+     * Splits the window into runs of consecutive records routed to the same batch handler
+     * and processes the runs in order, so lane order is kept. Records no batch handler
+     * takes (and runs of one) go through processRecord.
+     */
+    Mono<Void> processWindow(List<ReceiverRecord<String, byte[]>> window) {
+
+        List<Run> runs = new ArrayList<>();
+        Run current = null;
+
+        for (ReceiverRecord<String, byte[]> record : window) {
+            BatchEventInboundHandler handler = batchHandlerOf(record);
+            if (current == null || current.handler() != handler) {
+                current = new Run(handler, new ArrayList<>());
+                runs.add(current);
+            }
+            current.records().add(record);
+        }
+
+        return Flux.fromIterable(runs)
+                .concatMap(run -> run.handler() == null || run.records().size() == 1
+                        ? Flux.fromIterable(run.records()).concatMap(this::processRecord).then()
+                        : processBatch(run.handler(), run.records()))
+                .then();
+    }
+
+    private BatchEventInboundHandler batchHandlerOf(ReceiverRecord<String, byte[]> record) {
+        if (record.value() == null) {
+            return null;
+        }
+        return inboundEventConsumer.batchHandler(
+                header(record, HEADER_SCHEMA_ID),
+                header(record, HEADER_ENTITY_TYPE),
+                header(record, HEADER_CHANGE_TYPE)
+        );
+    }
+
+    /**
+     * Offsets of the batch are acknowledged only once the handler completed for all of its
+     * records. If the batch fails, its records are processed again one by one, each with
+     * the usual retry / DLQ handling: a single bad record no longer holds back the others.
+     */
+    private Mono<Void> processBatch(BatchEventInboundHandler handler, List<ReceiverRecord<String, byte[]>> records) {
+
+        long start = System.nanoTime();
+        String topic = records.get(0).topic();
+
+        List<RawInboundEvent> events = records.stream()
+                .map(record -> new RawInboundEvent(
+                        header(record, HEADER_EVENT_ID),
+                        record.value(),
+                        header(record, HEADER_CONTENT_TYPE),
+                        header(record, HEADER_SCHEMA_ID),
+                        header(record, HEADER_ENTITY_TYPE),
+                        header(record, HEADER_CHANGE_TYPE)
+                ))
+                .toList();
+
+        return inboundEventConsumer.consumeBatch(handler, events)
+
+                .then(Mono.<Void>fromRunnable(() -> records.forEach(record -> record.receiverOffset().acknowledge())))
+
+                .doOnSuccess(v -> {
+                    batchesHandled.increment();
+                    batchSize.record(records.size());
+                    log.debug(
+                            "[Inbound][Kafka] Batch processed",
+                            StructuredArguments.kv("topic", topic),
+                            StructuredArguments.kv("records", records.size()),
+                            StructuredArguments.kv("durationNs", System.nanoTime() - start)
+                    );
+                })
+
+                .onErrorResume(ex -> {
+                    batchFallbacks.increment();
+                    log.warn(
+                            "[Inbound][Kafka] Batch failed, processing its records one by one",
+                            StructuredArguments.kv("topic", topic),
+                            StructuredArguments.kv("records", records.size()),
+                            StructuredArguments.kv("handler", handler.getClass().getSimpleName()),
+                            StructuredArguments.kv("exception", ex.toString())
+                    );
+                    return Flux.fromIterable(records).concatMap(this::processRecord).then();
+                });
+    }
+
     // -------------------------------------------------------------------------
     // Deserialization + dispatch
     // -------------------------------------------------------------------------
 
-    private Mono<Void> handleRecord(byte[] rawBytes, String topic) {
+    /**
+     * Decodes and dispatches one record exactly as the consumer does, without retries,
+     * DLQ or offset handling (e.g. for replaying dead-lettered records).
+     */
+    public Mono<Void> handle(ConsumerRecord<String, byte[]> record) {
+        Objects.requireNonNull(record, "record");
+        return Mono.defer(() -> handleRecord(record, record.value(), record.topic()));
+    }
+
+    private Mono<Void> handleRecord(ConsumerRecord<String, byte[]> record, byte[] rawBytes, String topic) {
 
         if (rawBytes == null) {
             log.warn(
@@ -151,21 +464,64 @@ public class KafkaInboundEventConsumer {
             return Mono.empty();
         }
 
+        // Header-first: producers write routing metadata as headers, so unhandled events
+        // are dropped and handled ones decoded straight into the handler payload type.
+        String schemaId = header(record, HEADER_SCHEMA_ID);
+        String entityType = header(record, HEADER_ENTITY_TYPE);
+        String changeType = header(record, HEADER_CHANGE_TYPE);
+
+        if (schemaId != null && entityType != null && changeType != null) {
+
+            if (!inboundEventConsumer.accepts(schemaId, entityType, changeType)) {
+                log.debug(
+                        "[Inbound][Kafka] Event skipped, no handler",
+                        StructuredArguments.kv("topic", topic),
+                        StructuredArguments.kv("schemaId", schemaId),
+                        StructuredArguments.kv("entityType", entityType),
+                        StructuredArguments.kv("changeType", changeType)
+                );
+                return Mono.empty();
+            }
+
+            log.debug(
+                    "[Inbound][Kafka] Event received",
+                    StructuredArguments.kv("topic", topic),
+                    StructuredArguments.kv("schemaId", schemaId),
+                    StructuredArguments.kv("entityType", entityType),
+                    StructuredArguments.kv("changeType", changeType),
+                    StructuredArguments.kv("traceId", header(record, HEADER_TRACE_ID))
+            );
+
+            // No content type header means JSON (producers before binary encoding).
+            String contentType = header(record, HEADER_CONTENT_TYPE);
+
+            String eventId = header(record, HEADER_EVENT_ID);
+
+            return inboundEventConsumer.consume(eventId, rawBytes, contentType, schemaId, entityType, changeType)
+                    .doOnError(ex -> log.error(
+                            "[Inbound][Kafka] Processing error",
+                            StructuredArguments.kv("topic", topic),
+                            StructuredArguments.kv("schemaId", schemaId),
+                            StructuredArguments.kv("contentType", contentType),
+                            StructuredArguments.kv("exception", ex.toString())
+                    ));
+        }
+
+        // Legacy producers without routing headers: full decode, then dispatch.
         DomainEventEnvelope<?> envelope;
 
         try {
 
-            envelope = objectMapper.readValue(
-                    rawBytes,
-                    new TypeReference<DomainEventEnvelope<?>>() {}
-            );
+            envelope = envelopeReader.readValue(rawBytes);
 
         } catch (Exception ex) {
 
             log.error(
                     "[Inbound][Kafka] Deserialization error",
                     StructuredArguments.kv("topic", topic),
-                    StructuredArguments.kv("payload", new String(rawBytes, StandardCharsets.UTF_8)),
+                    StructuredArguments.kv("payloadBytes", rawBytes.length),
+                    StructuredArguments.kv("payloadSha256", PayloadLogging.sha256(rawBytes)),
+                    StructuredArguments.kv("payload", PayloadLogging.preview(rawBytes, properties.getDlq().getLogPayloadBytes())),
                     StructuredArguments.kv("exception", ex.toString()),
                     ex
             );
@@ -196,6 +552,59 @@ public class KafkaInboundEventConsumer {
         return inboundEventConsumer.consume(envelope);
     }
 
+    // -------------------------------------------------------------------------
+    // Retry topics
+    // -------------------------------------------------------------------------
+
+    /**
+     * Forwards the record to the next retry tier and acknowledges it, so the lane moves on
+     * straight away. After the last tier (or if forwarding fails) the record goes to the DLQ.
+     */
+    private Mono<Void> sendToRetryOrDlq(
+            ReceiverRecord<String, byte[]> record,
+            byte[] rawBytes,
+            Throwable ex
+    ) {
+
+        int attempt = InboundRetryHeaders.attempt(record);
+        InboundKafkaProperties.Tier tier = nextTier(retryTiers, record);
+
+        if (tier == null) {
+            return sendToDlq(record, rawBytes, ex);
+        }
+
+        String retryTopic = dlqTopicResolver.resolveRetry(InboundRetryHeaders.originTopic(record), tier.getSuffix());
+
+        log.warn(
+                "[Inbound][Kafka] Event sent to retry topic",
+                StructuredArguments.kv("topic", record.topic()),
+                StructuredArguments.kv("retryTopic", retryTopic),
+                StructuredArguments.kv("attempt", attempt + 1),
+                StructuredArguments.kv("key", record.key()),
+                StructuredArguments.kv("exception", ex.toString())
+        );
+
+        return retryPublisher.forward(record, retryTopic, attempt + 1, tier.getDelay(), ex)
+                .then(acknowledge(record))
+                .onErrorResume(sendEx -> {
+                    log.error(
+                            "[Inbound][Kafka] Retry forwarding failed",
+                            StructuredArguments.kv("retryTopic", retryTopic),
+                            StructuredArguments.kv("error", sendEx.toString())
+                    );
+                    return sendToDlq(record, rawBytes, ex);
+                });
+    }
+
+    /**
+     * Tier a failed record goes to, by how many times it was already forwarded (its
+     * attempt header); null once the last tier has been tried.
+     */
+    static InboundKafkaProperties.Tier nextTier(List<InboundKafkaProperties.Tier> tiers, ConsumerRecord<?, ?> record) {
+        int attempt = InboundRetryHeaders.attempt(record);
+        return attempt < tiers.size() ? tiers.get(attempt) : null;
+    }
+
     // -------------------------------------------------------------------------
     // DLQ handling
     // -------------------------------------------------------------------------
@@ -207,7 +616,7 @@ public class KafkaInboundEventConsumer {
     ) {
 
         if (!properties.getDlq().isEnabled()) {
-            return record.receiverOffset().commit();
+            return acknowledge(record);
         }
 
         String dlqTopic = dlqTopicResolver.resolve(record);
@@ -218,17 +627,25 @@ public class KafkaInboundEventConsumer {
                 StructuredArguments.kv("dlqTopic", dlqTopic),
                 StructuredArguments.kv("key", record.key()),
                 StructuredArguments.kv("exception", ex.toString()),
-                StructuredArguments.kv("payload",
-                        rawBytes != null ? new String(rawBytes, StandardCharsets.UTF_8) : null),
+                StructuredArguments.kv("payloadBytes", rawBytes != null ? rawBytes.length : 0),
+                StructuredArguments.kv("payloadSha256", PayloadLogging.sha256(rawBytes)),
+                StructuredArguments.kv("payload", PayloadLogging.preview(rawBytes, properties.getDlq().getLogPayloadBytes())),
                 ex
         );
 
-        return dlqPublisher.publishToDlq(
-                        dlqTopic,
-                        record.key(),
-                        rawBytes != null ? new String(rawBytes, StandardCharsets.UTF_8) : null,
-                        ex
-                )
-                .then(record.receiverOffset().commit());
+        return dlqPublisher.publishToDlq(dlqTopic, record, ex)
+                .then(acknowledge(record));
+    }
+
+    private static String header(ConsumerRecord<String, byte[]> record, String name) {
+        Header h = record.headers().lastHeader(name);
+        if (h == null || h.value() == null || h.value().length == 0) {
+            return null;
+        }
+        return new String(h.value(), StandardCharsets.UTF_8);
+    }
+
+    private static Mono<Void> acknowledge(ReceiverRecord<String, byte[]> record) {
+        return Mono.fromRunnable(() -> record.receiverOffset().acknowledge());
     }
 }
\ No newline at end of file
@@ -5,12 +5,37 @@ import com.paravai.foundation.infrastructure.kafka.inbound.KafkaInboundEventCons
 import com.paravai.foundation.infrastructure.kafka.inbound.dlq.DefaultInboundDlqTopicResolver;
 import com.paravai.foundation.infrastructure.kafka.inbound.dlq.InboundDlqPublisher;
 import com.paravai.foundation.infrastructure.kafka.inbound.dlq.InboundDlqTopicResolver;
+import com.paravai.foundation.infrastructure.kafka.inbound.dlq.KafkaInboundDlqPublisher;
+import com.paravai.foundation.infrastructure.kafka.inbound.replay.DlqReplayCliRunner;
+import com.paravai.foundation.infrastructure.kafka.inbound.replay.DlqReplayEndpoint;
+import com.paravai.foundation.infrastructure.kafka.inbound.replay.DlqReplayer;
+import com.paravai.foundation.infrastructure.kafka.inbound.retry.KafkaInboundRetryPublisher;
 import com.paravai.foundation.integration.application.inbound.InboundEventConsumer;
+import com.paravai.foundation.integration.application.inbound.dispatcher.EventRouteKey;
+import com.paravai.foundation.integration.application.inbound.idempotency.InboundEventDeduplicator;
+import com.paravai.foundation.persistence.mongo.MongoIndexInitializer;
+import com.paravai.foundation.persistence.mongo.dedup.ProcessedEventDocument;
+import com.paravai.foundation.persistence.mongo.dedup.ReactiveMongoProcessedEventStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 import reactor.kafka.receiver.ReceiverOptions;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderOptions;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Configuration
 @ConditionalOnProperty(
@@ -26,6 +51,51 @@ public class InboundKafkaAutoConfiguration {
         return new DefaultInboundDlqTopicResolver(properties);
     }
 
+    /**
+     * Raw-bytes producer shared by the DLQ and the retry tiers (records are forwarded
+     * without re-encoding). The producer is created on first send.
+     */
+    @Bean
+    public KafkaSender<String, byte[]> inboundKafkaSender(
+            @Value("${kafka.bootstrap-servers}") String bootstrapServers,
+            @Value("${kafka.producer.client-id:${spring.application.name}}") String clientId,
+            InboundKafkaProperties properties
+    ) {
+        InboundKafkaProperties.Producer producer = properties.getProducer();
+        Map<String, Object> props = new HashMap<>();
+
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ProducerConfig.CLIENT_ID_CONFIG, clientId + "-inbound");
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, producer.getLingerMs());
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, producer.getBatchSize());
+
+        SenderOptions<String, byte[]> senderOptions = SenderOptions.<String, byte[]>create(props)
+                .withKeySerializer(new StringSerializer())
+                .withValueSerializer(new ByteArraySerializer())
+                .maxInFlight(producer.getMaxInFlight());
+
+        return KafkaSender.create(senderOptions);
+    }
+
+    @Bean
+    public InboundDlqPublisher inboundDlqPublisher(
+            KafkaSender<String, byte[]> inboundKafkaSender,
+            MeterRegistry meterRegistry
+    ) {
+        return new KafkaInboundDlqPublisher(inboundKafkaSender, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "integration.inbound.kafka.retry.topics", name = "enabled", havingValue = "true")
+    public KafkaInboundRetryPublisher inboundRetryPublisher(
+            KafkaSender<String, byte[]> inboundKafkaSender,
+            MeterRegistry meterRegistry
+    ) {
+        return new KafkaInboundRetryPublisher(inboundKafkaSender, meterRegistry);
+    }
+
     @Bean
     public KafkaInboundEventConsumer kafkaInboundEventConsumer(
             ReceiverOptions<String, byte[]> baseOptions,
@@ -33,7 +103,9 @@ public class InboundKafkaAutoConfiguration {
             InboundEventConsumer inboundEventConsumer,
             ObjectMapper objectMapper,
             InboundDlqPublisher dlqPublisher,
-            InboundDlqTopicResolver dlqTopicResolver
+            InboundDlqTopicResolver dlqTopicResolver,
+            ObjectProvider<KafkaInboundRetryPublisher> retryPublisher,
+            MeterRegistry meterRegistry
     ) {
         return new KafkaInboundEventConsumer(
                 baseOptions,
@@ -41,7 +113,95 @@ public class InboundKafkaAutoConfiguration {
                 inboundEventConsumer,
                 objectMapper,
                 dlqPublisher,
-                dlqTopicResolver
+                dlqTopicResolver,
+                retryPublisher.getIfAvailable(),
+                meterRegistry
+        );
+    }
+
+    // ---- Idempotency ----
+
+    @Bean
+    @ConditionalOnProperty(prefix = "integration.inbound.kafka.idempotency", name = "enabled", havingValue = "true")
+    public ReactiveMongoProcessedEventStore processedEventStore(ReactiveMongoTemplate mongoTemplate) {
+        return new ReactiveMongoProcessedEventStore(mongoTemplate);
+    }
+
+    /**
+     * TTL index expiring processed event ids.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "integration.inbound.kafka.idempotency", name = "enabled", havingValue = "true")
+    public MongoIndexInitializer processedEventIndexInitializer(ReactiveMongoTemplate mongoTemplate) {
+        return new MongoIndexInitializer(mongoTemplate, List.of(ProcessedEventDocument.class));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "integration.inbound.kafka.idempotency", name = "enabled", havingValue = "true")
+    public InboundEventDeduplicator inboundEventDeduplicator(
+            ReactiveMongoProcessedEventStore processedEventStore,
+            InboundKafkaProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        List<EventRouteKey> routes = properties.getBindings().stream()
+                .filter(InboundKafkaProperties.Binding::isIdempotent)
+                .map(InboundKafkaAutoConfiguration::routeKey)
+                .toList();
+
+        if (routes.isEmpty()) {
+            throw new IllegalStateException("Inbound idempotency requires at least one binding with idempotent=true");
+        }
+
+        InboundKafkaProperties.Idempotency idempotency = properties.getIdempotency();
+        return InboundEventDeduplicator.create(
+                routes,
+                processedEventStore,
+                idempotency.getCacheSize(),
+                idempotency.getCacheTtl(),
+                meterRegistry
         );
     }
-}
\ No newline at end of file
+
+    private static EventRouteKey routeKey(InboundKafkaProperties.Binding binding) {
+        if (binding.getSchemaId() == null || binding.getEntityType() == null || binding.getChangeType() == null) {
+            throw new IllegalStateException(
+                    "Idempotent binding '" + binding.getName() + "' must declare schemaId, entityType and changeType");
+        }
+        return EventRouteKey.of(binding.getSchemaId(), binding.getEntityType(), binding.getChangeType());
+    }
+
+    // ---- DLQ replay ----
+
+    @Bean
+    @ConditionalOnProperty(prefix = "integration.inbound.kafka.replay", name = "enabled", havingValue = "true")
+    public DlqReplayer dlqReplayer(
+            ReceiverOptions<String, byte[]> baseOptions,
+            KafkaInboundEventConsumer kafkaInboundEventConsumer,
+            KafkaSender<String, byte[]> inboundKafkaSender,
+            InboundKafkaProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        return new DlqReplayer(baseOptions, kafkaInboundEventConsumer, inboundKafkaSender, properties, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "integration.inbound.kafka.replay.cli", name = "topic")
+    public DlqReplayCliRunner dlqReplayCliRunner(
+            DlqReplayer dlqReplayer,
+            InboundKafkaProperties properties,
+            ApplicationContext context
+    ) {
+        return new DlqReplayCliRunner(dlqReplayer, properties, context);
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+    @ConditionalOnProperty(prefix = "integration.inbound.kafka.replay", name = "enabled", havingValue = "true")
+    static class DlqReplayEndpointConfiguration {
+
+        @Bean
+        public DlqReplayEndpoint dlqReplayEndpoint(DlqReplayer dlqReplayer) {
+            return new DlqReplayEndpoint(dlqReplayer);
+        }
+    }
+}
@@ -2,16 +2,26 @@ package com.paravai.foundation.infrastructure.kafka.inbound.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @ConfigurationProperties(prefix = "integration.inbound.kafka")
 public class InboundKafkaProperties {
 
     private boolean enabled = false;
     private String consumerGroupId;
+    private int commitBatchSize = 100;
+    private long commitIntervalMs = 1000;
     private Retry retry = new Retry();
     private Dlq dlq = new Dlq();
+    private Producer producer = new Producer();
+    private Replay replay = new Replay();
+    private Idempotency idempotency = new Idempotency();
+    private Concurrency concurrency = new Concurrency();
+    private Batch batch = new Batch();
     private List<Binding> bindings = new ArrayList<>();
 
     public boolean isEnabled() {
@@ -30,6 +40,27 @@ public class InboundKafkaProperties {
         this.consumerGroupId = consumerGroupId;
     }
 
+    /**
+     * Processed records are acknowledged, not committed one by one: acknowledged offsets
+     * are committed once {@code commitBatchSize} acks accumulate or every
+     * {@code commitIntervalMs}, whichever comes first (and on rebalance/shutdown).
+     */
+    public int getCommitBatchSize() {
+        return commitBatchSize;
+    }
+
+    public void setCommitBatchSize(int commitBatchSize) {
+        this.commitBatchSize = commitBatchSize;
+    }
+
+    public long getCommitIntervalMs() {
+        return commitIntervalMs;
+    }
+
+    public void setCommitIntervalMs(long commitIntervalMs) {
+        this.commitIntervalMs = commitIntervalMs;
+    }
+
     public Retry getRetry() {
         return retry;
     }
@@ -46,6 +77,46 @@ public class InboundKafkaProperties {
         this.dlq = dlq;
     }
 
+    public Producer getProducer() {
+        return producer;
+    }
+
+    public void setProducer(Producer producer) {
+        this.producer = producer;
+    }
+
+    public Replay getReplay() {
+        return replay;
+    }
+
+    public void setReplay(Replay replay) {
+        this.replay = replay;
+    }
+
+    public Idempotency getIdempotency() {
+        return idempotency;
+    }
+
+    public void setIdempotency(Idempotency idempotency) {
+        this.idempotency = idempotency;
+    }
+
+    public Concurrency getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(Concurrency concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public Batch getBatch() {
+        return batch;
+    }
+
+    public void setBatch(Batch batch) {
+        this.batch = batch;
+    }
+
     public List<Binding> getBindings() {
         return bindings;
     }
@@ -61,10 +132,16 @@ public class InboundKafkaProperties {
                 .toList();
     }
 
+    /**
+     * In-line retry (maxAttempts / backoff) holds the record's lane while it backs off.
+     * With {@code topics.enabled} failed records are forwarded to delay topics instead
+     * and the in-line settings are not used.
+     */
     public static class Retry {
         private int maxAttempts = 2;
         private long backoffMs = 250;
         private long maxBackoffMs = 1000;
+        private Topics topics = new Topics();
 
         public int getMaxAttempts() { return maxAttempts; }
         public void setMaxAttempts(int maxAttempts) { this.maxAttempts = maxAttempts; }
@@ -74,17 +151,241 @@ public class InboundKafkaProperties {
 
         public long getMaxBackoffMs() { return maxBackoffMs; }
         public void setMaxBackoffMs(long maxBackoffMs) { this.maxBackoffMs = maxBackoffMs; }
+
+        public Topics getTopics() { return topics; }
+        public void setTopics(Topics topics) { this.topics = topics; }
+    }
+
+    /**
+     * Tiered retry topics: a record failing on its topic goes to the first tier's topic
+     * (topic + suffix), failing there to the next tier, and after the last tier to the DLQ.
+     * Each tier's consumer processes a record once its delay has elapsed.
+     */
+    public static class Topics {
+        private boolean enabled = false;
+        private List<Tier> tiers = new ArrayList<>(List.of(
+                new Tier(".retry.5s", Duration.ofSeconds(5)),
+                new Tier(".retry.1m", Duration.ofMinutes(1))
+        ));
+
+        private int maxPollRecords = 50;
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+        /**
+         * Records a tier consumer fetches per poll. Records fetched before a partition was
+         * paused wait in memory until due, so keep this small.
+         */
+        public int getMaxPollRecords() { return maxPollRecords; }
+        public void setMaxPollRecords(int maxPollRecords) { this.maxPollRecords = maxPollRecords; }
+
+        public List<Tier> getTiers() { return tiers; }
+        public void setTiers(List<Tier> tiers) { this.tiers = tiers; }
+    }
+
+    public static class Tier {
+        private String suffix;
+        private Duration delay;
+
+        public Tier() {
+        }
+
+        public Tier(String suffix, Duration delay) {
+            this.suffix = suffix;
+            this.delay = delay;
+        }
+
+        public String getSuffix() { return suffix; }
+        public void setSuffix(String suffix) { this.suffix = suffix; }
+
+        public Duration getDelay() { return delay; }
+        public void setDelay(Duration delay) { this.delay = delay; }
     }
 
     public static class Dlq {
         private boolean enabled = true;
         private String suffix = ".dlq";
+        private int logPayloadBytes = 256;
 
         public boolean isEnabled() { return enabled; }
         public void setEnabled(boolean enabled) { this.enabled = enabled; }
 
         public String getSuffix() { return suffix; }
         public void setSuffix(String suffix) { this.suffix = suffix; }
+
+        /**
+         * Payload bytes shown in failure logs (0 for none); the payload's size and SHA-256
+         * are always logged.
+         */
+        public int getLogPayloadBytes() { return logPayloadBytes; }
+        public void setLogPayloadBytes(int logPayloadBytes) { this.logPayloadBytes = logPayloadBytes; }
+    }
+
+    /**
+     * Producer shared by the DLQ and the retry tiers. Records are forwarded as raw bytes;
+     * lingerMs / batchSize let records from concurrent lanes share producer batches.
+     */
+    public static class Producer {
+        private long lingerMs = 10;
+        private int batchSize = 65_536;
+        private int maxInFlight = 256;
+
+        public long getLingerMs() { return lingerMs; }
+        public void setLingerMs(long lingerMs) { this.lingerMs = lingerMs; }
+
+        public int getBatchSize() { return batchSize; }
+        public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+        public int getMaxInFlight() { return maxInFlight; }
+        public void setMaxInFlight(int maxInFlight) { this.maxInFlight = maxInFlight; }
+    }
+
+    /**
+     * Re-processing of dead-lettered records (actuator endpoint dlqreplay, CLI runner).
+     * parallelism and ratePerSecond are defaults a replay request may override.
+     */
+    public static class Replay {
+        private boolean enabled = false;
+        private int parallelism = 4;
+        private double ratePerSecond = 200;
+        private int burst = 50;
+        private Duration idleTimeout = Duration.ofSeconds(30);
+        private Cli cli = new Cli();
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+        public int getParallelism() { return parallelism; }
+        public void setParallelism(int parallelism) { this.parallelism = parallelism; }
+
+        /** Records replayed per second across all workers; 0 for no limit. */
+        public double getRatePerSecond() { return ratePerSecond; }
+        public void setRatePerSecond(double ratePerSecond) { this.ratePerSecond = ratePerSecond; }
+
+        /** Records that may be replayed at once after an idle period. */
+        public int getBurst() { return burst; }
+        public void setBurst(int burst) { this.burst = burst; }
+
+        /** A replay ends when no record has been replayed for this long. */
+        public Duration getIdleTimeout() { return idleTimeout; }
+        public void setIdleTimeout(Duration idleTimeout) { this.idleTimeout = idleTimeout; }
+
+        public Cli getCli() { return cli; }
+        public void setCli(Cli cli) { this.cli = cli; }
+    }
+
+    /**
+     * One-off replay at startup, e.g.
+     * {@code --integration.inbound.kafka.replay.cli.topic=orders.dlq --integration.inbound.kafka.replay.cli.from-timestamp=2024-05-01T00:00:00Z}.
+     * Offsets apply to every partition; offset bounds win over timestamp bounds.
+     */
+    public static class Cli {
+        private String topic;
+        private Long fromOffset;
+        private Long toOffset;
+        private String fromTimestamp;
+        private String toTimestamp;
+        private Map<String, String> headers = new HashMap<>();
+        private String target = "INBOUND";
+        private long maxRecords = 0;
+        private boolean exitOnCompletion = true;
+
+        public String getTopic() { return topic; }
+        public void setTopic(String topic) { this.topic = topic; }
+
+        public Long getFromOffset() { return fromOffset; }
+        public void setFromOffset(Long fromOffset) { this.fromOffset = fromOffset; }
+
+        public Long getToOffset() { return toOffset; }
+        public void setToOffset(Long toOffset) { this.toOffset = toOffset; }
+
+        public String getFromTimestamp() { return fromTimestamp; }
+        public void setFromTimestamp(String fromTimestamp) { this.fromTimestamp = fromTimestamp; }
+
+        public String getToTimestamp() { return toTimestamp; }
+        public void setToTimestamp(String toTimestamp) { this.toTimestamp = toTimestamp; }
+
+        public Map<String, String> getHeaders() { return headers; }
+        public void setHeaders(Map<String, String> headers) { this.headers = headers; }
+
+        public String getTarget() { return target; }
+        public void setTarget(String target) { this.target = target; }
+
+        public long getMaxRecords() { return maxRecords; }
+        public void setMaxRecords(long maxRecords) { this.maxRecords = maxRecords; }
+
+        public boolean isExitOnCompletion() { return exitOnCompletion; }
+        public void setExitOnCompletion(boolean exitOnCompletion) { this.exitOnCompletion = exitOnCompletion; }
+    }
+
+    /**
+     * Skipping of redelivered events on the bindings marked {@code idempotent}. Handled
+     * event ids are kept in memory (cacheSize / cacheTtl) and in Mongo for 7 days.
+     */
+    public static class Idempotency {
+        private boolean enabled = false;
+        private long cacheSize = 100_000;
+        private Duration cacheTtl = Duration.ofHours(1);
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+        public long getCacheSize() { return cacheSize; }
+        public void setCacheSize(long cacheSize) { this.cacheSize = cacheSize; }
+
+        public Duration getCacheTtl() { return cacheTtl; }
+        public void setCacheTtl(Duration cacheTtl) { this.cacheTtl = cacheTtl; }
+    }
+
+    /**
+     * How received records are spread over processing lanes.
+     * Records of the same lane are processed strictly in order; lanes run in parallel.
+     */
+    public static class Concurrency {
+
+        public enum Mode {
+            /** One record at a time for the whole receiver (legacy behaviour). */
+            SEQUENTIAL,
+            /** One lane per partition: partition order is preserved. */
+            PARTITION,
+            /** One lane per record key (falls back to partition for null keys): per-key order only. */
+            KEY
+        }
+
+        private Mode mode = Mode.SEQUENTIAL;
+        private int maxConcurrency = 4;
+        private int maxDeferredCommits = 500;
+
+        public Mode getMode() { return mode; }
+        public void setMode(Mode mode) { this.mode = mode; }
+
+        public int getMaxConcurrency() { return maxConcurrency; }
+        public void setMaxConcurrency(int maxConcurrency) { this.maxConcurrency = maxConcurrency; }
+
+        public int getMaxDeferredCommits() { return maxDeferredCommits; }
+        public void setMaxDeferredCommits(int maxDeferredCommits) { this.maxDeferredCommits = maxDeferredCommits; }
+    }
+
+    /**
+     * Delivery to batch handlers: each lane collects up to {@code maxRecords} records, or
+     * what arrived within {@code maxWait}. Consecutive records of a window routed to the
+     * same batch handler are handed over together; all other records are processed one
+     * by one as usual.
+     */
+    public static class Batch {
+        private boolean enabled = false;
+        private int maxRecords = 100;
+        private Duration maxWait = Duration.ofMillis(50);
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+        public int getMaxRecords() { return maxRecords; }
+        public void setMaxRecords(int maxRecords) { this.maxRecords = maxRecords; }
+
+        public Duration getMaxWait() { return maxWait; }
+        public void setMaxWait(Duration maxWait) { this.maxWait = maxWait; }
     }
 
     public static class Binding {
@@ -93,6 +394,7 @@ public class InboundKafkaProperties {
         private String schemaId;
         private String entityType;
         private String changeType;
+        private boolean idempotent = false;
 
         public String getName() { return name; }
         public void setName(String name) { this.name = name; }
@@ -108,5 +410,9 @@ public class InboundKafkaProperties {
 
         public String getChangeType() { return changeType; }
         public void setChangeType(String changeType) { this.changeType = changeType; }
+
+        /** Events of this binding already handled (same eventId) are skipped; needs idempotency.enabled. */
+        public boolean isIdempotent() { return idempotent; }
+        public void setIdempotent(boolean idempotent) { this.idempotent = idempotent; }
     }
 }
\ No newline at end of file
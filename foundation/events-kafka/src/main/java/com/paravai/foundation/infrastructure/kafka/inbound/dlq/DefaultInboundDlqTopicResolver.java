@@ -1,8 +1,7 @@
 package com.paravai.foundation.infrastructure.kafka.inbound.dlq;
 
 import com.paravai.foundation.infrastructure.kafka.inbound.config.InboundKafkaProperties;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.stereotype.Component;
+import com.paravai.foundation.infrastructure.kafka.inbound.retry.InboundRetryHeaders;
 import reactor.kafka.receiver.ReceiverRecord;
 
 import java.util.Objects;
@@ -17,6 +16,6 @@ public class DefaultInboundDlqTopicResolver implements InboundDlqTopicResolver {
 
     @Override
     public String resolve(ReceiverRecord<String, byte[]> record) {
-        return record.topic() + properties.getDlq().getSuffix();
+        return InboundRetryHeaders.originTopic(record) + properties.getDlq().getSuffix();
     }
-}
\ No newline at end of file
+}
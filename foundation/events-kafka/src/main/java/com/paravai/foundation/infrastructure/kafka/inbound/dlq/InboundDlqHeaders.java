@@ -0,0 +1,32 @@
+package com.paravai.foundation.infrastructure.kafka.inbound.dlq;
+
+/**
+ * Failure metadata added to dead-lettered records, next to their original headers.
+ */
+public final class InboundDlqHeaders {
+
+    public static final String EXCEPTION_CLASS = "dlqExceptionClass";
+    /** Exception message, truncated. */
+    public static final String EXCEPTION_MESSAGE = "dlqExceptionMessage";
+    /** Retry attempts made before dead-lettering (0 when retried in-line only). */
+    public static final String ATTEMPT = "dlqAttempt";
+    /** Topic, partition and offset the record was first consumed from. */
+    public static final String ORIGIN_TOPIC = "dlqOriginTopic";
+    public static final String ORIGIN_PARTITION = "dlqOriginPartition";
+    public static final String ORIGIN_OFFSET = "dlqOriginOffset";
+    /** Epoch millis of the dead-lettering. */
+    public static final String FAILED_AT = "dlqFailedAt";
+
+    private InboundDlqHeaders() {
+    }
+
+    public static boolean isDlqHeader(String name) {
+        return EXCEPTION_CLASS.equals(name)
+                || EXCEPTION_MESSAGE.equals(name)
+                || ATTEMPT.equals(name)
+                || ORIGIN_TOPIC.equals(name)
+                || ORIGIN_PARTITION.equals(name)
+                || ORIGIN_OFFSET.equals(name)
+                || FAILED_AT.equals(name);
+    }
+}
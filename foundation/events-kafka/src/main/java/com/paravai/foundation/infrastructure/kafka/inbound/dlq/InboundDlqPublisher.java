@@ -1,13 +1,17 @@
 package com.paravai.foundation.infrastructure.kafka.inbound.dlq;
 
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import reactor.core.publisher.Mono;
 
 public interface InboundDlqPublisher {
 
+    /**
+     * Publishes the record as received (key, value bytes, headers) to dlqTopic, with the
+     * failure described in additional headers (see {@link InboundDlqHeaders}).
+     */
     Mono<Void> publishToDlq(
             String dlqTopic,
-            String key,
-            String payload,
+            ConsumerRecord<String, byte[]> record,
             Throwable error
     );
-}
\ No newline at end of file
+}
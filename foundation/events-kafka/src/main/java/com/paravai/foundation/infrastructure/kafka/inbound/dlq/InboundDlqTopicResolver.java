@@ -1,9 +1,18 @@
 package com.paravai.foundation.infrastructure.kafka.inbound.dlq;
 
-import org.apache.kafka.clients.consumer.ConsumerRecord;
 import reactor.kafka.receiver.ReceiverRecord;
 
 public interface InboundDlqTopicResolver {
 
+    /**
+     * DLQ topic of a record; records read from a retry topic go to their origin topic's DLQ.
+     */
     String resolve(ReceiverRecord<String, byte[]> record);
-}
\ No newline at end of file
+
+    /**
+     * Retry topic of one tier for records of originTopic (e.g. orders + .retry.5s).
+     */
+    default String resolveRetry(String originTopic, String tierSuffix) {
+        return originTopic + tierSuffix;
+    }
+}
@@ -1,40 +1,113 @@
 package com.paravai.foundation.infrastructure.kafka.inbound.dlq;
 
+import com.paravai.foundation.infrastructure.kafka.inbound.retry.InboundRetryHeaders;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
-@Component
+/**
+ * Dead-letters records without decoding them: the value bytes and headers are forwarded
+ * as received, and the failure goes into {@link InboundDlqHeaders}.
+ *
+ * Sends go through the inbound KafkaSender shared with the retry tiers; records from
+ * concurrent lanes are batched by the producer (linger.ms / batch.size).
+ */
 public class KafkaInboundDlqPublisher implements InboundDlqPublisher {
 
     private static final Logger log = LoggerFactory.getLogger(KafkaInboundDlqPublisher.class);
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private static final String METRIC_PUBLISHED = "foundation.inbound.dlq.published";
+    private static final int MAX_MESSAGE_LENGTH = 1024;
 
-    public KafkaInboundDlqPublisher(KafkaTemplate<String, String> kafkaTemplate) {
-        this.kafkaTemplate = Objects.requireNonNull(kafkaTemplate, "kafkaTemplate is required");
+    private final KafkaSender<String, byte[]> sender;
+    private final MeterRegistry registry;
+    private final Clock clock;
+    private final Map<String, Counter> publishedByTopic = new ConcurrentHashMap<>();
+
+    public KafkaInboundDlqPublisher(KafkaSender<String, byte[]> sender, MeterRegistry registry) {
+        this(sender, registry, Clock.systemUTC());
+    }
+
+    KafkaInboundDlqPublisher(KafkaSender<String, byte[]> sender, MeterRegistry registry, Clock clock) {
+        this.sender = Objects.requireNonNull(sender, "sender is required");
+        this.registry = Objects.requireNonNull(registry, "registry is required");
+        this.clock = Objects.requireNonNull(clock, "clock is required");
     }
 
     @Override
     public Mono<Void> publishToDlq(
             String dlqTopic,
-            String key,
-            String payload,
+            ConsumerRecord<String, byte[]> record,
             Throwable error
     ) {
-        return Mono.fromFuture(
-                        kafkaTemplate.send(dlqTopic, key, payload != null ? payload : "")
-                )
-                .doOnSuccess(result -> log.warn(
-                        "Inbound event published to DLQ topic={} key={} error={}",
-                        dlqTopic,
-                        key,
-                        error != null ? error.toString() : "n/a"
-                ))
+        Objects.requireNonNull(dlqTopic, "dlqTopic is required");
+        Objects.requireNonNull(record, "record is required");
+
+        return Mono.defer(() -> {
+                    RecordHeaders headers = new RecordHeaders();
+                    for (Header h : record.headers()) {
+                        headers.add(h);
+                    }
+
+                    String originPartition = InboundRetryHeaders.header(record, InboundRetryHeaders.ORIGIN_PARTITION);
+                    String originOffset = InboundRetryHeaders.header(record, InboundRetryHeaders.ORIGIN_OFFSET);
+
+                    add(headers, InboundDlqHeaders.ORIGIN_TOPIC, InboundRetryHeaders.originTopic(record));
+                    add(headers, InboundDlqHeaders.ORIGIN_PARTITION,
+                            originPartition != null ? originPartition : String.valueOf(record.partition()));
+                    add(headers, InboundDlqHeaders.ORIGIN_OFFSET,
+                            originOffset != null ? originOffset : String.valueOf(record.offset()));
+                    add(headers, InboundDlqHeaders.ATTEMPT, String.valueOf(InboundRetryHeaders.attempt(record)));
+                    add(headers, InboundDlqHeaders.FAILED_AT, String.valueOf(clock.millis()));
+                    if (error != null) {
+                        add(headers, InboundDlqHeaders.EXCEPTION_CLASS, error.getClass().getName());
+                        if (error.getMessage() != null) {
+                            add(headers, InboundDlqHeaders.EXCEPTION_MESSAGE, truncate(error.getMessage()));
+                        }
+                    }
+
+                    ProducerRecord<String, byte[]> dead =
+                            new ProducerRecord<>(dlqTopic, null, record.key(), record.value(), headers);
+
+                    return sender.send(Mono.just(SenderRecord.create(dead, record.offset()))).next();
+                })
+                .doOnNext(result -> {
+                    published(dlqTopic).increment();
+                    log.warn(
+                            "Inbound event published to DLQ topic={} key={} error={}",
+                            dlqTopic,
+                            record.key(),
+                            error != null ? error.toString() : "n/a"
+                    );
+                })
                 .then();
     }
+
+    private Counter published(String dlqTopic) {
+        return publishedByTopic.computeIfAbsent(dlqTopic, topic -> Counter.builder(METRIC_PUBLISHED)
+                .tag("topic", topic)
+                .register(registry));
+    }
+
+    private static void add(RecordHeaders headers, String name, String value) {
+        headers.add(name, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String truncate(String s) {
+        return s.length() <= MAX_MESSAGE_LENGTH ? s : s.substring(0, MAX_MESSAGE_LENGTH);
+    }
 }
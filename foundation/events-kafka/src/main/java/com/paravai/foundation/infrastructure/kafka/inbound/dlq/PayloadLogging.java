@@ -0,0 +1,40 @@
+package com.paravai.foundation.infrastructure.kafka.inbound.dlq;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Bounded payload logging: a capped preview plus a hash that identifies the full payload
+ * (e.g. to find the record in the DLQ), instead of the whole payload as a String.
+ */
+public final class PayloadLogging {
+
+    private PayloadLogging() {
+    }
+
+    /**
+     * First maxBytes of the payload decoded as UTF-8 (a multi-byte character cut at the
+     * end shows as a replacement character); null for a null payload or maxBytes 0.
+     */
+    public static String preview(byte[] payload, int maxBytes) {
+        if (payload == null || maxBytes <= 0) {
+            return null;
+        }
+        int length = Math.min(payload.length, maxBytes);
+        String preview = new String(payload, 0, length, StandardCharsets.UTF_8);
+        return length < payload.length ? preview + "..." : preview;
+    }
+
+    public static String sha256(byte[] payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(payload));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.paravai.foundation.infrastructure.kafka.inbound.replay;
+
+import com.paravai.foundation.infrastructure.kafka.inbound.config.InboundKafkaProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Runs the replay described by integration.inbound.kafka.replay.cli at startup, waits for
+ * it and (by default) exits: 0 when every matching record was replayed, 1 otherwise.
+ */
+public class DlqReplayCliRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DlqReplayCliRunner.class);
+
+    private final DlqReplayer replayer;
+    private final InboundKafkaProperties.Cli cli;
+    private final ApplicationContext context;
+
+    public DlqReplayCliRunner(DlqReplayer replayer, InboundKafkaProperties properties, ApplicationContext context) {
+        this.replayer = Objects.requireNonNull(replayer, "replayer");
+        this.cli = Objects.requireNonNull(properties, "properties").getReplay().getCli();
+        this.context = Objects.requireNonNull(context, "context");
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        DlqReplayRequest request = new DlqReplayRequest(
+                cli.getTopic(),
+                cli.getFromOffset(),
+                cli.getToOffset(),
+                cli.getFromTimestamp() != null ? Instant.parse(cli.getFromTimestamp()) : null,
+                cli.getToTimestamp() != null ? Instant.parse(cli.getToTimestamp()) : null,
+                cli.getHeaders(),
+                DlqReplayRequest.Target.valueOf(cli.getTarget().trim().toUpperCase()),
+                null,
+                null,
+                cli.getMaxRecords()
+        );
+
+        DlqReplayReport report = replayer.replay(request).block();
+
+        boolean clean = report != null
+                && report.status() == DlqReplayReport.Status.COMPLETED
+                && report.failed() == 0;
+
+        log.info("DLQ replay from CLI finished: {}", report);
+
+        if (cli.isExitOnCompletion()) {
+            int code = clean ? 0 : 1;
+            System.exit(SpringApplication.exit(context, () -> code));
+        }
+    }
+}
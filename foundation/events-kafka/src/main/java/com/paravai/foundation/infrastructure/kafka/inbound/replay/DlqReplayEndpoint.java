@@ -0,0 +1,78 @@
+package com.paravai.foundation.infrastructure.kafka.inbound.replay;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Actuator endpoint for DLQ replays (expose "dlqreplay"):
+ * POST starts one in the background, GET returns its progress, DELETE cancels it.
+ *
+ * Header filters are passed as {@code "name=value,name=value"}; timestamps as ISO-8601 instants.
+ */
+@Endpoint(id = "dlqreplay")
+public class DlqReplayEndpoint {
+
+    private final DlqReplayer replayer;
+
+    public DlqReplayEndpoint(DlqReplayer replayer) {
+        this.replayer = Objects.requireNonNull(replayer, "replayer");
+    }
+
+    @ReadOperation
+    public DlqReplayReport status() {
+        return replayer.status().orElse(null);
+    }
+
+    @WriteOperation
+    public DlqReplayReport start(String topic,
+                                 @Nullable Long fromOffset,
+                                 @Nullable Long toOffset,
+                                 @Nullable String fromTimestamp,
+                                 @Nullable String toTimestamp,
+                                 @Nullable String headers,
+                                 @Nullable String target,
+                                 @Nullable Integer parallelism,
+                                 @Nullable Double ratePerSecond,
+                                 @Nullable Long maxRecords) {
+        return replayer.start(new DlqReplayRequest(
+                topic,
+                fromOffset,
+                toOffset,
+                fromTimestamp != null ? Instant.parse(fromTimestamp) : null,
+                toTimestamp != null ? Instant.parse(toTimestamp) : null,
+                parseHeaders(headers),
+                target != null ? DlqReplayRequest.Target.valueOf(target.trim().toUpperCase()) : null,
+                parallelism,
+                ratePerSecond,
+                maxRecords != null ? maxRecords : 0
+        ));
+    }
+
+    @DeleteOperation
+    public DlqReplayReport cancel() {
+        return replayer.cancel().orElse(null);
+    }
+
+    static Map<String, String> parseHeaders(String headers) {
+        Map<String, String> parsed = new HashMap<>();
+        if (headers == null || headers.isBlank()) {
+            return parsed;
+        }
+        for (String pair : headers.split(",")) {
+            int eq = pair.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Header filter must be name=value: " + pair);
+            }
+            parsed.put(pair.substring(0, eq).trim(), pair.substring(eq + 1).trim());
+        }
+        return parsed;
+    }
+}
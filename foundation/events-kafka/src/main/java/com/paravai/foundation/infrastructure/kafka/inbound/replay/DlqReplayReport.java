@@ -0,0 +1,28 @@
+package com.paravai.foundation.infrastructure.kafka.inbound.replay;
+
+import java.time.Instant;
+
+/**
+ * Progress of a replay: records read from the DLQ, matching the header filter, replayed
+ * successfully and failed (failed records stay in the DLQ).
+ */
+public record DlqReplayReport(String dlqTopic,
+                              DlqReplayRequest.Target target,
+                              Status status,
+                              long scanned,
+                              long matched,
+                              long replayed,
+                              long failed,
+                              Instant startedAt,
+                              Instant finishedAt,
+                              String error) {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        /** Went idle before every partition's range was read (e.g. records deleted by retention). */
+        INCOMPLETE,
+        FAILED,
+        CANCELLED
+    }
+}
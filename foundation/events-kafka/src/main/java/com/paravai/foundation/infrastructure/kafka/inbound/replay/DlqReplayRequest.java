@@ -0,0 +1,51 @@
+package com.paravai.foundation.infrastructure.kafka.inbound.replay;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * What to replay from a DLQ topic and where to.
+ *
+ * Bounds apply to every partition of the topic: fromOffset / toOffset (both inclusive)
+ * win over fromTimestamp / toTimestamp (from inclusive, to exclusive); without bounds the
+ * whole topic is replayed, up to the end offsets seen when the replay starts.
+ *
+ * @param headers     only records whose headers have all these values are replayed.
+ * @param parallelism records replayed concurrently (null for the configured default);
+ *                    1 keeps per-partition order.
+ * @param ratePerSecond records replayed per second (null for the configured default, 0 for no limit).
+ * @param maxRecords  stop after this many matching records (0 for no limit).
+ */
+public record DlqReplayRequest(String dlqTopic,
+                               Long fromOffset,
+                               Long toOffset,
+                               Instant fromTimestamp,
+                               Instant toTimestamp,
+                               Map<String, String> headers,
+                               Target target,
+                               Integer parallelism,
+                               Double ratePerSecond,
+                               long maxRecords) {
+
+    public enum Target {
+        /** Dispatch to the inbound handlers in this process (same decoding as the consumer). */
+        INBOUND,
+        /** Publish back to the topic the record was first consumed from. */
+        ORIGIN
+    }
+
+    public DlqReplayRequest {
+        Objects.requireNonNull(dlqTopic, "dlqTopic");
+        if (dlqTopic.isBlank()) throw new IllegalArgumentException("dlqTopic cannot be blank");
+        if (fromOffset != null && fromOffset < 0) throw new IllegalArgumentException("fromOffset must be >= 0");
+        if (toOffset != null && fromOffset != null && toOffset < fromOffset) {
+            throw new IllegalArgumentException("toOffset must be >= fromOffset");
+        }
+        if (parallelism != null && parallelism < 1) throw new IllegalArgumentException("parallelism must be >= 1");
+        if (ratePerSecond != null && ratePerSecond < 0) throw new IllegalArgumentException("ratePerSecond must be >= 0");
+        if (maxRecords < 0) throw new IllegalArgumentException("maxRecords must be >= 0");
+        headers = headers == null ? Map.of() : Map.copyOf(headers);
+        target = target == null ? Target.INBOUND : target;
+    }
+}
@@ -0,0 +1,440 @@
+package com.paravai.foundation.infrastructure.kafka.inbound.replay;
+
+import com.paravai.foundation.infrastructure.kafka.inbound.KafkaInboundEventConsumer;
+import com.paravai.foundation.infrastructure.kafka.inbound.config.InboundKafkaProperties;
+import com.paravai.foundation.infrastructure.kafka.inbound.dlq.InboundDlqHeaders;
+import com.paravai.foundation.infrastructure.kafka.inbound.dlq.PayloadLogging;
+import com.paravai.foundation.infrastructure.kafka.inbound.retry.InboundRetryHeaders;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.logstash.logback.argument.StructuredArguments;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.kafka.receiver.KafkaReceiver;
+import reactor.kafka.receiver.ReceiverOptions;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Re-processes records of a DLQ topic, either through the inbound handlers of this
+ * process or by publishing them back to their origin topic.
+ *
+ * The offset range of every partition is fixed when the replay starts (records
+ * dead-lettered meanwhile, including by the replay itself, are not picked up). Partitions
+ * are read by assignment and no offsets are committed, so a replay can be repeated.
+ * Records are replayed by {@code parallelism} workers, throttled by a token bucket shared
+ * by all of them; a failed record is counted and stays in the DLQ.
+ *
+ * One replay runs at a time per process.
+ */
+public class DlqReplayer {
+
+    private static final Logger log = LoggerFactory.getLogger(DlqReplayer.class);
+
+    private static final String METRIC_REPLAYED = "foundation.inbound.dlq.replayed";
+    private static final Duration METADATA_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ReceiverOptions<String, byte[]> baseOptions;
+    private final String groupId;
+    private final KafkaInboundEventConsumer inbound;
+    private final KafkaSender<String, byte[]> sender;
+    private final InboundKafkaProperties properties;
+    private final MeterRegistry registry;
+
+    private final AtomicReference<Run> current = new AtomicReference<>();
+
+    record Range(long start, long stop) {}
+
+    /**
+     * @param baseOptions consumer settings of the inbound consumer (bootstrap servers,
+     *                    deserializers); group and assignment are set per replay.
+     */
+    public DlqReplayer(ReceiverOptions<String, byte[]> baseOptions,
+                       KafkaInboundEventConsumer inbound,
+                       KafkaSender<String, byte[]> sender,
+                       InboundKafkaProperties properties,
+                       MeterRegistry registry) {
+        this.baseOptions = Objects.requireNonNull(baseOptions, "baseOptions");
+        this.inbound = Objects.requireNonNull(inbound, "inbound");
+        this.sender = Objects.requireNonNull(sender, "sender");
+        this.properties = Objects.requireNonNull(properties, "properties");
+        this.registry = Objects.requireNonNull(registry, "registry");
+        this.groupId = properties.getConsumerGroupId() + "-dlq-replay";
+    }
+
+    /**
+     * Runs a replay; completes with the final report when the range has been drained.
+     */
+    public Mono<DlqReplayReport> replay(DlqReplayRequest request) {
+        Objects.requireNonNull(request, "request");
+        return Mono.defer(() -> execute(register(request)));
+    }
+
+    /**
+     * Starts a replay in the background and returns its initial report.
+     */
+    public DlqReplayReport start(DlqReplayRequest request) {
+        Objects.requireNonNull(request, "request");
+        Run run = register(request);
+        run.subscription = execute(run).subscribe();
+        return run.report();
+    }
+
+    /**
+     * Report of the running replay, or of the last one.
+     */
+    public Optional<DlqReplayReport> status() {
+        return Optional.ofNullable(current.get()).map(Run::report);
+    }
+
+    /**
+     * Stops the running replay; records already replayed stay replayed.
+     */
+    public Optional<DlqReplayReport> cancel() {
+        Run run = current.get();
+        if (run == null || run.status != DlqReplayReport.Status.RUNNING) {
+            return Optional.empty();
+        }
+        if (run.subscription != null) {
+            run.subscription.dispose();
+        }
+        run.finish(DlqReplayReport.Status.CANCELLED, null);
+        return Optional.of(run.report());
+    }
+
+    // ---- run ----
+
+    private Run register(DlqReplayRequest request) {
+        Run run = new Run(request);
+        Run previous = current.get();
+        if ((previous != null && previous.status == DlqReplayReport.Status.RUNNING)
+                || !current.compareAndSet(previous, run)) {
+            throw new IllegalStateException("A DLQ replay is already running");
+        }
+        return run;
+    }
+
+    private Mono<DlqReplayReport> execute(Run run) {
+        DlqReplayRequest request = run.request;
+
+        log.info(
+                "[Inbound][Kafka] DLQ replay started",
+                StructuredArguments.kv("dlqTopic", request.dlqTopic()),
+                StructuredArguments.kv("target", request.target()),
+                StructuredArguments.kv("headers", request.headers())
+        );
+
+        return Mono.fromCallable(() -> ranges(request))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(ranges -> ranges.isEmpty() ? Mono.just(Set.<TopicPartition>of()) : drain(run, ranges))
+                .map(unread -> unread.isEmpty()
+                        ? run.finish(DlqReplayReport.Status.COMPLETED, null)
+                        : run.finish(DlqReplayReport.Status.INCOMPLETE,
+                                "Idle before reaching the end of the range on " + unread))
+                .onErrorResume(ex -> {
+                    log.error(
+                            "[Inbound][Kafka] DLQ replay failed",
+                            StructuredArguments.kv("dlqTopic", request.dlqTopic()),
+                            StructuredArguments.kv("error", ex.toString()),
+                            ex
+                    );
+                    return Mono.just(run.finish(DlqReplayReport.Status.FAILED, ex.toString()));
+                })
+                .doOnCancel(() -> run.finish(DlqReplayReport.Status.CANCELLED, null))
+                .doOnNext(report -> log.info(
+                        "[Inbound][Kafka] DLQ replay finished",
+                        StructuredArguments.kv("dlqTopic", report.dlqTopic()),
+                        StructuredArguments.kv("status", report.status()),
+                        StructuredArguments.kv("scanned", report.scanned()),
+                        StructuredArguments.kv("matched", report.matched()),
+                        StructuredArguments.kv("replayed", report.replayed()),
+                        StructuredArguments.kv("failed", report.failed())
+                ));
+    }
+
+    /**
+     * Replays the ranges; completes with the partitions whose range was not read to the
+     * end (empty unless the replay went idle first).
+     */
+    private Mono<Set<TopicPartition>> drain(Run run, Map<TopicPartition, Range> ranges) {
+        DlqReplayRequest request = run.request;
+        InboundKafkaProperties.Replay settings = properties.getReplay();
+
+        int parallelism = request.parallelism() != null ? request.parallelism() : Math.max(1, settings.getParallelism());
+        double rate = request.ratePerSecond() != null ? request.ratePerSecond() : settings.getRatePerSecond();
+        TokenBucket bucket = rate > 0 ? new TokenBucket(rate, settings.getBurst()) : null;
+
+        Counter replayed = counter(request.dlqTopic(), "replayed");
+        Counter failed = counter(request.dlqTopic(), "failed");
+        Function<ConsumerRecord<String, byte[]>, Mono<Void>> target = request.target() == DlqReplayRequest.Target.ORIGIN
+                ? this::republish
+                : inbound::handle;
+
+        // Offsets are never committed: the group only names the consumer
+        ReceiverOptions<String, byte[]> options = baseOptions
+                .consumerProperty(ConsumerConfig.GROUP_ID_CONFIG, groupId)
+                .consumerProperty(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false)
+                .assignment(ranges.keySet())
+                .addAssignListener(partitions -> partitions.forEach(p ->
+                        p.seek(ranges.get(p.topicPartition()).start())));
+
+        Set<TopicPartition> pending = ConcurrentHashMap.newKeySet();
+        pending.addAll(ranges.keySet());
+
+        Flux<ConsumerRecord<String, byte[]>> matching = KafkaReceiver.create(options).receive()
+                .<ConsumerRecord<String, byte[]>>map(record -> record)
+                .doOnNext(record -> {
+                    if (record.offset() >= ranges.get(partitionOf(record)).stop() - 1) {
+                        pending.remove(partitionOf(record));
+                    }
+                })
+                .takeUntil(record -> pending.isEmpty())
+                .filter(record -> record.offset() < ranges.get(partitionOf(record)).stop())
+                .doOnNext(record -> run.scanned.incrementAndGet())
+                .filter(record -> matches(record, request.headers()))
+                .doOnNext(record -> run.matched.incrementAndGet());
+
+        if (request.maxRecords() > 0) {
+            matching = matching.take(request.maxRecords());
+        }
+
+        return matching
+                .flatMap(record -> (bucket == null ? Mono.<Void>empty() : bucket.acquire())
+                                .then(target.apply(record))
+                                .thenReturn(true)
+                                .doOnNext(ok -> {
+                                    run.replayed.incrementAndGet();
+                                    replayed.increment();
+                                })
+                                .onErrorResume(ex -> {
+                                    run.failed.incrementAndGet();
+                                    failed.increment();
+                                    log.warn(
+                                            "[Inbound][Kafka] DLQ record replay failed",
+                                            StructuredArguments.kv("dlqTopic", record.topic()),
+                                            StructuredArguments.kv("partition", record.partition()),
+                                            StructuredArguments.kv("offset", record.offset()),
+                                            StructuredArguments.kv("key", record.key()),
+                                            StructuredArguments.kv("payloadSha256", PayloadLogging.sha256(record.value())),
+                                            StructuredArguments.kv("exception", ex.toString())
+                                    );
+                                    return Mono.just(false);
+                                }),
+                        parallelism)
+                // Ends a replay whose last records never arrive (e.g. deleted by retention meanwhile)
+                .timeout(settings.getIdleTimeout(), Flux.empty())
+                .then(Mono.fromCallable(() -> request.maxRecords() > 0 && run.matched.get() >= request.maxRecords()
+                        ? Set.<TopicPartition>of()
+                        : Set.copyOf(pending)));
+    }
+
+    /**
+     * Per partition: [start, stop) offsets to replay, only for partitions with records in range.
+     */
+    private Map<TopicPartition, Range> ranges(DlqReplayRequest request) {
+        Map<String, Object> props = new HashMap<>(baseOptions.consumerProperties());
+        props.remove(ConsumerConfig.GROUP_ID_CONFIG);
+
+        try (KafkaConsumer<String, byte[]> consumer =
+                     new KafkaConsumer<>(props, new StringDeserializer(), new ByteArrayDeserializer())) {
+
+            List<PartitionInfo> infos = consumer.partitionsFor(request.dlqTopic(), METADATA_TIMEOUT);
+            if (infos == null || infos.isEmpty()) {
+                throw new IllegalArgumentException("Unknown DLQ topic: " + request.dlqTopic());
+            }
+
+            List<TopicPartition> partitions = infos.stream()
+                    .map(i -> new TopicPartition(i.topic(), i.partition()))
+                    .toList();
+
+            Map<TopicPartition, Long> begin = consumer.beginningOffsets(partitions, METADATA_TIMEOUT);
+            Map<TopicPartition, Long> end = consumer.endOffsets(partitions, METADATA_TIMEOUT);
+
+            Map<TopicPartition, OffsetAndTimestamp> fromTime = request.fromOffset() == null && request.fromTimestamp() != null
+                    ? consumer.offsetsForTimes(at(partitions, request.fromTimestamp()), METADATA_TIMEOUT)
+                    : null;
+            Map<TopicPartition, OffsetAndTimestamp> toTime = request.toOffset() == null && request.toTimestamp() != null
+                    ? consumer.offsetsForTimes(at(partitions, request.toTimestamp()), METADATA_TIMEOUT)
+                    : null;
+
+            Map<TopicPartition, Range> ranges = new HashMap<>();
+            for (TopicPartition tp : partitions) {
+                Range range = range(request, begin.get(tp), end.get(tp),
+                        fromTime != null ? fromTime.get(tp) : null,
+                        toTime != null ? toTime.get(tp) : null);
+                if (range != null) {
+                    ranges.put(tp, range);
+                }
+            }
+            return ranges;
+        }
+    }
+
+    /**
+     * [start, stop) of one partition whose log spans [first, last); null when empty.
+     *
+     * @param fromTime first offset at or after fromTimestamp (null: none or not asked for).
+     * @param toTime   first offset at or after toTimestamp (null: none or not asked for).
+     */
+    static Range range(DlqReplayRequest request,
+                       long first,
+                       long last,
+                       OffsetAndTimestamp fromTime,
+                       OffsetAndTimestamp toTime) {
+        long start = request.fromOffset() != null ? Math.max(first, request.fromOffset())
+                : request.fromTimestamp() != null ? Math.max(first, offsetOr(fromTime, last))
+                : first;
+        long stop = request.toOffset() != null ? Math.min(last, request.toOffset() + 1)
+                : request.toTimestamp() != null ? Math.min(last, offsetOr(toTime, last))
+                : last;
+
+        return start < stop ? new Range(start, stop) : null;
+    }
+
+    // ---- targets ----
+
+    /**
+     * Publishes the record to its origin topic with its original headers (DLQ and retry
+     * metadata removed), so it is consumed as a fresh record.
+     */
+    private Mono<Void> republish(ConsumerRecord<String, byte[]> record) {
+        return Mono.defer(() -> {
+            RecordHeaders headers = new RecordHeaders();
+            for (Header h : record.headers()) {
+                if (!InboundDlqHeaders.isDlqHeader(h.key()) && !InboundRetryHeaders.isRetryHeader(h.key())) {
+                    headers.add(h);
+                }
+            }
+
+            ProducerRecord<String, byte[]> origin =
+                    new ProducerRecord<>(originTopic(record), null, record.key(), record.value(), headers);
+
+            return sender.send(Mono.just(SenderRecord.create(origin, record.offset()))).then();
+        });
+    }
+
+    private String originTopic(ConsumerRecord<String, byte[]> record) {
+        String origin = InboundRetryHeaders.header(record, InboundDlqHeaders.ORIGIN_TOPIC);
+        if (origin != null) {
+            return origin;
+        }
+        origin = InboundRetryHeaders.header(record, InboundRetryHeaders.ORIGIN_TOPIC);
+        if (origin != null) {
+            return origin;
+        }
+        String suffix = properties.getDlq().getSuffix();
+        if (record.topic().endsWith(suffix)) {
+            return record.topic().substring(0, record.topic().length() - suffix.length());
+        }
+        throw new IllegalStateException("Cannot tell the origin topic of a record from " + record.topic());
+    }
+
+    // ---- helpers ----
+
+    private static boolean matches(ConsumerRecord<String, byte[]> record, Map<String, String> headers) {
+        for (Map.Entry<String, String> expected : headers.entrySet()) {
+            Header h = record.headers().lastHeader(expected.getKey());
+            if (h == null || h.value() == null
+                    || !expected.getValue().equals(new String(h.value(), StandardCharsets.UTF_8))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static TopicPartition partitionOf(ConsumerRecord<?, ?> record) {
+        return new TopicPartition(record.topic(), record.partition());
+    }
+
+    private static Map<TopicPartition, Long> at(List<TopicPartition> partitions, Instant instant) {
+        Map<TopicPartition, Long> query = new HashMap<>();
+        partitions.forEach(tp -> query.put(tp, instant.toEpochMilli()));
+        return query;
+    }
+
+    private static long offsetOr(OffsetAndTimestamp found, long fallback) {
+        return found == null ? fallback : found.offset();
+    }
+
+    private Counter counter(String dlqTopic, String result) {
+        return Counter.builder(METRIC_REPLAYED)
+                .tag("topic", dlqTopic)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static final class Run {
+
+        private final DlqReplayRequest request;
+        private final Instant startedAt = Instant.now();
+        private final AtomicLong scanned = new AtomicLong();
+        private final AtomicLong matched = new AtomicLong();
+        private final AtomicLong replayed = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+
+        private volatile DlqReplayReport.Status status = DlqReplayReport.Status.RUNNING;
+        private volatile Instant finishedAt;
+        private volatile String error;
+        private volatile Disposable subscription;
+
+        private Run(DlqReplayRequest request) {
+            this.request = request;
+        }
+
+        /**
+         * First terminal status wins.
+         */
+        synchronized DlqReplayReport finish(DlqReplayReport.Status terminal, String error) {
+            if (status == DlqReplayReport.Status.RUNNING) {
+                status = terminal;
+                finishedAt = Instant.now();
+                this.error = error;
+            }
+            return report();
+        }
+
+        DlqReplayReport report() {
+            return new DlqReplayReport(
+                    request.dlqTopic(),
+                    request.target(),
+                    status,
+                    scanned.get(),
+                    matched.get(),
+                    replayed.get(),
+                    failed.get(),
+                    startedAt,
+                    finishedAt,
+                    error
+            );
+        }
+    }
+}
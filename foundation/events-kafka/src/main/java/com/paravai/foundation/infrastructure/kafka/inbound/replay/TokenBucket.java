@@ -0,0 +1,53 @@
+package com.paravai.foundation.infrastructure.kafka.inbound.replay;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket refilled at a fixed rate, holding at most burst tokens.
+ *
+ * acquire() takes a token right away; when none is left the token is borrowed against
+ * the refill and the returned Mono completes once it has been earned (a timer, no thread
+ * is held). Borrowing keeps waiting callers in order without a queue.
+ */
+final class TokenBucket {
+
+    private final double tokensPerNano;
+    private final double capacity;
+    private final LongSupplier nanoTime;
+
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoTime) {
+        if (permitsPerSecond <= 0) throw new IllegalArgumentException("permitsPerSecond must be > 0");
+        this.tokensPerNano = permitsPerSecond / 1_000_000_000d;
+        this.capacity = Math.max(1, burst);
+        this.nanoTime = nanoTime;
+        this.tokens = this.capacity;
+        this.lastRefill = nanoTime.getAsLong();
+    }
+
+    Mono<Void> acquire() {
+        long waitNanos = reserve();
+        return waitNanos <= 0 ? Mono.empty() : Mono.delay(Duration.ofNanos(waitNanos)).then();
+    }
+
+    /**
+     * Takes a token and returns how long until it is actually available (0 when it is).
+     */
+    synchronized long reserve() {
+        long now = nanoTime.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+    }
+}
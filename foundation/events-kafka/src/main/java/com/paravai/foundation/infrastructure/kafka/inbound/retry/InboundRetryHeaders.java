@@ -0,0 +1,78 @@
+package com.paravai.foundation.infrastructure.kafka.inbound.retry;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Headers added to records forwarded to a retry topic. The original headers (routing,
+ * trace, content type) are kept as they are.
+ */
+public final class InboundRetryHeaders {
+
+    /** Number of times the record has been forwarded for retry (1 on the first tier). */
+    public static final String ATTEMPT = "retryAttempt";
+    /** Epoch millis before which the tier consumer must not process the record. */
+    public static final String DUE_AT = "retryDueAt";
+    /** Topic, partition and offset the record was first consumed from. */
+    public static final String ORIGIN_TOPIC = "retryOriginTopic";
+    public static final String ORIGIN_PARTITION = "retryOriginPartition";
+    public static final String ORIGIN_OFFSET = "retryOriginOffset";
+    /** Last processing error, exception class and message. */
+    public static final String LAST_ERROR = "retryLastError";
+
+    private InboundRetryHeaders() {
+    }
+
+    public static boolean isRetryHeader(String name) {
+        return ATTEMPT.equals(name)
+                || DUE_AT.equals(name)
+                || ORIGIN_TOPIC.equals(name)
+                || ORIGIN_PARTITION.equals(name)
+                || ORIGIN_OFFSET.equals(name)
+                || LAST_ERROR.equals(name);
+    }
+
+    public static int attempt(ConsumerRecord<?, ?> record) {
+        String value = value(record.headers(), ATTEMPT);
+        return value == null ? 0 : Integer.parseInt(value);
+    }
+
+    /**
+     * Due time in epoch millis; 0 (due now) for records without the header.
+     */
+    public static long dueAt(ConsumerRecord<?, ?> record) {
+        String value = value(record.headers(), DUE_AT);
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    /**
+     * Topic the record was originally published to: the record's own topic unless it was
+     * read from a retry topic.
+     */
+    public static String originTopic(ConsumerRecord<?, ?> record) {
+        String value = value(record.headers(), ORIGIN_TOPIC);
+        return value == null ? record.topic() : value;
+    }
+
+    /**
+     * Last value of a header as UTF-8; null when absent or empty.
+     */
+    public static String header(ConsumerRecord<?, ?> record, String name) {
+        return value(record.headers(), name);
+    }
+
+    static String value(Headers headers, String name) {
+        Header h = headers.lastHeader(name);
+        if (h == null || h.value() == null || h.value().length == 0) {
+            return null;
+        }
+        return new String(h.value(), StandardCharsets.UTF_8);
+    }
+
+    static byte[] bytes(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,99 @@
+package com.paravai.foundation.infrastructure.kafka.inbound.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import reactor.core.publisher.Mono;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Forwards a failed inbound record to a retry topic: same key, value bytes and headers,
+ * plus the retry headers (attempt, due time, origin, last error).
+ */
+public class KafkaInboundRetryPublisher {
+
+    private static final String METRIC_FORWARDED = "foundation.inbound.retry.forwarded";
+    private static final int MAX_ERROR_LENGTH = 512;
+
+    private final KafkaSender<String, byte[]> sender;
+    private final MeterRegistry registry;
+    private final Clock clock;
+    private final Map<String, Counter> forwardedByTopic = new ConcurrentHashMap<>();
+
+    public KafkaInboundRetryPublisher(KafkaSender<String, byte[]> sender, MeterRegistry registry) {
+        this(sender, registry, Clock.systemUTC());
+    }
+
+    KafkaInboundRetryPublisher(KafkaSender<String, byte[]> sender, MeterRegistry registry, Clock clock) {
+        this.sender = Objects.requireNonNull(sender, "sender");
+        this.registry = Objects.requireNonNull(registry, "registry");
+        this.clock = Objects.requireNonNull(clock, "clock");
+    }
+
+    /**
+     * @param attempt retry attempt the forwarded record represents (1 for the first tier).
+     * @param delay   the record is due this long from now.
+     */
+    public Mono<Void> forward(ConsumerRecord<String, byte[]> record,
+                              String retryTopic,
+                              int attempt,
+                              Duration delay,
+                              Throwable error) {
+
+        Objects.requireNonNull(record, "record");
+        Objects.requireNonNull(retryTopic, "retryTopic");
+        Objects.requireNonNull(delay, "delay");
+
+        return Mono.defer(() -> {
+            RecordHeaders headers = new RecordHeaders();
+            for (Header h : record.headers()) {
+                if (!InboundRetryHeaders.isRetryHeader(h.key())) {
+                    headers.add(h);
+                }
+            }
+
+            boolean fromRetryTopic = InboundRetryHeaders.value(record.headers(), InboundRetryHeaders.ORIGIN_TOPIC) != null;
+
+            headers.add(InboundRetryHeaders.ATTEMPT, InboundRetryHeaders.bytes(attempt));
+            headers.add(InboundRetryHeaders.DUE_AT, InboundRetryHeaders.bytes(clock.millis() + delay.toMillis()));
+            headers.add(InboundRetryHeaders.ORIGIN_TOPIC, InboundRetryHeaders.bytes(InboundRetryHeaders.originTopic(record)));
+            headers.add(InboundRetryHeaders.ORIGIN_PARTITION, InboundRetryHeaders.bytes(fromRetryTopic
+                    ? InboundRetryHeaders.value(record.headers(), InboundRetryHeaders.ORIGIN_PARTITION)
+                    : record.partition()));
+            headers.add(InboundRetryHeaders.ORIGIN_OFFSET, InboundRetryHeaders.bytes(fromRetryTopic
+                    ? InboundRetryHeaders.value(record.headers(), InboundRetryHeaders.ORIGIN_OFFSET)
+                    : record.offset()));
+            if (error != null) {
+                headers.add(InboundRetryHeaders.LAST_ERROR, InboundRetryHeaders.bytes(truncate(error.toString())));
+            }
+
+            ProducerRecord<String, byte[]> forwarded =
+                    new ProducerRecord<>(retryTopic, null, record.key(), record.value(), headers);
+
+            return sender.send(Mono.just(SenderRecord.create(forwarded, record.offset())))
+                    .next()
+                    .doOnNext(result -> forwarded(retryTopic).increment())
+                    .then();
+        });
+    }
+
+    private Counter forwarded(String retryTopic) {
+        return forwardedByTopic.computeIfAbsent(retryTopic, topic -> Counter.builder(METRIC_FORWARDED)
+                .tag("topic", topic)
+                .register(registry));
+    }
+
+    private static String truncate(String s) {
+        return s.length() <= MAX_ERROR_LENGTH ? s : s.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,134 @@
+package com.paravai.foundation.infrastructure.kafka.inbound.retry;
+
+import net.logstash.logback.argument.StructuredArguments;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.kafka.receiver.KafkaReceiver;
+import reactor.kafka.receiver.ReceiverOptions;
+import reactor.kafka.receiver.ReceiverRecord;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Consumer of one retry tier's topics.
+ *
+ * Records of a partition are processed in order, each once its due time has passed. When
+ * the next record of a partition is not due yet, that partition is paused (no fetches, the
+ * consumer keeps polling and stays in the group), a timer runs until the due time and the
+ * partition is resumed. Other partitions keep flowing meanwhile.
+ *
+ * Records share the tier delay and are appended in failure order, so the head of a
+ * partition is always the first one due.
+ */
+public class KafkaInboundRetryTierConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(KafkaInboundRetryTierConsumer.class);
+
+    private final String tier;
+    private final List<String> topics;
+    private final KafkaReceiver<String, byte[]> receiver;
+    private final Function<ReceiverRecord<String, byte[]>, Mono<Void>> processor;
+    private final Clock clock;
+
+    private Disposable subscription;
+
+    /**
+     * @param baseOptions consumer settings with commit batching already applied; group id,
+     *                    subscription and max poll records are set here.
+     * @param processor   handles a due record, including acknowledging it.
+     */
+    public KafkaInboundRetryTierConsumer(ReceiverOptions<String, byte[]> baseOptions,
+                                         String groupId,
+                                         String tier,
+                                         List<String> topics,
+                                         int maxPollRecords,
+                                         Function<ReceiverRecord<String, byte[]>, Mono<Void>> processor) {
+        this(baseOptions, groupId, tier, topics, maxPollRecords, processor, Clock.systemUTC());
+    }
+
+    KafkaInboundRetryTierConsumer(ReceiverOptions<String, byte[]> baseOptions,
+                                  String groupId,
+                                  String tier,
+                                  List<String> topics,
+                                  int maxPollRecords,
+                                  Function<ReceiverRecord<String, byte[]>, Mono<Void>> processor,
+                                  Clock clock) {
+        this(tier, topics, KafkaReceiver.create(Objects.requireNonNull(baseOptions, "baseOptions")
+                .consumerProperty(ConsumerConfig.GROUP_ID_CONFIG, Objects.requireNonNull(groupId, "groupId"))
+                .consumerProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, Math.max(1, maxPollRecords))
+                .subscription(List.copyOf(Objects.requireNonNull(topics, "topics")))), processor, clock);
+    }
+
+    KafkaInboundRetryTierConsumer(String tier,
+                                  List<String> topics,
+                                  KafkaReceiver<String, byte[]> receiver,
+                                  Function<ReceiverRecord<String, byte[]>, Mono<Void>> processor,
+                                  Clock clock) {
+        this.tier = Objects.requireNonNull(tier, "tier");
+        this.topics = List.copyOf(Objects.requireNonNull(topics, "topics"));
+        this.receiver = Objects.requireNonNull(receiver, "receiver");
+        this.processor = Objects.requireNonNull(processor, "processor");
+        this.clock = Objects.requireNonNull(clock, "clock");
+    }
+
+    public void start() {
+        log.info(
+                "[Inbound][Kafka] Retry tier consumer started",
+                StructuredArguments.kv("tier", tier),
+                StructuredArguments.value("topics", topics)
+        );
+
+        this.subscription = receiver.receive()
+                .groupBy(record -> record.receiverOffset().topicPartition())
+                .flatMap(partition -> partition.concatMap(this::processWhenDue), Integer.MAX_VALUE)
+                .subscribe(
+                        null,
+                        ex -> log.error(
+                                "[Inbound][Kafka] Retry tier stream error",
+                                StructuredArguments.kv("tier", tier),
+                                StructuredArguments.kv("error", ex.toString()),
+                                ex
+                        )
+                );
+    }
+
+    public void stop() {
+        if (subscription != null && !subscription.isDisposed()) {
+            subscription.dispose();
+        }
+    }
+
+    private Mono<Void> processWhenDue(ReceiverRecord<String, byte[]> record) {
+        long wait = InboundRetryHeaders.dueAt(record) - clock.millis();
+        if (wait <= 0) {
+            return processor.apply(record);
+        }
+
+        TopicPartition partition = record.receiverOffset().topicPartition();
+
+        // A partition revoked while waiting is no longer ours to pause or resume
+        return receiver.doOnConsumer(consumer -> {
+                    if (consumer.assignment().contains(partition)) {
+                        consumer.pause(List.of(partition));
+                    }
+                    return partition;
+                })
+                .then(Mono.delay(Duration.ofMillis(wait)))
+                .then(receiver.doOnConsumer(consumer -> {
+                    if (consumer.assignment().contains(partition)) {
+                        consumer.resume(List.of(partition));
+                    }
+                    return partition;
+                }))
+                .then(Mono.defer(() -> processor.apply(record)));
+    }
+}
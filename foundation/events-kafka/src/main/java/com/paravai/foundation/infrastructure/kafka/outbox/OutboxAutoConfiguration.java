@@ -0,0 +1,89 @@
+package com.paravai.foundation.infrastructure.kafka.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paravai.foundation.infrastructure.kafka.KafkaIntegrationEventPublisher;
+import com.paravai.foundation.persistence.mongo.MongoIndexInitializer;
+import com.paravai.foundation.persistence.mongo.outbox.OutboxMessageDocument;
+import com.paravai.foundation.persistence.mongo.outbox.ReactiveMongoOutboxStore;
+import com.paravai.foundation.persistence.mongo.outbox.TransactionalOutbox;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.ReactiveMongoTransactionManager;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxAutoConfiguration {
+
+    // ---- outbox disabled: same call shape, no transaction, direct Kafka publishing ----
+
+    @Bean
+    @ConditionalOnProperty(prefix = "integration.outbox", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public TransactionalOutbox passthroughTransactionalOutbox() {
+        return TransactionalOutbox.passthrough();
+    }
+
+    // ---- outbox enabled ----
+
+    @Bean
+    @ConditionalOnProperty(prefix = "integration.outbox", name = "enabled", havingValue = "true")
+    public ReactiveMongoTransactionManager outboxTransactionManager(ReactiveMongoDatabaseFactory databaseFactory) {
+        return new ReactiveMongoTransactionManager(databaseFactory);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "integration.outbox", name = "enabled", havingValue = "true")
+    public TransactionalOutbox transactionalOutbox(ReactiveMongoTransactionManager outboxTransactionManager) {
+        return TransactionalOutbox.of(TransactionalOperator.create(outboxTransactionManager));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "integration.outbox", name = "enabled", havingValue = "true")
+    public ReactiveMongoOutboxStore reactiveMongoOutboxStore(ReactiveMongoTemplate mongoTemplate) {
+        return new ReactiveMongoOutboxStore(mongoTemplate);
+    }
+
+    /**
+     * Claim / status indexes and the TTL index purging published rows.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "integration.outbox", name = "enabled", havingValue = "true")
+    public MongoIndexInitializer outboxIndexInitializer(ReactiveMongoTemplate mongoTemplate) {
+        return new MongoIndexInitializer(mongoTemplate, List.of(OutboxMessageDocument.class));
+    }
+
+    /**
+     * Takes precedence over KafkaIntegrationEventPublisher for event handlers, so
+     * envelopes land in the outbox; the relay keeps using the Kafka publisher directly.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "integration.outbox", name = "enabled", havingValue = "true")
+    public OutboxIntegrationEventPublisher outboxIntegrationEventPublisher(ReactiveMongoOutboxStore store,
+                                                                           ObjectMapper objectMapper) {
+        return new OutboxIntegrationEventPublisher(store, objectMapper);
+    }
+
+    /**
+     * The relay publishes through KafkaIntegrationEventPublisher, which only exists with
+     * kafka.enabled: without Kafka, rows stay PENDING until a relay-enabled instance runs.
+     */
+    @Bean
+    @ConditionalOnExpression("${integration.outbox.enabled:false} and ${integration.outbox.relay.enabled:true} and ${kafka.enabled:true}")
+    public OutboxRelay outboxRelay(ReactiveMongoOutboxStore store,
+                                   KafkaIntegrationEventPublisher kafkaPublisher,
+                                   ObjectMapper objectMapper,
+                                   OutboxProperties properties,
+                                   MeterRegistry registry) {
+        return new OutboxRelay(store, kafkaPublisher, objectMapper, properties, registry);
+    }
+}
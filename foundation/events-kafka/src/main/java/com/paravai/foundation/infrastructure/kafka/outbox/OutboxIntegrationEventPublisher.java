@@ -0,0 +1,74 @@
+package com.paravai.foundation.infrastructure.kafka.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paravai.foundation.infrastructure.kafka.IntegrationEventPublisher;
+import com.paravai.foundation.integration.domain.event.DomainEventEnvelope;
+import com.paravai.foundation.persistence.mongo.outbox.OutboxMessageDocument;
+import com.paravai.foundation.persistence.mongo.outbox.ReactiveMongoOutboxStore;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * IntegrationEventPublisher that appends envelopes to the Mongo outbox instead of
+ * sending them to Kafka.
+ *
+ * Meant to be called inside the command transaction; the insert then commits or rolls
+ * back with the aggregate. Errors are propagated on purpose: swallowing them would
+ * commit the aggregate without its events.
+ */
+public class OutboxIntegrationEventPublisher implements IntegrationEventPublisher {
+
+    private final ReactiveMongoOutboxStore store;
+    private final ObjectMapper objectMapper;
+
+    public OutboxIntegrationEventPublisher(ReactiveMongoOutboxStore store, ObjectMapper objectMapper) {
+        this.store = Objects.requireNonNull(store, "store");
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
+    }
+
+    @Override
+    public <T> Mono<Void> publish(DomainEventEnvelope<T> envelope) {
+        if (envelope == null) {
+            return Mono.error(new IllegalArgumentException("envelope cannot be null"));
+        }
+        return Mono.fromCallable(() -> toMessage(envelope))
+                .flatMap(store::append);
+    }
+
+    @Override
+    public Mono<Void> publishAll(List<? extends DomainEventEnvelope<?>> envelopes) {
+        if (envelopes == null || envelopes.isEmpty()) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> {
+                    List<OutboxMessageDocument> messages = new ArrayList<>(envelopes.size());
+                    for (DomainEventEnvelope<?> envelope : envelopes) {
+                        messages.add(toMessage(envelope));
+                    }
+                    return messages;
+                })
+                .flatMap(store::appendAll);
+    }
+
+    private OutboxMessageDocument toMessage(DomainEventEnvelope<?> envelope) throws JsonProcessingException {
+        return OutboxMessageDocument.pending(
+                messageId(envelope),
+                envelope.getEntityId(),
+                envelope.getEntityType() + "." + envelope.getChangeType(),
+                envelope.getSchemaId(),
+                objectMapper.writeValueAsString(envelope)
+        );
+    }
+
+    /**
+     * One domain event fans out to several channels (audit, historization, integration)
+     * sharing the same eventId, so the schema is part of the outbox identity.
+     */
+    static String messageId(DomainEventEnvelope<?> envelope) {
+        return envelope.getEventId() + ":" + envelope.getSchemaId();
+    }
+}
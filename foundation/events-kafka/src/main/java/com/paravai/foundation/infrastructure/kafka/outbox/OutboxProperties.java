@@ -0,0 +1,54 @@
+package com.paravai.foundation.infrastructure.kafka.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Transactional outbox for integration events.
+ *
+ * When enabled, IntegrationEventPublisher calls are turned into outbox inserts that
+ * commit with the aggregate; {@link OutboxRelay} publishes them to Kafka afterwards.
+ * When disabled, envelopes go straight to Kafka as before (best-effort, inline).
+ */
+@ConfigurationProperties(prefix = "integration.outbox")
+public class OutboxProperties {
+
+    private boolean enabled = false;
+    private Relay relay = new Relay();
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public Relay getRelay() { return relay; }
+    public void setRelay(Relay relay) { this.relay = relay; }
+
+    public static class Relay {
+        private boolean enabled = true;
+        private long pollIntervalMs = 500;
+        private int batchSize = 100;
+        private long leaseMs = 30_000;
+        private int maxAttempts = 10;
+        private long backoffMs = 1_000;
+        private long maxBackoffMs = 60_000;
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+        public long getPollIntervalMs() { return pollIntervalMs; }
+        public void setPollIntervalMs(long pollIntervalMs) { this.pollIntervalMs = pollIntervalMs; }
+
+        public int getBatchSize() { return batchSize; }
+        public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+        public long getLeaseMs() { return leaseMs; }
+        public void setLeaseMs(long leaseMs) { this.leaseMs = leaseMs; }
+
+        public int getMaxAttempts() { return maxAttempts; }
+        public void setMaxAttempts(int maxAttempts) { this.maxAttempts = maxAttempts; }
+
+        public long getBackoffMs() { return backoffMs; }
+        public void setBackoffMs(long backoffMs) { this.backoffMs = backoffMs; }
+
+        public long getMaxBackoffMs() { return maxBackoffMs; }
+        public void setMaxBackoffMs(long maxBackoffMs) { this.maxBackoffMs = maxBackoffMs; }
+    }
+}
@@ -0,0 +1,166 @@
+package com.paravai.foundation.infrastructure.kafka.outbox;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paravai.foundation.infrastructure.kafka.KafkaIntegrationEventPublisher;
+import com.paravai.foundation.integration.domain.event.DomainEventEnvelope;
+import com.paravai.foundation.persistence.mongo.outbox.OutboxMessageDocument;
+import com.paravai.foundation.persistence.mongo.outbox.ReactiveMongoOutboxStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Background relay: drains the Mongo outbox into Kafka.
+ *
+ * Polls on a fixed interval and keeps draining while full batches come back, so a burst
+ * is flushed without waiting for the next tick. Each claimed batch goes to Kafka through
+ * {@link KafkaIntegrationEventPublisher#publishAll}; rows are marked PUBLISHED only after
+ * the broker acked the whole batch, otherwise they are rescheduled with backoff. While a
+ * message waits for its retry, the store does not claim later messages of the same
+ * entity, so a retry never lets them overtake it.
+ *
+ * Delivery is at-least-once: a crash between the ack and the status update republishes
+ * the batch once the lease expires. Consumers must be idempotent on eventId.
+ */
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final TypeReference<DomainEventEnvelope<JsonNode>> ENVELOPE_TYPE = new TypeReference<>() {};
+
+    private static final String METRIC_RELAYED = "foundation.outbox.relay.published";
+    private static final String METRIC_RESCHEDULED = "foundation.outbox.relay.rescheduled";
+    private static final String METRIC_POISONED = "foundation.outbox.relay.poisoned";
+    private static final String METRIC_BATCH_SIZE = "foundation.outbox.relay.batch.size";
+
+    private final ReactiveMongoOutboxStore store;
+    private final KafkaIntegrationEventPublisher kafkaPublisher;
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties.Relay props;
+
+    private final Counter relayed;
+    private final Counter rescheduled;
+    private final Counter poisoned;
+    private final DistributionSummary batchSize;
+
+    private Disposable subscription;
+
+    public OutboxRelay(ReactiveMongoOutboxStore store,
+                       KafkaIntegrationEventPublisher kafkaPublisher,
+                       ObjectMapper objectMapper,
+                       OutboxProperties properties,
+                       MeterRegistry registry) {
+        this.store = Objects.requireNonNull(store, "store");
+        this.kafkaPublisher = Objects.requireNonNull(kafkaPublisher, "kafkaPublisher");
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
+        this.props = Objects.requireNonNull(properties, "properties").getRelay();
+        Objects.requireNonNull(registry, "registry");
+
+        this.relayed = Counter.builder(METRIC_RELAYED)
+                .description("Outbox messages published to Kafka by the relay")
+                .register(registry);
+        this.rescheduled = Counter.builder(METRIC_RESCHEDULED)
+                .description("Outbox messages rescheduled after a failed publish")
+                .register(registry);
+        this.poisoned = Counter.builder(METRIC_POISONED)
+                .description("Outbox messages parked as FAILED because they cannot be decoded")
+                .register(registry);
+        this.batchSize = DistributionSummary.builder(METRIC_BATCH_SIZE)
+                .baseUnit("events")
+                .description("Outbox relay batch size")
+                .register(registry);
+    }
+
+    @PostConstruct
+    public void start() {
+        log.info("Starting outbox relay (pollIntervalMs={}, batchSize={}, leaseMs={})",
+                props.getPollIntervalMs(), props.getBatchSize(), props.getLeaseMs());
+
+        this.subscription = Flux.interval(Duration.ofMillis(props.getPollIntervalMs()))
+                .onBackpressureDrop()
+                .concatMap(tick -> drain()
+                        .onErrorResume(ex -> {
+                            log.warn("Outbox relay cycle failed; retrying on next tick", ex);
+                            return Mono.empty();
+                        }), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null && !subscription.isDisposed()) {
+            log.info("Stopping outbox relay");
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * Relays batches until a partial (or empty) batch is returned.
+     */
+    Mono<Void> drain() {
+        return relayOnce()
+                .expand(count -> count >= props.getBatchSize() ? relayOnce() : Mono.empty())
+                .then();
+    }
+
+    private Mono<Integer> relayOnce() {
+        return store.claimBatch(props.getBatchSize(), Duration.ofMillis(props.getLeaseMs()))
+                .collectList()
+                .flatMap(batch -> batch.isEmpty() ? Mono.just(0) : publishBatch(batch).thenReturn(batch.size()));
+    }
+
+    private Mono<Void> publishBatch(List<OutboxMessageDocument> batch) {
+        List<OutboxMessageDocument> decodable = new ArrayList<>(batch.size());
+        List<DomainEventEnvelope<JsonNode>> envelopes = new ArrayList<>(batch.size());
+        List<Mono<Void>> poison = new ArrayList<>();
+
+        for (OutboxMessageDocument message : batch) {
+            try {
+                envelopes.add(objectMapper.readValue(message.getPayload(), ENVELOPE_TYPE));
+                decodable.add(message);
+            } catch (Exception ex) {
+                log.error("Outbox message {} cannot be decoded; parking as FAILED", message.getId(), ex);
+                poisoned.increment();
+                poison.add(store.markFailed(message.getId(), ex));
+            }
+        }
+
+        if (envelopes.isEmpty()) {
+            return Mono.when(poison);
+        }
+
+        batchSize.record(envelopes.size());
+        List<String> ids = decodable.stream().map(OutboxMessageDocument::getId).toList();
+
+        Mono<Void> relay = kafkaPublisher.publishAll(envelopes)
+                .then(store.markPublished(ids))
+                .doOnNext(count -> relayed.increment(count.doubleValue()))
+                .then()
+                .onErrorResume(ex -> {
+                    log.warn("Outbox relay failed to publish batch of {} messages; rescheduling", ids.size(), ex);
+                    rescheduled.increment(ids.size());
+                    return store.markForRetry(
+                            decodable,
+                            ex,
+                            props.getMaxAttempts(),
+                            Duration.ofMillis(props.getBackoffMs()),
+                            Duration.ofMillis(props.getMaxBackoffMs()));
+                });
+
+        return Mono.when(poison).then(relay);
+    }
+}
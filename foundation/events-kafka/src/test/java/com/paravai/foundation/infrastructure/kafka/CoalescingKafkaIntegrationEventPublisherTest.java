@@ -0,0 +1,192 @@
+package com.paravai.foundation.infrastructure.kafka;
+
+import com.paravai.foundation.integration.domain.event.DomainEventEnvelope;
+import com.paravai.foundation.observability.metrics.ReactiveOperationMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
+import reactor.kafka.sender.SenderResult;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CoalescingKafkaIntegrationEventPublisherTest {
+
+    private static final String SCHEMA = "communities-management.community.integration.v1";
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final VirtualTimeScheduler lingerScheduler = VirtualTimeScheduler.create();
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+    private volatile Set<String> failing = Set.of();
+    private volatile Runnable beforeSend = () -> { };
+
+    @DisplayName("Given maxBatchSize pending envelopes, they should be sent as one flux in enqueue order, with the direct publisher metrics")
+    @Test
+    void publish_flushesAtMaxBatchSize() {
+        //Given
+        CoalescingKafkaIntegrationEventPublisher publisher = publisher(3, 1_000, 8_192);
+
+        //When
+        publisher.publishAll(List.of(envelope("e1", "c1"), envelope("e2", "c2"), envelope("e3", "c1")))
+                .block(Duration.ofSeconds(5));
+
+        //Then
+        assertEquals(List.of(List.of("e1", "e2", "e3")), batches);
+        assertEquals(3, count("cmm.outbound.events.published"));
+        assertEquals(3, registry.find("cmm.outbound.operation.duration").timers().stream()
+                .mapToLong(Timer::count).sum());
+    }
+
+    @DisplayName("Given fewer envelopes than maxBatchSize, they should be sent when the linger elapses")
+    @Test
+    void publish_flushesAfterLinger() {
+        //Given
+        CoalescingKafkaIntegrationEventPublisher publisher = publisher(10, 50, 8_192);
+
+        //When
+        CompletableFuture<Void> ack = publisher.publishAll(List.of(envelope("e1", "c1"), envelope("e2", "c1"))).toFuture();
+
+        //Then
+        assertTrue(batches.isEmpty());
+        assertFalse(ack.isDone());
+
+        lingerScheduler.advanceTimeBy(Duration.ofMillis(50));
+
+        assertEquals(List.of(List.of("e1", "e2")), batches);
+        assertTrue(ack.isDone());
+        assertFalse(ack.isCompletedExceptionally());
+    }
+
+    @DisplayName("Given one failed record in a flush, only its caller should fail and be counted as failed")
+    @Test
+    void publish_perRecordFailure() {
+        //Given
+        failing = Set.of("e2");
+        CoalescingKafkaIntegrationEventPublisher publisher = publisher(3, 1_000, 8_192);
+
+        //When
+        CompletableFuture<Void> a1 = publisher.publish(envelope("e1", "c1")).toFuture();
+        CompletableFuture<Void> a2 = publisher.publish(envelope("e2", "c2")).toFuture();
+        CompletableFuture<Void> a3 = publisher.publish(envelope("e3", "c3")).toFuture();
+
+        //Then
+        assertEquals(1, batches.size());
+        assertFalse(a1.isCompletedExceptionally());
+        assertTrue(a2.isCompletedExceptionally());
+        assertFalse(a3.isCompletedExceptionally());
+        assertEquals(2, count("cmm.outbound.events.published"));
+        assertEquals(1, count("cmm.outbound.events.failed"));
+    }
+
+    @DisplayName("Given a queue over capacity while a flush is running, events should still be sent in enqueue order")
+    @Test
+    void publish_overflowKeepsOrder() throws Exception {
+        //Given
+        CoalescingKafkaIntegrationEventPublisher publisher = publisher(1, 1_000, 1);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean first = new AtomicBoolean(true);
+        beforeSend = () -> {
+            if (first.compareAndSet(true, false)) {
+                entered.countDown();
+                await(release);
+            }
+        };
+
+        // This thread becomes the drainer and stays inside the first send
+        Thread drainer = new Thread(() -> publisher.publish(envelope("e0", "c1")).subscribe());
+        drainer.start();
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        //When
+        List<CompletableFuture<Void>> acks = new ArrayList<>();
+        for (String id : List.of("e1", "e2", "e3", "e4")) {
+            acks.add(publisher.publish(envelope(id, "c1")).toFuture());
+        }
+        assertEquals(1, batches.size());
+
+        release.countDown();
+        drainer.join(5_000);
+
+        //Then
+        assertEquals(List.of(List.of("e0"), List.of("e1"), List.of("e2"), List.of("e3"), List.of("e4")), batches);
+        assertTrue(acks.stream().allMatch(f -> f.isDone() && !f.isCompletedExceptionally()));
+        assertEquals(3, count("cmm.outbound.events.coalesced.overflow"));
+    }
+
+    // ---- fixtures ----
+
+    @SuppressWarnings("unchecked")
+    private CoalescingKafkaIntegrationEventPublisher publisher(int maxBatchSize, long lingerMs, int queueCapacity) {
+        KafkaSender<String, DomainEventEnvelope<?>> sender = mock(KafkaSender.class);
+        when(sender.send(any())).thenAnswer(inv -> {
+            Publisher<SenderRecord<String, DomainEventEnvelope<?>, Object>> records = inv.getArgument(0);
+            List<SenderRecord<String, DomainEventEnvelope<?>, Object>> batch = Flux.from(records).collectList().block();
+            // Recorded when sent, before any hook can block the sending thread
+            batches.add(batch.stream().map(r -> r.value().getEventId()).toList());
+            beforeSend.run();
+            return Flux.fromIterable(batch).map(r -> new Result(r.correlationMetadata(),
+                    failing.contains(r.value().getEventId()) ? new IllegalStateException("broker said no") : null));
+        });
+
+        KafkaIntegrationTopicResolver topics = new KafkaIntegrationTopicResolver(
+                "", "domain-events", "%s.events.%s", "audit", "historization");
+        KafkaIntegrationEventPublisher direct = new KafkaIntegrationEventPublisher(
+                sender, topics, new ReactiveOperationMetrics(registry), registry);
+
+        KafkaCoalescingProperties properties = new KafkaCoalescingProperties();
+        properties.setMaxBatchSize(maxBatchSize);
+        properties.setLingerMs(lingerMs);
+        properties.setQueueCapacity(queueCapacity);
+
+        return new CoalescingKafkaIntegrationEventPublisher(sender, topics, direct, properties, registry, lingerScheduler);
+    }
+
+    private double count(String name) {
+        return registry.find(name).counters().stream().mapToDouble(Counter::count).sum();
+    }
+
+    private static DomainEventEnvelope<Object> envelope(String eventId, String entityId) {
+        return new DomainEventEnvelope<>(
+                eventId, entityId, "Community", "CREATED", "community", Instant.now(),
+                null, null, SCHEMA, null, "payload");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Result(Object correlationMetadata, Exception exception) implements SenderResult<Object> {
+        @Override
+        public RecordMetadata recordMetadata() {
+            return null;
+        }
+    }
+}
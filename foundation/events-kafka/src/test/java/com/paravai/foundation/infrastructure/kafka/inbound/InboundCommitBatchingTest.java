@@ -0,0 +1,156 @@
+package com.paravai.foundation.infrastructure.kafka.inbound;
+
+import com.paravai.foundation.infrastructure.kafka.inbound.config.InboundKafkaProperties;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.kafka.receiver.KafkaReceiver;
+import reactor.kafka.receiver.ReceiverOptions;
+import reactor.kafka.receiver.ReceiverRecord;
+import reactor.kafka.receiver.internals.ConsumerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the inbound commit settings against reactor-kafka's real commit logic, on a
+ * MockConsumer instead of a broker.
+ */
+class InboundCommitBatchingTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition("orders", 0);
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final MockConsumer<String, byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    private final List<ReceiverRecord<String, byte[]>> received = new CopyOnWriteArrayList<>();
+    private final AtomicReference<OffsetAndMetadata> committedOnRevoke = new AtomicReference<>();
+
+    private Disposable subscription;
+
+    @AfterEach
+    void tearDown() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    @DisplayName("Given acknowledged offsets below the commit batch size, nothing should be committed until the batch fills")
+    @Test
+    void commit_byCount() throws Exception {
+        //Given
+        receive(3, 1_000_000, 3);
+
+        //When
+        received.get(0).receiverOffset().acknowledge();
+        received.get(1).receiverOffset().acknowledge();
+        Thread.sleep(300);
+
+        //Then
+        assertNull(committed());
+
+        //When
+        received.get(2).receiverOffset().acknowledge();
+
+        //Then
+        await(() -> committed() != null && committed().offset() == 3);
+    }
+
+    @DisplayName("Given fewer acknowledged offsets than the batch size, the commit interval should flush them")
+    @Test
+    void commit_byInterval() throws Exception {
+        //Given
+        receive(100, 200, 2);
+
+        //When
+        received.get(0).receiverOffset().acknowledge();
+
+        //Then
+        await(() -> committed() != null && committed().offset() == 1);
+    }
+
+    @DisplayName("Given acknowledged offsets when the partition is revoked, they should be committed before the revoke listeners run")
+    @Test
+    void commit_onRevoke() throws Exception {
+        //Given
+        receive(100, 1_000_000, 1);
+        received.get(0).receiverOffset().acknowledge();
+
+        //When
+        consumer.schedulePollTask(() -> consumer.rebalance(List.of()));
+
+        //Then
+        await(() -> committedOnRevoke.get() != null);
+        assertEquals(1, committedOnRevoke.get().offset());
+    }
+
+    private void receive(int commitBatchSize, long commitIntervalMs, int records) throws Exception {
+        InboundKafkaProperties properties = new InboundKafkaProperties();
+        properties.setCommitBatchSize(commitBatchSize);
+        properties.setCommitIntervalMs(commitIntervalMs);
+
+        ReceiverOptions<String, byte[]> options = KafkaInboundEventConsumer
+                .commitOptions(ReceiverOptions.<String, byte[]>create(), properties)
+                .pollTimeout(Duration.ofMillis(10))
+                .subscription(List.of(PARTITION.topic()))
+                // MockConsumer only reports commits of assigned partitions, so read them while revoking
+                .addRevokeListener(partitions -> {
+                    OffsetAndMetadata committed = committed();
+                    if (committed != null) {
+                        committedOnRevoke.set(committed);
+                    }
+                });
+
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+        consumer.schedulePollTask(() -> {
+            consumer.rebalance(List.of(PARTITION));
+            for (int i = 0; i < records; i++) {
+                consumer.addRecord(new ConsumerRecord<>(PARTITION.topic(), PARTITION.partition(), i, "k" + i,
+                        "{}".getBytes(StandardCharsets.UTF_8)));
+            }
+        });
+
+        subscription = KafkaReceiver.create(new MockConsumerFactory(), options)
+                .receive()
+                .subscribe(received::add);
+
+        await(() -> received.size() == records);
+    }
+
+    private OffsetAndMetadata committed() {
+        return consumer.committed(Set.of(PARTITION)).get(PARTITION);
+    }
+
+    private static void await(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.get()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within " + TIMEOUT);
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private final class MockConsumerFactory extends ConsumerFactory {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Consumer<K, V> createConsumer(ReceiverOptions<K, V> config) {
+            return (Consumer<K, V>) consumer;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.paravai.foundation.infrastructure.kafka.inbound;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paravai.foundation.infrastructure.kafka.inbound.config.InboundKafkaProperties;
+import com.paravai.foundation.infrastructure.kafka.inbound.dlq.DefaultInboundDlqTopicResolver;
+import com.paravai.foundation.infrastructure.kafka.inbound.dlq.InboundDlqPublisher;
+import com.paravai.foundation.infrastructure.kafka.inbound.retry.InboundRetryHeaders;
+import com.paravai.foundation.integration.application.inbound.InboundEventConsumer;
+import com.paravai.foundation.integration.application.inbound.RawInboundEvent;
+import com.paravai.foundation.integration.application.inbound.dispatcher.BatchEventInboundHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.kafka.receiver.ReceiverOffset;
+import reactor.kafka.receiver.ReceiverOptions;
+import reactor.kafka.receiver.ReceiverRecord;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class KafkaInboundEventConsumerTest {
+
+    private static final List<InboundKafkaProperties.Tier> TIERS = List.of(
+            new InboundKafkaProperties.Tier(".retry.5s", Duration.ofSeconds(5)),
+            new InboundKafkaProperties.Tier(".retry.1m", Duration.ofMinutes(1)));
+
+    private static final String SCHEMA = "communities-management.community.integration.v1";
+
+    private final InboundEventConsumer inbound = mock(InboundEventConsumer.class);
+    private final InboundDlqPublisher dlqPublisher = mock(InboundDlqPublisher.class);
+    private final BatchEventInboundHandler handler = mock(BatchEventInboundHandler.class);
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    @DisplayName("Given a record failing for the first time, it should go to the first tier")
+    @Test
+    void nextTier_firstFailure() {
+        //When
+        InboundKafkaProperties.Tier tier = KafkaInboundEventConsumer.nextTier(TIERS, record("orders", null));
+
+        //Then
+        assertEquals(".retry.5s", tier.getSuffix());
+    }
+
+    @DisplayName("Given a record forwarded once, it should go to the second tier")
+    @Test
+    void nextTier_byAttempt() {
+        //When
+        InboundKafkaProperties.Tier tier = KafkaInboundEventConsumer.nextTier(TIERS, record("orders.retry.5s", "1"));
+
+        //Then
+        assertEquals(".retry.1m", tier.getSuffix());
+    }
+
+    @DisplayName("Given a record that went through the last tier, no tier should be left and its DLQ should be the origin topic's")
+    @Test
+    void nextTier_dlqAfterLastTier() {
+        //Given
+        ReceiverRecord<String, byte[]> record = record("orders.retry.1m", "2");
+
+        //When
+        InboundKafkaProperties.Tier tier = KafkaInboundEventConsumer.nextTier(TIERS, record);
+
+        //Then
+        assertNull(tier);
+        assertEquals("orders.dlq", new DefaultInboundDlqTopicResolver(new InboundKafkaProperties()).resolve(record));
+    }
+
+    @DisplayName("Given KEY lanes, records of one key should share a lane whatever their partition, so they stay in order")
+    @Test
+    void laneOf_keyModeKeepsKeyTogether() {
+        //Given
+        List<ReceiverRecord<String, byte[]>> sameKey = List.of(keyed("c1", 0), keyed("c1", 1), keyed("c1", 2));
+
+        //When
+        List<Integer> lanes = sameKey.stream()
+                .map(r -> KafkaInboundEventConsumer.laneOf(r, InboundKafkaProperties.Concurrency.Mode.KEY, 4))
+                .distinct()
+                .toList();
+
+        //Then
+        assertEquals(1, lanes.size());
+    }
+
+    @DisplayName("Given KEY lanes, records of different keys of one partition should spread over several lanes")
+    @Test
+    void laneOf_keyModeSpreadsKeys() {
+        //When
+        long lanes = IntStream.range(0, 32)
+                .mapToObj(i -> keyed("c" + i, 0))
+                .map(r -> KafkaInboundEventConsumer.laneOf(r, InboundKafkaProperties.Concurrency.Mode.KEY, 4))
+                .distinct()
+                .count();
+
+        //Then
+        assertTrue(lanes > 1);
+    }
+
+    @DisplayName("Given KEY lanes and a record without key, it should fall back to its partition's lane")
+    @Test
+    void laneOf_keyModeWithoutKeyUsesPartition() {
+        //When
+        int keyless = KafkaInboundEventConsumer.laneOf(keyed(null, 3), InboundKafkaProperties.Concurrency.Mode.KEY, 4);
+        int byPartition = KafkaInboundEventConsumer.laneOf(keyed("c1", 3), InboundKafkaProperties.Concurrency.Mode.PARTITION, 4);
+
+        //Then
+        assertEquals(byPartition, keyless);
+    }
+
+    @DisplayName("Given PARTITION lanes, every record of a partition should go to one lane whatever its key")
+    @Test
+    void laneOf_partitionModeMapsPartitionToOneLane() {
+        //When
+        List<Integer> lanes = IntStream.range(0, 32)
+                .mapToObj(i -> keyed("c" + i, 2))
+                .map(r -> KafkaInboundEventConsumer.laneOf(r, InboundKafkaProperties.Concurrency.Mode.PARTITION, 4))
+                .distinct()
+                .toList();
+
+        //Then
+        assertEquals(1, lanes.size());
+        assertTrue(lanes.get(0) >= 0 && lanes.get(0) < 4);
+    }
+
+    @DisplayName("Given a window mixing handlers, only runs of several records routed to a batch handler should be batched, in order")
+    @Test
+    void processWindow_splitsRuns() {
+        //Given
+        KafkaInboundEventConsumer consumer = batchConsumer();
+        List<ReceiverRecord<String, byte[]>> window = List.of(
+                event("c1", "Community"), event("c2", "Community"), event("u1", "User"), event("c3", "Community"));
+        when(inbound.consumeBatch(eq(handler), anyList())).thenReturn(Mono.empty());
+        when(inbound.accepts(any(), any(), any())).thenReturn(true);
+        when(inbound.consume(any(String.class), any(), any(), any(), any(), any())).thenReturn(Mono.empty());
+
+        //When
+        consumer.processWindow(window).block();
+
+        //Then
+        verify(inbound, times(1)).consumeBatch(eq(handler), anyList());
+        verify(inbound).consumeBatch(eq(handler), argThat(events ->
+                events.stream().map(RawInboundEvent::eventId).toList().equals(List.of("c1", "c2"))));
+
+        // The lone User record and the trailing run of one go through the per-record path
+        verify(inbound).consume(eq("u1"), any(), any(), any(), any(), any());
+        verify(inbound).consume(eq("c3"), any(), any(), any(), any(), any());
+        verify(inbound, never()).consume(eq("c1"), any(), any(), any(), any(), any());
+        window.forEach(record -> verify(record.receiverOffset()).acknowledge());
+    }
+
+    @DisplayName("Given a batch still being handled, its offsets should be acknowledged only once handleBatch completed")
+    @Test
+    void processWindow_acksAfterBatch() {
+        //Given
+        KafkaInboundEventConsumer consumer = batchConsumer();
+        List<ReceiverRecord<String, byte[]>> window = List.of(event("c1", "Community"), event("c2", "Community"));
+        Sinks.Empty<Void> handled = Sinks.empty();
+        when(inbound.consumeBatch(eq(handler), anyList())).thenReturn(handled.asMono());
+
+        //When
+        consumer.processWindow(window).subscribe();
+
+        //Then
+        window.forEach(record -> verify(record.receiverOffset(), never()).acknowledge());
+
+        handled.tryEmitEmpty();
+
+        window.forEach(record -> verify(record.receiverOffset()).acknowledge());
+        assertEquals(1.0, registry.counter("foundation.inbound.batch", "result", "handled").count());
+    }
+
+    @DisplayName("Given a failing batch, its records should be processed one by one and only the bad one dead-lettered")
+    @Test
+    void processWindow_fallsBackPerRecord() {
+        //Given
+        KafkaInboundEventConsumer consumer = batchConsumer();
+        ReceiverRecord<String, byte[]> good = event("c1", "Community");
+        ReceiverRecord<String, byte[]> bad = event("c2", "Community");
+        when(inbound.consumeBatch(eq(handler), anyList())).thenReturn(Mono.error(new IllegalStateException("bulk failed")));
+        when(inbound.accepts(any(), any(), any())).thenReturn(true);
+        when(inbound.consume(eq("c1"), any(), any(), any(), any(), any())).thenReturn(Mono.empty());
+        when(inbound.consume(eq("c2"), any(), any(), any(), any(), any()))
+                .thenReturn(Mono.error(new IllegalArgumentException("bad payload")));
+        when(dlqPublisher.publishToDlq(any(), any(), any())).thenReturn(Mono.empty());
+
+        //When
+        consumer.processWindow(List.of(good, bad)).block();
+
+        //Then
+        verify(dlqPublisher).publishToDlq(eq("orders.dlq"), eq(bad), any());
+        verify(dlqPublisher, never()).publishToDlq(any(), eq(good), any());
+        verify(good.receiverOffset()).acknowledge();
+        verify(bad.receiverOffset()).acknowledge();
+        assertEquals(1.0, registry.counter("foundation.inbound.batch", "result", "fallback").count());
+        assertEquals(0.0, registry.counter("foundation.inbound.batch", "result", "handled").count());
+    }
+
+    // Batch delivery on, in-line retry off so a failing record goes straight to the DLQ.
+    private KafkaInboundEventConsumer batchConsumer() {
+        InboundKafkaProperties properties = new InboundKafkaProperties();
+        InboundKafkaProperties.Binding binding = new InboundKafkaProperties.Binding();
+        binding.setTopic("orders");
+        properties.setBindings(List.of(binding));
+        properties.getBatch().setEnabled(true);
+        properties.getRetry().setMaxAttempts(0);
+
+        when(inbound.batchHandler(SCHEMA, "Community", "CREATED")).thenReturn(handler);
+
+        return new KafkaInboundEventConsumer(ReceiverOptions.create(), properties, inbound, new ObjectMapper(),
+                dlqPublisher, new DefaultInboundDlqTopicResolver(properties), null, registry);
+    }
+
+    private static ReceiverRecord<String, byte[]> event(String eventId, String entityType) {
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("orders", 0, 0L, eventId, "{}".getBytes(StandardCharsets.UTF_8));
+        record.headers().add(KafkaInboundEventConsumer.HEADER_EVENT_ID, eventId.getBytes(StandardCharsets.UTF_8));
+        record.headers().add(KafkaInboundEventConsumer.HEADER_SCHEMA_ID, SCHEMA.getBytes(StandardCharsets.UTF_8));
+        record.headers().add(KafkaInboundEventConsumer.HEADER_ENTITY_TYPE, entityType.getBytes(StandardCharsets.UTF_8));
+        record.headers().add(KafkaInboundEventConsumer.HEADER_CHANGE_TYPE, "CREATED".getBytes(StandardCharsets.UTF_8));
+        return new ReceiverRecord<>(record, mock(ReceiverOffset.class));
+    }
+
+    private static ReceiverRecord<String, byte[]> keyed(String key, int partition) {
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("orders", partition, 0L, key, "{}".getBytes(StandardCharsets.UTF_8));
+        ReceiverOffset offset = mock(ReceiverOffset.class);
+        when(offset.topicPartition()).thenReturn(new TopicPartition("orders", partition));
+        return new ReceiverRecord<>(record, offset);
+    }
+
+    private static ReceiverRecord<String, byte[]> record(String topic, String attempt) {
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>(topic, 0, 0L, "k1", "{}".getBytes(StandardCharsets.UTF_8));
+        if (attempt != null) {
+            record.headers().add(InboundRetryHeaders.ATTEMPT, attempt.getBytes(StandardCharsets.UTF_8));
+            record.headers().add(InboundRetryHeaders.ORIGIN_TOPIC, "orders".getBytes(StandardCharsets.UTF_8));
+        }
+        return new ReceiverRecord<>(record, mock(ReceiverOffset.class));
+    }
+}
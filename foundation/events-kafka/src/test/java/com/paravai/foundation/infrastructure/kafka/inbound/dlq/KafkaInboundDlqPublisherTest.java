@@ -0,0 +1,147 @@
+package com.paravai.foundation.infrastructure.kafka.inbound.dlq;
+
+import com.paravai.foundation.infrastructure.kafka.inbound.retry.InboundRetryHeaders;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.header.Header;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
+import reactor.kafka.sender.SenderResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KafkaInboundDlqPublisherTest {
+
+    private static final long NOW = 1_000_000L;
+
+    @SuppressWarnings("unchecked")
+    private final KafkaSender<String, byte[]> sender = mock(KafkaSender.class);
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final List<ProducerRecord<String, byte[]>> sent = new ArrayList<>();
+
+    private final KafkaInboundDlqPublisher publisher = new KafkaInboundDlqPublisher(
+            sender, registry, Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC));
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(sender.send(any())).thenAnswer(inv -> Flux.from((Publisher<SenderRecord<String, byte[], Object>>) inv.getArgument(0))
+                .doOnNext(sent::add)
+                .map(r -> new Result(r.correlationMetadata())));
+    }
+
+    @DisplayName("Given a failed record, it should be dead-lettered as received, with its original headers and the failure")
+    @Test
+    void publishToDlq_copiesRecordAndHeaders() {
+        //Given
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("orders", 3, 42L, "k1", bytes("{}"));
+        record.headers().add("traceId", bytes("t-1"));
+        record.headers().add("contentType", bytes("application/json"));
+
+        //When
+        publisher.publishToDlq("orders.dlq", record, new IllegalStateException("boom")).block();
+
+        //Then
+        ProducerRecord<String, byte[]> dead = sent.get(0);
+        assertEquals("orders.dlq", dead.topic());
+        assertEquals("k1", dead.key());
+        assertArrayEquals(bytes("{}"), dead.value());
+        assertEquals("t-1", header(dead, "traceId"));
+        assertEquals("application/json", header(dead, "contentType"));
+        assertEquals("orders", header(dead, InboundDlqHeaders.ORIGIN_TOPIC));
+        assertEquals("3", header(dead, InboundDlqHeaders.ORIGIN_PARTITION));
+        assertEquals("42", header(dead, InboundDlqHeaders.ORIGIN_OFFSET));
+        assertEquals("0", header(dead, InboundDlqHeaders.ATTEMPT));
+        assertEquals(String.valueOf(NOW), header(dead, InboundDlqHeaders.FAILED_AT));
+        assertEquals(IllegalStateException.class.getName(), header(dead, InboundDlqHeaders.EXCEPTION_CLASS));
+        assertEquals("boom", header(dead, InboundDlqHeaders.EXCEPTION_MESSAGE));
+    }
+
+    @DisplayName("Given a record read from a retry tier, the DLQ origin should be where it was first consumed")
+    @Test
+    void publishToDlq_originFromRetryTier() {
+        //Given
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("orders.retry.1m", 0, 7L, "k1", bytes("{}"));
+        record.headers().add(InboundRetryHeaders.ATTEMPT, bytes("2"));
+        record.headers().add(InboundRetryHeaders.ORIGIN_TOPIC, bytes("orders"));
+        record.headers().add(InboundRetryHeaders.ORIGIN_PARTITION, bytes("3"));
+        record.headers().add(InboundRetryHeaders.ORIGIN_OFFSET, bytes("42"));
+
+        //When
+        publisher.publishToDlq("orders.dlq", record, new IllegalStateException("boom")).block();
+
+        //Then
+        ProducerRecord<String, byte[]> dead = sent.get(0);
+        assertEquals("orders", header(dead, InboundDlqHeaders.ORIGIN_TOPIC));
+        assertEquals("3", header(dead, InboundDlqHeaders.ORIGIN_PARTITION));
+        assertEquals("42", header(dead, InboundDlqHeaders.ORIGIN_OFFSET));
+        assertEquals("2", header(dead, InboundDlqHeaders.ATTEMPT));
+    }
+
+    @DisplayName("Given a long exception message, it should be truncated")
+    @Test
+    void publishToDlq_truncatesMessage() {
+        //Given
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("orders", 0, 1L, "k1", bytes("{}"));
+
+        //When
+        publisher.publishToDlq("orders.dlq", record, new IllegalStateException("x".repeat(5_000))).block();
+
+        //Then
+        assertEquals(1024, header(sent.get(0), InboundDlqHeaders.EXCEPTION_MESSAGE).length());
+    }
+
+    @DisplayName("Given several records dead-lettered to a topic, they should count on the same per-topic counter")
+    @Test
+    void publishToDlq_countsPerTopic() {
+        //Given
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("orders", 0, 1L, "k1", bytes("{}"));
+
+        //When
+        publisher.publishToDlq("orders.dlq", record, null).block();
+        publisher.publishToDlq("orders.dlq", record, null).block();
+
+        //Then
+        assertEquals(2.0, registry.get("foundation.inbound.dlq.published").tag("topic", "orders.dlq").counter().count());
+        assertNull(header(sent.get(0), InboundDlqHeaders.EXCEPTION_CLASS));
+    }
+
+    private static String header(ProducerRecord<String, byte[]> record, String name) {
+        Header h = record.headers().lastHeader(name);
+        return h == null ? null : new String(h.value(), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record Result(Object correlationMetadata) implements SenderResult<Object> {
+        @Override
+        public RecordMetadata recordMetadata() {
+            return null;
+        }
+
+        @Override
+        public Exception exception() {
+            return null;
+        }
+    }
+}
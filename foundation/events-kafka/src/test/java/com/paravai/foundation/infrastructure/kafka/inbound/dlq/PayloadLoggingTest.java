@@ -0,0 +1,54 @@
+package com.paravai.foundation.infrastructure.kafka.inbound.dlq;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PayloadLoggingTest {
+
+    @DisplayName("Given a payload within the limit, the preview should be the whole payload")
+    @Test
+    void preview_shortPayload() {
+        assertEquals("{\"a\":1}", PayloadLogging.preview(bytes("{\"a\":1}"), 16));
+    }
+
+    @DisplayName("Given a payload over the limit, the preview should be cut and marked")
+    @Test
+    void preview_cutPayload() {
+        assertEquals("{\"a\"...", PayloadLogging.preview(bytes("{\"a\":1}"), 4));
+    }
+
+    @DisplayName("Given a cut in the middle of a multi-byte character, the preview should end with a replacement character")
+    @Test
+    void preview_cutMultiByteCharacter() {
+        //Given: U+00F1 is two bytes in UTF-8, the limit falls between them
+        byte[] payload = bytes("a\u00f1o");
+
+        //When
+        String preview = PayloadLogging.preview(payload, 2);
+
+        //Then
+        assertEquals("a\uFFFD...", preview);
+    }
+
+    @DisplayName("Given a null payload or a zero limit, there should be no preview")
+    @Test
+    void preview_disabled() {
+        assertNull(PayloadLogging.preview(null, 16));
+        assertNull(PayloadLogging.preview(bytes("{}"), 0));
+    }
+
+    @DisplayName("Given a payload, its hash should be the hex SHA-256")
+    @Test
+    void sha256_hex() {
+        assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855", PayloadLogging.sha256(new byte[0]));
+        assertNull(PayloadLogging.sha256(null));
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,78 @@
+package com.paravai.foundation.infrastructure.kafka.inbound.replay;
+
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DlqReplayerTest {
+
+    private static final Instant FROM = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2026-01-02T00:00:00Z");
+
+    @DisplayName("Given no bounds, the range should be the whole log as seen at the start")
+    @Test
+    void range_noBounds() {
+        assertEquals(new DlqReplayer.Range(10, 20), DlqReplayer.range(request(null, null, null, null), 10, 20, null, null));
+    }
+
+    @DisplayName("Given offsets, the from offset should be inclusive, the to offset inclusive too, both clamped to the log")
+    @Test
+    void range_offsetsInclusive() {
+        assertEquals(new DlqReplayer.Range(12, 16), DlqReplayer.range(request(12L, 15L, null, null), 10, 20, null, null));
+        assertEquals(new DlqReplayer.Range(10, 20), DlqReplayer.range(request(0L, 99L, null, null), 10, 20, null, null));
+    }
+
+    @DisplayName("Given both offsets and timestamps, the offsets should win")
+    @Test
+    void range_offsetsBeatTimestamps() {
+        //When
+        DlqReplayer.Range range = DlqReplayer.range(request(12L, 15L, FROM, TO), 10, 20,
+                new OffsetAndTimestamp(17, FROM.toEpochMilli()), new OffsetAndTimestamp(18, TO.toEpochMilli()));
+
+        //Then
+        assertEquals(new DlqReplayer.Range(12, 16), range);
+    }
+
+    @DisplayName("Given timestamps, the record at fromTimestamp should be included and the one at toTimestamp excluded")
+    @Test
+    void range_timestampsFromInclusiveToExclusive() {
+        //When
+        DlqReplayer.Range range = DlqReplayer.range(request(null, null, FROM, TO), 10, 20,
+                new OffsetAndTimestamp(13, FROM.toEpochMilli()), new OffsetAndTimestamp(17, TO.toEpochMilli()));
+
+        //Then
+        assertEquals(new DlqReplayer.Range(13, 17), range);
+    }
+
+    @DisplayName("Given no record after toTimestamp, the range should run to the end of the log")
+    @Test
+    void range_toTimestampAfterLastRecord() {
+        //When
+        DlqReplayer.Range range = DlqReplayer.range(request(null, null, FROM, TO), 10, 20,
+                new OffsetAndTimestamp(13, FROM.toEpochMilli()), null);
+
+        //Then
+        assertEquals(new DlqReplayer.Range(13, 20), range);
+    }
+
+    @DisplayName("Given a fromTimestamp after the last record, the partition should have nothing to replay")
+    @Test
+    void range_fromTimestampAfterLastRecord() {
+        assertNull(DlqReplayer.range(request(null, null, FROM, null), 10, 20, null, null));
+    }
+
+    @DisplayName("Given a from offset past the end of the log, the partition should have nothing to replay")
+    @Test
+    void range_fromOffsetPastEnd() {
+        assertNull(DlqReplayer.range(request(25L, null, null, null), 10, 20, null, null));
+    }
+
+    private static DlqReplayRequest request(Long fromOffset, Long toOffset, Instant fromTimestamp, Instant toTimestamp) {
+        return new DlqReplayRequest("orders.dlq", fromOffset, toOffset, fromTimestamp, toTimestamp,
+                null, DlqReplayRequest.Target.INBOUND, null, null, 0);
+    }
+}
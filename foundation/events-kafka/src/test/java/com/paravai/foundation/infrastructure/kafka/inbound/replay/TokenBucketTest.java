@@ -0,0 +1,81 @@
+package com.paravai.foundation.infrastructure.kafka.inbound.replay;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @DisplayName("Given a full bucket, burst tokens should be taken at once and the next one borrowed")
+    @Test
+    void reserve_burstThenBorrow() {
+        //Given
+        TokenBucket bucket = new TokenBucket(10, 2, nanoTime::get);
+
+        //When / Then
+        assertEquals(0, bucket.reserve());
+        assertEquals(0, bucket.reserve());
+        assertEquals(100e6, bucket.reserve(), 1e6);
+    }
+
+    @DisplayName("Given callers borrowing in a row, each should wait one more refill period than the previous")
+    @Test
+    void reserve_borrowingKeepsOrder() {
+        //Given
+        TokenBucket bucket = new TokenBucket(10, 1, nanoTime::get);
+        bucket.reserve();
+
+        //When / Then
+        assertEquals(100e6, bucket.reserve(), 1e6);
+        assertEquals(200e6, bucket.reserve(), 1e6);
+        assertEquals(300e6, bucket.reserve(), 1e6);
+    }
+
+    @DisplayName("Given time passing, tokens should refill at the rate and never beyond the burst")
+    @Test
+    void reserve_refillCappedAtBurst() {
+        //Given
+        TokenBucket bucket = new TokenBucket(10, 2, nanoTime::get);
+        bucket.reserve();
+        bucket.reserve();
+
+        //When
+        nanoTime.addAndGet(100 * MILLIS);
+
+        //Then
+        assertEquals(0, bucket.reserve());
+        assertTrue(bucket.reserve() > 0);
+
+        //When
+        nanoTime.addAndGet(10_000 * MILLIS);
+
+        //Then
+        assertEquals(0, bucket.reserve());
+        assertEquals(0, bucket.reserve());
+        assertTrue(bucket.reserve() > 0);
+    }
+
+    @DisplayName("Given an empty bucket, acquire should complete once the borrowed token is earned")
+    @Test
+    void acquire_waitsForBorrowedToken() {
+        //Given
+        TokenBucket bucket = new TokenBucket(10, 1, nanoTime::get);
+        bucket.reserve();
+
+        //When / Then
+        StepVerifier.withVirtualTime(bucket::acquire)
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(99))
+                .thenAwait(Duration.ofMillis(1))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,147 @@
+package com.paravai.foundation.infrastructure.kafka.inbound.retry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.header.Header;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
+import reactor.kafka.sender.SenderResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KafkaInboundRetryPublisherTest {
+
+    private static final long NOW = 1_000_000L;
+
+    @SuppressWarnings("unchecked")
+    private final KafkaSender<String, byte[]> sender = mock(KafkaSender.class);
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final List<ProducerRecord<String, byte[]>> sent = new ArrayList<>();
+
+    private final KafkaInboundRetryPublisher publisher = new KafkaInboundRetryPublisher(
+            sender, registry, Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC));
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(sender.send(any())).thenAnswer(inv -> Flux.from((Publisher<SenderRecord<String, byte[], Object>>) inv.getArgument(0))
+                .doOnNext(sent::add)
+                .map(r -> new Result(r.correlationMetadata())));
+    }
+
+    @DisplayName("Given a failed record, it should be forwarded with its key, value and headers plus the retry headers")
+    @Test
+    void forward_firstTier() {
+        //Given
+        ConsumerRecord<String, byte[]> record = record("orders", 3, 42L);
+        record.headers().add("traceId", bytes("t-1"));
+
+        //When
+        publisher.forward(record, "orders.retry.5s", 1, Duration.ofSeconds(5), new IllegalStateException("boom")).block();
+
+        //Then
+        ProducerRecord<String, byte[]> forwarded = sent.get(0);
+        assertEquals("orders.retry.5s", forwarded.topic());
+        assertEquals("k1", forwarded.key());
+        assertArrayEquals(bytes("{}"), forwarded.value());
+        assertEquals("t-1", header(forwarded, "traceId"));
+        assertEquals("1", header(forwarded, InboundRetryHeaders.ATTEMPT));
+        assertEquals(String.valueOf(NOW + 5_000), header(forwarded, InboundRetryHeaders.DUE_AT));
+        assertEquals("orders", header(forwarded, InboundRetryHeaders.ORIGIN_TOPIC));
+        assertEquals("3", header(forwarded, InboundRetryHeaders.ORIGIN_PARTITION));
+        assertEquals("42", header(forwarded, InboundRetryHeaders.ORIGIN_OFFSET));
+        assertTrue(header(forwarded, InboundRetryHeaders.LAST_ERROR).contains("boom"));
+    }
+
+    @DisplayName("Given a record read from a retry tier, forwarding it again should keep its origin and replace attempt and due time")
+    @Test
+    void forward_keepsOriginAcrossTiers() {
+        //Given
+        publisher.forward(record("orders", 3, 42L), "orders.retry.5s", 1, Duration.ofSeconds(5), null).block();
+        ProducerRecord<String, byte[]> first = sent.get(0);
+        ConsumerRecord<String, byte[]> fromTier = record("orders.retry.5s", 0, 7L);
+        first.headers().forEach(h -> fromTier.headers().add(h));
+
+        //When
+        publisher.forward(fromTier, "orders.retry.1m", 2, Duration.ofMinutes(1), null).block();
+
+        //Then
+        ProducerRecord<String, byte[]> second = sent.get(1);
+        assertEquals("2", header(second, InboundRetryHeaders.ATTEMPT));
+        assertEquals(String.valueOf(NOW + 60_000), header(second, InboundRetryHeaders.DUE_AT));
+        assertEquals("orders", header(second, InboundRetryHeaders.ORIGIN_TOPIC));
+        assertEquals("3", header(second, InboundRetryHeaders.ORIGIN_PARTITION));
+        assertEquals("42", header(second, InboundRetryHeaders.ORIGIN_OFFSET));
+        assertEquals(1, count(second, InboundRetryHeaders.ATTEMPT));
+        assertEquals(1, count(second, InboundRetryHeaders.ORIGIN_TOPIC));
+
+        ConsumerRecord<String, byte[]> fromSecondTier = record("orders.retry.1m", 0, 9L);
+        second.headers().forEach(h -> fromSecondTier.headers().add(h));
+        assertEquals(2, InboundRetryHeaders.attempt(fromSecondTier));
+        assertEquals(NOW + 60_000, InboundRetryHeaders.dueAt(fromSecondTier));
+        assertEquals("orders", InboundRetryHeaders.originTopic(fromSecondTier));
+    }
+
+    @DisplayName("Given several forwards to a topic, they should all count on the same per-topic counter")
+    @Test
+    void forward_countsPerTopic() {
+        //When
+        publisher.forward(record("orders", 0, 1L), "orders.retry.5s", 1, Duration.ofSeconds(5), null).block();
+        publisher.forward(record("orders", 0, 2L), "orders.retry.5s", 1, Duration.ofSeconds(5), null).block();
+        publisher.forward(record("orders", 0, 3L), "orders.retry.1m", 2, Duration.ofMinutes(1), null).block();
+
+        //Then
+        assertEquals(2.0, registry.get("foundation.inbound.retry.forwarded").tag("topic", "orders.retry.5s").counter().count());
+        assertEquals(1.0, registry.get("foundation.inbound.retry.forwarded").tag("topic", "orders.retry.1m").counter().count());
+    }
+
+    private static ConsumerRecord<String, byte[]> record(String topic, int partition, long offset) {
+        return new ConsumerRecord<>(topic, partition, offset, "k1", bytes("{}"));
+    }
+
+    private static String header(ProducerRecord<String, byte[]> record, String name) {
+        Header h = record.headers().lastHeader(name);
+        return h == null ? null : new String(h.value(), StandardCharsets.UTF_8);
+    }
+
+    private static int count(ProducerRecord<String, byte[]> record, String name) {
+        int n = 0;
+        for (Header ignored : record.headers().headers(name)) n++;
+        return n;
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record Result(Object correlationMetadata) implements SenderResult<Object> {
+        @Override
+        public RecordMetadata recordMetadata() {
+            return null;
+        }
+
+        @Override
+        public Exception exception() {
+            return null;
+        }
+    }
+}
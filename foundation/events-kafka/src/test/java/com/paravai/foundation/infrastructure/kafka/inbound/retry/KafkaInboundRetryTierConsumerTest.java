@@ -0,0 +1,150 @@
+package com.paravai.foundation.infrastructure.kafka.inbound.retry;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.kafka.receiver.KafkaReceiver;
+import reactor.kafka.receiver.ReceiverOffset;
+import reactor.kafka.receiver.ReceiverRecord;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class KafkaInboundRetryTierConsumerTest {
+
+    private static final long NOW = 1_000_000L;
+    private static final TopicPartition PARTITION = new TopicPartition("orders.retry.5s", 0);
+
+    @SuppressWarnings("unchecked")
+    private final KafkaReceiver<String, byte[]> receiver = mock(KafkaReceiver.class);
+    @SuppressWarnings("unchecked")
+    private final Consumer<String, byte[]> consumer = mock(Consumer.class);
+    private final List<Long> processed = new CopyOnWriteArrayList<>();
+
+    private VirtualTimeScheduler time;
+    private KafkaInboundRetryTierConsumer tierConsumer;
+
+    @BeforeEach
+    void setUp() {
+        time = VirtualTimeScheduler.getOrSet();
+        when(consumer.assignment()).thenReturn(Set.of(PARTITION));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (tierConsumer != null) tierConsumer.stop();
+        VirtualTimeScheduler.reset();
+    }
+
+    @DisplayName("Given a head record not due yet, the partition should be paused until its due time, then resumed and the record processed")
+    @Test
+    void start_pausesUntilDue() {
+        //Given
+        start(record(1L, NOW + 5_000), record(2L, NOW + 5_000));
+
+        //Then
+        verify(consumer).pause(List.of(PARTITION));
+        verify(consumer, never()).resume(any());
+        assertTrue(processed.isEmpty());
+
+        //When
+        time.advanceTimeBy(Duration.ofMillis(5_000));
+
+        //Then
+        verify(consumer).resume(List.of(PARTITION));
+        assertEquals(List.of(1L, 2L), processed);
+    }
+
+    @DisplayName("Given a record already due, it should be processed at once without pausing")
+    @Test
+    void start_dueRecordProcessedAtOnce() {
+        //When
+        start(record(1L, NOW - 1));
+
+        //Then
+        assertEquals(List.of(1L), processed);
+        verify(consumer, never()).pause(any());
+    }
+
+    @DisplayName("Given a partition revoked while waiting, it should not be paused or resumed")
+    @Test
+    void start_revokedPartitionLeftAlone() {
+        //Given
+        when(consumer.assignment()).thenReturn(Set.of());
+
+        //When
+        start(record(1L, NOW + 5_000));
+        time.advanceTimeBy(Duration.ofMillis(5_000));
+
+        //Then
+        verify(consumer, never()).pause(any());
+        verify(consumer, never()).resume(any());
+        assertEquals(List.of(1L), processed);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @SafeVarargs
+    private void start(ReceiverRecord<String, byte[]>... records) {
+        when(receiver.receive()).thenReturn(Flux.just(records));
+        when(receiver.doOnConsumer(any())).thenAnswer(inv ->
+                Mono.fromCallable(() -> ((Function) inv.getArgument(0)).apply(consumer)));
+
+        tierConsumer = new KafkaInboundRetryTierConsumer(
+                ".retry.5s",
+                List.of(PARTITION.topic()),
+                receiver,
+                record -> Mono.fromRunnable(() -> processed.add(record.offset())),
+                virtualClock());
+        tierConsumer.start();
+    }
+
+    // Moves with the virtual scheduler, so a record due at the end of a pause is due once it is over
+    private Clock virtualClock() {
+        return new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(NOW + time.now(TimeUnit.MILLISECONDS));
+            }
+        };
+    }
+
+    private static ReceiverRecord<String, byte[]> record(long offset, long dueAt) {
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>(
+                PARTITION.topic(), PARTITION.partition(), offset, "k1", "{}".getBytes(StandardCharsets.UTF_8));
+        record.headers().add(InboundRetryHeaders.DUE_AT, InboundRetryHeaders.bytes(dueAt));
+
+        ReceiverOffset receiverOffset = mock(ReceiverOffset.class);
+        when(receiverOffset.topicPartition()).thenReturn(PARTITION);
+        return new ReceiverRecord<>(record, receiverOffset);
+    }
+}
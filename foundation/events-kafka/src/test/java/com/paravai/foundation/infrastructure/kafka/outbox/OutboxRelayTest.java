@@ -0,0 +1,110 @@
+package com.paravai.foundation.infrastructure.kafka.outbox;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paravai.foundation.infrastructure.kafka.KafkaIntegrationEventPublisher;
+import com.paravai.foundation.integration.domain.event.DomainEventEnvelope;
+import com.paravai.foundation.persistence.mongo.outbox.OutboxMessageDocument;
+import com.paravai.foundation.persistence.mongo.outbox.ReactiveMongoOutboxStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    private static final String SCHEMA = "communities-management.community.integration.v1";
+
+    // Like the application mapper: envelope accessors such as isCreate() are written but not read back
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final ReactiveMongoOutboxStore store = mock(ReactiveMongoOutboxStore.class);
+    private final KafkaIntegrationEventPublisher kafkaPublisher = mock(KafkaIntegrationEventPublisher.class);
+
+    private final OutboxRelay relay = new OutboxRelay(store, kafkaPublisher, objectMapper, new OutboxProperties(),
+            new SimpleMeterRegistry());
+
+    @DisplayName("Given a claimed batch, the relay should publish it in claim order and mark it published")
+    @Test
+    @SuppressWarnings("unchecked")
+    void drain_publishesInOrder() throws Exception {
+        //Given
+        when(store.claimBatch(anyInt(), any(Duration.class)))
+                .thenReturn(Flux.just(message("e1", "c1"), message("e2", "c2"), message("e3", "c1")));
+        when(kafkaPublisher.publishAll(anyList())).thenReturn(Mono.empty());
+        when(store.markPublished(anyList())).thenReturn(Mono.just(3L));
+
+        //When
+        relay.drain().block();
+
+        //Then
+        ArgumentCaptor<List<DomainEventEnvelope<?>>> published = ArgumentCaptor.forClass(List.class);
+        verify(kafkaPublisher).publishAll(published.capture());
+        assertEquals(List.of("e1", "e2", "e3"), published.getValue().stream().map(DomainEventEnvelope::getEventId).toList());
+        verify(store).markPublished(List.of("e1:" + SCHEMA, "e2:" + SCHEMA, "e3:" + SCHEMA));
+        verify(store, never()).markForRetry(anyList(), any(), anyInt(), any(), any());
+    }
+
+    @DisplayName("Given a failed publish, the relay should reschedule the whole batch, later messages of an entity included")
+    @Test
+    void drain_failureReschedulesBatch() throws Exception {
+        //Given
+        List<OutboxMessageDocument> batch = List.of(message("e1", "c1"), message("e2", "c1"));
+        when(store.claimBatch(anyInt(), any(Duration.class))).thenReturn(Flux.fromIterable(batch));
+        when(kafkaPublisher.publishAll(anyList())).thenReturn(Mono.error(new IllegalStateException("broker down")));
+        when(store.markForRetry(anyList(), any(), anyInt(), any(), any())).thenReturn(Mono.empty());
+        AtomicBoolean markedPublished = new AtomicBoolean();
+        when(store.markPublished(anyList())).thenReturn(Mono.fromCallable(() -> {
+            markedPublished.set(true);
+            return 2L;
+        }));
+
+        //When
+        relay.drain().block();
+
+        //Then
+        verify(store).markForRetry(eq(batch), any(IllegalStateException.class), anyInt(), any(), any());
+        assertFalse(markedPublished.get());
+    }
+
+    @DisplayName("Given an undecodable message, the relay should park it and still publish the rest")
+    @Test
+    void drain_parksUndecodable() throws Exception {
+        //Given
+        OutboxMessageDocument broken = OutboxMessageDocument.pending("bad:" + SCHEMA, "c9", "Community.UPDATED",
+                SCHEMA, "not json");
+        when(store.claimBatch(anyInt(), any(Duration.class))).thenReturn(Flux.just(broken, message("e2", "c2")));
+        when(store.markFailed(eq("bad:" + SCHEMA), any())).thenReturn(Mono.empty());
+        when(kafkaPublisher.publishAll(anyList())).thenReturn(Mono.empty());
+        when(store.markPublished(anyList())).thenReturn(Mono.just(1L));
+
+        //When
+        relay.drain().block();
+
+        //Then
+        verify(store).markFailed(eq("bad:" + SCHEMA), any());
+        verify(store).markPublished(List.of("e2:" + SCHEMA));
+    }
+
+    private OutboxMessageDocument message(String eventId, String entityId) throws Exception {
+        DomainEventEnvelope<String> envelope = new DomainEventEnvelope<>(
+                eventId, entityId, "Community", "UPDATED", "community", Instant.parse("2026-01-01T00:00:00Z"),
+                "t1", null, SCHEMA, null, "payload");
+        return OutboxMessageDocument.pending(eventId + ":" + SCHEMA, entityId, "Community.UPDATED", SCHEMA,
+                objectMapper.writeValueAsString(envelope));
+    }
+}
@@ -1,20 +1,181 @@
 package com.paravai.foundation.integration.application.inbound;
 
+import com.paravai.foundation.integration.application.inbound.dispatcher.BatchEventInboundHandler;
 import com.paravai.foundation.integration.application.inbound.dispatcher.EventInboundDispatcher;
+import com.paravai.foundation.integration.application.inbound.dispatcher.EventInboundHandler;
+import com.paravai.foundation.integration.application.inbound.idempotency.InboundEventDeduplicator;
+import com.paravai.foundation.integration.codec.EventContentType;
+import com.paravai.foundation.integration.codec.PayloadCodecRegistry;
 import com.paravai.foundation.integration.domain.event.DomainEventEnvelope;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
 @Component
 public class InboundEventConsumer {
 
     private final EventInboundDispatcher dispatcher;
+    private final PayloadCodecRegistry codecs;
+    // Null when no route opted in to deduplication.
+    private final InboundEventDeduplicator deduplicator;
 
-    public InboundEventConsumer(EventInboundDispatcher dispatcher) {
+    public InboundEventConsumer(EventInboundDispatcher dispatcher,
+                                PayloadCodecRegistry codecs,
+                                ObjectProvider<InboundEventDeduplicator> deduplicator) {
         this.dispatcher = dispatcher;
+        this.codecs = codecs;
+        this.deduplicator = deduplicator.getIfAvailable();
     }
 
     public Mono<Void> consume(DomainEventEnvelope<?> event) {
-        return dispatcher.dispatch(event);
+        if (event == null || !deduplicates(event.getSchemaId(), event.getEntityType(), event.getChangeType())) {
+            return dispatcher.dispatch(event);
+        }
+        return Mono.defer(() -> deduplicator.processOnce(event.getEventId(), () -> dispatcher.dispatch(event)));
+    }
+
+    /**
+     * Header-level pre-routing: false means no handler can ever be interested in the
+     * event, so the body does not need to be read at all.
+     */
+    public boolean accepts(String schemaId, String entityType, String changeType) {
+        return dispatcher.route(schemaId, entityType, changeType) != null
+                || dispatcher.hasDynamicHandlers();
+    }
+
+    /**
+     * Routes on the transport metadata first, then decodes the body once through the
+     * schema codec, directly into the payload type the target handler expects.
+     */
+    public Mono<Void> consume(byte[] body, String schemaId, String entityType, String changeType) {
+        return consume(body, EventContentType.JSON, schemaId, entityType, changeType);
+    }
+
+    /**
+     * Same as above for a body advertised with the given content type (JSON or a
+     * registered binary encoding).
+     */
+    public Mono<Void> consume(byte[] body,
+                              String contentType,
+                              String schemaId,
+                              String entityType,
+                              String changeType) {
+        return consume(null, body, contentType, schemaId, entityType, changeType);
+    }
+
+    /**
+     * Same as above, for an event whose id is known from the transport metadata: on routes
+     * opted in to deduplication an already handled event is dropped before its body is read.
+     */
+    public Mono<Void> consume(String eventId,
+                              byte[] body,
+                              String contentType,
+                              String schemaId,
+                              String entityType,
+                              String changeType) {
+        if (eventId == null || !deduplicates(schemaId, entityType, changeType)) {
+            return decodeAndDispatch(body, contentType, schemaId, entityType, changeType);
+        }
+        return Mono.defer(() -> deduplicator.processOnce(
+                eventId,
+                () -> decodeAndDispatch(body, contentType, schemaId, entityType, changeType)));
+    }
+
+    /**
+     * The handler of this route when it accepts batches, null otherwise.
+     */
+    public BatchEventInboundHandler batchHandler(String schemaId, String entityType, String changeType) {
+        return dispatcher.route(schemaId, entityType, changeType) instanceof BatchEventInboundHandler batch
+                ? batch
+                : null;
+    }
+
+    /**
+     * Decodes events routed to handler and hands them over in one call. On deduplicated
+     * routes events already handled are left out and the others are recorded once the
+     * batch succeeded. Any error (decoding included) fails the whole batch.
+     */
+    public Mono<Void> consumeBatch(BatchEventInboundHandler handler, List<RawInboundEvent> events) {
+        Objects.requireNonNull(handler, "handler");
+        Objects.requireNonNull(events, "events");
+
+        return Mono.defer(() -> {
+            List<String> tracked = events.stream()
+                    .filter(e -> e.eventId() != null && deduplicates(e.schemaId(), e.entityType(), e.changeType()))
+                    .map(RawInboundEvent::eventId)
+                    .toList();
+
+            Mono<Set<String>> alreadyProcessed = tracked.isEmpty()
+                    ? Mono.just(Set.of())
+                    : deduplicator.alreadyProcessed(tracked);
+
+            return alreadyProcessed.flatMap(processed -> {
+                List<DomainEventEnvelope<?>> envelopes;
+                try {
+                    envelopes = decodeAll(handler, events, processed);
+                } catch (IOException ex) {
+                    return Mono.error(ex);
+                }
+
+                if (envelopes.isEmpty()) {
+                    return Mono.empty();
+                }
+
+                Mono<Void> handled = handler.handleBatch(envelopes);
+                if (tracked.isEmpty()) {
+                    return handled;
+                }
+                return handled.then(Mono.defer(() -> deduplicator.markProcessed(
+                        tracked.stream().filter(id -> !processed.contains(id)).toList())));
+            });
+        });
+    }
+
+    private List<DomainEventEnvelope<?>> decodeAll(BatchEventInboundHandler handler,
+                                                   List<RawInboundEvent> events,
+                                                   Set<String> skipped) throws IOException {
+        List<DomainEventEnvelope<?>> envelopes = new ArrayList<>(events.size());
+        for (RawInboundEvent e : events) {
+            if (e.eventId() != null && skipped.contains(e.eventId())) {
+                continue;
+            }
+            envelopes.add(codecs.decode(e.body(), e.contentType(), e.schemaId(), handler.payloadType()));
+        }
+        return envelopes;
+    }
+
+    private boolean deduplicates(String schemaId, String entityType, String changeType) {
+        return deduplicator != null && deduplicator.appliesTo(schemaId, entityType, changeType);
+    }
+
+    private Mono<Void> decodeAndDispatch(byte[] body,
+                                         String contentType,
+                                         String schemaId,
+                                         String entityType,
+                                         String changeType) {
+        return Mono.defer(() -> {
+            EventInboundHandler handler = dispatcher.route(schemaId, entityType, changeType);
+
+            if (handler != null) {
+                return Mono.fromCallable(() -> codecs.decode(body, contentType, schemaId, handler.payloadType()))
+                        .flatMap(handler::handle);
+            }
+
+            if (!dispatcher.hasDynamicHandlers()) {
+                return Mono.empty();
+            }
+
+            // Dynamic handlers still get the registered payload type when the schema is known.
+            return Mono.fromCallable(() -> EventContentType.isJson(contentType)
+                            ? codecs.codecFor(schemaId).decode(body)
+                            : codecs.decode(body, contentType, schemaId, Object.class))
+                    .flatMap(dispatcher::dispatch);
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,15 @@
+package com.paravai.foundation.integration.application.inbound;
+
+/**
+ * An event as received from a transport: routing metadata plus the still encoded body.
+ * contentType null means JSON; eventId may be null (producers without the header).
+ */
+public record RawInboundEvent(
+        String eventId,
+        byte[] body,
+        String contentType,
+        String schemaId,
+        String entityType,
+        String changeType
+) {
+}
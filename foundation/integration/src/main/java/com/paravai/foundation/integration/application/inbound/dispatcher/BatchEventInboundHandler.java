@@ -0,0 +1,21 @@
+package com.paravai.foundation.integration.application.inbound.dispatcher;
+
+import com.paravai.foundation.integration.domain.event.DomainEventEnvelope;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * An {@link EventInboundHandler} that can also take several events of its routes in one
+ * call, e.g. to write them with a single bulk operation.
+ *
+ * Transports only batch events that route to this handler (so routeKeys() must be
+ * declared), in delivery order. When handleBatch fails, every event of the batch is
+ * handled again one by one through {@link #handle(DomainEventEnvelope)}: whatever a failed
+ * batch did write must be safe to meet again (writes keyed on a business key, or an
+ * all-or-nothing batch).
+ */
+public interface BatchEventInboundHandler extends EventInboundHandler {
+
+    Mono<Void> handleBatch(List<DomainEventEnvelope<?>> events);
+}
@@ -6,21 +6,43 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+/**
+ * Routes inbound envelopes to exactly one {@link EventInboundHandler}.
+ *
+ * Handlers declaring {@link EventInboundHandler#routeKeys()} are indexed at startup into
+ * an immutable hash table: schemaId -> entityType -> changeType -> handler, matched as
+ * described on {@link EventRouteKey}. Duplicate registrations fail the application start.
+ *
+ * Handlers without route keys are scanned through supports(), only when no static route
+ * matches; ambiguity among them can only be detected per event.
+ */
 @Component
 public class EventInboundDispatcher {
 
     private static final Logger log = LoggerFactory.getLogger(EventInboundDispatcher.class);
 
-    private final List<EventInboundHandler> handlers;
+    // schemaId (exact) -> entityType (exact) -> normalized changeType -> handler
+    private final Map<String, Map<String, Map<String, EventInboundHandler>>> routes;
+    private final List<EventInboundHandler> dynamicHandlers;
 
     public EventInboundDispatcher(List<EventInboundHandler> handlers) {
-        this.handlers = Objects.requireNonNull(handlers, "handlers is required");
-        log.info("EventInboundDispatcher initialized with {} handlers: {}",
+        Objects.requireNonNull(handlers, "handlers is required");
+
+        this.routes = buildRoutes(handlers);
+        this.dynamicHandlers = handlers.stream()
+                .filter(h -> h.routeKeys().isEmpty())
+                .toList();
+
+        log.info("EventInboundDispatcher initialized with {} handlers: {} (routed={}, dynamic={})",
                 handlers.size(),
-                handlers.stream().map(h -> h.getClass().getName()).toList());
+                handlers.stream().map(h -> h.getClass().getName()).toList(),
+                handlers.size() - dynamicHandlers.size(),
+                dynamicHandlers.size());
     }
 
     public Mono<Void> dispatch(DomainEventEnvelope<?> event) {
@@ -28,28 +50,95 @@ public class EventInboundDispatcher {
             return Mono.empty();
         }
 
-        List<EventInboundHandler> matchingHandlers = handlers.stream()
-                .filter(handler -> handler.supports(event))
-                .toList();
+        EventInboundHandler routed = route(event.getSchemaId(), event.getEntityType(), event.getChangeType());
+        if (routed != null) {
+            return routed.handle(event);
+        }
 
-        if (matchingHandlers.isEmpty()) {
+        if (dynamicHandlers.isEmpty()) {
             return Mono.empty();
         }
 
-        if (matchingHandlers.size() > 1) {
-            return Mono.error(new EventInboundDispatchException(
-                    "Multiple inbound handlers found for event: schemaId=%s, entityType=%s, changeType=%s, handlers=%s"
-                            .formatted(
-                                    event.getSchemaId(),
-                                    event.getEntityType(),
-                                    event.getChangeType(),
-                                    matchingHandlers.stream()
-                                            .map(h -> h.getClass().getName())
-                                            .toList()
-                            )
-            ));
+        return dispatchDynamic(event);
+    }
+
+    /**
+     * Static route lookup; returns null when no handler is registered for the key.
+     */
+    public EventInboundHandler route(String schemaId, String entityType, String changeType) {
+        if (schemaId == null || entityType == null || changeType == null) {
+            return null;
+        }
+        Map<String, Map<String, EventInboundHandler>> byEntity = routes.get(schemaId);
+        if (byEntity == null) {
+            return null;
+        }
+        Map<String, EventInboundHandler> byChange = byEntity.get(entityType);
+        return byChange == null ? null : byChange.get(EventRouteKey.normalizeChangeType(changeType));
+    }
+
+    public boolean hasDynamicHandlers() {
+        return !dynamicHandlers.isEmpty();
+    }
+
+    // ---- dynamic fallback ----
+
+    private Mono<Void> dispatchDynamic(DomainEventEnvelope<?> event) {
+        EventInboundHandler match = null;
+
+        for (EventInboundHandler handler : dynamicHandlers) {
+            if (!handler.supports(event)) {
+                continue;
+            }
+            if (match != null) {
+                return Mono.error(new EventInboundDispatchException(
+                        "Multiple inbound handlers found for event: schemaId=%s, entityType=%s, changeType=%s, handlers=%s"
+                                .formatted(
+                                        event.getSchemaId(),
+                                        event.getEntityType(),
+                                        event.getChangeType(),
+                                        dynamicHandlers.stream()
+                                                .filter(h -> h.supports(event))
+                                                .map(h -> h.getClass().getName())
+                                                .toList()
+                                )
+                ));
+            }
+            match = handler;
+        }
+
+        return match == null ? Mono.empty() : match.handle(event);
+    }
+
+    // ---- routing table ----
+
+    private static Map<String, Map<String, Map<String, EventInboundHandler>>> buildRoutes(
+            List<EventInboundHandler> handlers) {
+
+        Map<String, Map<String, Map<String, EventInboundHandler>>> table = new HashMap<>();
+
+        for (EventInboundHandler handler : handlers) {
+            for (EventRouteKey key : handler.routeKeys()) {
+                Map<String, EventInboundHandler> byChange = table
+                        .computeIfAbsent(key.schemaId(), k -> new HashMap<>())
+                        .computeIfAbsent(key.entityType(), k -> new HashMap<>());
+
+                EventInboundHandler previous = byChange.putIfAbsent(
+                        EventRouteKey.normalizeChangeType(key.changeType()), handler);
+                if (previous != null && previous != handler) {
+                    throw new EventInboundDispatchException(
+                            "Multiple inbound handlers registered for route %s: %s, %s"
+                                    .formatted(key, previous.getClass().getName(), handler.getClass().getName()));
+                }
+            }
         }
 
-        return matchingHandlers.getFirst().handle(event);
+        Map<String, Map<String, Map<String, EventInboundHandler>>> frozen = new HashMap<>(table.size());
+        table.forEach((schemaId, byEntity) -> {
+            Map<String, Map<String, EventInboundHandler>> entities = new HashMap<>(byEntity.size());
+            byEntity.forEach((entityType, byChange) -> entities.put(entityType, Map.copyOf(byChange)));
+            frozen.put(schemaId, Map.copyOf(entities));
+        });
+        return Map.copyOf(frozen);
     }
-}
\ No newline at end of file
+}
@@ -3,8 +3,27 @@ package com.paravai.foundation.integration.application.inbound.dispatcher;
 import com.paravai.foundation.integration.domain.event.DomainEventEnvelope;
 import reactor.core.publisher.Mono;
 
+import java.util.Set;
+
 public interface EventInboundHandler {
 
+    /**
+     * Keys this handler is registered under in the dispatcher routing table.
+     * Handlers returning an empty set are "dynamic": they are only reached through
+     * {@link #supports(DomainEventEnvelope)} when no static route matches.
+     */
+    default Set<EventRouteKey> routeKeys() {
+        return Set.of();
+    }
+
+    /**
+     * Payload type the envelope is decoded into before {@link #handle(DomainEventEnvelope)}.
+     * Object means "untyped" (maps/lists, as produced by a generic binding).
+     */
+    default Class<?> payloadType() {
+        return Object.class;
+    }
+
     boolean supports(DomainEventEnvelope<?> event);
 
     Mono<Void> handle(DomainEventEnvelope<?> event);
@@ -0,0 +1,39 @@
+package com.paravai.foundation.integration.application.inbound.dispatcher;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Static routing key declared by an {@link EventInboundHandler}.
+ *
+ * schemaId and entityType are matched exactly; changeType is matched ignoring case, as
+ * producers are not consistent about its casing (e.g. "CREATED" vs "created").
+ */
+public record EventRouteKey(
+        String schemaId,
+        String entityType,
+        String changeType
+) {
+    public EventRouteKey {
+        Objects.requireNonNull(schemaId, "schemaId");
+        Objects.requireNonNull(entityType, "entityType");
+        Objects.requireNonNull(changeType, "changeType");
+    }
+
+    public static EventRouteKey of(String schemaId, String entityType, String changeType) {
+        return new EventRouteKey(schemaId, entityType, changeType);
+    }
+
+    /**
+     * The form changeType is indexed and looked up under. Producers send upper case, for
+     * which no new string is created.
+     */
+    public static String normalizeChangeType(String changeType) {
+        return changeType.toUpperCase(Locale.ROOT);
+    }
+
+    @Override
+    public String toString() {
+        return schemaId + "/" + entityType + "/" + changeType;
+    }
+}
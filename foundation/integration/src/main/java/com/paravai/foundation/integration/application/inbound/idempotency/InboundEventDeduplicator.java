@@ -0,0 +1,215 @@
+package com.paravai.foundation.integration.application.inbound.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.paravai.foundation.integration.application.inbound.dispatcher.EventRouteKey;
+import com.paravai.foundation.persistence.mongo.dedup.ReactiveMongoProcessedEventStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Skips inbound events that were already handled, keyed on the envelope eventId.
+ *
+ * Two tiers: a bounded in-memory set of the ids this node handled recently (a hit costs
+ * one map lookup, no I/O and no decoding), then the processed events collection shared
+ * by all nodes. An event is recorded only after its handler completed; failed events are
+ * never recorded, so retries and DLQ replays still reach the handler.
+ *
+ * Only the routes opted in are deduplicated, matched like {@link EventRouteKey}: schemaId
+ * and entityType exactly, changeType ignoring case.
+ *
+ * Metrics: foundation.inbound.dedup{result=memory_hit|store_hit|miss} counts checks;
+ * the in-memory tier is exposed as cache=inbound-dedup.
+ */
+public final class InboundEventDeduplicator {
+
+    private static final Logger log = LoggerFactory.getLogger(InboundEventDeduplicator.class);
+
+    private static final String METRIC_CHECKS = "foundation.inbound.dedup";
+    private static final String CACHE_NAME = "inbound-dedup";
+
+    // schemaId -> entityType -> normalized changeType
+    private final Map<String, Map<String, Set<String>>> routes;
+    private final ReactiveMongoProcessedEventStore store;
+    private final Cache<String, Boolean> recent;
+
+    private final Counter memoryHits;
+    private final Counter storeHits;
+    private final Counter misses;
+
+    private InboundEventDeduplicator(Map<String, Map<String, Set<String>>> routes,
+                                     ReactiveMongoProcessedEventStore store,
+                                     Cache<String, Boolean> recent,
+                                     MeterRegistry registry) {
+        this.routes = routes;
+        this.store = store;
+        this.recent = recent;
+        this.memoryHits = counter(registry, "memory_hit");
+        this.storeHits = counter(registry, "store_hit");
+        this.misses = counter(registry, "miss");
+    }
+
+    /**
+     * @param routes    routes whose events are deduplicated.
+     * @param cacheSize ids kept in memory; least recently used are evicted first.
+     * @param cacheTtl  ids are dropped from memory this long after being recorded
+     *                  (the store keeps them for its own TTL).
+     */
+    public static InboundEventDeduplicator create(Collection<EventRouteKey> routes,
+                                                  ReactiveMongoProcessedEventStore store,
+                                                  long cacheSize,
+                                                  Duration cacheTtl,
+                                                  MeterRegistry registry) {
+        Objects.requireNonNull(routes, "routes");
+        Objects.requireNonNull(store, "store");
+        Objects.requireNonNull(cacheTtl, "cacheTtl");
+        Objects.requireNonNull(registry, "registry");
+        if (cacheTtl.isNegative() || cacheTtl.isZero()) throw new IllegalArgumentException("cacheTtl must be > 0");
+        if (cacheSize < 1) throw new IllegalArgumentException("cacheSize must be >= 1");
+
+        Cache<String, Boolean> recent = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, recent, CACHE_NAME);
+
+        log.info("InboundEventDeduplicator initialized for routes {} (cacheSize={}, cacheTtl={})",
+                routes, cacheSize, cacheTtl);
+
+        return new InboundEventDeduplicator(buildRoutes(routes), store, recent, registry);
+    }
+
+    /**
+     * Whether events of this route are deduplicated.
+     */
+    public boolean appliesTo(String schemaId, String entityType, String changeType) {
+        if (schemaId == null || entityType == null || changeType == null) {
+            return false;
+        }
+        Map<String, Set<String>> byEntity = routes.get(schemaId);
+        if (byEntity == null) {
+            return false;
+        }
+        Set<String> changes = byEntity.get(entityType);
+        return changes != null && changes.contains(EventRouteKey.normalizeChangeType(changeType));
+    }
+
+    /**
+     * Runs handling unless eventId was already handled, then records it.
+     *
+     * The in-memory tier is checked when this method is called (callers are expected to be
+     * inside a deferred pipeline); the store is queried on subscription.
+     */
+    public Mono<Void> processOnce(String eventId, Supplier<Mono<Void>> handling) {
+        Objects.requireNonNull(handling, "handling");
+        if (eventId == null) {
+            return Mono.defer(handling);
+        }
+
+        if (recent.getIfPresent(eventId) != null) {
+            memoryHits.increment();
+            return Mono.empty();
+        }
+
+        return store.isProcessed(eventId).flatMap(processed -> {
+            if (processed) {
+                storeHits.increment();
+                recent.put(eventId, Boolean.TRUE);
+                log.debug("Duplicate inbound event skipped: eventId={}", eventId);
+                return Mono.empty();
+            }
+            misses.increment();
+            return Mono.defer(handling).then(Mono.defer(() -> record(eventId)));
+        });
+    }
+
+    /**
+     * Batch counterpart of the check in {@link #processOnce}: the ids among eventIds that
+     * were already handled. Ids missing from memory are looked up with a single query.
+     */
+    public Mono<Set<String>> alreadyProcessed(Collection<String> eventIds) {
+        Objects.requireNonNull(eventIds, "eventIds");
+
+        return Mono.defer(() -> {
+            Set<String> processed = new HashSet<>();
+            List<String> unknown = new ArrayList<>();
+            for (String eventId : eventIds) {
+                if (recent.getIfPresent(eventId) != null) {
+                    processed.add(eventId);
+                } else {
+                    unknown.add(eventId);
+                }
+            }
+            memoryHits.increment(processed.size());
+
+            if (unknown.isEmpty()) {
+                return Mono.just(processed);
+            }
+
+            return store.findProcessed(unknown)
+                    .doOnNext(eventId -> recent.put(eventId, Boolean.TRUE))
+                    .collectList()
+                    .map(found -> {
+                        storeHits.increment(found.size());
+                        misses.increment(unknown.size() - found.size());
+                        processed.addAll(found);
+                        return processed;
+                    });
+        });
+    }
+
+    /**
+     * Batch counterpart of the recording done by {@link #processOnce}, for events whose
+     * handling completed. Never fails.
+     */
+    public Mono<Void> markProcessed(Collection<String> eventIds) {
+        Objects.requireNonNull(eventIds, "eventIds");
+        return Flux.fromIterable(eventIds)
+                .flatMap(this::record)
+                .then();
+    }
+
+    // The handler has already succeeded: failing now would only make the retry path run it again.
+    private Mono<Void> record(String eventId) {
+        recent.put(eventId, Boolean.TRUE);
+        return store.markProcessed(eventId)
+                .onErrorResume(ex -> {
+                    log.warn("Could not record processed inbound event: eventId={} ({})", eventId, ex.toString());
+                    return Mono.empty();
+                });
+    }
+
+    private static Map<String, Map<String, Set<String>>> buildRoutes(Collection<EventRouteKey> keys) {
+        Map<String, Map<String, Set<String>>> routes = new HashMap<>();
+        for (EventRouteKey key : keys) {
+            routes.computeIfAbsent(key.schemaId(), s -> new HashMap<>())
+                    .computeIfAbsent(key.entityType(), e -> new HashSet<>())
+                    .add(EventRouteKey.normalizeChangeType(key.changeType()));
+        }
+        return Collections.unmodifiableMap(routes);
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder(METRIC_CHECKS)
+                .tag("result", result)
+                .register(registry);
+    }
+}
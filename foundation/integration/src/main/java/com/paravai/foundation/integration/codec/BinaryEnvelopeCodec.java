@@ -0,0 +1,22 @@
+package com.paravai.foundation.integration.codec;
+
+import com.paravai.foundation.integration.domain.event.DomainEventEnvelope;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Non-JSON envelope encoding for a fixed set of schemas (e.g. protobuf for the V1
+ * integration contracts). Implementations live next to the schema definitions and are
+ * contributed as beans; {@link PayloadCodecRegistry} indexes them by content type and schemaId.
+ */
+public interface BinaryEnvelopeCodec {
+
+    String contentType();
+
+    Set<String> schemaIds();
+
+    byte[] encode(DomainEventEnvelope<?> envelope) throws IOException;
+
+    DomainEventEnvelope<?> decode(byte[] body, String schemaId) throws IOException;
+}
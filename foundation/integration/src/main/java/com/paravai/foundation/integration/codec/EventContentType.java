@@ -0,0 +1,36 @@
+package com.paravai.foundation.integration.codec;
+
+import java.util.Locale;
+
+/**
+ * Wire encodings for envelopes, advertised in the {@value #HEADER} transport header so
+ * JSON and binary consumers can share a topic.
+ */
+public final class EventContentType {
+
+    private EventContentType() {}
+
+    public static final String HEADER = "contentType";
+
+    public static final String JSON = "application/json";
+    public static final String PROTOBUF = "application/x-protobuf";
+
+    /**
+     * Accepts short names ("json", "protobuf") or full content types; null/blank -> JSON.
+     */
+    public static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return JSON;
+        }
+        String v = value.trim().toLowerCase(Locale.ROOT);
+        return switch (v) {
+            case "json", JSON -> JSON;
+            case "protobuf", "proto", PROTOBUF -> PROTOBUF;
+            default -> throw new IllegalArgumentException("Unsupported event content type: " + value);
+        };
+    }
+
+    public static boolean isJson(String contentType) {
+        return contentType == null || JSON.equals(contentType);
+    }
+}
@@ -0,0 +1,56 @@
+package com.paravai.foundation.integration.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.paravai.foundation.integration.domain.event.DomainEventEnvelope;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Pre-built Jackson reader/writer pair for {@code DomainEventEnvelope<P>}.
+ *
+ * Readers and writers are immutable and thread-safe; building them resolves the
+ * (de)serializers once, so per-event work is just the streaming (de)serialization.
+ */
+public final class PayloadCodec<P> {
+
+    private final String schemaId;
+    private final Class<P> payloadType;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+    private final ObjectWriter genericWriter;
+
+    PayloadCodec(ObjectMapper objectMapper, String schemaId, Class<P> payloadType) {
+        this.schemaId = schemaId;
+        this.payloadType = Objects.requireNonNull(payloadType, "payloadType");
+
+        JavaType envelopeType = objectMapper.getTypeFactory()
+                .constructParametricType(DomainEventEnvelope.class, payloadType);
+
+        this.reader = objectMapper.readerFor(envelopeType);
+        this.writer = objectMapper.writerFor(envelopeType);
+        this.genericWriter = objectMapper.writerFor(DomainEventEnvelope.class);
+    }
+
+    public String schemaId() { return schemaId; }
+
+    public Class<P> payloadType() { return payloadType; }
+
+    public DomainEventEnvelope<P> decode(byte[] body) throws IOException {
+        return reader.readValue(body);
+    }
+
+    /**
+     * Uses the typed writer when the payload is an instance of the registered class;
+     * other shapes (e.g. JsonNode replayed from the outbox) go through the generic writer.
+     */
+    public byte[] encode(DomainEventEnvelope<?> envelope) throws IOException {
+        Object payload = envelope.getPayload();
+        return payloadType.isInstance(payload)
+                ? writer.writeValueAsBytes(envelope)
+                : genericWriter.writeValueAsBytes(envelope);
+    }
+}
@@ -0,0 +1,162 @@
+package com.paravai.foundation.integration.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paravai.foundation.integration.domain.event.DomainEventEnvelope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of envelope codecs keyed by schemaId
+ * (e.g. communities-management.community.integration.v1 -> CommunityEventPayloadV1).
+ *
+ * Registered schemas get a typed codec built at startup. Unknown schemas fall back to an
+ * untyped codec (payload as maps/lists), which is what a generic binding would produce.
+ * Shared by the Kafka producer serializer and the inbound decoder, both on the application
+ * ObjectMapper: the producer no longer uses the dedicated mapper of Spring's JsonSerializer.
+ */
+@Component
+public class PayloadCodecRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(PayloadCodecRegistry.class);
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, PayloadCodec<?>> codecs;
+    private final PayloadCodec<Object> untyped;
+
+    // contentType -> schemaId -> binary codec
+    private final Map<String, Map<String, BinaryEnvelopeCodec>> binaryCodecs;
+
+    // Handler-specific payload types that differ from the registered one: built on demand.
+    private final Map<String, Map<Class<?>, PayloadCodec<?>>> adHoc = new ConcurrentHashMap<>();
+
+    public PayloadCodecRegistry(ObjectMapper objectMapper,
+                                ObjectProvider<PayloadSchemaRegistration> registrations,
+                                ObjectProvider<BinaryEnvelopeCodec> binaryCodecs) {
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
+        this.untyped = new PayloadCodec<>(objectMapper, null, Object.class);
+
+        Map<String, PayloadCodec<?>> built = new HashMap<>();
+        registrations.orderedStream().forEach(r -> {
+            PayloadCodec<?> previous = built.get(r.schemaId());
+            if (previous != null && previous.payloadType() != r.payloadType()) {
+                throw new IllegalStateException("Conflicting payload types for schemaId %s: %s, %s"
+                        .formatted(r.schemaId(), previous.payloadType().getName(), r.payloadType().getName()));
+            }
+            built.put(r.schemaId(), new PayloadCodec<>(objectMapper, r.schemaId(), r.payloadType()));
+        });
+        this.codecs = Map.copyOf(built);
+
+        Map<String, Map<String, BinaryEnvelopeCodec>> binary = new HashMap<>();
+        binaryCodecs.orderedStream().forEach(c -> {
+            Map<String, BinaryEnvelopeCodec> bySchema = binary.computeIfAbsent(c.contentType(), k -> new HashMap<>());
+            for (String schemaId : c.schemaIds()) {
+                if (bySchema.putIfAbsent(schemaId, c) != null) {
+                    throw new IllegalStateException("Multiple %s codecs for schemaId %s"
+                            .formatted(c.contentType(), schemaId));
+                }
+            }
+        });
+        Map<String, Map<String, BinaryEnvelopeCodec>> frozen = new HashMap<>();
+        binary.forEach((contentType, bySchema) -> frozen.put(contentType, Map.copyOf(bySchema)));
+        this.binaryCodecs = Map.copyOf(frozen);
+
+        log.info("PayloadCodecRegistry initialized with {} schemas: {}, binary encodings: {}",
+                codecs.size(), codecs.keySet(), this.binaryCodecs.keySet());
+    }
+
+    /**
+     * Codec for the schema, or the untyped codec when the schema is not registered.
+     */
+    public PayloadCodec<?> codecFor(String schemaId) {
+        if (schemaId == null) {
+            return untyped;
+        }
+        PayloadCodec<?> codec = codecs.get(schemaId);
+        return codec != null ? codec : untyped;
+    }
+
+    /**
+     * Codec producing {@code expectedType} payloads: the registered one when compatible,
+     * otherwise a cached codec for the (schemaId, expectedType) pair.
+     */
+    public PayloadCodec<?> codecFor(String schemaId, Class<?> expectedType) {
+        PayloadCodec<?> registered = codecFor(schemaId);
+        if (expectedType == null || expectedType == Object.class
+                || expectedType.isAssignableFrom(registered.payloadType())) {
+            return registered;
+        }
+        return adHoc
+                .computeIfAbsent(schemaId == null ? "" : schemaId, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(expectedType, t -> new PayloadCodec<>(objectMapper, schemaId, t));
+    }
+
+    public PayloadCodec<Object> untyped() {
+        return untyped;
+    }
+
+    public boolean isRegistered(String schemaId) {
+        return schemaId != null && codecs.containsKey(schemaId);
+    }
+
+    public DomainEventEnvelope<?> decode(byte[] body, String schemaId, Class<?> expectedType) throws IOException {
+        return codecFor(schemaId, expectedType).decode(body);
+    }
+
+    /**
+     * Decodes according to the advertised content type; JSON (or no header) uses the
+     * Jackson codecs, anything else requires a registered binary codec for the schema.
+     */
+    public DomainEventEnvelope<?> decode(byte[] body,
+                                         String contentType,
+                                         String schemaId,
+                                         Class<?> expectedType) throws IOException {
+        if (EventContentType.isJson(contentType)) {
+            return decode(body, schemaId, expectedType);
+        }
+        BinaryEnvelopeCodec codec = binaryCodec(contentType, schemaId);
+        if (codec == null) {
+            throw new IOException("No %s codec registered for schemaId %s".formatted(contentType, schemaId));
+        }
+        return codec.decode(body, schemaId);
+    }
+
+    public byte[] encode(DomainEventEnvelope<?> envelope) throws IOException {
+        return codecFor(envelope.getSchemaId()).encode(envelope);
+    }
+
+    public boolean supports(String contentType, String schemaId) {
+        return EventContentType.isJson(contentType) || binaryCodec(contentType, schemaId) != null;
+    }
+
+    /**
+     * Encodes with the requested content type; the caller is expected to check
+     * {@link #supports(String, String)} first and fall back to JSON otherwise.
+     */
+    public byte[] encode(DomainEventEnvelope<?> envelope, String contentType) throws IOException {
+        if (EventContentType.isJson(contentType)) {
+            return encode(envelope);
+        }
+        BinaryEnvelopeCodec codec = binaryCodec(contentType, envelope.getSchemaId());
+        if (codec == null) {
+            throw new IOException("No %s codec registered for schemaId %s"
+                    .formatted(contentType, envelope.getSchemaId()));
+        }
+        return codec.encode(envelope);
+    }
+
+    private BinaryEnvelopeCodec binaryCodec(String contentType, String schemaId) {
+        if (schemaId == null) {
+            return null;
+        }
+        Map<String, BinaryEnvelopeCodec> bySchema = binaryCodecs.get(contentType);
+        return bySchema == null ? null : bySchema.get(schemaId);
+    }
+}
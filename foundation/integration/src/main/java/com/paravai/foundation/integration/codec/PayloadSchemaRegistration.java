@@ -0,0 +1,21 @@
+package com.paravai.foundation.integration.codec;
+
+import java.util.Objects;
+
+/**
+ * Declares the concrete payload class carried by envelopes of a given schemaId.
+ * Services contribute one bean per schema they produce or consume.
+ */
+public record PayloadSchemaRegistration(
+        String schemaId,
+        Class<?> payloadType
+) {
+    public PayloadSchemaRegistration {
+        Objects.requireNonNull(schemaId, "schemaId");
+        Objects.requireNonNull(payloadType, "payloadType");
+    }
+
+    public static PayloadSchemaRegistration of(String schemaId, Class<?> payloadType) {
+        return new PayloadSchemaRegistration(schemaId, payloadType);
+    }
+}
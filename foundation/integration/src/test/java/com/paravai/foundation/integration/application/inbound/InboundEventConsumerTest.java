@@ -0,0 +1,114 @@
+package com.paravai.foundation.integration.application.inbound;
+
+import com.paravai.foundation.integration.application.inbound.dispatcher.BatchEventInboundHandler;
+import com.paravai.foundation.integration.application.inbound.dispatcher.EventInboundDispatcher;
+import com.paravai.foundation.integration.application.inbound.dispatcher.EventRouteKey;
+import com.paravai.foundation.integration.application.inbound.idempotency.InboundEventDeduplicator;
+import com.paravai.foundation.integration.codec.PayloadCodecRegistry;
+import com.paravai.foundation.integration.domain.event.DomainEventEnvelope;
+import com.paravai.foundation.persistence.mongo.dedup.ReactiveMongoProcessedEventStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class InboundEventConsumerTest {
+
+    private static final String SCHEMA = "communities-management.community.integration.v1";
+
+    private final PayloadCodecRegistry codecs = mock(PayloadCodecRegistry.class);
+    private final ReactiveMongoProcessedEventStore store = mock(ReactiveMongoProcessedEventStore.class);
+    private final BatchEventInboundHandler handler = mock(BatchEventInboundHandler.class);
+
+    private InboundEventConsumer consumer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        InboundEventDeduplicator deduplicator = InboundEventDeduplicator.create(
+                List.of(EventRouteKey.of(SCHEMA, "Community", "CREATED")),
+                store, 100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+        ObjectProvider<InboundEventDeduplicator> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(deduplicator);
+
+        consumer = new InboundEventConsumer(new EventInboundDispatcher(List.of()), codecs, provider);
+    }
+
+    @DisplayName("Given a batch with an already processed event, only the new one should be decoded, handled and recorded")
+    @Test
+    void consumeBatch_skipsProcessed() throws Exception {
+        //Given
+        DomainEventEnvelope<Object> second = envelope("e2");
+        when(store.findProcessed(anyCollection())).thenReturn(Flux.just("e1"));
+        when(store.markProcessed("e2")).thenReturn(Mono.empty());
+        doReturn(second).when(codecs).decode(eq(body("e2")), any(), any(), any());
+        when(handler.handleBatch(anyList())).thenReturn(Mono.empty());
+
+        //When
+        consumer.consumeBatch(handler, List.of(event("e1"), event("e2"))).block();
+
+        //Then
+        verify(handler).handleBatch(List.of(second));
+        verify(codecs, never()).decode(eq(body("e1")), any(), any(), any());
+        verify(store).markProcessed("e2");
+        verify(store, never()).markProcessed("e1");
+    }
+
+    @DisplayName("Given a failing batch, no event should be recorded as processed")
+    @Test
+    void consumeBatch_failureRecordsNothing() throws Exception {
+        //Given
+        when(store.findProcessed(anyCollection())).thenReturn(Flux.empty());
+        doReturn(envelope("e1")).when(codecs).decode(any(), any(), any(), any());
+        when(handler.handleBatch(anyList())).thenReturn(Mono.error(new IllegalStateException("bulk failed")));
+
+        //When / Then
+        assertThrows(IllegalStateException.class,
+                () -> consumer.consumeBatch(handler, List.of(event("e1"), event("e2"))).block());
+        verify(store, never()).markProcessed(anyString());
+    }
+
+    @DisplayName("Given a batch whose events were all processed, the handler should not be called")
+    @Test
+    void consumeBatch_allProcessed() {
+        //Given
+        when(store.findProcessed(anyCollection())).thenReturn(Flux.just("e1", "e2"));
+
+        //When
+        consumer.consumeBatch(handler, List.of(event("e1"), event("e2"))).block();
+
+        //Then
+        verify(handler, never()).handleBatch(anyList());
+        verifyNoInteractions(codecs);
+    }
+
+    private static RawInboundEvent event(String eventId) {
+        return new RawInboundEvent(eventId, body(eventId), null, SCHEMA, "Community", "CREATED");
+    }
+
+    private static byte[] body(String eventId) {
+        return ("{\"eventId\":\"" + eventId + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static DomainEventEnvelope<Object> envelope(String eventId) {
+        return new DomainEventEnvelope<>(
+                eventId, "c1", "Community", "CREATED", "community", Instant.now(),
+                "t1", null, SCHEMA, null, "payload");
+    }
+}
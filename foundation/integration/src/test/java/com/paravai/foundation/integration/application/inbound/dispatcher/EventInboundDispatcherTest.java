@@ -0,0 +1,139 @@
+package com.paravai.foundation.integration.application.inbound.dispatcher;
+
+import com.paravai.foundation.integration.domain.event.DomainEventEnvelope;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventInboundDispatcherTest {
+
+    private static final String SCHEMA = "communities-management.community.integration.v1";
+
+    @DisplayName("Given a routed handler, a lookup should match changeType ignoring case")
+    @Test
+    void route_changeTypeIgnoresCase() {
+        //Given
+        RecordingHandler created = routed(EventRouteKey.of(SCHEMA, "Community", "created"));
+        EventInboundDispatcher dispatcher = new EventInboundDispatcher(List.of(created));
+
+        //When / Then
+        assertSame(created, dispatcher.route(SCHEMA, "Community", "CREATED"));
+        assertSame(created, dispatcher.route(SCHEMA, "Community", "Created"));
+    }
+
+    @DisplayName("Given a routed handler, schemaId and entityType should be matched exactly")
+    @Test
+    void route_schemaAndEntityTypeExact() {
+        //Given
+        EventInboundDispatcher dispatcher = new EventInboundDispatcher(
+                List.of(routed(EventRouteKey.of(SCHEMA, "Community", "CREATED"))));
+
+        //When / Then
+        assertNull(dispatcher.route(SCHEMA, "community", "CREATED"));
+        assertNull(dispatcher.route(SCHEMA.toUpperCase(), "Community", "CREATED"));
+        assertNull(dispatcher.route(SCHEMA, "Community", "DELETED"));
+        assertNull(dispatcher.route(null, "Community", "CREATED"));
+    }
+
+    @DisplayName("Given two handlers claiming the same route, the dispatcher should not start")
+    @Test
+    void constructor_duplicateRouteFails() {
+        //Given
+        RecordingHandler a = routed(EventRouteKey.of(SCHEMA, "Community", "CREATED"));
+        RecordingHandler b = routed(EventRouteKey.of(SCHEMA, "Community", "created"));
+
+        //When / Then
+        assertThrows(EventInboundDispatchException.class, () -> new EventInboundDispatcher(List.of(a, b)));
+    }
+
+    @DisplayName("Given a routed event, only the routed handler should receive it, even if a dynamic one supports it")
+    @Test
+    void dispatch_routedWinsOverDynamic() {
+        //Given
+        RecordingHandler routed = routed(EventRouteKey.of(SCHEMA, "Community", "CREATED"));
+        RecordingHandler dynamic = dynamic(e -> true);
+        EventInboundDispatcher dispatcher = new EventInboundDispatcher(List.of(routed, dynamic));
+
+        //When
+        dispatcher.dispatch(envelope("Community", "created")).block();
+
+        //Then
+        assertEquals(1, routed.handled.size());
+        assertTrue(dynamic.handled.isEmpty());
+    }
+
+    @DisplayName("Given no static route, the single supporting dynamic handler should receive the event")
+    @Test
+    void dispatch_dynamicFallback() {
+        //Given
+        RecordingHandler dynamic = dynamic(e -> "Membership".equals(e.getEntityType()));
+        EventInboundDispatcher dispatcher = new EventInboundDispatcher(List.of(dynamic));
+
+        //When
+        dispatcher.dispatch(envelope("Membership", "CREATED")).block();
+        dispatcher.dispatch(envelope("Community", "CREATED")).block();
+
+        //Then
+        assertEquals(1, dynamic.handled.size());
+        assertTrue(dispatcher.hasDynamicHandlers());
+    }
+
+    @DisplayName("Given two dynamic handlers supporting the event, the dispatch should fail")
+    @Test
+    void dispatch_ambiguousDynamicFails() {
+        //Given
+        EventInboundDispatcher dispatcher = new EventInboundDispatcher(List.of(dynamic(e -> true), dynamic(e -> true)));
+
+        //When / Then
+        assertThrows(EventInboundDispatchException.class,
+                () -> dispatcher.dispatch(envelope("Community", "CREATED")).block());
+    }
+
+    private static DomainEventEnvelope<Object> envelope(String entityType, String changeType) {
+        return new DomainEventEnvelope<>(
+                "e1", "c1", entityType, changeType, "community", Instant.now(),
+                "t1", null, SCHEMA, null, "payload");
+    }
+
+    private static RecordingHandler routed(EventRouteKey key) {
+        return new RecordingHandler(Set.of(key), e -> false);
+    }
+
+    private static RecordingHandler dynamic(Predicate<DomainEventEnvelope<?>> supports) {
+        return new RecordingHandler(Set.of(), supports);
+    }
+
+    private static final class RecordingHandler implements EventInboundHandler {
+        private final Set<EventRouteKey> keys;
+        private final Predicate<DomainEventEnvelope<?>> supports;
+        private final List<DomainEventEnvelope<?>> handled = new ArrayList<>();
+
+        private RecordingHandler(Set<EventRouteKey> keys, Predicate<DomainEventEnvelope<?>> supports) {
+            this.keys = keys;
+            this.supports = supports;
+        }
+
+        @Override
+        public Set<EventRouteKey> routeKeys() {
+            return keys;
+        }
+
+        @Override
+        public boolean supports(DomainEventEnvelope<?> event) {
+            return supports.test(event);
+        }
+
+        @Override
+        public Mono<Void> handle(DomainEventEnvelope<?> event) {
+            return Mono.fromRunnable(() -> handled.add(event));
+        }
+    }
+}
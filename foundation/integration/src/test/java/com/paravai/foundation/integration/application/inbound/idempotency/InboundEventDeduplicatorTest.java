@@ -0,0 +1,149 @@
+package com.paravai.foundation.integration.application.inbound.idempotency;
+
+import com.paravai.foundation.integration.application.inbound.dispatcher.EventRouteKey;
+import com.paravai.foundation.persistence.mongo.dedup.ReactiveMongoProcessedEventStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class InboundEventDeduplicatorTest {
+
+    private static final String SCHEMA = "communities-management.community.integration.v1";
+
+    private final ReactiveMongoProcessedEventStore store = mock(ReactiveMongoProcessedEventStore.class);
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger handled = new AtomicInteger();
+
+    private final InboundEventDeduplicator deduplicator = InboundEventDeduplicator.create(
+            List.of(EventRouteKey.of(SCHEMA, "Community", "created")),
+            store, 100, Duration.ofMinutes(10), registry);
+
+    @DisplayName("Given an opted-in route, appliesTo should match schemaId and entityType exactly and changeType ignoring case")
+    @Test
+    void appliesTo_matchesLikeRouteKey() {
+        assertTrue(deduplicator.appliesTo(SCHEMA, "Community", "CREATED"));
+        assertTrue(deduplicator.appliesTo(SCHEMA, "Community", "Created"));
+        assertFalse(deduplicator.appliesTo(SCHEMA, "community", "CREATED"));
+        assertFalse(deduplicator.appliesTo(SCHEMA.toUpperCase(), "Community", "CREATED"));
+        assertFalse(deduplicator.appliesTo(SCHEMA, "Community", "DELETED"));
+        assertFalse(deduplicator.appliesTo(SCHEMA, "Community", null));
+    }
+
+    @DisplayName("Given a new event, it should be handled and recorded, and a redelivery skipped from memory")
+    @Test
+    void processOnce_missThenMemoryHit() {
+        //Given
+        when(store.isProcessed("e1")).thenReturn(Mono.just(false));
+        when(store.markProcessed("e1")).thenReturn(Mono.empty());
+
+        //When
+        deduplicator.processOnce("e1", this::handle).block();
+        deduplicator.processOnce("e1", this::handle).block();
+
+        //Then
+        assertEquals(1, handled.get());
+        verify(store, times(1)).isProcessed("e1");
+        verify(store).markProcessed("e1");
+        assertEquals(1.0, count("miss"));
+        assertEquals(1.0, count("memory_hit"));
+    }
+
+    @DisplayName("Given an event recorded by another node, it should be skipped and remembered in memory")
+    @Test
+    void processOnce_storeHitWarmsMemory() {
+        //Given
+        when(store.isProcessed("e1")).thenReturn(Mono.just(true));
+
+        //When
+        deduplicator.processOnce("e1", this::handle).block();
+        deduplicator.processOnce("e1", this::handle).block();
+
+        //Then
+        assertEquals(0, handled.get());
+        verify(store, times(1)).isProcessed("e1");
+        verify(store, never()).markProcessed(anyString());
+        assertEquals(1.0, count("store_hit"));
+        assertEquals(1.0, count("memory_hit"));
+    }
+
+    @DisplayName("Given a failing handler, the event should not be recorded so a retry reaches the handler again")
+    @Test
+    void processOnce_failureNotRecorded() {
+        //Given
+        when(store.isProcessed("e1")).thenReturn(Mono.just(false));
+        when(store.markProcessed("e1")).thenReturn(Mono.empty());
+
+        //When
+        assertThrows(IllegalStateException.class, () ->
+                deduplicator.processOnce("e1", () -> Mono.error(new IllegalStateException("boom"))).block());
+        deduplicator.processOnce("e1", this::handle).block();
+
+        //Then
+        assertEquals(1, handled.get());
+        verify(store, times(2)).isProcessed("e1");
+        verify(store, times(1)).markProcessed("e1");
+    }
+
+    @DisplayName("Given an event without id, it should be handled without any check")
+    @Test
+    void processOnce_noEventId() {
+        //When
+        deduplicator.processOnce(null, this::handle).block();
+
+        //Then
+        assertEquals(1, handled.get());
+        verifyNoInteractions(store);
+    }
+
+    @DisplayName("Given a batch, ids in memory should not be queried and the rest should be looked up in one query")
+    @Test
+    void alreadyProcessed_memoryThenOneQuery() {
+        //Given
+        when(store.markProcessed("e1")).thenReturn(Mono.empty());
+        deduplicator.markProcessed(List.of("e1")).block();
+        when(store.findProcessed(List.of("e2", "e3"))).thenReturn(Flux.just("e2"));
+
+        //When
+        Set<String> processed = deduplicator.alreadyProcessed(List.of("e1", "e2", "e3")).block();
+
+        //Then
+        assertEquals(Set.of("e1", "e2"), processed);
+        assertEquals(1.0, count("memory_hit"));
+        assertEquals(1.0, count("store_hit"));
+        assertEquals(1.0, count("miss"));
+    }
+
+    @DisplayName("Given the store failing to record, markProcessed should complete and still remember the ids in memory")
+    @Test
+    void markProcessed_swallowsStoreErrors() {
+        //Given
+        when(store.markProcessed(anyString())).thenReturn(Mono.error(new IllegalStateException("mongo down")));
+
+        //When
+        deduplicator.markProcessed(List.of("e1", "e2")).block();
+
+        //Then
+        assertEquals(Set.of("e1", "e2"), deduplicator.alreadyProcessed(List.of("e1", "e2")).block());
+        verify(store, never()).findProcessed(any());
+    }
+
+    private Mono<Void> handle() {
+        return Mono.fromRunnable(handled::incrementAndGet);
+    }
+
+    private double count(String result) {
+        return registry.get("foundation.inbound.dedup").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,119 @@
+package com.paravai.foundation.integration.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paravai.foundation.integration.domain.event.DomainEventEnvelope;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PayloadCodecRegistryTest {
+
+    private static final String SCHEMA = "communities-management.community.integration.v1";
+
+    // Same defaults as the application ObjectMapper the registry runs on
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @DisplayName("Given a registered schema, the codec should be the typed one for its payload class")
+    @Test
+    void codecFor_registeredSchema() {
+        //Given
+        PayloadCodecRegistry registry = registry(PayloadSchemaRegistration.of(SCHEMA, Payload.class));
+
+        //When
+        PayloadCodec<?> codec = registry.codecFor(SCHEMA);
+
+        //Then
+        assertEquals(Payload.class, codec.payloadType());
+        assertEquals(SCHEMA, codec.schemaId());
+        assertTrue(registry.isRegistered(SCHEMA));
+    }
+
+    @DisplayName("Given an unknown or missing schema, the untyped codec should be returned")
+    @Test
+    void codecFor_unknownSchema() {
+        //Given
+        PayloadCodecRegistry registry = registry(PayloadSchemaRegistration.of(SCHEMA, Payload.class));
+
+        //When / Then
+        assertSame(registry.untyped(), registry.codecFor("other.schema.v1"));
+        assertSame(registry.untyped(), registry.codecFor(null));
+        assertFalse(registry.isRegistered("other.schema.v1"));
+    }
+
+    @DisplayName("Given two payload types for one schema, the registry should fail at startup")
+    @Test
+    void create_conflictingRegistrations() {
+        //When / Then
+        assertThrows(IllegalStateException.class, () -> registry(
+                PayloadSchemaRegistration.of(SCHEMA, Payload.class),
+                PayloadSchemaRegistration.of(SCHEMA, String.class)));
+    }
+
+    @DisplayName("Given a JSON body of a registered schema, decoding without a content type should give the typed payload")
+    @Test
+    void decode_jsonRegisteredSchema() throws Exception {
+        //Given
+        PayloadCodecRegistry registry = registry(PayloadSchemaRegistration.of(SCHEMA, Payload.class));
+        byte[] body = registry.encode(envelope(SCHEMA, new Payload("c1", "Chess club")));
+
+        //When
+        DomainEventEnvelope<?> decoded = registry.decode(body, null, SCHEMA, null);
+
+        //Then
+        assertEquals(new Payload("c1", "Chess club"), decoded.getPayload());
+        assertEquals("e1", decoded.getEventId());
+    }
+
+    @DisplayName("Given a JSON body of an unknown schema, decoding should fall back to a map payload")
+    @Test
+    void decode_jsonUnknownSchema() throws Exception {
+        //Given
+        PayloadCodecRegistry registry = registry();
+        byte[] body = registry.encode(envelope("other.schema.v1", new Payload("c1", "Chess club")));
+
+        //When
+        DomainEventEnvelope<?> decoded = registry.decode(body, EventContentType.JSON, "other.schema.v1", null);
+
+        //Then
+        assertEquals(Map.of("id", "c1", "name", "Chess club"), decoded.getPayload());
+    }
+
+    @DisplayName("Given a binary content type without a codec for the schema, decoding should fail")
+    @Test
+    void decode_binaryWithoutCodec() {
+        //Given
+        PayloadCodecRegistry registry = registry(PayloadSchemaRegistration.of(SCHEMA, Payload.class));
+
+        //When / Then
+        assertFalse(registry.supports(EventContentType.PROTOBUF, SCHEMA));
+        assertThrows(IOException.class,
+                () -> registry.decode(new byte[]{1}, EventContentType.PROTOBUF, SCHEMA, null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private PayloadCodecRegistry registry(PayloadSchemaRegistration... registrations) {
+        ObjectProvider<PayloadSchemaRegistration> schemas = mock(ObjectProvider.class);
+        when(schemas.orderedStream()).thenReturn(Stream.of(registrations));
+        ObjectProvider<BinaryEnvelopeCodec> binary = mock(ObjectProvider.class);
+        when(binary.orderedStream()).thenReturn(Stream.empty());
+        return new PayloadCodecRegistry(objectMapper, schemas, binary);
+    }
+
+    private static DomainEventEnvelope<Payload> envelope(String schemaId, Payload payload) {
+        return new DomainEventEnvelope<>(
+                "e1", payload.id(), "Community", "CREATED", "community", Instant.parse("2026-01-01T00:00:00Z"),
+                "t1", null, schemaId, null, payload);
+    }
+
+    record Payload(String id, String name) {
+    }
+}
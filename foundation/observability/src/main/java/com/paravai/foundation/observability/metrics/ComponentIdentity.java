@@ -1,25 +1,77 @@
 package com.paravai.foundation.observability.metrics;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
-public record ComponentIdentity(
-        String cmm,
-        String module,
-        String moduleType,
-        String component
-) {
-    public ComponentIdentity {
-        Objects.requireNonNull(cmm, "cmm");
-        Objects.requireNonNull(module, "module");
-        Objects.requireNonNull(moduleType, "moduleType");
-        Objects.requireNonNull(component, "component");
+/**
+ * Tag identity of an application component (cmm/module/moduleType/component).
+ *
+ * OperationCtx instances are built once per operation (and adapter) and reused, so the
+ * per-call cost is a map lookup.
+ */
+public final class ComponentIdentity {
+
+    private final String cmm;
+    private final String module;
+    private final String moduleType;
+    private final String component;
+
+    // operation -> ctx
+    private final Map<String, OperationCtx> appCtx = new ConcurrentHashMap<>();
+    // adapter -> operation -> ctx
+    private final Map<String, Map<String, OperationCtx>> outboundCtx = new ConcurrentHashMap<>();
+
+    public ComponentIdentity(String cmm, String module, String moduleType, String component) {
+        this.cmm = Objects.requireNonNull(cmm, "cmm");
+        this.module = Objects.requireNonNull(module, "module");
+        this.moduleType = Objects.requireNonNull(moduleType, "moduleType");
+        this.component = Objects.requireNonNull(component, "component");
     }
 
+    public String cmm() { return cmm; }
+    public String module() { return module; }
+    public String moduleType() { return moduleType; }
+    public String component() { return component; }
+
     public OperationCtx app(String operation) {
-        return OperationCtx.application(cmm, module, moduleType, component, operation);
+        OperationCtx ctx = appCtx.get(operation);
+        if (ctx == null) {
+            ctx = appCtx.computeIfAbsent(operation,
+                    op -> OperationCtx.application(cmm, module, moduleType, component, op));
+        }
+        return ctx;
     }
 
     public OperationCtx outbound(String adapter, String operation) {
-        return OperationCtx.outbound(cmm, module, moduleType, component, adapter, operation);
+        Map<String, OperationCtx> byOperation = outboundCtx.get(adapter);
+        if (byOperation == null) {
+            byOperation = outboundCtx.computeIfAbsent(adapter, a -> new ConcurrentHashMap<>());
+        }
+        OperationCtx ctx = byOperation.get(operation);
+        if (ctx == null) {
+            ctx = byOperation.computeIfAbsent(operation,
+                    op -> OperationCtx.outbound(cmm, module, moduleType, component, adapter, op));
+        }
+        return ctx;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ComponentIdentity other)) return false;
+        return cmm.equals(other.cmm) && module.equals(other.module)
+                && moduleType.equals(other.moduleType) && component.equals(other.component);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cmm, module, moduleType, component);
+    }
+
+    @Override
+    public String toString() {
+        return "ComponentIdentity[cmm=" + cmm + ", module=" + module
+                + ", moduleType=" + moduleType + ", component=" + component + "]";
     }
 }
@@ -3,8 +3,6 @@ package com.paravai.foundation.observability.metrics;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
 
@@ -40,15 +38,13 @@ public final class MetricsSupport {
     /**
      * Returns a new OperationCtx enriched with a low-cardinality "sourceSystem" tag.
      * Normalization is applied implicitly using the platform default rules.
+     * The derived context is cached on the base one, so its timers are reused too.
      */
     public static OperationCtx withSourceSystem(OperationCtx baseCtx, String rawSourceSystem) {
         Objects.requireNonNull(baseCtx, "baseCtx");
 
         String normalized = DEFAULT_NORMALIZER.normalize(rawSourceSystem);
-        Map<String, String> tags = new HashMap<>(baseCtx.tags());
-        tags.put(TAG_SOURCE_SYSTEM, normalized);
-
-        return new OperationCtx(baseCtx.metricName(), Map.copyOf(tags));
+        return baseCtx.withTag(TAG_SOURCE_SYSTEM, normalized);
     }
 
     // --- Outbound  (generic) ---
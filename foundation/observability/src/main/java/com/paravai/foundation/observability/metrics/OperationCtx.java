@@ -1,15 +1,41 @@
 package com.paravai.foundation.observability.metrics;
 
+import io.micrometer.core.instrument.Tags;
+
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Metric name + low-cardinality tags of a timed operation.
+ *
+ * Immutable: the tag map is copied and the Micrometer {@link Tags} are built once here,
+ * so {@link ReactiveOperationMetrics} can cache meter handles per context. Keep instances
+ * around (e.g. via {@link ComponentIdentity}) instead of rebuilding them per call.
+ */
+public final class OperationCtx {
+
+    private static final int MAX_DERIVED_PER_TAG = 64;
+
+    private final String metricName;
+    private final Map<String, String> tags;
+    private final Tags meterTags;
+    private final int hash;
+
+    // tag key -> tag value -> derived ctx (see withTag)
+    private final Map<String, Map<String, OperationCtx>> derived = new ConcurrentHashMap<>();
 
-public record OperationCtx(
-        String metricName,
-        Map<String, String> tags
-) {
-    public OperationCtx {
-        Objects.requireNonNull(metricName, "metricName");
-        Objects.requireNonNull(tags, "tags");
+    public OperationCtx(String metricName, Map<String, String> tags) {
+        this.metricName = Objects.requireNonNull(metricName, "metricName");
+        this.tags = Map.copyOf(Objects.requireNonNull(tags, "tags"));
+
+        Tags t = Tags.empty();
+        for (Map.Entry<String, String> e : this.tags.entrySet()) {
+            t = t.and(e.getKey(), e.getValue());
+        }
+        this.meterTags = t;
+        this.hash = 31 * metricName.hashCode() + this.tags.hashCode();
     }
 
     public static OperationCtx application(String cmm,
@@ -48,5 +74,59 @@ public record OperationCtx(
         );
     }
 
+    /**
+     * This context plus (or overriding) one tag. Derived contexts are cached per value,
+     * up to {@value #MAX_DERIVED_PER_TAG} values per key; beyond that they are built per call.
+     */
+    public OperationCtx withTag(String key, String value) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+
+        Map<String, OperationCtx> byValue = derived.get(key);
+        if (byValue == null) {
+            byValue = derived.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+        }
+        OperationCtx ctx = byValue.get(value);
+        if (ctx != null) {
+            return ctx;
+        }
+        ctx = derive(key, value);
+        if (byValue.size() < MAX_DERIVED_PER_TAG) {
+            OperationCtx previous = byValue.putIfAbsent(value, ctx);
+            return previous != null ? previous : ctx;
+        }
+        return ctx;
+    }
+
+    private OperationCtx derive(String key, String value) {
+        Map<String, String> merged = new HashMap<>(tags);
+        merged.put(key, value);
+        return new OperationCtx(metricName, merged);
+    }
+
+    public String metricName() { return metricName; }
+
+    public Map<String, String> tags() { return tags; }
 
+    /**
+     * Pre-built Micrometer tags (without the "result" tag).
+     */
+    public Tags meterTags() { return meterTags; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OperationCtx other)) return false;
+        return hash == other.hash && metricName.equals(other.metricName) && tags.equals(other.tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "OperationCtx[metricName=" + metricName + ", tags=" + tags + "]";
+    }
 }
@@ -1,20 +1,35 @@
 package com.paravai.foundation.observability.metrics;
 
 import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.SignalType;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Times reactive pipelines into "{ctx.metricName}" timers tagged with ctx tags + result.
+ *
+ * Timers are registered once per (ctx, result) and cached; completing an operation is a
+ * map lookup plus sample.stop, with no tag or builder allocation.
+ */
 public final class ReactiveOperationMetrics {
 
+    private static final String RESULT_OK = "ok";
+    private static final String RESULT_EMPTY = "empty";
+    private static final String RESULT_ERROR = "error";
+    private static final String RESULT_CANCEL = "cancel";
+
+    private static final int OK = 0;
+    private static final int EMPTY = 1;
+    private static final int ERROR = 2;
+    private static final int CANCEL = 3;
+    private static final String[] RESULTS = {RESULT_OK, RESULT_EMPTY, RESULT_ERROR, RESULT_CANCEL};
+
     private final MeterRegistry registry;
+    private final ConcurrentHashMap<OperationCtx, Timer[]> timers = new ConcurrentHashMap<>();
 
     public ReactiveOperationMetrics(MeterRegistry registry) {
         this.registry = registry;
@@ -27,10 +42,7 @@ public final class ReactiveOperationMetrics {
 
             return mono
                     .doOnNext(__ -> hasValue.set(true))
-                    .doFinally(st -> {
-                        String result = resultForMono(st, hasValue.get());
-                        stop(sample, ctx, result);
-                    });
+                    .doFinally(st -> stop(sample, ctx, result(st, hasValue.get())));
         });
     }
 
@@ -41,40 +53,33 @@ public final class ReactiveOperationMetrics {
 
             return flux
                     .doOnNext(__ -> hasAny.set(true))
-                    .doFinally(st -> {
-                        String result = resultForFlux(st, hasAny.get());
-                        stop(sample, ctx, result);
-                    });
+                    .doFinally(st -> stop(sample, ctx, result(st, hasAny.get())));
         });
     }
 
-    private void stop(Timer.Sample sample, OperationCtx ctx, String result) {
-        Iterable<Tag> tags = toTags(ctx.tags(), result);
-
-        // Create/register the Timer once and stop the sample against that same instance.
-        Timer timer = Timer.builder(ctx.metricName())
-                .tags(tags)
-                .register(registry);
-
-        sample.stop(timer);
-    }
-
-    private Iterable<Tag> toTags(Map<String, String> base, String result) {
-        List<Tag> tags = new ArrayList<>(base.size() + 1);
-        base.forEach((k, v) -> tags.add(Tag.of(k, v)));
-        tags.add(Tag.of("result", result));
-        return tags;
+    void stop(Timer.Sample sample, OperationCtx ctx, int result) {
+        sample.stop(timer(ctx, result));
     }
 
-    private String resultForMono(SignalType st, boolean hasValue) {
-        if (st == SignalType.ON_ERROR) return "error";
-        if (st == SignalType.CANCEL) return "cancel";
-        return hasValue ? "ok" : "empty";
+    Timer timer(OperationCtx ctx, int result) {
+        Timer[] byResult = timers.get(ctx);
+        if (byResult == null) {
+            byResult = timers.computeIfAbsent(ctx, c -> new Timer[RESULTS.length]);
+        }
+        Timer timer = byResult[result];
+        if (timer == null) {
+            // Benign race: register() is idempotent and returns the same meter.
+            timer = Timer.builder(ctx.metricName())
+                    .tags(ctx.meterTags().and("result", RESULTS[result]))
+                    .register(registry);
+            byResult[result] = timer;
+        }
+        return timer;
     }
 
-    private String resultForFlux(SignalType st, boolean hasAny) {
-        if (st == SignalType.ON_ERROR) return "error";
-        if (st == SignalType.CANCEL) return "cancel";
-        return hasAny ? "ok" : "empty";
+    static int result(SignalType st, boolean hasValue) {
+        if (st == SignalType.ON_ERROR) return ERROR;
+        if (st == SignalType.CANCEL) return CANCEL;
+        return hasValue ? OK : EMPTY;
     }
 }
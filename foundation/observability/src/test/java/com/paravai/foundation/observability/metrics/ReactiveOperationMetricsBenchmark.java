@@ -0,0 +1,105 @@
+package com.paravai.foundation.observability.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import reactor.core.publisher.SignalType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of completing one timed operation.
+ *
+ * Both variants allocate the Timer.Sample itself. registerPerOperation reproduces the previous
+ * path: the old record context (name + Map.of tags, no prebuilt Tags) built per call, then
+ * ArrayList of tags + Timer.builder + register on every stop(). It does not go through the
+ * current OperationCtx, whose constructor now builds Tags and would inflate the baseline.
+ * cachedHandle is the current path (cached ctx and timer).
+ * Compare gc.alloc.rate.norm (bytes/op) in the GC profiler output.
+ *
+ * Run from the observability module (not part of the test suite):
+ *   mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.paravai.foundation.observability.metrics.ReactiveOperationMetricsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReactiveOperationMetricsBenchmark {
+
+    private static final ComponentIdentity ID = new ComponentIdentity("bench", "module", "aggregate", "Component");
+
+    private MeterRegistry registry;
+    private ReactiveOperationMetrics metrics;
+
+    @Setup
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        metrics = new ReactiveOperationMetrics(registry);
+    }
+
+    @Benchmark
+    public Timer.Sample registerPerOperation() {
+        LegacyCtx ctx = new LegacyCtx("cmm.outbound.operation.duration", Map.of(
+                "cmm", "bench",
+                "module", "module",
+                "moduleType", "aggregate",
+                "component", "Component",
+                "adapter", "mongo",
+                "operation", "findById"));
+        Timer.Sample sample = Timer.start(registry);
+
+        List<Tag> tags = new ArrayList<>(ctx.tags().size() + 1);
+        for (Map.Entry<String, String> e : ctx.tags().entrySet()) {
+            tags.add(Tag.of(e.getKey(), e.getValue()));
+        }
+        tags.add(Tag.of("result", "ok"));
+
+        sample.stop(Timer.builder(ctx.metricName()).tags(tags).register(registry));
+        return sample;
+    }
+
+    @Benchmark
+    public Timer.Sample cachedHandle() {
+        OperationCtx ctx = ID.outbound("mongo", "findById");
+        Timer.Sample sample = Timer.start(registry);
+
+        metrics.stop(sample, ctx, ReactiveOperationMetrics.result(SignalType.ON_COMPLETE, true));
+        return sample;
+    }
+
+    /**
+     * Shape of OperationCtx before it became a caching class.
+     */
+    private record LegacyCtx(String metricName, Map<String, String> tags) {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ReactiveOperationMetricsBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
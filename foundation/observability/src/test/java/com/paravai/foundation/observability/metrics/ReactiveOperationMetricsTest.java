@@ -0,0 +1,67 @@
+package com.paravai.foundation.observability.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveOperationMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ReactiveOperationMetrics metrics = new ReactiveOperationMetrics(registry);
+
+    private final ComponentIdentity id = new ComponentIdentity("cmm", "module", "aggregate", "Component");
+
+    @DisplayName("Given the same context and result, repeated lookups should return the cached timer")
+    @Test
+    void timer_reusedPerContextAndResult() {
+        //Given
+        OperationCtx ctx = id.outbound("mongo", "findById");
+        int ok = ReactiveOperationMetrics.result(SignalType.ON_COMPLETE, true);
+        int error = ReactiveOperationMetrics.result(SignalType.ON_ERROR, false);
+
+        //When
+        Timer first = metrics.timer(ctx, ok);
+        Timer second = metrics.timer(ctx, ok);
+        Timer equalCtx = metrics.timer(
+                OperationCtx.outbound("cmm", "module", "aggregate", "Component", "mongo", "findById"), ok);
+
+        //Then
+        assertSame(first, second);
+        assertSame(first, equalCtx);
+        assertNotSame(first, metrics.timer(ctx, error));
+    }
+
+    @DisplayName("Given repeated operations, they should be recorded on one timer per result")
+    @Test
+    void timed_repeatedCallsShareMeters() {
+        //Given
+        OperationCtx ctx = id.app("find");
+
+        //When
+        for (int i = 0; i < 3; i++) {
+            metrics.timedMono(ctx, Mono.just("x")).block();
+        }
+        metrics.timedFlux(ctx, Flux.empty()).blockLast();
+        assertThrows(IllegalStateException.class,
+                () -> metrics.timedMono(ctx, Mono.error(new IllegalStateException("boom"))).block());
+
+        //Then
+        assertEquals(3, registry.getMeters().size());
+        assertEquals(3, timer("ok").count());
+        assertEquals(1, timer("empty").count());
+        assertEquals(1, timer("error").count());
+    }
+
+    private Timer timer(String result) {
+        return registry.get("cmm.application.operation.duration")
+                .tag("operation", "find")
+                .tag("result", result)
+                .timer();
+    }
+}
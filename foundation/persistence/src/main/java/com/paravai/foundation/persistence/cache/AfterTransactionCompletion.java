@@ -0,0 +1,41 @@
+package com.paravai.foundation.persistence.cache;
+
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+/**
+ * Runs an action once the surrounding reactive transaction has completed (commit or
+ * rollback).
+ *
+ * Meant for cache invalidation: until the commit, other readers still see the previous
+ * document and may cache it again, so an invalidation done right after the write is not
+ * enough inside a transaction.
+ */
+public final class AfterTransactionCompletion {
+
+    private AfterTransactionCompletion() {
+    }
+
+    /**
+     * Registers action on the transaction of the subscriber's context; outside a
+     * transaction, completes without running it.
+     */
+    public static Mono<Void> register(Runnable action) {
+        Objects.requireNonNull(action, "action");
+
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .filter(TransactionSynchronizationManager::isSynchronizationActive)
+                .doOnNext(tsm -> tsm.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public Mono<Void> afterCompletion(int status) {
+                        return Mono.fromRunnable(action);
+                    }
+                }))
+                .onErrorResume(NoTransactionException.class, ex -> Mono.empty())
+                .then();
+    }
+}
@@ -0,0 +1,105 @@
+package com.paravai.foundation.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, time-limited read-through cache for reactive lookups.
+ *
+ * Only present values are cached: an empty lookup always goes to the loader, so a row
+ * created elsewhere is visible on the next read. Values should be immutable (or copied
+ * by the caller on every hit).
+ *
+ * A load that overlaps an invalidation is returned to its caller but not stored, so an
+ * invalidation can never be undone by a read that started before it.
+ *
+ * Exposes cache.gets{result=hit|miss}, cache.size, cache.evictions... tagged cache=name.
+ */
+public final class ReadThroughCache<K, V> {
+
+    private final String name;
+    private final Cache<K, V> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private ReadThroughCache(String name, Cache<K, V> cache) {
+        this.name = name;
+        this.cache = cache;
+    }
+
+    /**
+     * @param ttl     entries expire this long after being written.
+     * @param maxSize max entries; least recently used are evicted first.
+     */
+    public static <K, V> ReadThroughCache<K, V> create(String name, Duration ttl, long maxSize, MeterRegistry registry) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(ttl, "ttl");
+        Objects.requireNonNull(registry, "registry");
+        if (ttl.isNegative() || ttl.isZero()) throw new IllegalArgumentException("ttl must be > 0");
+        if (maxSize < 1) throw new IllegalArgumentException("maxSize must be >= 1");
+
+        Cache<K, V> cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+        return new ReadThroughCache<>(name, cache);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Cached value, or the loader's result (stored unless empty or invalidated meanwhile).
+     */
+    public Mono<V> get(K key, Supplier<Mono<V>> loader) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(loader, "loader");
+
+        return Mono.defer(() -> {
+            V cached = cache.getIfPresent(key);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+
+            long seen = invalidations.get();
+            return loader.get()
+                    .doOnNext(value -> {
+                        if (invalidations.get() == seen) {
+                            cache.put(key, value);
+                        }
+                    });
+        });
+    }
+
+    public void invalidate(K key) {
+        invalidations.incrementAndGet();
+        cache.invalidate(Objects.requireNonNull(key, "key"));
+    }
+
+    /**
+     * Drops every entry whose value matches; a scan, meant for caches keyed by something
+     * the invalidation event does not carry.
+     */
+    public void invalidateIf(Predicate<? super V> predicate) {
+        Objects.requireNonNull(predicate, "predicate");
+        invalidations.incrementAndGet();
+        cache.asMap().values().removeIf(predicate);
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+}
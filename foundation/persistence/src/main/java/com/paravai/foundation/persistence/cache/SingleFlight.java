@@ -0,0 +1,113 @@
+package com.paravai.foundation.persistence.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical concurrent reads: while a lookup for a key is in flight, further
+ * callers for the same key join it instead of issuing their own query.
+ *
+ * Nothing is kept once the lookup terminates (this is not a cache). Joined callers are
+ * reference counted: one of them cancelling does not affect the others, and the query is
+ * cancelled only when every caller has gone.
+ *
+ * All callers receive the same value instance; share immutable values (e.g. the persisted
+ * document) and build mutable aggregates per caller.
+ *
+ * Calls made inside a reactive transaction always run their own lookup: the shared one
+ * would be bound to whichever caller's session subscribed first.
+ *
+ * Metrics: foundation.persistence.singleflight{flight, result=executed|coalesced|transactional}
+ * counts calls; foundation.persistence.singleflight.inflight gauges the open lookups.
+ */
+public final class SingleFlight<K, V> {
+
+    private static final String METRIC_CALLS = "foundation.persistence.singleflight";
+    private static final String METRIC_INFLIGHT = "foundation.persistence.singleflight.inflight";
+
+    private final ConcurrentHashMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+    private final Counter transactional;
+
+    private static final class Flight<V> {
+        private Mono<V> shared;
+    }
+
+    private SingleFlight(String name, MeterRegistry registry) {
+        this.executed = Counter.builder(METRIC_CALLS)
+                .tag("flight", name)
+                .tag("result", "executed")
+                .register(registry);
+        this.coalesced = Counter.builder(METRIC_CALLS)
+                .tag("flight", name)
+                .tag("result", "coalesced")
+                .register(registry);
+        this.transactional = Counter.builder(METRIC_CALLS)
+                .tag("flight", name)
+                .tag("result", "transactional")
+                .register(registry);
+        Gauge.builder(METRIC_INFLIGHT, inFlight, ConcurrentHashMap::size)
+                .tag("flight", name)
+                .register(registry);
+    }
+
+    public static <K, V> SingleFlight<K, V> create(String name, MeterRegistry registry) {
+        return new SingleFlight<>(Objects.requireNonNull(name, "name"), Objects.requireNonNull(registry, "registry"));
+    }
+
+    /**
+     * Joins the lookup in flight for key, or starts loader's.
+     */
+    public Mono<V> execute(K key, Supplier<Mono<V>> loader) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(loader, "loader");
+
+        return inTransaction().flatMap(inTx -> {
+            if (inTx) {
+                transactional.increment();
+                return Mono.defer(loader);
+            }
+            return join(key, loader);
+        });
+    }
+
+    private Mono<V> join(K key, Supplier<Mono<V>> loader) {
+        return Mono.defer(() -> {
+            Flight<V> flight = new Flight<>();
+            flight.shared = Mono.defer(loader)
+                    .doFinally(signal -> inFlight.remove(key, flight))
+                    .flux()
+                    .publish()
+                    .refCount(1)
+                    .singleOrEmpty();
+
+            Flight<V> running = inFlight.putIfAbsent(key, flight);
+            if (running != null) {
+                coalesced.increment();
+                return running.shared;
+            }
+
+            executed.increment();
+            return flight.shared;
+        });
+    }
+
+    private static Mono<Boolean> inTransaction() {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .map(TransactionSynchronizationManager::isActualTransactionActive)
+                .onErrorResume(NoTransactionException.class, ex -> Mono.just(false));
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,60 @@
+package com.paravai.foundation.persistence.mongo;
+
+/**
+ * Keyset (seek) page: ordered by one sort key plus _id as tie-breaker, positioned
+ * relative to an anchor instead of skipping rows.
+ *
+ * The sort key should be covered by an index together with the query filters
+ * (e.g. {tenantId: 1, createdAt: 1, _id: 1}) so the range predicate is an index scan.
+ *
+ * @param sortField  document field; null (or "id"/"_id") to order by _id only.
+ * @param descending sort direction of the page as shown to the client.
+ * @param anchor     boundary item; null for the first page.
+ * @param size       max rows.
+ */
+public record KeysetPage(String sortField, boolean descending, Anchor anchor, int size) {
+
+    public KeysetPage {
+        if (size < 1) throw new IllegalArgumentException("size must be >= 1");
+        if (sortField != null && (sortField.isBlank() || "id".equals(sortField) || "_id".equals(sortField))) {
+            sortField = null;
+        }
+    }
+
+    public static KeysetPage first(String sortField, boolean descending, int size) {
+        return new KeysetPage(sortField, descending, null, size);
+    }
+
+    public static KeysetPage after(String sortField, boolean descending, Object sortValue, String id, int size) {
+        return new KeysetPage(sortField, descending, new Anchor(sortValue, id, false), size);
+    }
+
+    public static KeysetPage before(String sortField, boolean descending, Object sortValue, String id, int size) {
+        return new KeysetPage(sortField, descending, new Anchor(sortValue, id, true), size);
+    }
+
+    /**
+     * True when rows are read in reverse order (page[before]); callers reverse them back.
+     */
+    public boolean isBackward() {
+        return anchor != null && anchor.backward();
+    }
+
+    /**
+     * Direction actually sent to Mongo.
+     */
+    boolean scanDescending() {
+        return descending != isBackward();
+    }
+
+    /**
+     * @param sortValue sort key value of the boundary item; ignored when ordering by _id only.
+     * @param id        _id of the boundary item.
+     * @param backward  true for "before" (previous page), false for "after".
+     */
+    public record Anchor(Object sortValue, String id, boolean backward) {
+        public Anchor {
+            if (id == null || id.isBlank()) throw new IllegalArgumentException("anchor id must not be blank");
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.paravai.foundation.persistence.mongo;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Creates the indexes declared on document classes (@Indexed, @CompoundIndex, TTL
+ * expireAfter...) once the application is ready.
+ *
+ * Spring Boot leaves automatic index creation off, so the annotations alone create
+ * nothing. ensureIndex is a no-op for an index that already exists with the same
+ * definition; a failure is logged and does not stop the application.
+ */
+public class MongoIndexInitializer implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(MongoIndexInitializer.class);
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final List<Class<?>> documentTypes;
+
+    public MongoIndexInitializer(ReactiveMongoTemplate mongoTemplate, List<Class<?>> documentTypes) {
+        this.mongoTemplate = Objects.requireNonNull(mongoTemplate, "mongoTemplate");
+        this.documentTypes = List.copyOf(Objects.requireNonNull(documentTypes, "documentTypes"));
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        ensureIndexes().subscribe(
+                null,
+                ex -> log.error("Mongo index creation failed for {}: {}", documentTypes, ex.toString(), ex)
+        );
+    }
+
+    public Mono<Void> ensureIndexes() {
+        IndexResolver resolver = IndexResolver.create(mongoTemplate.getConverter().getMappingContext());
+
+        return Flux.fromIterable(documentTypes)
+                .concatMap(type -> Flux.fromIterable(resolver.resolveIndexFor(type))
+                        .concatMap(index -> mongoTemplate.indexOps(type).ensureIndex(index))
+                        .doOnNext(name -> log.info("Mongo index {} ensured on {}", name, type.getSimpleName())))
+                .then();
+    }
+}
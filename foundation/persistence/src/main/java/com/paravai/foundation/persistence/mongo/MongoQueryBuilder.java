@@ -2,6 +2,8 @@ package com.paravai.foundation.persistence.mongo;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import com.paravai.foundation.persistence.mongo.search.SearchStrategy;
+import com.paravai.foundation.persistence.mongo.search.SearchTerms;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.domain.PageRequest;
@@ -20,6 +22,11 @@ public class MongoQueryBuilder {
     private static final Pattern FILTER_PATTERN =
             Pattern.compile("^filter\\[([A-Za-z0-9]+)\\](?:\\[(gt|in|eq|ne|lt|like)\\])?$");
 
+    // Same field names as filter[...] accepts: no operators, no dotted paths.
+    private static final Pattern SORT_FIELD_PATTERN = Pattern.compile("^[A-Za-z0-9]+$");
+
+    private static final String ID_FIELD = "_id";
+
     /**
      * Constructor para ocultar el constructor por defecto, ya que es una clase estática.
      */
@@ -33,13 +40,22 @@ public class MongoQueryBuilder {
                                    int page,
                                    int size,
                                    String searchField) {
+        return buildQuery(filters, search, sort, page, size, SearchStrategy.contains(searchField));
+    }
+
+    public static Query buildQuery(Map<String, String> filters,
+                                   Optional<String> search,
+                                   Optional<String> sort,
+                                   int page,
+                                   int size,
+                                   SearchStrategy searchStrategy) {
 
         Query query = new Query();
 
         addFiltersToQuery(filters, query);
 
-        // Búsqueda por texto (en campo 'name.value' u otro configurable)
-        search.ifPresent(s -> query.addCriteria(Criteria.where(searchField).regex(s, "i")));
+        // Búsqueda por texto según la estrategia configurada (regex escapada, prefijo indexado, $text...)
+        applySearch(query, search, searchStrategy);
 
         // Ordenación tipo sort=name,asc
         sort.ifPresent(s -> {
@@ -58,17 +74,97 @@ public class MongoQueryBuilder {
         return query;
     }
 
+    /**
+     * Keyset variant: instead of skip/limit, rows are selected with a range predicate on
+     * (sortField, _id) from the anchor, so the cost does not depend on how deep the page is.
+     *
+     * Ascending: sortField > v OR (sortField == v AND _id > id); descending mirrors it.
+     * Mongo orders nulls first, so a null anchor value or null rows are handled explicitly.
+     * The sort field comes from the client and must be a plain field name.
+     */
+    public static Query buildKeysetQuery(Map<String, String> filters,
+                                         Optional<String> search,
+                                         KeysetPage page,
+                                         String searchField) {
+        return buildKeysetQuery(filters, search, page, SearchStrategy.contains(searchField));
+    }
+
+    public static Query buildKeysetQuery(Map<String, String> filters,
+                                         Optional<String> search,
+                                         KeysetPage page,
+                                         SearchStrategy searchStrategy) {
+
+        if (page.sortField() != null && !SORT_FIELD_PATTERN.matcher(page.sortField()).matches()) {
+            throw new IllegalArgumentException("Invalid sort field: " + page.sortField());
+        }
+
+        Query query = new Query();
+
+        addFiltersToQuery(filters, query);
+
+        applySearch(query, search, searchStrategy);
+
+        Sort.Direction dir = page.scanDescending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+        if (page.sortField() == null) {
+            query.with(Sort.by(dir, ID_FIELD));
+        } else {
+            query.with(Sort.by(dir, page.sortField()).and(Sort.by(dir, ID_FIELD)));
+        }
+
+        if (page.anchor() != null) {
+            query.addCriteria(keysetCriteria(page.sortField(), page.anchor(), page.scanDescending()));
+        }
+
+        query.limit(page.size());
+
+        return query;
+    }
+
+    static Criteria keysetCriteria(String sortField, KeysetPage.Anchor anchor, boolean descending) {
+        String id = anchor.id();
+        Criteria idAfter = descending ? Criteria.where(ID_FIELD).lt(id) : Criteria.where(ID_FIELD).gt(id);
+
+        if (sortField == null) {
+            return new Criteria().orOperator(idAfter);
+        }
+
+        Object value = anchor.sortValue();
+
+        if (value == null) {
+            Criteria tie = new Criteria().andOperator(Criteria.where(sortField).is(null), idAfter);
+            // asc: nulls come first, every non-null row is still ahead
+            return descending
+                    ? new Criteria().orOperator(tie)
+                    : new Criteria().orOperator(tie, Criteria.where(sortField).ne(null));
+        }
+
+        Criteria tie = new Criteria().andOperator(Criteria.where(sortField).is(value), idAfter);
+        if (descending) {
+            // desc: nulls come last and are not matched by $lt
+            return new Criteria().orOperator(Criteria.where(sortField).lt(value), tie, Criteria.where(sortField).is(null));
+        }
+        return new Criteria().orOperator(Criteria.where(sortField).gt(value), tie);
+    }
+
     public static Query buildQuery(Map<String, String> filters, Optional<String> search) {
+        return buildQuery(filters, search, SearchStrategy.contains("name"));
+    }
+
+    public static Query buildQuery(Map<String, String> filters, Optional<String> search, SearchStrategy searchStrategy) {
         Query query = new Query();
 
         addFiltersToQuery(filters, query);
 
-        // Añade búsqueda por nombre
-        search.ifPresent(s -> query.addCriteria(Criteria.where("name").regex(s, "i")));
+        applySearch(query, search, searchStrategy);
 
         return query;
     }
 
+    private static void applySearch(Query query, Optional<String> search, SearchStrategy searchStrategy) {
+        search.filter(s -> !s.isBlank())
+                .ifPresent(s -> searchStrategy.apply(query, s));
+    }
+
     /**
      * Add the criterias for Mongo depending on the filters received by params.
      * @param filters Request query params following the jsonapi format convention.
@@ -142,7 +238,7 @@ public class MongoQueryBuilder {
             case like -> {
                 //Value cannot be empty because of first validation of the method.
                 // This comparator only accepts string values.
-                String likeValue = ".*".concat(value).concat(".*");
+                String likeValue = ".*".concat(SearchTerms.escapeRegex(value)).concat(".*");
                 return Criteria.where(field).regex(likeValue, "i"); //i = case-insensitive
             }
             case in -> {
@@ -1,29 +1,53 @@
 package com.paravai.foundation.persistence.mongo;
 
+import org.bson.Document;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import com.paravai.foundation.persistence.mongo.search.SearchStrategy;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperationContext;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
 import org.springframework.data.mongodb.core.query.Query;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 
 public class MongoReactiveEntityFilter<T, D> {
 
+    private static final String FACET_DATA = "data";
+    private static final String FACET_TOTAL = "total";
+    private static final String FACET_COUNT = "count";
+
     private final ReactiveMongoTemplate mongoTemplate;
     private final Class<D> documentClass;
     private final Function<D, T> toDomainMapper;
-    private final String defaultSearchField;
+    private final SearchStrategy searchStrategy;
 
+    /**
+     * Legacy search: escaped case-insensitive "contains" on defaultSearchField (no index use).
+     */
     public MongoReactiveEntityFilter(ReactiveMongoTemplate mongoTemplate,
                                      Class<D> documentClass,
                                      Function<D, T> toDomainMapper,
                                      String defaultSearchField) {
+        this(mongoTemplate, documentClass, toDomainMapper, SearchStrategy.contains(defaultSearchField));
+    }
+
+    public MongoReactiveEntityFilter(ReactiveMongoTemplate mongoTemplate,
+                                     Class<D> documentClass,
+                                     Function<D, T> toDomainMapper,
+                                     SearchStrategy searchStrategy) {
         this.mongoTemplate = mongoTemplate;
         this.documentClass = documentClass;
         this.toDomainMapper = toDomainMapper;
-        this.defaultSearchField = defaultSearchField;
+        this.searchStrategy = Objects.requireNonNull(searchStrategy, "searchStrategy");
     }
 
     public Flux<T> findByFilters(Map<String, String> filters,
@@ -32,15 +56,150 @@ public class MongoReactiveEntityFilter<T, D> {
                                  int page,
                                  int size) {
 
-        Query query = MongoQueryBuilder.buildQuery(filters, search, sort, page, size, defaultSearchField);
+        Query query = MongoQueryBuilder.buildQuery(filters, search, sort, page, size, searchStrategy);
         return mongoTemplate.find(query, documentClass)
                 .map(toDomainMapper);
     }
 
+    /**
+     * Keyset page; rows come back in the client's order even when read backwards.
+     */
+    public Flux<T> findByKeyset(Map<String, String> filters,
+                                Optional<String> search,
+                                KeysetPage page) {
+
+        if (!isSortable(page)) {
+            return Flux.error(unsupportedSort(page));
+        }
+
+        Query query = MongoQueryBuilder.buildKeysetQuery(filters, search, page, searchStrategy);
+        Flux<D> documents = mongoTemplate.find(query, documentClass);
+        if (page.isBackward()) {
+            documents = documents.collectList()
+                    .flatMapIterable(list -> {
+                        Collections.reverse(list);
+                        return list;
+                    });
+        }
+        return documents.map(toDomainMapper);
+    }
+
+    /**
+     * Offset page in one round trip. FACET returns the exact total from the same $match;
+     * HAS_NEXT skips the count and reads one extra row instead.
+     */
+    public Mono<PagedResult<T>> findPage(Map<String, String> filters,
+                                         Optional<String> search,
+                                         Optional<String> sort,
+                                         int page,
+                                         int size,
+                                         PageCountMode mode) {
+
+        Query query = MongoQueryBuilder.buildQuery(filters, search, sort, page, size, searchStrategy);
+
+        if (mode == PageCountMode.FACET) {
+            return findFacet(query, size);
+        }
+
+        return mongoTemplate.find(query.limit(size + 1), documentClass)
+                .collectList()
+                .map(documents -> slice(documents, size, false, null));
+    }
+
+    /**
+     * Keyset page reading one extra row, so the caller knows whether the scan can go on.
+     */
+    public Mono<PagedResult<T>> findKeysetPage(Map<String, String> filters,
+                                               Optional<String> search,
+                                               KeysetPage page) {
+
+        if (!isSortable(page)) {
+            return Mono.error(unsupportedSort(page));
+        }
+
+        Query query = MongoQueryBuilder.buildKeysetQuery(filters, search, page, searchStrategy)
+                .limit(page.size() + 1);
+
+        return mongoTemplate.find(query, documentClass)
+                .collectList()
+                .map(documents -> slice(documents, page.size(), page.isBackward(), null));
+    }
+
     public Mono<Long> countByFilters(Map<String, String> filters,
                                      Optional<String> search) {
 
-        Query query = MongoQueryBuilder.buildQuery(filters, search);
+        Query query = MongoQueryBuilder.buildQuery(filters, search, searchStrategy);
         return mongoTemplate.count(query, documentClass);
     }
+
+    // ---- keyset sort ----
+
+    /**
+     * The keyset sort key comes from the client: it must be a property of the document.
+     */
+    private boolean isSortable(KeysetPage page) {
+        return page.sortField() == null
+                || mongoTemplate.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(documentClass)
+                .getPersistentProperty(page.sortField()) != null;
+    }
+
+    private static IllegalArgumentException unsupportedSort(KeysetPage page) {
+        return new IllegalArgumentException("Unsupported sort field: " + page.sortField());
+    }
+
+    // ---- single round trip ----
+
+    private Mono<PagedResult<T>> findFacet(Query query, int size) {
+        TypedAggregation<D> aggregation = Aggregation.newAggregation(documentClass,
+                ctx -> new Document("$match", ctx.getMappedObject(query.getQueryObject(), documentClass)),
+                ctx -> new Document("$facet", facetStages(query, size, ctx)));
+
+        if (query.getCollation().isPresent()) {
+            aggregation = aggregation.withOptions(
+                    AggregationOptions.builder().collation(query.getCollation().get()).build());
+        }
+
+        return mongoTemplate.aggregate(aggregation, Document.class)
+                .next()
+                .map(result -> {
+                    List<D> documents = result.getList(FACET_DATA, Document.class, List.of()).stream()
+                            .map(doc -> mongoTemplate.getConverter().read(documentClass, doc))
+                            .toList();
+                    List<Document> totals = result.getList(FACET_TOTAL, Document.class, List.of());
+                    long total = totals.isEmpty() ? 0L : ((Number) totals.get(0).get(FACET_COUNT)).longValue();
+                    long reached = query.getSkip() + documents.size();
+                    return new PagedResult<>(documents.stream().map(toDomainMapper).toList(), total, reached < total);
+                })
+                .defaultIfEmpty(new PagedResult<>(List.of(), 0L, false));
+    }
+
+    /**
+     * Page stages of the $facet; the sort is mapped like the $match (property names to
+     * field names, e.g. id to _id), which a raw Query sort object is not.
+     */
+    private Document facetStages(Query query, int size, AggregationOperationContext ctx) {
+        List<Document> data = new ArrayList<>(3);
+        if (!query.getSortObject().isEmpty()) {
+            data.add(new Document("$sort", ctx.getMappedObject(query.getSortObject(), documentClass)));
+        }
+        if (query.getSkip() > 0) {
+            data.add(new Document("$skip", query.getSkip()));
+        }
+        data.add(new Document("$limit", size));
+
+        Document pageStages = new Document();
+        pageStages.put(FACET_DATA, data);
+        pageStages.put(FACET_TOTAL, List.of(new Document("$count", FACET_COUNT)));
+        return pageStages;
+    }
+
+    private PagedResult<T> slice(List<D> documents, int size, boolean backward, Long total) {
+        boolean hasMore = documents.size() > size;
+        List<D> page = new ArrayList<>(hasMore ? documents.subList(0, size) : documents);
+        if (backward) {
+            Collections.reverse(page);
+        }
+        return new PagedResult<>(page.stream().map(toDomainMapper).toList(), total, hasMore);
+    }
 }
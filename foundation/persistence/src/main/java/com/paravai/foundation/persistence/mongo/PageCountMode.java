@@ -0,0 +1,19 @@
+package com.paravai.foundation.persistence.mongo;
+
+/**
+ * How a page query reports what lies beyond the page.
+ */
+public enum PageCountMode {
+
+    /**
+     * One aggregation: $match, then $facet with the page rows and a $count.
+     * Exact total in a single round trip; the count still visits every match.
+     */
+    FACET,
+
+    /**
+     * Reads size + 1 rows and only reports whether more exist. No total; cost is
+     * bounded by the page size.
+     */
+    HAS_NEXT
+}
@@ -0,0 +1,19 @@
+package com.paravai.foundation.persistence.mongo;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One page of results from a single round trip.
+ *
+ * @param content rows of the page, in the order requested by the client.
+ * @param total   total matches; null when the count was not computed ({@link PageCountMode#HAS_NEXT}).
+ * @param hasMore whether more rows exist beyond the page in scan direction
+ *                (towards the previous page for a backward keyset page).
+ */
+public record PagedResult<T>(List<T> content, Long total, boolean hasMore) {
+
+    public PagedResult {
+        content = List.copyOf(Objects.requireNonNull(content, "content"));
+    }
+}
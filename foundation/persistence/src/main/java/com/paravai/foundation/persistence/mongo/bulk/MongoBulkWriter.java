@@ -0,0 +1,244 @@
+package com.paravai.foundation.persistence.mongo.bulk;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import com.paravai.foundation.domain.model.BulkWriteReport;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Chunked, unordered bulk writes with per-item error reporting.
+ *
+ * Items are sent in chunks of {@code chunkSize}, one bulkWrite round trip each, chunks one
+ * after the other. Within a chunk the write is unordered: a failing item (duplicate key,
+ * validation) does not stop the rest; it is reported as a {@link BulkWriteReport.Failure}
+ * with its index in the submitted list. A chunk failing as a whole (e.g. connectivity)
+ * fails the operation, since which of its items were written is unknown.
+ *
+ * Meant for non-transactional batch flows: inside a transaction any write error aborts it.
+ * The exception is {@link #insertAllIfAbsent}, where an existing key is not an error.
+ */
+public class MongoBulkWriter {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final ReactiveMongoTemplate template;
+    private final int chunkSize;
+
+    public MongoBulkWriter(ReactiveMongoTemplate template, int chunkSize) {
+        this.template = Objects.requireNonNull(template, "template");
+        if (chunkSize < 1) throw new IllegalArgumentException("chunkSize must be >= 1");
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Inserts new documents; an existing _id or unique key is a per-item failure.
+     *
+     * @param onDuplicateKey error reported for an item that violated a unique index.
+     * @param perChunk       wraps each chunk's write (metrics, logging).
+     */
+    public <T, D> Mono<BulkWriteReport<T>> insertAll(List<T> items,
+                                                     Class<D> type,
+                                                     Function<T, D> toDocument,
+                                                     Function<T, RuntimeException> onDuplicateKey,
+                                                     UnaryOperator<Mono<BulkWriteReport<T>>> perChunk) {
+        return write(items, onDuplicateKey, perChunk, (ops, docs) -> ops.insert(docs), type, toDocument, false);
+    }
+
+    /**
+     * Replaces documents by _id, inserting the missing ones (what save() does, per item).
+     */
+    public <T, D> Mono<BulkWriteReport<T>> replaceAll(List<T> items,
+                                                      Class<D> type,
+                                                      Function<T, D> toDocument,
+                                                      Function<D, String> idOf,
+                                                      Function<T, RuntimeException> onDuplicateKey,
+                                                      UnaryOperator<Mono<BulkWriteReport<T>>> perChunk) {
+        Objects.requireNonNull(idOf, "idOf");
+        FindAndReplaceOptions upsert = FindAndReplaceOptions.options().upsert();
+        return write(items, onDuplicateKey, perChunk, (ops, docs) -> {
+            for (D doc : docs) {
+                ops.replaceOne(Query.query(Criteria.where("_id").is(idOf.apply(doc))), doc, upsert);
+            }
+        }, type, toDocument, false);
+    }
+
+    /**
+     * Applies an update to each document by _id, inserting the missing ones. Unlike
+     * {@link #replaceAll}, fields the update does not touch (e.g. a revision it increments)
+     * keep their stored value.
+     */
+    public <T> Mono<BulkWriteReport<T>> upsertAll(List<T> items,
+                                                  Class<?> type,
+                                                  Function<T, String> idOf,
+                                                  Function<T, Update> toUpdate,
+                                                  Function<T, RuntimeException> onDuplicateKey,
+                                                  UnaryOperator<Mono<BulkWriteReport<T>>> perChunk) {
+        Objects.requireNonNull(idOf, "idOf");
+        Objects.requireNonNull(toUpdate, "toUpdate");
+        return write(items, onDuplicateKey, perChunk, Upsert::addAll, type,
+                item -> new Upsert(Query.query(Criteria.where("_id").is(idOf.apply(item))), toUpdate.apply(item)), false);
+    }
+
+    /**
+     * Upserts each item on its key with an update made of $setOnInsert only (see
+     * MongoUpserts): missing documents are created, existing ones are left untouched.
+     * The report's written list holds only the items actually inserted; an item whose key
+     * already existed is in neither list.
+     *
+     * Unlike insertAll, an existing key is not a write error, so this can run inside a
+     * transaction (where any write error aborts it). Two racing inserts of the same key
+     * can still hit the unique index (a write conflict inside a transaction).
+     */
+    public <T> Mono<BulkWriteReport<T>> insertAllIfAbsent(List<T> items,
+                                                          Class<?> type,
+                                                          Function<T, Query> keyOf,
+                                                          Function<T, Update> toInsert,
+                                                          Function<T, RuntimeException> onDuplicateKey,
+                                                          UnaryOperator<Mono<BulkWriteReport<T>>> perChunk) {
+        Objects.requireNonNull(keyOf, "keyOf");
+        Objects.requireNonNull(toInsert, "toInsert");
+        return write(items, onDuplicateKey, perChunk, Upsert::addAll, type,
+                item -> new Upsert(keyOf.apply(item), toInsert.apply(item)), true);
+    }
+
+    private record Upsert(Query query, Update update) {
+        static void addAll(ReactiveBulkOperations ops, List<Upsert> upserts) {
+            for (Upsert upsert : upserts) {
+                ops.upsert(upsert.query(), upsert.update());
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkOps<D> {
+        void add(ReactiveBulkOperations ops, List<D> docs);
+    }
+
+    private <T, D> Mono<BulkWriteReport<T>> write(List<T> items,
+                                                  Function<T, RuntimeException> onDuplicateKey,
+                                                  UnaryOperator<Mono<BulkWriteReport<T>>> perChunk,
+                                                  ChunkOps<D> chunkOps,
+                                                  Class<?> type,
+                                                  Function<T, D> toDocument,
+                                                  boolean insertedOnly) {
+        Objects.requireNonNull(items, "items");
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(toDocument, "toDocument");
+        Objects.requireNonNull(onDuplicateKey, "onDuplicateKey");
+        Objects.requireNonNull(perChunk, "perChunk");
+
+        if (items.isEmpty()) {
+            return Mono.just(BulkWriteReport.empty());
+        }
+
+        return Flux.fromIterable(items)
+                .buffer(chunkSize)
+                .index()
+                .concatMap(chunk -> perChunk.apply(Mono.defer(() -> {
+                    int offset = (int) (chunk.getT1() * chunkSize);
+                    List<T> chunkItems = chunk.getT2();
+
+                    ReactiveBulkOperations ops = template.bulkOps(BulkOperations.BulkMode.UNORDERED, type);
+                    chunkOps.add(ops, chunkItems.stream().map(toDocument).toList());
+
+                    return ops.execute()
+                            .map(result -> insertedOnly
+                                    ? report(chunkItems, offset, List.of(), upserted(result), onDuplicateKey)
+                                    : BulkWriteReport.allWritten(chunkItems))
+                            .onErrorResume(ex -> writeErrors(ex) != null,
+                                    ex -> Mono.just(report(chunkItems, offset, writeErrors(ex),
+                                            insertedOnly ? upserted(writeResult(ex)) : null, onDuplicateKey)));
+                })))
+                .reduce(BulkWriteReport::merge);
+    }
+
+    /**
+     * @param inserted chunk indexes of the items written; null for every item without an error.
+     */
+    private static <T> BulkWriteReport<T> report(List<T> chunkItems,
+                                                 int offset,
+                                                 List<BulkWriteError> errors,
+                                                 Set<Integer> inserted,
+                                                 Function<T, RuntimeException> onDuplicateKey) {
+        Map<Integer, BulkWriteError> byIndex = new HashMap<>();
+        for (BulkWriteError error : errors) {
+            byIndex.putIfAbsent(error.getIndex(), error);
+        }
+
+        List<T> written = new ArrayList<>(chunkItems.size());
+        List<BulkWriteReport.Failure<T>> failures = new ArrayList<>(byIndex.size());
+
+        for (int i = 0; i < chunkItems.size(); i++) {
+            T item = chunkItems.get(i);
+            BulkWriteError error = byIndex.get(i);
+            if (error == null) {
+                if (inserted == null || inserted.contains(i)) {
+                    written.add(item);
+                }
+            } else {
+                RuntimeException mapped = error.getCode() == DUPLICATE_KEY
+                        ? onDuplicateKey.apply(item)
+                        : new DataIntegrityViolationException("Bulk write rejected item (code %d): %s"
+                                .formatted(error.getCode(), error.getMessage()));
+                failures.add(new BulkWriteReport.Failure<>(offset + i, item, mapped));
+            }
+        }
+
+        return new BulkWriteReport<>(written, failures);
+    }
+
+    /**
+     * Per-item errors of a bulk write, whether the driver exception arrives as is or
+     * translated by Spring (DuplicateKeyException / BulkOperationException); null otherwise.
+     */
+    static List<BulkWriteError> writeErrors(Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof MongoBulkWriteException bulk) return bulk.getWriteErrors();
+            if (t instanceof BulkOperationException bulk) return bulk.getErrors();
+        }
+        return null;
+    }
+
+    /**
+     * Result of the part of a bulk write that succeeded, found like {@link #writeErrors}.
+     */
+    static BulkWriteResult writeResult(Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof MongoBulkWriteException bulk) return bulk.getWriteResult();
+            if (t instanceof BulkOperationException bulk) return bulk.getResult();
+        }
+        return null;
+    }
+
+    private static Set<Integer> upserted(BulkWriteResult result) {
+        Set<Integer> indexes = new HashSet<>();
+        if (result != null && result.wasAcknowledged()) {
+            for (BulkWriteUpsert upsert : result.getUpserts()) {
+                indexes.add(upsert.getIndex());
+            }
+        }
+        return indexes;
+    }
+}
@@ -0,0 +1,41 @@
+package com.paravai.foundation.persistence.mongo.dedup;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Marker for an inbound event that has been handled successfully. Only the id is ever
+ * read: existence of the row is the whole answer.
+ */
+@Document(ProcessedEventDocument.COLLECTION)
+public class ProcessedEventDocument {
+
+    public static final String COLLECTION = "processed_inbound_events";
+
+    /**
+     * The envelope eventId.
+     */
+    @Id
+    private String id;
+
+    // Redeliveries happen within minutes (rebalance, retry tiers); the window leaves room for DLQ replays.
+    @Indexed(name = "ttl_processed_inbound_events_processed_at", expireAfter = "7d")
+    private Instant processedAt;
+
+    public static ProcessedEventDocument of(String eventId) {
+        ProcessedEventDocument d = new ProcessedEventDocument();
+        d.id = Objects.requireNonNull(eventId, "eventId");
+        d.processedAt = Instant.now();
+        return d;
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public Instant getProcessedAt() { return processedAt; }
+    public void setProcessedAt(Instant processedAt) { this.processedAt = processedAt; }
+}
@@ -0,0 +1,55 @@
+package com.paravai.foundation.persistence.mongo.dedup;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Reactive access to the processed inbound events collection.
+ *
+ * Lookups are by _id only; rows expire through the TTL index on processedAt.
+ */
+public class ReactiveMongoProcessedEventStore {
+
+    private static final String F_ID = "_id";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public ReactiveMongoProcessedEventStore(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = Objects.requireNonNull(mongoTemplate, "mongoTemplate");
+    }
+
+    public Mono<Boolean> isProcessed(String eventId) {
+        Objects.requireNonNull(eventId, "eventId");
+        return mongoTemplate.exists(new Query(Criteria.where(F_ID).is(eventId)), ProcessedEventDocument.class);
+    }
+
+    /**
+     * The ids among eventIds that are recorded as processed, in one query.
+     */
+    public Flux<String> findProcessed(Collection<String> eventIds) {
+        if (eventIds == null || eventIds.isEmpty()) {
+            return Flux.empty();
+        }
+        Query query = new Query(Criteria.where(F_ID).in(eventIds));
+        query.fields().include(F_ID);
+        return mongoTemplate.find(query, ProcessedEventDocument.class)
+                .map(ProcessedEventDocument::getId);
+    }
+
+    /**
+     * Records the event as processed. Marking an event twice (e.g. two nodes racing on a
+     * redelivery) is not an error.
+     */
+    public Mono<Void> markProcessed(String eventId) {
+        return mongoTemplate.insert(ProcessedEventDocument.of(eventId))
+                .then()
+                .onErrorResume(DuplicateKeyException.class, ex -> Mono.empty());
+    }
+}
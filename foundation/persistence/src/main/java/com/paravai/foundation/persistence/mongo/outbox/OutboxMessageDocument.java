@@ -0,0 +1,131 @@
+package com.paravai.foundation.persistence.mongo.outbox;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Outbox row written in the same Mongo transaction as the aggregate change.
+ *
+ * The payload is kept as an opaque, already-encoded string: persistence does not
+ * know about envelopes or Kafka; the relay decides how to decode and publish it.
+ */
+@Document(OutboxMessageDocument.COLLECTION)
+@CompoundIndexes({
+        @CompoundIndex(
+                name = "ix_outbox_status_next_attempt",
+                def = "{'status': 1, 'nextAttemptAt': 1, 'createdAt': 1}"
+        ),
+        @CompoundIndex(
+                name = "ix_outbox_key_status_created",
+                def = "{'messageKey': 1, 'status': 1, 'createdAt': 1}"
+        ),
+        @CompoundIndex(
+                name = "ix_outbox_claim_token",
+                def = "{'claimToken': 1}",
+                sparse = true
+        )
+})
+public class OutboxMessageDocument {
+
+    public static final String COLLECTION = "outbox_messages";
+    public static final int DOCUMENT_VERSION = 1;
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_PUBLISHED = "PUBLISHED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    /**
+     * envelope eventId + ":" + schemaId: one domain event fans out to several channels sharing
+     * the eventId, and a retried command never produces two rows for the same envelope.
+     */
+    @Id
+    private String id;
+
+    private String messageKey;
+    private String messageType;
+    private String schemaId;
+    private String payload;
+
+    private String status;
+    private int attempts;
+    private String lastError;
+
+    private Instant createdAt;
+    private Instant nextAttemptAt;
+
+    private String claimToken;
+    private Instant claimedUntil;
+
+    // Published rows are purged by Mongo once the retention window has elapsed.
+    @Indexed(name = "ttl_outbox_published_at", expireAfter = "7d")
+    private Instant publishedAt;
+
+    private int documentVersion = DOCUMENT_VERSION;
+
+    public static OutboxMessageDocument pending(String id,
+                                                String messageKey,
+                                                String messageType,
+                                                String schemaId,
+                                                String payload) {
+        OutboxMessageDocument d = new OutboxMessageDocument();
+        Instant now = Instant.now();
+        d.id = Objects.requireNonNull(id, "id");
+        d.messageKey = messageKey;
+        d.messageType = messageType;
+        d.schemaId = schemaId;
+        d.payload = Objects.requireNonNull(payload, "payload");
+        d.status = STATUS_PENDING;
+        d.attempts = 0;
+        d.createdAt = now;
+        d.nextAttemptAt = now;
+        return d;
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getMessageKey() { return messageKey; }
+    public void setMessageKey(String messageKey) { this.messageKey = messageKey; }
+
+    public String getMessageType() { return messageType; }
+    public void setMessageType(String messageType) { this.messageType = messageType; }
+
+    public String getSchemaId() { return schemaId; }
+    public void setSchemaId(String schemaId) { this.schemaId = schemaId; }
+
+    public String getPayload() { return payload; }
+    public void setPayload(String payload) { this.payload = payload; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public Instant getNextAttemptAt() { return nextAttemptAt; }
+    public void setNextAttemptAt(Instant nextAttemptAt) { this.nextAttemptAt = nextAttemptAt; }
+
+    public String getClaimToken() { return claimToken; }
+    public void setClaimToken(String claimToken) { this.claimToken = claimToken; }
+
+    public Instant getClaimedUntil() { return claimedUntil; }
+    public void setClaimedUntil(Instant claimedUntil) { this.claimedUntil = claimedUntil; }
+
+    public Instant getPublishedAt() { return publishedAt; }
+    public void setPublishedAt(Instant publishedAt) { this.publishedAt = publishedAt; }
+
+    public int getDocumentVersion() { return documentVersion; }
+    public void setDocumentVersion(int documentVersion) { this.documentVersion = documentVersion; }
+}
@@ -0,0 +1,251 @@
+package com.paravai.foundation.persistence.mongo.outbox;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Reactive access to the outbox collection.
+ *
+ * Writes ({@link #append}) are transaction-aware: when called inside a reactive Mongo
+ * transaction (see {@link TransactionalOutbox}) the insert commits or rolls back together
+ * with the aggregate save.
+ *
+ * Reads are lease based so several relay instances can drain the same collection:
+ * a batch is claimed with a random token and a lease; rows whose lease expired
+ * (crashed relay) become claimable again.
+ *
+ * Order per message key (the entity id) is kept across retries: a message is not claimed
+ * while an older pending message with the same key waits for its next attempt or is
+ * claimed by another relay. Messages parked as FAILED no longer hold the key back.
+ */
+public class ReactiveMongoOutboxStore {
+
+    private static final String F_ID = "_id";
+    private static final String F_MESSAGE_KEY = "messageKey";
+    private static final String F_STATUS = "status";
+    private static final String F_ATTEMPTS = "attempts";
+    private static final String F_LAST_ERROR = "lastError";
+    private static final String F_CREATED_AT = "createdAt";
+    private static final String F_NEXT_ATTEMPT_AT = "nextAttemptAt";
+    private static final String F_CLAIM_TOKEN = "claimToken";
+    private static final String F_CLAIMED_UNTIL = "claimedUntil";
+    private static final String F_PUBLISHED_AT = "publishedAt";
+
+    private static final int MAX_ERROR_LENGTH = 512;
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public ReactiveMongoOutboxStore(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = Objects.requireNonNull(mongoTemplate, "mongoTemplate");
+    }
+
+    public Mono<Void> append(OutboxMessageDocument message) {
+        Objects.requireNonNull(message, "message");
+        return mongoTemplate.insert(message).then();
+    }
+
+    public Mono<Void> appendAll(Collection<OutboxMessageDocument> messages) {
+        if (messages == null || messages.isEmpty()) {
+            return Mono.empty();
+        }
+        return mongoTemplate.insertAll(messages).then();
+    }
+
+    /**
+     * Claims up to {@code limit} due messages, oldest first, for {@code lease}.
+     */
+    public Flux<OutboxMessageDocument> claimBatch(int limit, Duration lease) {
+        Objects.requireNonNull(lease, "lease");
+
+        return Flux.defer(() -> {
+            Instant now = Instant.now();
+            String token = UUID.randomUUID().toString();
+
+            Query candidates = new Query(claimable(now))
+                    .with(Sort.by(Sort.Direction.ASC, F_CREATED_AT))
+                    .limit(limit);
+            candidates.fields().include(F_ID, F_MESSAGE_KEY, F_CREATED_AT);
+
+            return mongoTemplate.find(candidates, OutboxMessageDocument.class)
+                    .collectList()
+                    .flatMap(due -> waitingBefore(due, now).map(waiting -> inKeyOrder(due, waiting)))
+                    .filter(ids -> !ids.isEmpty())
+                    .flatMapMany(ids -> {
+                        // Re-check claimability: another relay may have won some of the candidates.
+                        Query claim = new Query(Criteria.where(F_ID).in(ids).andOperator(claimable(now)));
+                        Update update = new Update()
+                                .set(F_CLAIM_TOKEN, token)
+                                .set(F_CLAIMED_UNTIL, now.plus(lease));
+
+                        return mongoTemplate.updateMulti(claim, update, OutboxMessageDocument.class)
+                                .flatMapMany(res -> res.getModifiedCount() == 0
+                                        ? Flux.empty()
+                                        : mongoTemplate.find(
+                                                new Query(Criteria.where(F_CLAIM_TOKEN).is(token))
+                                                        .with(Sort.by(Sort.Direction.ASC, F_CREATED_AT)),
+                                                OutboxMessageDocument.class));
+                    });
+        });
+    }
+
+    public Mono<Long> markPublished(List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        Update update = new Update()
+                .set(F_STATUS, OutboxMessageDocument.STATUS_PUBLISHED)
+                .set(F_PUBLISHED_AT, Instant.now())
+                .unset(F_CLAIM_TOKEN)
+                .unset(F_CLAIMED_UNTIL);
+
+        return mongoTemplate.updateMulti(new Query(Criteria.where(F_ID).in(ids)), update, OutboxMessageDocument.class)
+                .map(res -> res.getModifiedCount());
+    }
+
+    /**
+     * Releases the claim and schedules a new attempt with exponential backoff,
+     * or parks the message as FAILED once {@code maxAttempts} is reached.
+     */
+    public Mono<Void> markForRetry(List<OutboxMessageDocument> messages,
+                                   Throwable error,
+                                   int maxAttempts,
+                                   Duration baseBackoff,
+                                   Duration maxBackoff) {
+        if (messages == null || messages.isEmpty()) {
+            return Mono.empty();
+        }
+
+        String lastError = describe(error);
+        Instant now = Instant.now();
+
+        return Flux.fromIterable(messages)
+                .concatMap(m -> {
+                    int attempts = m.getAttempts() + 1;
+                    Update update = new Update()
+                            .set(F_ATTEMPTS, attempts)
+                            .set(F_LAST_ERROR, lastError)
+                            .unset(F_CLAIM_TOKEN)
+                            .unset(F_CLAIMED_UNTIL);
+
+                    if (attempts >= maxAttempts) {
+                        update.set(F_STATUS, OutboxMessageDocument.STATUS_FAILED);
+                    } else {
+                        update.set(F_NEXT_ATTEMPT_AT, now.plus(backoff(attempts, baseBackoff, maxBackoff)));
+                    }
+
+                    return mongoTemplate.updateFirst(
+                            new Query(Criteria.where(F_ID).is(m.getId())), update, OutboxMessageDocument.class);
+                })
+                .then();
+    }
+
+    /**
+     * Parks a message that can never be published (e.g. undecodable payload).
+     */
+    public Mono<Void> markFailed(String id, Throwable error) {
+        Update update = new Update()
+                .set(F_STATUS, OutboxMessageDocument.STATUS_FAILED)
+                .set(F_LAST_ERROR, describe(error))
+                .unset(F_CLAIM_TOKEN)
+                .unset(F_CLAIMED_UNTIL);
+
+        return mongoTemplate.updateFirst(new Query(Criteria.where(F_ID).is(id)), update, OutboxMessageDocument.class)
+                .then();
+    }
+
+    public Mono<Long> countPending() {
+        return mongoTemplate.count(
+                new Query(Criteria.where(F_STATUS).is(OutboxMessageDocument.STATUS_PENDING)),
+                OutboxMessageDocument.class);
+    }
+
+    // ---- per-key order ----
+
+    /**
+     * Pending messages sharing a key with the due ones that cannot be claimed now:
+     * waiting for a retry or held by another relay.
+     */
+    private Mono<List<OutboxMessageDocument>> waitingBefore(List<OutboxMessageDocument> due, Instant now) {
+        List<String> keys = due.stream()
+                .map(OutboxMessageDocument::getMessageKey)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (keys.isEmpty()) {
+            return Mono.just(List.of());
+        }
+
+        Query waiting = new Query(new Criteria().andOperator(
+                Criteria.where(F_MESSAGE_KEY).in(keys),
+                Criteria.where(F_STATUS).is(OutboxMessageDocument.STATUS_PENDING),
+                new Criteria().orOperator(
+                        Criteria.where(F_NEXT_ATTEMPT_AT).gt(now),
+                        Criteria.where(F_CLAIMED_UNTIL).gte(now)
+                )
+        ));
+        waiting.fields().include(F_ID, F_MESSAGE_KEY, F_CREATED_AT);
+
+        return mongoTemplate.find(waiting, OutboxMessageDocument.class).collectList();
+    }
+
+    /**
+     * Ids of the due messages that no older waiting message of the same key precedes.
+     */
+    static List<String> inKeyOrder(List<OutboxMessageDocument> due, List<OutboxMessageDocument> waiting) {
+        Map<String, Instant> oldestWaiting = new HashMap<>();
+        for (OutboxMessageDocument w : waiting) {
+            oldestWaiting.merge(w.getMessageKey(), w.getCreatedAt(),
+                    (a, b) -> a.isBefore(b) ? a : b);
+        }
+
+        return due.stream()
+                .filter(m -> {
+                    Instant blocker = m.getMessageKey() == null ? null : oldestWaiting.get(m.getMessageKey());
+                    return blocker == null || m.getCreatedAt().isBefore(blocker);
+                })
+                .map(OutboxMessageDocument::getId)
+                .toList();
+    }
+
+    // ---- helpers ----
+
+    private static Criteria claimable(Instant now) {
+        return new Criteria().andOperator(
+                Criteria.where(F_STATUS).is(OutboxMessageDocument.STATUS_PENDING),
+                Criteria.where(F_NEXT_ATTEMPT_AT).lte(now),
+                new Criteria().orOperator(
+                        Criteria.where(F_CLAIMED_UNTIL).is(null),
+                        Criteria.where(F_CLAIMED_UNTIL).lt(now)
+                )
+        );
+    }
+
+    static Duration backoff(int attempts, Duration base, Duration max) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration d = base.multipliedBy(1L << shift);
+        return d.compareTo(max) > 0 ? max : d;
+    }
+
+    private static String describe(Throwable error) {
+        if (error == null) {
+            return "unknown";
+        }
+        String msg = error.getClass().getSimpleName() + ": " + error.getMessage();
+        return msg.length() > MAX_ERROR_LENGTH ? msg.substring(0, MAX_ERROR_LENGTH) : msg;
+    }
+}
@@ -0,0 +1,59 @@
+package com.paravai.foundation.persistence.mongo.outbox;
+
+import com.paravai.foundation.domain.event.EntityChangedEvent;
+import com.paravai.foundation.domain.event.NonBlockingEventPublisher;
+import com.paravai.foundation.domain.event.ReactiveDomainEventPublisher;
+import org.slf4j.Logger;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Command-side event publishing on top of {@link TransactionalOutbox}.
+ *
+ * With a transactional outbox, publishing an EntityChangedEvent only writes outbox rows
+ * (handlers publish through the outbox IntegrationEventPublisher), so it is cheap and
+ * must be strict: a failure rolls the aggregate change back instead of losing the event.
+ * Kafka is reached later by the relay, outside the request path.
+ *
+ * Without it (passthrough) this falls back to {@link NonBlockingEventPublisher}:
+ * inline, best-effort publishing, as before.
+ *
+ * Like NonBlockingEventPublisher, intended for application services only.
+ */
+public final class TransactionalEventPublisher {
+
+    private final ReactiveDomainEventPublisher publisher;
+    private final NonBlockingEventPublisher bestEffort;
+    private final TransactionalOutbox outbox;
+    private final Logger log;
+
+    public TransactionalEventPublisher(ReactiveDomainEventPublisher publisher,
+                                       TransactionalOutbox outbox,
+                                       Logger log) {
+        this.publisher = Objects.requireNonNull(publisher, "publisher");
+        this.outbox = Objects.requireNonNull(outbox, "outbox");
+        this.log = Objects.requireNonNull(log, "log");
+        this.bestEffort = new NonBlockingEventPublisher(publisher, log);
+    }
+
+    /**
+     * Runs the write + publish pipeline atomically (when the outbox is transactional).
+     */
+    public <T> Mono<T> inTransaction(Supplier<Mono<T>> pipelineSupplier) {
+        return outbox.inTransaction(pipelineSupplier);
+    }
+
+    public Mono<Void> publish(EntityChangedEvent evt) {
+        Objects.requireNonNull(evt, "evt");
+
+        if (!outbox.isTransactional()) {
+            return bestEffort.publish(evt);
+        }
+
+        return publisher.publish(evt)
+                .doOnSuccess(v -> log.debug("[{}][{}] Staged EntityChangedEvent in outbox op={} entityId={}",
+                        evt.getTraceId(), evt.getUserOid(), evt.getOperationType(), evt.getEntityId()));
+    }
+}
@@ -0,0 +1,49 @@
+package com.paravai.foundation.persistence.mongo.outbox;
+
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Runs a command pipeline (aggregate save + outbox append) in a single reactive
+ * Mongo transaction.
+ *
+ * Both writes must go through transaction-aware templates/repositories and be
+ * subscribed inside {@link #inTransaction(Supplier)}; the transaction is carried in
+ * the Reactor context, so no thread hopping concerns apply.
+ *
+ * Requires a replica set (or sharded cluster): standalone Mongo does not support
+ * transactions. {@link #passthrough()} keeps the same call shape when the outbox is
+ * disabled, e.g. in local setups.
+ */
+public final class TransactionalOutbox {
+
+    private final TransactionalOperator transactionalOperator;
+
+    private TransactionalOutbox(TransactionalOperator transactionalOperator) {
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    public static TransactionalOutbox of(TransactionalOperator transactionalOperator) {
+        return new TransactionalOutbox(Objects.requireNonNull(transactionalOperator, "transactionalOperator"));
+    }
+
+    public static TransactionalOutbox passthrough() {
+        return new TransactionalOutbox(null);
+    }
+
+    public boolean isTransactional() {
+        return transactionalOperator != null;
+    }
+
+    public <T> Mono<T> inTransaction(Supplier<Mono<T>> pipelineSupplier) {
+        Objects.requireNonNull(pipelineSupplier, "pipelineSupplier");
+
+        Mono<T> pipeline = Mono.defer(pipelineSupplier);
+        return transactionalOperator == null
+                ? pipeline
+                : transactionalOperator.transactional(pipeline);
+    }
+}
@@ -0,0 +1,40 @@
+package com.paravai.foundation.persistence.mongo.search;
+
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Case-insensitive equality or prefix search through a collation (strength 2: case is
+ * ignored, accents are not).
+ *
+ * Regex ignores collation, so the prefix is a range [term, term + U+FFFF): ICU gives
+ * U+FFFF the highest weight for this purpose. The index on the field must be created
+ * with the same collation, otherwise Mongo cannot use it.
+ */
+final class CollationSearchStrategy implements SearchStrategy {
+
+    private static final String MAX_WEIGHT = "\uFFFF";
+
+    private final String field;
+    private final Collation collation;
+    private final boolean prefix;
+
+    CollationSearchStrategy(String field, Locale locale, boolean prefix) {
+        this.field = Objects.requireNonNull(field, "field");
+        this.collation = Collation.of(Objects.requireNonNull(locale, "locale")).strength(Collation.ComparisonLevel.secondary());
+        this.prefix = prefix;
+    }
+
+    @Override
+    public void apply(Query query, String term) {
+        String value = term.trim();
+        Criteria criteria = prefix
+                ? Criteria.where(field).gte(value).lt(value + MAX_WEIGHT)
+                : Criteria.where(field).is(value);
+        query.addCriteria(criteria).collation(collation);
+    }
+}
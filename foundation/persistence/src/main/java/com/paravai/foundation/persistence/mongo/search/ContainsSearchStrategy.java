@@ -0,0 +1,24 @@
+package com.paravai.foundation.persistence.mongo.search;
+
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Objects;
+
+/**
+ * Case-insensitive "contains" on the raw field. Kept for compatibility: the input is
+ * escaped, but an unanchored case-insensitive regex cannot use index bounds.
+ */
+final class ContainsSearchStrategy implements SearchStrategy {
+
+    private final String field;
+
+    ContainsSearchStrategy(String field) {
+        this.field = Objects.requireNonNull(field, "field");
+    }
+
+    @Override
+    public void apply(Query query, String term) {
+        query.addCriteria(Criteria.where(field).regex(SearchTerms.escapeRegex(term), "i"));
+    }
+}
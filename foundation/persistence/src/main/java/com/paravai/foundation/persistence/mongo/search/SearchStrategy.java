@@ -0,0 +1,45 @@
+package com.paravai.foundation.persistence.mongo.search;
+
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Locale;
+
+/**
+ * How the free-text {@code search} parameter becomes a Mongo predicate.
+ *
+ * Implementations must treat the term as literal text (never as a pattern) and should
+ * produce predicates an index can serve:
+ * - {@link #shadowPrefix}: anchored prefix on a normalized copy of the field kept on write.
+ * - {@link #collation}: case-insensitive equality or prefix through a collation-backed index.
+ * - {@link #text}: Mongo $text over a text index.
+ * - {@link #contains}: legacy unanchored match; escaped, but always a collection scan.
+ */
+public interface SearchStrategy {
+
+    /**
+     * Adds the search predicate (and collation, if any) to the query.
+     *
+     * @param term non-blank user input, taken literally.
+     */
+    void apply(Query query, String term);
+
+    static SearchStrategy contains(String field) {
+        return new ContainsSearchStrategy(field);
+    }
+
+    static SearchStrategy shadowPrefix(String shadowField) {
+        return new ShadowFieldSearchStrategy(shadowField);
+    }
+
+    static SearchStrategy collation(String field, Locale locale, boolean prefix) {
+        return new CollationSearchStrategy(field, locale, prefix);
+    }
+
+    static SearchStrategy text() {
+        return new TextIndexSearchStrategy(null);
+    }
+
+    static SearchStrategy text(String language) {
+        return new TextIndexSearchStrategy(language);
+    }
+}
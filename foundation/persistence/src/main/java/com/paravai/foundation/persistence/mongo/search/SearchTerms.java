@@ -0,0 +1,42 @@
+package com.paravai.foundation.persistence.mongo.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Helpers shared by search strategies and by documents maintaining search fields.
+ */
+public final class SearchTerms {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final String REGEX_META = "\\^$.|?*+()[]{}";
+
+    private SearchTerms() {
+    }
+
+    /**
+     * Canonical form stored in shadow fields and used to query them: trimmed, accents
+     * removed, lower case (root locale). Writer and reader must use this same method.
+     */
+    public static String normalize(String value) {
+        if (value == null) return null;
+        String decomposed = Normalizer.normalize(value.trim(), Normalizer.Form.NFKD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Escapes regex metacharacters so user input is matched literally.
+     */
+    public static String escapeRegex(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (REGEX_META.indexOf(c) >= 0) {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,28 @@
+package com.paravai.foundation.persistence.mongo.search;
+
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Objects;
+
+/**
+ * Prefix search on a shadow field holding {@link SearchTerms#normalize} of the source
+ * field, maintained on write.
+ *
+ * The predicate is an anchored, case-sensitive regex ({@code ^term}), which Mongo turns
+ * into index bounds [term, term') on an index over the shadow field.
+ */
+final class ShadowFieldSearchStrategy implements SearchStrategy {
+
+    private final String shadowField;
+
+    ShadowFieldSearchStrategy(String shadowField) {
+        this.shadowField = Objects.requireNonNull(shadowField, "shadowField");
+    }
+
+    @Override
+    public void apply(Query query, String term) {
+        String normalized = SearchTerms.normalize(term);
+        query.addCriteria(Criteria.where(shadowField).regex("^" + SearchTerms.escapeRegex(normalized)));
+    }
+}
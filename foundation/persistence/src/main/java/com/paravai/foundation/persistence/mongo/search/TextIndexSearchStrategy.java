@@ -0,0 +1,34 @@
+package com.paravai.foundation.persistence.mongo.search;
+
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+
+import java.util.Arrays;
+
+/**
+ * Word search through the collection's text index ($text), matching any of the words.
+ * $text has no regex semantics; quotes and leading '-' are stripped so input cannot turn
+ * into phrase or negation operators. Requires a text index on the collection.
+ */
+final class TextIndexSearchStrategy implements SearchStrategy {
+
+    private final String language;
+
+    TextIndexSearchStrategy(String language) {
+        this.language = language;
+    }
+
+    @Override
+    public void apply(Query query, String term) {
+        TextCriteria criteria = language == null
+                ? TextCriteria.forDefaultLanguage()
+                : TextCriteria.forLanguage(language);
+        String[] words = Arrays.stream(term.replace("\"", " ").trim().split("\\s+"))
+                .map(w -> w.replaceFirst("^-+", ""))
+                .filter(w -> !w.isEmpty())
+                .toArray(String[]::new);
+        if (words.length > 0) {
+            query.addCriteria(criteria.matchingAny(words));
+        }
+    }
+}
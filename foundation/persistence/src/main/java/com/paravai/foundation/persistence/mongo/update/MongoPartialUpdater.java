@@ -0,0 +1,119 @@
+package com.paravai.foundation.persistence.mongo.update;
+
+import org.bson.Document;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes only what changed between two versions of a document, guarded by a revision.
+ *
+ * The update matches {_id, revision: expected} and increments the revision, so a
+ * concurrent writer turns into an OptimisticLockingFailureException instead of a lost
+ * update (retry with {@link OptimisticRetry}). Documents written before the revision
+ * existed count as revision 0. When nothing changed no write is issued at all.
+ *
+ * Both versions should come from the same mapping (e.g. fromDomain of the aggregate as
+ * read and as changed), so only the aggregate's own changes show up in the diff.
+ *
+ * Full writes of a guarded document must go through {@link #overwrite}: a plain save of
+ * the mapped aggregate would put the revision back to 0.
+ */
+public class MongoPartialUpdater {
+
+    public enum Outcome { UPDATED, UNCHANGED }
+
+    private final ReactiveMongoTemplate template;
+    private final Map<Class<?>, List<String>> fieldsByType = new ConcurrentHashMap<>();
+
+    public MongoPartialUpdater(ReactiveMongoTemplate template) {
+        this.template = Objects.requireNonNull(template, "template");
+    }
+
+    public <D> Mono<Outcome> update(Class<D> type,
+                                    String id,
+                                    String revisionField,
+                                    long expectedRevision,
+                                    D before,
+                                    D after) {
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(id, "id");
+        Objects.requireNonNull(revisionField, "revisionField");
+
+        Update update = PartialUpdate.diff(toBson(before), toBson(after), Set.of(revisionField));
+        if (PartialUpdate.isEmpty(update)) {
+            return Mono.just(Outcome.UNCHANGED);
+        }
+        update.inc(revisionField, 1);
+
+        Query query = Query.query(Criteria.where("_id").is(id).andOperator(revisionIs(revisionField, expectedRevision)));
+
+        return template.updateFirst(query, update, type)
+                .flatMap(result -> result.getMatchedCount() == 1
+                        ? Mono.just(Outcome.UPDATED)
+                        : Mono.error(new OptimisticLockingFailureException(
+                                "%s %s was modified or deleted concurrently (expected revision %d)"
+                                        .formatted(type.getSimpleName(), id, expectedRevision))));
+    }
+
+    /**
+     * Writes the whole document, inserting it when missing, without resetting its revision:
+     * every mapped field but the revision is $set or $unset and the revision is incremented,
+     * so an update that read the previous version fails its guard instead of overwriting.
+     */
+    public <D> Mono<Void> overwrite(Class<D> type, String id, String revisionField, D document) {
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(id, "id");
+
+        return Mono.defer(() -> template.upsert(
+                        Query.query(Criteria.where("_id").is(id)),
+                        overwriteUpdate(type, revisionField, document),
+                        type))
+                .then();
+    }
+
+    /**
+     * The update {@link #overwrite} issues, for bulk writes.
+     */
+    public <D> Update overwriteUpdate(Class<D> type, String revisionField, D document) {
+        Objects.requireNonNull(revisionField, "revisionField");
+
+        Update update = PartialUpdate.overwrite(toBson(document), mappedFields(type), Set.of(revisionField));
+        update.inc(revisionField, 1);
+        return update;
+    }
+
+    private List<String> mappedFields(Class<?> type) {
+        return fieldsByType.computeIfAbsent(type, t -> {
+            List<String> fields = new ArrayList<>();
+            template.getConverter().getMappingContext().getRequiredPersistentEntity(t)
+                    .doWithProperties((PropertyHandler<MongoPersistentProperty>) p -> fields.add(p.getFieldName()));
+            return List.copyOf(fields);
+        });
+    }
+
+    private static Criteria revisionIs(String field, long expected) {
+        if (expected == 0) {
+            return new Criteria().orOperator(Criteria.where(field).is(0L), Criteria.where(field).exists(false));
+        }
+        return Criteria.where(field).is(expected);
+    }
+
+    private Document toBson(Object entity) {
+        Document bson = new Document();
+        template.getConverter().write(Objects.requireNonNull(entity, "entity"), bson);
+        return bson;
+    }
+}
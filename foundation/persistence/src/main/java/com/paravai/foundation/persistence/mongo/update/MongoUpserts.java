@@ -0,0 +1,34 @@
+package com.paravai.foundation.persistence.mongo.update;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Objects;
+
+/**
+ * Helpers for insert-if-absent upserts.
+ *
+ * Matched against a unique business key, {@code $setOnInsert} of the whole mapped entity
+ * creates the document in a single round trip and leaves an existing one untouched, so
+ * redelivered commands are idempotent without a read first.
+ */
+public final class MongoUpserts {
+
+    private MongoUpserts() {}
+
+    /**
+     * $setOnInsert of every mapped field of entity (including _id).
+     */
+    public static Update setOnInsert(MongoConverter converter, Object entity) {
+        Objects.requireNonNull(converter, "converter");
+        Objects.requireNonNull(entity, "entity");
+
+        Document bson = new Document();
+        converter.write(entity, bson);
+
+        Update update = new Update();
+        bson.forEach(update::setOnInsert);
+        return update;
+    }
+}
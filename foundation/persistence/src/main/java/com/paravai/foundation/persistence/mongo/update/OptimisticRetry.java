@@ -0,0 +1,47 @@
+package com.paravai.foundation.persistence.mongo.update;
+
+import com.mongodb.MongoException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Re-runs a read-modify-write when it lost a race.
+ *
+ * The whole attempt is re-subscribed, so it must include the read (and the transaction,
+ * if any: a transaction keeps reading its own snapshot, retrying inside it cannot see the
+ * winner's write). Retries on revision conflicts and on Mongo transient transaction
+ * errors (write conflicts between transactions).
+ */
+public final class OptimisticRetry {
+
+    private static final String TRANSIENT_TRANSACTION_ERROR = "TransientTransactionError";
+    private static final Duration FIRST_BACKOFF = Duration.ofMillis(10);
+    private static final Duration MAX_BACKOFF = Duration.ofMillis(200);
+
+    private OptimisticRetry() {}
+
+    /**
+     * @param maxRetries retries after the first attempt; the last conflict is propagated.
+     */
+    public static <T> Mono<T> onConflict(int maxRetries, Supplier<Mono<T>> attempt) {
+        Objects.requireNonNull(attempt, "attempt");
+        return Mono.defer(attempt)
+                .retryWhen(Retry.backoff(maxRetries, FIRST_BACKOFF)
+                        .maxBackoff(MAX_BACKOFF)
+                        .filter(OptimisticRetry::isConflict)
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    static boolean isConflict(Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof OptimisticLockingFailureException) return true;
+            if (t instanceof MongoException mongo && mongo.hasErrorLabel(TRANSIENT_TRANSACTION_ERROR)) return true;
+        }
+        return false;
+    }
+}
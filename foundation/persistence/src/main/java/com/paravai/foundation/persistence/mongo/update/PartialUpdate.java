@@ -0,0 +1,92 @@
+package com.paravai.foundation.persistence.mongo.update;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Field-level difference between two mapped versions of the same document.
+ *
+ * Top-level fields only: a changed nested value is $set as a whole. _id is never part of
+ * the update; neither are the ignored fields (e.g. the revision, which the updater
+ * increments itself).
+ */
+public final class PartialUpdate {
+
+    private static final String ID = "_id";
+
+    private PartialUpdate() {}
+
+    /**
+     * @return $set for added/changed fields and $unset for removed ones; empty when equal.
+     */
+    public static Update diff(Document before, Document after, Set<String> ignored) {
+        Objects.requireNonNull(before, "before");
+        Objects.requireNonNull(after, "after");
+        Objects.requireNonNull(ignored, "ignored");
+
+        Update update = new Update();
+
+        for (Map.Entry<String, Object> field : after.entrySet()) {
+            String name = field.getKey();
+            if (skip(name, ignored)) continue;
+
+            Object value = field.getValue();
+            if (!before.containsKey(name) || !Objects.equals(before.get(name), value)) {
+                if (value == null) {
+                    update.unset(name);
+                } else {
+                    update.set(name, value);
+                }
+            }
+        }
+
+        Set<String> removed = new HashSet<>(before.keySet());
+        removed.removeAll(after.keySet());
+        for (String name : removed) {
+            if (!skip(name, ignored) && before.get(name) != null) {
+                update.unset(name);
+            }
+        }
+
+        return update;
+    }
+
+    /**
+     * Update making a stored document equal to {@code document} on the given fields, without
+     * reading it: present values are $set, missing or null ones $unset.
+     */
+    public static Update overwrite(Document document, Collection<String> fields, Set<String> ignored) {
+        Objects.requireNonNull(document, "document");
+        Objects.requireNonNull(fields, "fields");
+        Objects.requireNonNull(ignored, "ignored");
+
+        Update update = new Update();
+
+        for (Map.Entry<String, Object> field : document.entrySet()) {
+            if (!skip(field.getKey(), ignored) && field.getValue() != null) {
+                update.set(field.getKey(), field.getValue());
+            }
+        }
+        for (String name : fields) {
+            if (!skip(name, ignored) && document.get(name) == null) {
+                update.unset(name);
+            }
+        }
+
+        return update;
+    }
+
+    public static boolean isEmpty(Update update) {
+        return update.getUpdateObject().isEmpty();
+    }
+
+    private static boolean skip(String name, Set<String> ignored) {
+        return ID.equals(name) || ignored.contains(name);
+    }
+}
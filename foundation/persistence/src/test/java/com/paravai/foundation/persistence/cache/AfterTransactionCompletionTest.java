@@ -0,0 +1,87 @@
+package com.paravai.foundation.persistence.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AfterTransactionCompletionTest {
+
+    private final List<String> steps = new ArrayList<>();
+
+    @DisplayName("Given a transaction, the action should run only after the commit")
+    @Test
+    void register_runsAfterCommit() {
+        //Given
+        TransactionalOperator tx = TransactionalOperator.create(new RecordingTransactionManager());
+
+        //When
+        tx.transactional(AfterTransactionCompletion.register(() -> steps.add("action"))
+                        .then(Mono.fromRunnable(() -> steps.add("write"))))
+                .block();
+
+        //Then
+        assertEquals(List.of("write", "commit", "action"), steps);
+    }
+
+    @DisplayName("Given a rolled back transaction, the action should still run")
+    @Test
+    void register_runsAfterRollback() {
+        //Given
+        TransactionalOperator tx = TransactionalOperator.create(new RecordingTransactionManager());
+
+        //When
+        assertThrows(IllegalStateException.class, () -> tx.transactional(
+                        AfterTransactionCompletion.register(() -> steps.add("action"))
+                                .then(Mono.error(new IllegalStateException("write failed"))))
+                .block());
+
+        //Then
+        assertEquals(List.of("rollback", "action"), steps);
+    }
+
+    @DisplayName("Given no transaction, registering should complete without running the action")
+    @Test
+    void register_noTransaction() {
+        //When
+        AfterTransactionCompletion.register(() -> steps.add("action")).block();
+
+        //Then
+        assertTrue(steps.isEmpty());
+    }
+
+    private final class RecordingTransactionManager extends AbstractReactiveTransactionManager {
+
+        @Override
+        protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+            return new Object();
+        }
+
+        @Override
+        protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager,
+                                     Object transaction, TransactionDefinition definition) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+                                      GenericReactiveTransaction status) {
+            return Mono.fromRunnable(() -> steps.add("commit"));
+        }
+
+        @Override
+        protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager,
+                                        GenericReactiveTransaction status) {
+            return Mono.fromRunnable(() -> steps.add("rollback"));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.paravai.foundation.persistence.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadThroughCacheTest {
+
+    private final ReadThroughCache<String, String> cache =
+            ReadThroughCache.create("test", Duration.ofMinutes(1), 100, new SimpleMeterRegistry());
+
+    @DisplayName("Given a cached value, the loader should not be called again until it is invalidated")
+    @Test
+    void get_hitAfterLoad() {
+        //Given
+        AtomicInteger loads = new AtomicInteger();
+
+        //When
+        cache.get("k", () -> Mono.fromCallable(() -> "v" + loads.incrementAndGet())).block();
+        String second = cache.get("k", () -> Mono.fromCallable(() -> "v" + loads.incrementAndGet())).block();
+        cache.invalidate("k");
+        String third = cache.get("k", () -> Mono.fromCallable(() -> "v" + loads.incrementAndGet())).block();
+
+        //Then
+        assertEquals("v1", second);
+        assertEquals("v2", third);
+        assertEquals(2, loads.get());
+    }
+
+    @DisplayName("Given an empty lookup, nothing should be cached")
+    @Test
+    void get_emptyNotCached() {
+        //Given
+        AtomicInteger loads = new AtomicInteger();
+
+        //When
+        cache.get("k", () -> Mono.<String>empty().doOnSubscribe(s -> loads.incrementAndGet())).block();
+        String value = cache.get("k", () -> Mono.just("v").doOnSubscribe(s -> loads.incrementAndGet())).block();
+
+        //Then
+        assertEquals("v", value);
+        assertEquals(2, loads.get());
+    }
+
+    @DisplayName("Given an invalidation while a load is in flight, the loaded value should not be stored")
+    @Test
+    void get_loadOverlappingInvalidationNotStored() {
+        //Given
+        Sinks.One<String> pending = Sinks.one();
+        Mono<String> inFlight = cache.get("k", pending::asMono).cache();
+        inFlight.subscribe();
+
+        //When
+        cache.invalidate("k");
+        pending.tryEmitValue("stale");
+
+        //Then
+        assertEquals("stale", inFlight.block());
+        assertEquals("fresh", cache.get("k", () -> Mono.just("fresh")).block());
+    }
+
+    @DisplayName("Given a value predicate, only matching entries should be dropped")
+    @Test
+    void invalidateIf_matchingOnly() {
+        //Given
+        cache.get("a", () -> Mono.just("x")).block();
+        cache.get("b", () -> Mono.just("y")).block();
+
+        //When
+        cache.invalidateIf("x"::equals);
+
+        //Then
+        assertEquals("reloaded", cache.get("a", () -> Mono.just("reloaded")).block());
+        assertEquals("y", cache.get("b", () -> Mono.just("reloaded")).block());
+    }
+}
@@ -0,0 +1,81 @@
+package com.paravai.foundation.persistence.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> flights = SingleFlight.create("test", registry);
+
+    @DisplayName("Given concurrent callers for the same key, the loader should run once and all should get its value")
+    @Test
+    void execute_coalescesSameKey() {
+        //Given
+        AtomicInteger loads = new AtomicInteger();
+        Sinks.One<String> result = Sinks.one();
+        AtomicReference<String> first = new AtomicReference<>();
+        AtomicReference<String> second = new AtomicReference<>();
+
+        //When
+        flights.execute("k", () -> result.asMono().doOnSubscribe(s -> loads.incrementAndGet())).subscribe(first::set);
+        flights.execute("k", () -> result.asMono().doOnSubscribe(s -> loads.incrementAndGet())).subscribe(second::set);
+        result.tryEmitValue("v");
+
+        //Then
+        assertEquals(1, loads.get());
+        assertEquals("v", first.get());
+        assertEquals("v", second.get());
+        assertEquals(0, flights.inFlight());
+        assertEquals(1.0, registry.get("foundation.persistence.singleflight").tag("result", "coalesced").counter().count());
+    }
+
+    @DisplayName("Given a finished lookup, the next call should run the loader again")
+    @Test
+    void execute_nothingKeptAfterCompletion() {
+        //Given
+        AtomicInteger loads = new AtomicInteger();
+
+        //When
+        flights.execute("k", () -> Mono.fromCallable(() -> "v" + loads.incrementAndGet())).block();
+        String second = flights.execute("k", () -> Mono.fromCallable(() -> "v" + loads.incrementAndGet())).block();
+
+        //Then
+        assertEquals("v2", second);
+    }
+
+    @DisplayName("Given one of two callers cancelling, the lookup should continue for the other and stop when both cancel")
+    @Test
+    void execute_refCountedCancellation() {
+        //Given
+        AtomicInteger cancels = new AtomicInteger();
+        Sinks.One<String> result = Sinks.one();
+        Mono<String> source = result.asMono().doOnCancel(cancels::incrementAndGet);
+
+        Disposable a = flights.execute("k", () -> source).subscribe();
+        Disposable b = flights.execute("k", () -> source).subscribe();
+
+        //When
+        a.dispose();
+
+        //Then
+        assertEquals(0, cancels.get());
+        assertEquals(1, flights.inFlight());
+
+        //When
+        b.dispose();
+
+        //Then
+        assertEquals(1, cancels.get());
+        assertEquals(0, flights.inFlight());
+    }
+}
@@ -0,0 +1,99 @@
+package com.paravai.foundation.persistence.mongo;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.paravai.foundation.domain.value.IdGenerator;
+import com.paravai.foundation.domain.value.IdGenerators;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert throughput into a Mongo collection keyed by string _id, NanoID vs time-ordered ids.
+ *
+ * Random ids spread inserts over the whole _id B-tree (page splits, cold pages once the
+ * index outgrows the cache); time-ordered ids append to its right edge. Any difference is
+ * expected to show once the index exceeds the WiredTiger cache, so run long enough to get
+ * there. No results are recorded here; measure on the target deployment.
+ *
+ * Needs a disposable Mongo (collections are dropped):
+ *   mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.paravai.foundation.persistence.mongo.IdInsertThroughputBenchmark \
+ *       -Dbench.mongo.uri=mongodb://localhost:27017
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 20)
+@Fork(1)
+public class IdInsertThroughputBenchmark {
+
+    private static final int BATCH = 500;
+
+    @Param({IdGenerators.NANOID, IdGenerators.TIME_ORDERED})
+    public String generator;
+
+    private MongoClient client;
+    private MongoCollection<Document> collection;
+    private IdGenerator idGenerator;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        client = MongoClients.create(System.getProperty("bench.mongo.uri", "mongodb://localhost:27017"));
+        collection = client.getDatabase("id_benchmark").getCollection("inserts_" + generator.replace('-', '_'));
+        Mono.from(collection.drop()).block();
+        idGenerator = IdGenerators.byName(generator);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Mono.from(collection.drop()).block();
+        client.close();
+    }
+
+    @Benchmark
+    @Threads(4)
+    @OperationsPerInvocation(BATCH)
+    public Object insertBatch() {
+        List<Document> docs = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            docs.add(new Document("_id", idGenerator.nextId())
+                    .append("tenantId", "bench")
+                    .append("name", "community " + i)
+                    .append("createdAt", Instant.now()));
+        }
+        return Mono.from(collection.insertMany(docs)).block();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(IdInsertThroughputBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -1,5 +1,6 @@
 package com.paravai.foundation.persistence.mongo;
 
+import com.paravai.foundation.persistence.mongo.search.SearchStrategy;
 import org.bson.Document;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -187,5 +188,90 @@ class MongoQueryBuilderTest {
         Mockito.verify(query, Mockito.times(7)).addCriteria(Mockito.any());
     }
 
+    @DisplayName("Given a keyset page after an anchor, the query should seek on sort key and _id without skip")
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void buildKeysetQuery_after() {
+        //Given
+        KeysetPage page = KeysetPage.after("name", false, "beta", "id-7", 20);
+
+        //When
+        Query query = MongoQueryBuilder.buildKeysetQuery(Map.of(), Optional.empty(), page, "name");
+
+        //Then
+        assertEquals(0, query.getSkip());
+        assertEquals(20, query.getLimit());
+        assertEquals(new Document("name", 1).append("_id", 1), query.getSortObject());
+
+        var or = (List) query.getQueryObject().get("$or");
+        assertEquals(2, or.size());
+        assertEquals("beta", ((Document) ((Document) or.get(0)).get("name")).get("$gt"));
+    }
+
+    @DisplayName("Given a keyset page before an anchor, the query should scan in reverse order")
+    @Test
+    void buildKeysetQuery_before() {
+        //Given
+        KeysetPage page = KeysetPage.before("createdAt", true, 10L, "id-7", 20);
+
+        //When
+        Query query = MongoQueryBuilder.buildKeysetQuery(Map.of(), Optional.empty(), page, "name");
+
+        //Then
+        assertTrue(page.isBackward());
+        assertEquals(new Document("createdAt", 1).append("_id", 1), query.getSortObject());
+    }
+
+    @DisplayName("Given a first keyset page without sort, the query should be ordered by _id only")
+    @Test
+    void buildKeysetQuery_firstPageById() {
+        //Given
+        KeysetPage page = KeysetPage.first(null, false, 10);
+
+        //When
+        Query query = MongoQueryBuilder.buildKeysetQuery(Map.of("filter[campo]", "valor"), Optional.empty(), page, "name");
 
-}
\ No newline at end of file
+        //Then
+        assertEquals(new Document("_id", 1), query.getSortObject());
+        assertEquals(new Document("campo", "valor"), query.getQueryObject());
+    }
+
+    @DisplayName("Given a keyset sort field that is an operator or a dotted path, no query should be built")
+    @Test
+    void buildKeysetQuery_rejectsInvalidSortField() {
+        //When / Then
+        assertThrows(IllegalArgumentException.class, () -> MongoQueryBuilder.buildKeysetQuery(
+                Map.of(), Optional.empty(), KeysetPage.first("$where", false, 10), "name"));
+        assertThrows(IllegalArgumentException.class, () -> MongoQueryBuilder.buildKeysetQuery(
+                Map.of(), Optional.empty(), KeysetPage.first("owner.secret", false, 10), "name"));
+    }
+
+    @DisplayName("Given a search term with regex metacharacters, the legacy search should match it literally")
+    @Test
+    void buildQuery_searchIsEscaped() {
+        //Given
+        Optional<String> search = Optional.of("a.*(b");
+
+        //When
+        Query query = MongoQueryBuilder.buildQuery(Map.of(), search);
+
+        //Then
+        var pattern = (Pattern) query.getQueryObject().get("name");
+        assertEquals("a\\.\\*\\(b", pattern.pattern());
+    }
+
+    @DisplayName("Given a shadow field strategy, the search should be an anchored prefix on the normalized term")
+    @Test
+    void buildQuery_shadowPrefixSearch() {
+        //Given
+        SearchStrategy strategy = SearchStrategy.shadowPrefix("nameSearch");
+
+        //When
+        Query query = MongoQueryBuilder.buildQuery(Map.of(), Optional.of("  Ciclistas Álava"), strategy);
+
+        //Then
+        var pattern = (Pattern) query.getQueryObject().get("nameSearch");
+        assertEquals("^ciclistas alava", pattern.pattern());
+        assertEquals(0, pattern.flags() & Pattern.CASE_INSENSITIVE);
+    }
+}
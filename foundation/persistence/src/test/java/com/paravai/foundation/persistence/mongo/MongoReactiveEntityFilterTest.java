@@ -0,0 +1,162 @@
+package com.paravai.foundation.persistence.mongo;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.aggregation.TypeBasedAggregationOperationContext;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class MongoReactiveEntityFilterTest {
+
+    private final ReactiveMongoTemplate template = mock(ReactiveMongoTemplate.class);
+
+    private MappingMongoConverter converter;
+    private MongoReactiveEntityFilter<String, Item> filter;
+
+    @BeforeEach
+    void setUp() {
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+        converter.afterPropertiesSet();
+        when(template.getConverter()).thenReturn(converter);
+
+        filter = new MongoReactiveEntityFilter<>(template, Item.class, item -> item.id, "name");
+    }
+
+    @DisplayName("Given a keyset sort on a field the document does not have, the page should fail without querying")
+    @Test
+    void findKeysetPage_unknownSortField() {
+        //Given
+        KeysetPage page = KeysetPage.first("password", false, 2);
+
+        //When / Then
+        assertThrows(IllegalArgumentException.class,
+                () -> filter.findKeysetPage(Map.of(), Optional.empty(), page).block());
+        verify(template, never()).find(any(Query.class), eq(Item.class));
+    }
+
+    @DisplayName("Given a keyset sort on a document field, the page should read one extra row to tell whether more follow")
+    @Test
+    void findKeysetPage_extraRowMeansMore() {
+        //Given
+        when(template.find(any(Query.class), eq(Item.class)))
+                .thenReturn(Flux.just(new Item("a", "alpha"), new Item("b", "beta"), new Item("c", "gamma")));
+
+        //When
+        PagedResult<String> result = filter.findKeysetPage(Map.of(), Optional.empty(),
+                KeysetPage.after("name", false, "aa", "x", 2)).block();
+
+        //Then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(template).find(query.capture(), eq(Item.class));
+        assertEquals(3, query.getValue().getLimit());
+        assertEquals(List.of("a", "b"), result.content());
+        assertTrue(result.hasMore());
+        assertNull(result.total());
+    }
+
+    @DisplayName("Given a backward keyset page, the rows read in reverse should come back in the client's order")
+    @Test
+    void findKeysetPage_backwardRestoresOrder() {
+        //Given
+        when(template.find(any(Query.class), eq(Item.class)))
+                .thenReturn(Flux.just(new Item("c", "gamma"), new Item("b", "beta")));
+
+        //When
+        PagedResult<String> result = filter.findKeysetPage(Map.of(), Optional.empty(),
+                KeysetPage.before("name", false, "delta", "d", 2)).block();
+
+        //Then
+        assertEquals(List.of("b", "c"), result.content());
+        assertFalse(result.hasMore());
+    }
+
+    @DisplayName("Given a FACET page sorted by a property, the $sort should use the mapped field name like the $match")
+    @Test
+    @SuppressWarnings("unchecked")
+    void findPage_facetMapsSort() {
+        //Given
+        when(template.aggregate(any(TypedAggregation.class), eq(Document.class))).thenReturn(Flux.empty());
+
+        //When
+        filter.findPage(Map.of(), Optional.empty(), Optional.of("id,desc"), 1, 2, PageCountMode.FACET).block();
+
+        //Then
+        ArgumentCaptor<TypedAggregation<Item>> aggregation = ArgumentCaptor.forClass(TypedAggregation.class);
+        verify(template).aggregate(aggregation.capture(), eq(Document.class));
+        List<Document> pipeline = aggregation.getValue().toPipeline(new TypeBasedAggregationOperationContext(
+                Item.class, converter.getMappingContext(), new QueryMapper(converter)));
+
+        Document facet = pipeline.get(1).get("$facet", Document.class);
+        Document sort = facet.getList("data", Document.class).get(0);
+        assertEquals(new Document("$sort", new Document("_id", -1)), sort);
+    }
+
+    @DisplayName("Given a FACET result, the page should carry the total and whether rows follow it")
+    @Test
+    void findPage_facetReadsTotal() {
+        //Given
+        Document result = new Document("data", List.of(
+                new Document("_id", "a").append("name", "alpha"),
+                new Document("_id", "b").append("name", "beta")))
+                .append("total", List.of(new Document("count", 5)));
+        when(template.aggregate(any(TypedAggregation.class), eq(Document.class))).thenReturn(Flux.just(result));
+
+        //When
+        PagedResult<String> page = filter.findPage(Map.of(), Optional.empty(), Optional.empty(), 1, 2,
+                PageCountMode.FACET).block();
+
+        //Then
+        assertEquals(List.of("a", "b"), page.content());
+        assertEquals(5L, page.total());
+        assertTrue(page.hasMore());
+    }
+
+    @DisplayName("Given no FACET result, the page should be empty with a zero total")
+    @Test
+    void findPage_facetEmpty() {
+        //Given
+        when(template.aggregate(any(TypedAggregation.class), eq(Document.class))).thenReturn(Flux.empty());
+
+        //When
+        PagedResult<String> page = filter.findPage(Map.of(), Optional.empty(), Optional.empty(), 1, 2,
+                PageCountMode.FACET).block();
+
+        //Then
+        assertTrue(page.content().isEmpty());
+        assertEquals(0L, page.total());
+        assertFalse(page.hasMore());
+    }
+
+    static class Item {
+        @Id
+        String id;
+        String name;
+
+        Item() {
+        }
+
+        Item(String id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.paravai.foundation.persistence.mongo.bulk;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import com.paravai.foundation.domain.model.BulkWriteReport;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class MongoBulkWriterTest {
+
+    private static final Function<String, RuntimeException> DUPLICATE = item -> new IllegalStateException("duplicate " + item);
+
+    private final ReactiveMongoTemplate template = mock(ReactiveMongoTemplate.class);
+    private final ReactiveBulkOperations ops = mock(ReactiveBulkOperations.class);
+
+    private final MongoBulkWriter writer = new MongoBulkWriter(template, 2);
+
+    @BeforeEach
+    void setUp() {
+        when(template.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), any(Class.class))).thenReturn(ops);
+    }
+
+    @DisplayName("Given a failing item in a later chunk, the failure should carry its index in the submitted list")
+    @Test
+    void insertAll_indexAcrossChunks() {
+        //Given
+        when(ops.execute()).thenReturn(
+                Mono.just(BulkWriteResult.unacknowledged()),
+                Mono.error(driverException(error(11000, 0))));
+
+        //When
+        BulkWriteReport<String> report = insert(List.of("a", "b", "c"));
+
+        //Then
+        assertEquals(List.of("a", "b"), report.written());
+        assertEquals(1, report.failures().size());
+        assertEquals(2, report.failures().get(0).index());
+        assertEquals("c", report.failures().get(0).item());
+    }
+
+    @DisplayName("Given a duplicate key and another write error, only the duplicate should be mapped by onDuplicateKey")
+    @Test
+    void insertAll_duplicateVersusOtherCodes() {
+        //Given
+        when(ops.execute()).thenReturn(Mono.error(driverException(error(11000, 0), error(121, 1))));
+
+        //When
+        BulkWriteReport<String> report = insert(List.of("a", "b"));
+
+        //Then
+        assertTrue(report.written().isEmpty());
+        assertEquals("duplicate a", report.failures().get(0).error().getMessage());
+        assertInstanceOf(DataIntegrityViolationException.class, report.failures().get(1).error());
+        assertEquals(1, report.failures().get(1).index());
+    }
+
+    @DisplayName("Given the write errors translated by Spring, they should be reported like the driver's")
+    @Test
+    void insertAll_springTranslatedErrors() {
+        //Given
+        when(ops.execute()).thenReturn(Mono.error(
+                new BulkOperationException("bulk failed", driverException(error(11000, 1)))));
+
+        //When
+        BulkWriteReport<String> report = insert(List.of("a", "b"));
+
+        //Then
+        assertEquals(List.of("a"), report.written());
+        assertEquals("duplicate b", report.failures().get(0).error().getMessage());
+    }
+
+    @DisplayName("Given a chunk failing without per-item errors, the whole write should fail")
+    @Test
+    void insertAll_chunkFailure() {
+        //Given
+        when(ops.execute()).thenReturn(Mono.error(new DataAccessResourceFailureException("connection reset")));
+
+        //When / Then
+        assertThrows(DataAccessResourceFailureException.class, () -> insert(List.of("a")));
+    }
+
+    @DisplayName("Given items to upsert, each should be sent as an upsert on its _id")
+    @Test
+    void upsertAll_upsertPerItem() {
+        //Given
+        when(ops.execute()).thenReturn(Mono.just(BulkWriteResult.unacknowledged()));
+
+        //When
+        BulkWriteReport<String> report = writer.upsertAll(List.of("a", "b"), Object.class,
+                item -> item, item -> new Update().set("name", item), DUPLICATE, chunk -> chunk).block();
+
+        //Then
+        assertEquals(List.of("a", "b"), report.written());
+        verify(ops).upsert(any(Query.class), eq(new Update().set("name", "a")));
+        verify(ops).upsert(any(Query.class), eq(new Update().set("name", "b")));
+    }
+
+    @DisplayName("Given keys that already exist, insertAllIfAbsent should report only the upserted items as written")
+    @Test
+    void insertAllIfAbsent_writtenOnlyUpserted() {
+        //Given
+        when(ops.execute()).thenReturn(Mono.just(upserts(1)));
+
+        //When
+        BulkWriteReport<String> report = insertIfAbsent(List.of("a", "b"));
+
+        //Then
+        assertEquals(List.of("b"), report.written());
+        assertTrue(report.failures().isEmpty());
+        verify(ops).upsert(any(Query.class), eq(new Update().setOnInsert("name", "a")));
+    }
+
+    @DisplayName("Given a racing duplicate, insertAllIfAbsent should report it as a failure and keep the other upserts")
+    @Test
+    void insertAllIfAbsent_racingDuplicate() {
+        //Given
+        when(ops.execute()).thenReturn(Mono.error(new MongoBulkWriteException(upserts(0), List.of(error(11000, 1)),
+                null, new ServerAddress(), Set.of())));
+
+        //When
+        BulkWriteReport<String> report = insertIfAbsent(List.of("a", "b"));
+
+        //Then
+        assertEquals(List.of("a"), report.written());
+        assertEquals("duplicate b", report.failures().get(0).error().getMessage());
+    }
+
+    @DisplayName("Given the driver exception, Spring's BulkOperationException or a translated cause, the write errors should be found")
+    @Test
+    void writeErrors_driverAndSpring() {
+        //Given
+        MongoBulkWriteException driver = driverException(error(11000, 3));
+
+        //When / Then
+        assertEquals(3, MongoBulkWriter.writeErrors(driver).get(0).getIndex());
+        assertEquals(3, MongoBulkWriter.writeErrors(new BulkOperationException("bulk", driver)).get(0).getIndex());
+        assertEquals(3, MongoBulkWriter.writeErrors(new DuplicateKeyException("dup", driver)).get(0).getIndex());
+        assertNull(MongoBulkWriter.writeErrors(new IllegalStateException("other")));
+    }
+
+    private BulkWriteReport<String> insert(List<String> items) {
+        return writer.insertAll(items, Object.class, item -> item, DUPLICATE, chunk -> chunk).block();
+    }
+
+    private BulkWriteReport<String> insertIfAbsent(List<String> items) {
+        return writer.insertAllIfAbsent(items, Object.class, item -> Query.query(Criteria.where("key").is(item)),
+                item -> new Update().setOnInsert("name", item), DUPLICATE, chunk -> chunk).block();
+    }
+
+    private static BulkWriteResult upserts(int... indexes) {
+        List<BulkWriteUpsert> upserts = new ArrayList<>();
+        for (int index : indexes) {
+            upserts.add(new BulkWriteUpsert(index, new BsonString("id-" + index)));
+        }
+        return BulkWriteResult.acknowledged(0, 0, 0, 0, upserts, List.of());
+    }
+
+    private static BulkWriteError error(int code, int index) {
+        return new BulkWriteError(code, "code " + code, new BsonDocument(), index);
+    }
+
+    private static MongoBulkWriteException driverException(BulkWriteError... errors) {
+        return new MongoBulkWriteException(BulkWriteResult.unacknowledged(), List.of(errors), null,
+                new ServerAddress(), Set.of());
+    }
+}
@@ -0,0 +1,83 @@
+package com.paravai.foundation.persistence.mongo.outbox;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveMongoOutboxStoreTest {
+
+    private static final Duration BASE = Duration.ofSeconds(1);
+    private static final Duration MAX = Duration.ofSeconds(60);
+
+    @DisplayName("Given the first failed attempt, the backoff should be the base delay")
+    @Test
+    void backoff_firstAttempt() {
+        assertEquals(BASE, ReactiveMongoOutboxStore.backoff(1, BASE, MAX));
+    }
+
+    @DisplayName("Given consecutive failed attempts, the backoff should double")
+    @Test
+    void backoff_doubles() {
+        assertEquals(Duration.ofSeconds(2), ReactiveMongoOutboxStore.backoff(2, BASE, MAX));
+        assertEquals(Duration.ofSeconds(8), ReactiveMongoOutboxStore.backoff(4, BASE, MAX));
+    }
+
+    @DisplayName("Given many failed attempts, the backoff should be capped")
+    @Test
+    void backoff_capped() {
+        assertEquals(MAX, ReactiveMongoOutboxStore.backoff(50, BASE, MAX));
+    }
+
+    @DisplayName("Given an older message of the same key waiting for a retry, the later due ones should be held back")
+    @Test
+    void inKeyOrder_holdsBackLaterMessagesOfWaitingKey() {
+        //Given
+        Instant t0 = Instant.parse("2026-01-01T00:00:00Z");
+        List<OutboxMessageDocument> due = List.of(
+                message("e2", "c1", t0.plusSeconds(2)),
+                message("e3", "c2", t0.plusSeconds(3)),
+                message("e4", "c1", t0.plusSeconds(4)));
+        List<OutboxMessageDocument> waiting = List.of(message("e1", "c1", t0.plusSeconds(1)));
+
+        //When
+        List<String> claimable = ReactiveMongoOutboxStore.inKeyOrder(due, waiting);
+
+        //Then
+        assertEquals(List.of("e3"), claimable);
+    }
+
+    @DisplayName("Given a waiting message newer than the due ones of its key, the due ones should stay claimable")
+    @Test
+    void inKeyOrder_keepsOlderMessages() {
+        //Given
+        Instant t0 = Instant.parse("2026-01-01T00:00:00Z");
+        List<OutboxMessageDocument> due = List.of(message("e1", "c1", t0.plusSeconds(1)));
+        List<OutboxMessageDocument> waiting = List.of(message("e2", "c1", t0.plusSeconds(2)));
+
+        //When / Then
+        assertEquals(List.of("e1"), ReactiveMongoOutboxStore.inKeyOrder(due, waiting));
+    }
+
+    @DisplayName("A new outbox message should be pending and due immediately")
+    @Test
+    void pending_isDueImmediately() {
+        OutboxMessageDocument d = OutboxMessageDocument.pending("e1:schema", "k", "Community.CREATED", "schema", "{}");
+
+        assertEquals(OutboxMessageDocument.STATUS_PENDING, d.getStatus());
+        assertEquals(0, d.getAttempts());
+        assertEquals(d.getCreatedAt(), d.getNextAttemptAt());
+        assertNull(d.getClaimToken());
+        assertNull(d.getPublishedAt());
+    }
+
+    private static OutboxMessageDocument message(String id, String key, Instant createdAt) {
+        OutboxMessageDocument d = OutboxMessageDocument.pending(id, key, "Community.UPDATED", "schema", "{}");
+        d.setCreatedAt(createdAt);
+        return d;
+    }
+}
@@ -0,0 +1,138 @@
+package com.paravai.foundation.persistence.mongo.update;
+
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class MongoPartialUpdaterTest {
+
+    private final ReactiveMongoTemplate template = mock(ReactiveMongoTemplate.class);
+    private final Map<Object, Document> collection = new HashMap<>();
+
+    private MongoPartialUpdater updater;
+
+    @BeforeEach
+    void setUp() {
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+        converter.afterPropertiesSet();
+        when(template.getConverter()).thenReturn(converter);
+
+        // A one-collection stand-in for Mongo: enough of upsert / updateFirst to exercise the revision guard
+        when(template.upsert(any(Query.class), any(UpdateDefinition.class), any(Class.class))).thenAnswer(inv -> {
+            Object id = ((Query) inv.getArgument(0)).getQueryObject().get("_id");
+            Document stored = collection.computeIfAbsent(id, k -> new Document("_id", k));
+            apply(stored, inv.getArgument(1));
+            return Mono.just(UpdateResult.acknowledged(1, 1L, null));
+        });
+        when(template.updateFirst(any(Query.class), any(UpdateDefinition.class), any(Class.class))).thenAnswer(inv -> {
+            Document query = ((Query) inv.getArgument(0)).getQueryObject();
+            Document stored = collection.get(query.get("_id"));
+            if (stored == null || !revisionMatches(query, stored)) {
+                return Mono.just(UpdateResult.acknowledged(0, 0L, null));
+            }
+            apply(stored, inv.getArgument(1));
+            return Mono.just(UpdateResult.acknowledged(1, 1L, null));
+        });
+
+        updater = new MongoPartialUpdater(template);
+    }
+
+    @DisplayName("Given a stored revision, a full overwrite should keep it moving forward and clear the missing fields")
+    @Test
+    void overwrite_keepsRevision() {
+        //Given
+        collection.put("i1", new Document("_id", "i1").append("name", "a").append("note", "old").append("revision", 3L));
+
+        //When
+        updater.overwrite(Item.class, "i1", "revision", new Item("i1", "b", null)).block();
+
+        //Then
+        Document stored = collection.get("i1");
+        assertEquals("b", stored.get("name"));
+        assertFalse(stored.containsKey("note"));
+        assertEquals(4L, stored.get("revision"));
+    }
+
+    @DisplayName("Given an update that read the document before a full save, it should fail its guard instead of overwriting")
+    @Test
+    void overwriteThenUpdate_keepsGuard() {
+        //Given
+        collection.put("i1", new Document("_id", "i1").append("name", "a").append("revision", 3L));
+        Item read = new Item("i1", "a", null);
+
+        //When
+        updater.overwrite(Item.class, "i1", "revision", new Item("i1", "b", null)).block();
+
+        //Then
+        assertThrows(OptimisticLockingFailureException.class, () ->
+                updater.update(Item.class, "i1", "revision", 3L, read, new Item("i1", "a", "stale")).block());
+        assertEquals(MongoPartialUpdater.Outcome.UPDATED,
+                updater.update(Item.class, "i1", "revision", 4L, new Item("i1", "b", null), new Item("i1", "b", "fresh")).block());
+        assertEquals("fresh", collection.get("i1").get("note"));
+        assertEquals(5L, collection.get("i1").get("revision"));
+    }
+
+    @DisplayName("Given a missing document, a full overwrite should insert it at revision 1")
+    @Test
+    void overwrite_insertsMissing() {
+        //When
+        updater.overwrite(Item.class, "i1", "revision", new Item("i1", "a", null)).block();
+
+        //Then
+        assertEquals("a", collection.get("i1").get("name"));
+        assertEquals(1L, collection.get("i1").get("revision"));
+    }
+
+    private static void apply(Document stored, UpdateDefinition update) {
+        Document object = update.getUpdateObject();
+        Document set = object.get("$set", Document.class);
+        if (set != null) stored.putAll(set);
+        Document unset = object.get("$unset", Document.class);
+        if (unset != null) unset.keySet().forEach(stored::remove);
+        Document inc = object.get("$inc", Document.class);
+        if (inc != null) inc.forEach((field, by) ->
+                stored.put(field, ((Number) stored.getOrDefault(field, 0L)).longValue() + ((Number) by).longValue()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean revisionMatches(Document query, Document stored) {
+        Document criterion = ((List<Document>) query.get("$and")).get(0);
+        long revision = ((Number) stored.getOrDefault("revision", 0L)).longValue();
+        return criterion.containsKey("$or")
+                ? revision == 0
+                : revision == ((Number) criterion.get("revision")).longValue();
+    }
+
+    static class Item {
+        @Id
+        String id;
+        String name;
+        String note;
+        long revision;
+
+        Item(String id, String name, String note) {
+            this.id = id;
+            this.name = name;
+            this.note = note;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.paravai.foundation.persistence.mongo.update;
+
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PartialUpdateTest {
+
+    @DisplayName("Given equal documents, the update should be empty")
+    @Test
+    void diff_equal() {
+        //Given
+        Document before = new Document("_id", "1").append("name", "a").append("tags", List.of("x"));
+        Document after = new Document("_id", "1").append("name", "a").append("tags", List.of("x"));
+
+        //When
+        Update update = PartialUpdate.diff(before, after, Set.of());
+
+        //Then
+        assertTrue(PartialUpdate.isEmpty(update));
+    }
+
+    @DisplayName("Given changed, added and removed fields, only those should be set or unset")
+    @Test
+    void diff_changedFieldsOnly() {
+        //Given
+        Document before = new Document("_id", "1")
+                .append("name", "a")
+                .append("visibilityCode", "PUBLIC")
+                .append("description", "old")
+                .append("revision", 3L);
+        Document after = new Document("_id", "1")
+                .append("name", "a")
+                .append("visibilityCode", "PRIVATE")
+                .append("rulesText", "new")
+                .append("revision", 0L);
+
+        //When
+        Document update = PartialUpdate.diff(before, after, Set.of("revision")).getUpdateObject();
+
+        //Then
+        assertEquals(new Document("visibilityCode", "PRIVATE").append("rulesText", "new"), update.get("$set"));
+        assertEquals(Set.of("description"), ((Document) update.get("$unset")).keySet());
+    }
+
+    @DisplayName("Given a field becoming null, it should be unset")
+    @Test
+    void diff_nullUnset() {
+        //Given
+        Document before = new Document("_id", "1").append("archivedAt", "2024-01-01");
+        Document after = new Document("_id", "1").append("archivedAt", null);
+
+        //When
+        Document update = PartialUpdate.diff(before, after, Set.of()).getUpdateObject();
+
+        //Then
+        assertNull(update.get("$set"));
+        assertEquals(Set.of("archivedAt"), ((Document) update.get("$unset")).keySet());
+    }
+
+    @DisplayName("Given a full document, the overwrite should set its values and unset the missing fields but the ignored ones")
+    @Test
+    void overwrite_setsPresentUnsetsMissing() {
+        //Given
+        Document document = new Document("_id", "1")
+                .append("name", "a")
+                .append("description", null)
+                .append("revision", 0L);
+
+        //When
+        Document update = PartialUpdate.overwrite(document,
+                List.of("_id", "name", "description", "rulesText", "revision"), Set.of("revision")).getUpdateObject();
+
+        //Then
+        assertEquals(new Document("name", "a"), update.get("$set"));
+        assertEquals(Set.of("description", "rulesText"), ((Document) update.get("$unset")).keySet());
+    }
+}
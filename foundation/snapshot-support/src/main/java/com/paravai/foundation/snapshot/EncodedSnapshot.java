@@ -0,0 +1,169 @@
+package com.paravai.foundation.snapshot;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.node.POJONode;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Canonical aggregate payload, JSON-encoded exactly once.
+ *
+ * Holds the typed payload (for in-process consumers) next to its UTF-8 JSON bytes.
+ * Wherever it is serialized by Jackson (directly, or through the JsonNode returned by
+ * {@link #asNode()}), the pre-encoded bytes are written as a raw value instead of
+ * walking the payload again, so audit/historization/integration envelopes built from
+ * the same snapshot share one encoding.
+ *
+ * Instances are immutable; the byte array is never exposed.
+ */
+public final class EncodedSnapshot<P> implements JsonSerializable {
+
+    private final P payload;
+    private final RawJson json;
+
+    private EncodedSnapshot(P payload, byte[] utf8) {
+        this.payload = payload;
+        this.json = new RawJson(utf8);
+    }
+
+    public static <P> EncodedSnapshot<P> encode(ObjectMapper objectMapper, P payload) {
+        Objects.requireNonNull(objectMapper, "objectMapper");
+        Objects.requireNonNull(payload, "payload");
+        try {
+            return new EncodedSnapshot<>(payload, objectMapper.writeValueAsBytes(payload));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException(
+                    "Cannot encode snapshot payload of type " + payload.getClass().getName(), ex);
+        }
+    }
+
+    /**
+     * Returns the encoded snapshot carried by a node produced by {@link #asNode()},
+     * if its payload is of the requested type.
+     */
+    public static <P> Optional<EncodedSnapshot<P>> from(JsonNode node, Class<P> payloadType) {
+        if (node instanceof POJONode pojo
+                && pojo.getPojo() instanceof EncodedSnapshot<?> encoded
+                && payloadType.isInstance(encoded.payload)) {
+            @SuppressWarnings("unchecked")
+            EncodedSnapshot<P> typed = (EncodedSnapshot<P>) encoded;
+            return Optional.of(typed);
+        }
+        return Optional.empty();
+    }
+
+    public P payload() {
+        return payload;
+    }
+
+    public int size() {
+        return json.utf8.length;
+    }
+
+    /**
+     * JsonNode view for APIs typed on JsonNode (e.g. EntityChangedEvent states).
+     * It serializes as the pre-encoded bytes; it is not meant for field navigation.
+     */
+    public JsonNode asNode() {
+        return new POJONode(this);
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeRawValue(json);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen,
+                                  SerializerProvider serializers,
+                                  TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+
+    @Override
+    public String toString() {
+        return json.getValue();
+    }
+
+    // ---- raw value ----
+
+    /**
+     * SerializableString over pre-encoded UTF-8: byte-based generators copy the bytes,
+     * char-based ones (writeValueAsString) decode them once.
+     */
+    private static final class RawJson implements SerializableString {
+
+        private final byte[] utf8;
+        private volatile SerializedString text;
+
+        private RawJson(byte[] utf8) {
+            this.utf8 = utf8;
+        }
+
+        private SerializedString text() {
+            SerializedString t = text;
+            if (t == null) {
+                t = new SerializedString(new String(utf8, StandardCharsets.UTF_8));
+                text = t;
+            }
+            return t;
+        }
+
+        @Override public String getValue() { return text().getValue(); }
+        @Override public int charLength() { return text().charLength(); }
+
+        @Override public char[] asQuotedChars() { return text().asQuotedChars(); }
+        @Override public byte[] asQuotedUTF8() { return text().asQuotedUTF8(); }
+        @Override public int appendQuotedUTF8(byte[] buffer, int offset) { return text().appendQuotedUTF8(buffer, offset); }
+        @Override public int appendQuoted(char[] buffer, int offset) { return text().appendQuoted(buffer, offset); }
+        @Override public int writeQuotedUTF8(OutputStream out) throws IOException { return text().writeQuotedUTF8(out); }
+        @Override public int putQuotedUTF8(ByteBuffer buffer) throws IOException { return text().putQuotedUTF8(buffer); }
+
+        @Override
+        public byte[] asUnquotedUTF8() {
+            return utf8;
+        }
+
+        @Override
+        public int appendUnquotedUTF8(byte[] buffer, int offset) {
+            if (offset + utf8.length > buffer.length) {
+                return -1;
+            }
+            System.arraycopy(utf8, 0, buffer, offset, utf8.length);
+            return utf8.length;
+        }
+
+        @Override
+        public int appendUnquoted(char[] buffer, int offset) {
+            return text().appendUnquoted(buffer, offset);
+        }
+
+        @Override
+        public int writeUnquotedUTF8(OutputStream out) throws IOException {
+            out.write(utf8);
+            return utf8.length;
+        }
+
+        @Override
+        public int putUnquotedUTF8(ByteBuffer buffer) throws IOException {
+            if (utf8.length > buffer.remaining()) {
+                return -1;
+            }
+            buffer.put(utf8);
+            return utf8.length;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.paravai.foundation.snapshot;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Objects;
+
+/**
+ * SnapshotMapper whose snapshot is the canonical payload P, encoded once.
+ *
+ * toSnapshot() returns a node backed by an {@link EncodedSnapshot}: envelope mappers can
+ * take the typed payload back with {@link EncodedSnapshot#from} instead of parsing a tree,
+ * and every envelope embedding the node re-uses the same bytes.
+ */
+public abstract class EncodedSnapshotMapper<T, P> implements SnapshotMapper<T> {
+
+    private final ObjectMapper objectMapper;
+
+    protected EncodedSnapshotMapper(ObjectMapper objectMapper) {
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
+    }
+
+    protected abstract P toPayload(T aggregate);
+
+    public EncodedSnapshot<P> encode(T aggregate) {
+        return EncodedSnapshot.encode(objectMapper, toPayload(aggregate));
+    }
+
+    @Override
+    public JsonNode toSnapshot(T aggregate) {
+        return encode(aggregate).asNode();
+    }
+}
@@ -0,0 +1,53 @@
+package com.paravai.foundation.snapshot;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EncodedSnapshotTest {
+
+    record Payload(String id, String name, List<String> tags) {}
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DisplayName("Given an encoded snapshot node embedded in a document, bytes and string output match the payload JSON")
+    @Test
+    void serialize_embedded() throws Exception {
+        //Given
+        Payload payload = new Payload("c-1", "Ñandú \"club\"", List.of("a", "b"));
+        JsonNode node = EncodedSnapshot.encode(objectMapper, payload).asNode();
+        Map<String, Object> document = Map.of("snapshot", node);
+
+        //When
+        byte[] bytes = objectMapper.writeValueAsBytes(document);
+        String text = objectMapper.writeValueAsString(document);
+
+        //Then
+        String expected = "{\"snapshot\":" + objectMapper.writeValueAsString(payload) + "}";
+        assertEquals(expected, new String(bytes, StandardCharsets.UTF_8));
+        assertEquals(expected, text);
+        assertEquals(payload, objectMapper.readValue(bytes, Wrapper.class).snapshot());
+    }
+
+    @DisplayName("Given a node from asNode(), from() returns the typed payload only for a matching type")
+    @Test
+    void from_typed() {
+        //Given
+        Payload payload = new Payload("c-1", "name", List.of());
+        JsonNode node = EncodedSnapshot.encode(objectMapper, payload).asNode();
+
+        //When / Then
+        assertSame(payload, EncodedSnapshot.from(node, Payload.class).orElseThrow().payload());
+        assertTrue(EncodedSnapshot.from(node, String.class).isEmpty());
+        assertTrue(EncodedSnapshot.from(objectMapper.valueToTree(payload), Payload.class).isEmpty());
+    }
+
+    record Wrapper(Payload snapshot) {}
+}
@@ -1,15 +1,21 @@
 package com.paravai.foundation.viewjsonapi.jsonapi;
 
 import com.paravai.foundation.domain.model.Identifiable;
+import com.paravai.foundation.viewjsonapi.pagination.PageCursor;
+import com.paravai.foundation.viewjsonapi.pagination.PageSlice;
+import com.paravai.foundation.viewjsonapi.pagination.PaginationConstants;
 import com.paravai.foundation.viewjsonapi.pagination.PaginationRequest;
 
 import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 
 public class JsonApiResponseBuilder {
@@ -108,6 +114,159 @@ public class JsonApiResponseBuilder {
                 });
     }
 
+    /**
+     * JSON:API response for a cursor (keyset) page.
+     *
+     * No total is computed. next/prev links carry {@code page[after]} / {@code page[before]}
+     * tokens built from the last/first item through cursorExtractor, which must read the
+     * same sort key the page was requested with. Other query params (filters, sort) are kept.
+     */
+    public static <T> Mono<JsonApiResponse<T>> buildCursorPaginated(Flux<T> dataFlux,
+                                                                    PaginationRequest pagination,
+                                                                    ServerHttpRequest request,
+                                                                    String resourceType,
+                                                                    Function<T, String> idExtractor,
+                                                                    Function<T, PageCursor> cursorExtractor) {
+
+        return dataFlux.collectList()
+                .map(items -> {
+                    int sizeParam = pagination.getSize();
+                    boolean full = items.size() >= sizeParam;
+                    boolean anchored = pagination.getCursor().isPresent();
+
+                    // Reading backwards, the page we came from is always ahead; reading forwards,
+                    // anything before us exists only if we were anchored.
+                    boolean hasNext = !items.isEmpty() && (pagination.isBackward() || full);
+                    boolean hasPrev = !items.isEmpty() && (pagination.isBackward() ? full : anchored);
+
+                    Map<String, String> links = new HashMap<>();
+                    links.put("self", cursorLink(request, sizeParam, null, null));
+                    if (hasNext) {
+                        links.put("next", cursorLink(request, sizeParam,
+                                cursorExtractor.apply(items.get(items.size() - 1)), null));
+                    }
+                    if (hasPrev) {
+                        links.put("prev", cursorLink(request, sizeParam,
+                                null, cursorExtractor.apply(items.get(0))));
+                    }
+
+                    List<JsonApiResource<T>> resourceList = items.stream()
+                            .map(item -> JsonApiResource.<T>builder()
+                                    .id(idExtractor.apply(item))
+                                    .type(resourceType)
+                                    .attributes(item)
+                                    .build())
+                            .toList();
+
+                    return JsonApiResponse.<T>builder()
+                            .data(resourceList)
+                            .meta(Map.of("size", sizeParam))
+                            .links(links)
+                            .build();
+                });
+    }
+
+    /**
+     * JSON:API response for a page fetched in a single round trip ({@link PageSlice}).
+     *
+     * Meta and links follow what the slice knows:
+     * - offset with total: page, size, totalElements, totalPages (as {@link #buildPaginated}).
+     * - offset without total: page, size, hasNext.
+     * - cursor: size, hasNext; next/prev links carry cursors from cursorExtractor.
+     *
+     * cursorExtractor is only used in cursor mode and may be null otherwise.
+     */
+    public static <T> Mono<JsonApiResponse<T>> buildPage(Mono<PageSlice<T>> pageMono,
+                                                         PaginationRequest pagination,
+                                                         ServerHttpRequest request,
+                                                         String resourceType,
+                                                         Function<T, String> idExtractor,
+                                                         Function<T, PageCursor> cursorExtractor) {
+
+        return pageMono.map(slice -> {
+            List<T> items = slice.items();
+            int sizeParam = pagination.getSize();
+
+            Map<String, String> links = new HashMap<>();
+            Map<String, Object> meta = new LinkedHashMap<>();
+
+            if (pagination.isCursorMode()) {
+                Objects.requireNonNull(cursorExtractor, "cursorExtractor");
+                links.put("self", cursorLink(request, sizeParam, null, null));
+                if (slice.hasNext()) {
+                    links.put("next", cursorLink(request, sizeParam,
+                            cursorExtractor.apply(items.get(items.size() - 1)), null));
+                }
+                if (slice.hasPrevious()) {
+                    links.put("prev", cursorLink(request, sizeParam,
+                            null, cursorExtractor.apply(items.get(0))));
+                }
+                meta.put("size", sizeParam);
+            } else {
+                int currentPage = pagination.getPage();
+                links.put("self", pageLink(request, currentPage, sizeParam));
+                if (slice.hasNext()) {
+                    links.put("next", pageLink(request, currentPage + 1, sizeParam));
+                }
+                if (slice.hasPrevious()) {
+                    links.put("prev", pageLink(request, currentPage - 1, sizeParam));
+                }
+                meta.put("page", currentPage);
+                meta.put("size", sizeParam);
+            }
+
+            slice.getTotalElements().ifPresentOrElse(
+                    total -> {
+                        meta.put("totalElements", total);
+                        meta.put("totalPages", (int) Math.ceil((double) total / sizeParam));
+                    },
+                    () -> meta.put("hasNext", slice.hasNext()));
+
+            List<JsonApiResource<T>> resourceList = items.stream()
+                    .map(item -> JsonApiResource.<T>builder()
+                            .id(idExtractor.apply(item))
+                            .type(resourceType)
+                            .attributes(item)
+                            .build())
+                    .toList();
+
+            return JsonApiResponse.<T>builder()
+                    .data(resourceList)
+                    .meta(meta)
+                    .links(links)
+                    .build();
+        });
+    }
+
+    private static String pageLink(ServerHttpRequest request, int page, int size) {
+        return UriComponentsBuilder.fromPath(request.getURI().getPath())
+                .query(request.getURI().getRawQuery())
+                .replaceQueryParam(PaginationConstants.PARAM_PAGE, page)
+                .replaceQueryParam(PaginationConstants.PARAM_SIZE, size)
+                .build()
+                .toUriString();
+    }
+
+    /**
+     * Same path and query as the request, with the cursor params replaced.
+     * With both cursors null the current cursor (if any) is kept: that is the self link.
+     */
+    private static String cursorLink(ServerHttpRequest request, int size, PageCursor after, PageCursor before) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromPath(request.getURI().getPath())
+                .query(request.getURI().getRawQuery())
+                .replaceQueryParam(PaginationConstants.PARAM_PAGE)
+                .replaceQueryParam(PaginationConstants.PARAM_SIZE, size);
+
+        if (after != null) {
+            builder.replaceQueryParam(PaginationConstants.PARAM_BEFORE)
+                    .replaceQueryParam(PaginationConstants.PARAM_AFTER, after.encode());
+        } else if (before != null) {
+            builder.replaceQueryParam(PaginationConstants.PARAM_AFTER)
+                    .replaceQueryParam(PaginationConstants.PARAM_BEFORE, before.encode());
+        }
+        return builder.build().toUriString();
+    }
+
     public static <T> Mono<JsonApiResponse<T>> buildUnpaginated(
             Mono<List<T>> itemsMono,
             ServerHttpRequest request,
@@ -0,0 +1,153 @@
+package com.paravai.foundation.viewjsonapi.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * Opaque keyset position used by {@code page[after]} / {@code page[before]}.
+ *
+ * Holds the value of the (single) sort key of the boundary item plus its id, which is the
+ * tie-breaker. The value keeps its type (string, integer, decimal, boolean, instant) so the
+ * persistence layer can build a range predicate the index can serve.
+ *
+ * Tokens are Base64 URL-safe; clients must treat them as opaque.
+ */
+public final class PageCursor {
+
+    private static final char SEPARATOR = '\u001F';
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final String sortField;
+    private final Object sortValue;
+    private final String id;
+
+    private PageCursor(String sortField, Object sortValue, String id) {
+        this.sortField = sortField;
+        this.sortValue = sortValue;
+        this.id = id;
+    }
+
+    /**
+     * Cursor for an item ordered only by id.
+     */
+    public static PageCursor ofId(String id) {
+        return of(null, null, id);
+    }
+
+    /**
+     * @param sortField sort key name as exposed in {@code sort}; null when sorting by id only.
+     * @param sortValue value of the sort key for the item (String, Number, Boolean, Instant or Date).
+     * @param id        item id.
+     */
+    public static PageCursor of(String sortField, Object sortValue, String id) {
+        if (id == null || id.isBlank()) throw new IllegalArgumentException("cursor id must not be blank");
+        String field = (sortField == null || sortField.isBlank()) ? null : sortField;
+        return new PageCursor(field, field == null ? null : normalize(sortValue), id);
+    }
+
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) throw new IllegalArgumentException("Invalid page cursor");
+
+        String raw;
+        try {
+            raw = new String(DECODER.decode(token.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid page cursor", ex);
+        }
+
+        // type SEP field SEP id SEP value (value last, so it may contain anything)
+        String[] parts = raw.split(String.valueOf(SEPARATOR), 4);
+        if (parts.length != 4 || parts[0].length() != 1 || parts[2].isEmpty()) {
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
+
+        String field = parts[1].isEmpty() ? null : parts[1];
+        try {
+            return new PageCursor(field, parseValue(parts[0].charAt(0), parts[3]), parts[2]);
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid page cursor", ex);
+        }
+    }
+
+    public String encode() {
+        String raw = new StringBuilder()
+                .append(typeOf(sortValue)).append(SEPARATOR)
+                .append(sortField == null ? "" : sortField).append(SEPARATOR)
+                .append(id).append(SEPARATOR)
+                .append(sortValue == null ? "" : sortValue.toString())
+                .toString();
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Sort key name; null when the cursor is positioned by id only. */
+    public String getSortField() {
+        return sortField;
+    }
+
+    /** Typed sort key value (String, Long, Double, Boolean or Instant); may be null. */
+    public Object getSortValue() {
+        return sortValue;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    // ---- typing ----
+
+    private static Object normalize(Object value) {
+        if (value == null) return null;
+        if (value instanceof String || value instanceof Boolean || value instanceof Instant) return value;
+        if (value instanceof Date date) return date.toInstant();
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Number number) return number.doubleValue();
+        return value.toString();
+    }
+
+    private static char typeOf(Object value) {
+        if (value == null) return 'Z';
+        if (value instanceof Long) return 'L';
+        if (value instanceof Double) return 'D';
+        if (value instanceof Boolean) return 'B';
+        if (value instanceof Instant) return 'T';
+        return 'S';
+    }
+
+    private static Object parseValue(char type, String raw) {
+        return switch (type) {
+            case 'Z' -> null;
+            case 'S' -> raw;
+            case 'L' -> Long.valueOf(raw);
+            case 'D' -> Double.valueOf(raw);
+            case 'B' -> Boolean.valueOf(raw);
+            case 'T' -> Instant.parse(raw);
+            default -> throw new IllegalArgumentException("Invalid page cursor");
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PageCursor other)) return false;
+        return Objects.equals(sortField, other.sortField)
+                && Objects.equals(sortValue, other.sortValue)
+                && id.equals(other.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sortField, sortValue, id);
+    }
+
+    @Override
+    public String toString() {
+        return encode();
+    }
+}
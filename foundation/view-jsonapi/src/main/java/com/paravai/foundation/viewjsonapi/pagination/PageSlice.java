@@ -0,0 +1,37 @@
+package com.paravai.foundation.viewjsonapi.pagination;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * One page of a collection as returned by a repository in a single round trip.
+ *
+ * totalElements is only present when the request asked for it
+ * ({@link PaginationRequest#isCountTotal()}); otherwise hasNext comes from reading one
+ * extra row.
+ */
+public record PageSlice<T>(List<T> items, Long totalElements, boolean hasNext, boolean hasPrevious) {
+
+    public PageSlice {
+        items = List.copyOf(Objects.requireNonNull(items, "items"));
+    }
+
+    /**
+     * @param hasMore whether rows exist beyond the page in scan direction; for a
+     *                {@code page[before]} request that is towards the previous page.
+     */
+    public static <T> PageSlice<T> of(List<T> items, Long totalElements, boolean hasMore, PaginationRequest pagination) {
+        if (!pagination.isCursorMode()) {
+            return new PageSlice<>(items, totalElements, hasMore, pagination.getPage() > 1);
+        }
+        if (pagination.isBackward()) {
+            return new PageSlice<>(items, totalElements, !items.isEmpty(), hasMore);
+        }
+        return new PageSlice<>(items, totalElements, hasMore, pagination.getAfter().isPresent() && !items.isEmpty());
+    }
+
+    public Optional<Long> getTotalElements() {
+        return Optional.ofNullable(totalElements);
+    }
+}
@@ -6,6 +6,11 @@ public final class PaginationConstants {
     public static final int DEFAULT_SIZE = 25;
     public static final int MAX_SIZE = 100;
 
+    public static final String PARAM_PAGE = "page";
+    public static final String PARAM_SIZE = "size";
+    public static final String PARAM_AFTER = "page[after]";
+    public static final String PARAM_BEFORE = "page[before]";
+
     private PaginationConstants() {
     }
-}
\ No newline at end of file
+}
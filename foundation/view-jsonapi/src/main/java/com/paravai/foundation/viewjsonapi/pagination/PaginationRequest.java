@@ -1,13 +1,68 @@
 package com.paravai.foundation.viewjsonapi.pagination;
 
+import java.util.Optional;
+
+/**
+ * Page requested by a collection endpoint.
+ *
+ * Two modes:
+ * - offset: page number + size (skip/limit); cost grows with the page number.
+ * - cursor: size + optional {@code page[after]} or {@code page[before]} token (keyset);
+ *   cost stays flat however deep the client scrolls. A cursor request without token
+ *   asks for the first page.
+ */
 public class PaginationRequest {
 
     private final int page;
     private final int size;
+    private final boolean cursorMode;
+    private final PageCursor after;
+    private final PageCursor before;
+    private final boolean countTotal;
 
     public PaginationRequest(Integer page, Integer size) {
-        this.page = (page != null && page >= 1) ? page : PaginationConstants.DEFAULT_PAGE;
-        this.size = (size != null && size >= 1) ? Math.min(size, PaginationConstants.MAX_SIZE) : PaginationConstants.DEFAULT_SIZE;
+        this((page != null && page >= 1) ? page : PaginationConstants.DEFAULT_PAGE,
+                normalizeSize(size), false, null, null, true);
+    }
+
+    private PaginationRequest(int page, int size, boolean cursorMode,
+                              PageCursor after, PageCursor before, boolean countTotal) {
+        this.page = page;
+        this.size = size;
+        this.cursorMode = cursorMode;
+        this.after = after;
+        this.before = before;
+        this.countTotal = countTotal;
+    }
+
+    /**
+     * Cursor (keyset) page. Tokens are the raw {@code page[after]} / {@code page[before]}
+     * values; at most one may be present.
+     *
+     * @throws IllegalArgumentException if both tokens are given or a token is malformed.
+     */
+    public static PaginationRequest cursor(Integer size, String afterToken, String beforeToken) {
+        boolean hasAfter = afterToken != null && !afterToken.isBlank();
+        boolean hasBefore = beforeToken != null && !beforeToken.isBlank();
+        if (hasAfter && hasBefore) {
+            throw new IllegalArgumentException("page[after] and page[before] cannot be combined");
+        }
+        return new PaginationRequest(
+                PaginationConstants.DEFAULT_PAGE,
+                normalizeSize(size),
+                true,
+                hasAfter ? PageCursor.decode(afterToken) : null,
+                hasBefore ? PageCursor.decode(beforeToken) : null,
+                false
+        );
+    }
+
+    /**
+     * Same page without a total: the response only tells whether a next page exists,
+     * which avoids counting every match on large collections.
+     */
+    public PaginationRequest withoutTotal() {
+        return countTotal ? new PaginationRequest(page, size, cursorMode, after, before, false) : this;
     }
 
     public int getPage() {
@@ -21,4 +76,41 @@ public class PaginationRequest {
     public int getZeroBasedPage() {
         return page - 1;
     }
+
+    public boolean isCursorMode() {
+        return cursorMode;
+    }
+
+    /**
+     * Whether the total number of matches is requested. Always false in cursor mode.
+     */
+    public boolean isCountTotal() {
+        return countTotal;
+    }
+
+    public Optional<PageCursor> getAfter() {
+        return Optional.ofNullable(after);
+    }
+
+    public Optional<PageCursor> getBefore() {
+        return Optional.ofNullable(before);
+    }
+
+    /**
+     * Boundary the page is anchored to (after or before), if any.
+     */
+    public Optional<PageCursor> getCursor() {
+        return Optional.ofNullable(after != null ? after : before);
+    }
+
+    /**
+     * True when the page is read backwards from a {@code page[before]} token.
+     */
+    public boolean isBackward() {
+        return before != null;
+    }
+
+    private static int normalizeSize(Integer size) {
+        return (size != null && size >= 1) ? Math.min(size, PaginationConstants.MAX_SIZE) : PaginationConstants.DEFAULT_SIZE;
+    }
 }
@@ -17,6 +17,9 @@ public record SearchQueryValue(
         search  = (search  == null) ? SearchTextValue.EMPTY   : search;
         sort    = (sort    == null) ? SortSpecValue.empty()   : sort;
         Objects.requireNonNull(page, "page must not be null");
+        if (page.isCursorMode()) {
+            validateCursor(sort, page);
+        }
     }
 
     public static SearchQueryValue of(Map<String,String> rawFilters,
@@ -30,4 +33,27 @@ public record SearchQueryValue(
                 page
         );
     }
+
+    /**
+     * Keyset sort key (first and only sort field), or null when ordering by id only.
+     */
+    public SortSpecValue.SortFieldValue keysetSort() {
+        return sort.isEmpty() ? null : sort.fields().get(0);
+    }
+
+    /**
+     * A keyset page is ordered by one sort key plus id, and a cursor is only meaningful
+     * for the sort it was issued under.
+     */
+    private static void validateCursor(SortSpecValue sort, PaginationRequest page) {
+        if (sort.fields().size() > 1) {
+            throw new IllegalArgumentException("Cursor pagination supports a single sort field");
+        }
+        String sortField = sort.isEmpty() ? null : sort.fields().get(0).field();
+        page.getCursor().ifPresent(cursor -> {
+            if (!Objects.equals(sortField, cursor.getSortField())) {
+                throw new IllegalArgumentException("Page cursor does not match the requested sort");
+            }
+        });
+    }
 }
@@ -0,0 +1,88 @@
+package com.paravai.foundation.viewjsonapi.jsonapi;
+
+import com.paravai.foundation.viewjsonapi.pagination.PageCursor;
+import com.paravai.foundation.viewjsonapi.pagination.PageSlice;
+import com.paravai.foundation.viewjsonapi.pagination.PaginationRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JsonApiResponseBuilderTest {
+
+    private final ServerHttpRequest request = mock(ServerHttpRequest.class);
+
+    @DisplayName("Given an offset slice with a total, the response should carry the totals and keep the other query params in the links")
+    @Test
+    void buildPage_offsetWithTotal() {
+        //Given
+        when(request.getURI()).thenReturn(URI.create("/items?page=2&size=2&sort=name,asc"));
+        PaginationRequest pagination = new PaginationRequest(2, 2);
+        PageSlice<String> slice = PageSlice.of(List.of("c", "d"), 5L, true, pagination);
+
+        //When
+        JsonApiResponse<String> response = build(slice, pagination, null);
+
+        //Then
+        assertEquals(List.of("c", "d"), response.getData().stream().map(JsonApiResource::getId).toList());
+        assertEquals(2, response.getMeta().get("page"));
+        assertEquals(5L, response.getMeta().get("totalElements"));
+        assertEquals(3, response.getMeta().get("totalPages"));
+        assertFalse(response.getMeta().containsKey("hasNext"));
+        assertEquals("/items?sort=name,asc&page=3&size=2", response.getLinks().get("next"));
+        assertEquals("/items?sort=name,asc&page=1&size=2", response.getLinks().get("prev"));
+    }
+
+    @DisplayName("Given an offset slice without a total, the response should only tell whether a next page exists")
+    @Test
+    void buildPage_offsetWithoutTotal() {
+        //Given
+        when(request.getURI()).thenReturn(URI.create("/items?page=1&size=2"));
+        PaginationRequest pagination = new PaginationRequest(1, 2).withoutTotal();
+        PageSlice<String> slice = PageSlice.of(List.of("a", "b"), null, false, pagination);
+
+        //When
+        JsonApiResponse<String> response = build(slice, pagination, null);
+
+        //Then
+        assertEquals(false, response.getMeta().get("hasNext"));
+        assertFalse(response.getMeta().containsKey("totalElements"));
+        assertFalse(response.getLinks().containsKey("next"));
+        assertFalse(response.getLinks().containsKey("prev"));
+    }
+
+    @DisplayName("Given a cursor slice, the next link should carry the cursor of the last item and drop the page param")
+    @Test
+    void buildPage_cursor() {
+        //Given
+        when(request.getURI()).thenReturn(URI.create("/items?size=2"));
+        PaginationRequest pagination = PaginationRequest.cursor(2, null, null);
+        PageSlice<String> slice = PageSlice.of(List.of("a", "b"), null, true, pagination);
+
+        //When
+        JsonApiResponse<String> response = build(slice, pagination, PageCursor::ofId);
+
+        //Then
+        String next = response.getLinks().get("next");
+        assertTrue(next.contains("page[after]=" + PageCursor.ofId("b").encode()), next);
+        assertFalse(next.contains("page=1"), next);
+        assertFalse(response.getLinks().containsKey("prev"));
+        assertEquals(2, response.getMeta().get("size"));
+        assertEquals(true, response.getMeta().get("hasNext"));
+        assertFalse(response.getMeta().containsKey("page"));
+    }
+
+    private JsonApiResponse<String> build(PageSlice<String> slice,
+                                          PaginationRequest pagination,
+                                          Function<String, PageCursor> cursorExtractor) {
+        return JsonApiResponseBuilder.buildPage(Mono.just(slice), pagination, request, "items",
+                Function.identity(), cursorExtractor).block();
+    }
+}
@@ -0,0 +1,88 @@
+package com.paravai.foundation.viewjsonapi.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageCursorTest {
+
+    @DisplayName("Given a cursor on an instant sort key, decoding its token should give back the same typed value")
+    @Test
+    void encode_roundTripsTypedValue() {
+        //Given
+        Instant createdAt = Instant.parse("2024-05-01T10:15:30Z");
+        PageCursor cursor = PageCursor.of("createdAt", createdAt, "abc");
+
+        //When
+        PageCursor decoded = PageCursor.decode(cursor.encode());
+
+        //Then
+        assertEquals(cursor, decoded);
+        assertEquals(createdAt, decoded.getSortValue());
+    }
+
+    @DisplayName("Given integer and decimal sort values, decoding should keep them as Long and Double")
+    @Test
+    void encode_roundTripsNumbers() {
+        //When
+        Object count = PageCursor.decode(PageCursor.of("members", 42, "abc").encode()).getSortValue();
+        Object score = PageCursor.decode(PageCursor.of("score", 1.5f, "abc").encode()).getSortValue();
+
+        //Then
+        assertEquals(42L, count);
+        assertEquals(1.5d, score);
+    }
+
+    @DisplayName("Given a cursor ordered by id only, decoding should give no sort field nor value")
+    @Test
+    void encode_roundTripsIdOnly() {
+        //When
+        PageCursor decoded = PageCursor.decode(PageCursor.ofId("abc").encode());
+
+        //Then
+        assertNull(decoded.getSortField());
+        assertNull(decoded.getSortValue());
+        assertEquals("abc", decoded.getId());
+    }
+
+    @DisplayName("Given a token, it should start with the value's type tag")
+    @Test
+    void encode_typeTagFirst() {
+        //When
+        String raw = new String(Base64.getUrlDecoder().decode(PageCursor.of("name", "beta", "abc").encode()),
+                StandardCharsets.UTF_8);
+
+        //Then
+        assertEquals("S\u001Fname\u001Fabc\u001Fbeta", raw);
+    }
+
+    @DisplayName("Given a token that is not a cursor, decoding should fail")
+    @Test
+    void decode_malformedToken() {
+        //When / Then
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("not a cursor"));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(
+                Base64.getUrlEncoder().encodeToString("X\u001Fname\u001Fabc\u001Fbeta".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @DisplayName("Given a cursor token, the pagination request should switch to cursor mode and reject after with before")
+    @Test
+    void cursor_carriedByPaginationRequest() {
+        //Given
+        String token = PageCursor.of("name", "beta", "abc").encode();
+
+        //When
+        PaginationRequest request = PaginationRequest.cursor(20, token, null);
+
+        //Then
+        assertTrue(request.isCursorMode());
+        assertFalse(request.isBackward());
+        assertEquals("beta", request.getAfter().orElseThrow().getSortValue());
+        assertThrows(IllegalArgumentException.class, () -> PaginationRequest.cursor(20, token, token));
+    }
+}
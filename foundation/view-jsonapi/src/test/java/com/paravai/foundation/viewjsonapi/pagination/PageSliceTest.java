@@ -0,0 +1,75 @@
+package com.paravai.foundation.viewjsonapi.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageSliceTest {
+
+    @DisplayName("Given an offset page after the first, the slice should have a previous page and next only if more rows follow")
+    @Test
+    void of_offsetPage() {
+        //When
+        PageSlice<String> slice = PageSlice.of(List.of("a", "b"), 12L, true, new PaginationRequest(2, 2));
+
+        //Then
+        assertTrue(slice.hasNext());
+        assertTrue(slice.hasPrevious());
+        assertEquals(12L, slice.getTotalElements().orElseThrow());
+    }
+
+    @DisplayName("Given the first offset page without a total, the slice should have no previous page and no total")
+    @Test
+    void of_firstOffsetPageWithoutTotal() {
+        //When
+        PageSlice<String> slice = PageSlice.of(List.of("a"), null, false, new PaginationRequest(1, 2));
+
+        //Then
+        assertFalse(slice.hasNext());
+        assertFalse(slice.hasPrevious());
+        assertTrue(slice.getTotalElements().isEmpty());
+    }
+
+    @DisplayName("Given a page[after] request, more rows should mean a next page and the anchor a previous one")
+    @Test
+    void of_forwardCursor() {
+        //Given
+        PaginationRequest after = PaginationRequest.cursor(2, PageCursor.ofId("x").encode(), null);
+
+        //When
+        PageSlice<String> slice = PageSlice.of(List.of("a", "b"), null, true, after);
+
+        //Then
+        assertTrue(slice.hasNext());
+        assertTrue(slice.hasPrevious());
+    }
+
+    @DisplayName("Given a page[before] request, more rows should mean a previous page and any row a next one")
+    @Test
+    void of_backwardCursor() {
+        //Given
+        PaginationRequest before = PaginationRequest.cursor(2, null, PageCursor.ofId("x").encode());
+
+        //When
+        PageSlice<String> slice = PageSlice.of(List.of("a", "b"), null, false, before);
+
+        //Then
+        assertTrue(slice.hasNext());
+        assertFalse(slice.hasPrevious());
+    }
+
+    @DisplayName("Given an empty first cursor page, the slice should have neither next nor previous page")
+    @Test
+    void of_emptyCursorPage() {
+        //When
+        PageSlice<String> slice = PageSlice.of(List.of(), null, false, PaginationRequest.cursor(2, null, null));
+
+        //Then
+        assertFalse(slice.hasNext());
+        assertFalse(slice.hasPrevious());
+        assertTrue(slice.items().isEmpty());
+    }
+}
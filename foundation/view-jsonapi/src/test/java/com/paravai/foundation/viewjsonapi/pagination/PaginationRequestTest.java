@@ -4,6 +4,8 @@ package com.paravai.foundation.viewjsonapi.pagination;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PaginationRequestTest {
 
@@ -40,4 +42,17 @@ class PaginationRequestTest {
         assertEquals(20, request.getSize());
         assertEquals(2, request.getZeroBasedPage());
     }
+
+    @Test
+    void shouldDropTotalOnlyWhenRequested() {
+        PaginationRequest request = new PaginationRequest(3, 20);
+
+        PaginationRequest withoutTotal = request.withoutTotal();
+
+        assertTrue(request.isCountTotal());
+        assertFalse(withoutTotal.isCountTotal());
+        assertEquals(3, withoutTotal.getPage());
+        assertEquals(20, withoutTotal.getSize());
+        assertFalse(PaginationRequest.cursor(20, null, null).isCountTotal());
+    }
 }